@@ -0,0 +1,62 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.benchmark.support.BenchmarkCoupons;
+import com.vincenzo.coupon.benchmark.support.CouponBackend;
+import com.vincenzo.coupon.service.CouponService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 같은 쿠폰에 동시 발급 요청이 몰릴 때의 assignToUser 처리량 (8 스레드)
+ * - capped=true: 발급 한도 쿠폰 → 인메모리 발급 엔진
+ * - capped=false: 무제한 쿠폰 → 발급 수 조건부 UPDATE (같은 행 경합)
+ * - 요청마다 새 사용자라 매 호출이 성공 경로
+ * 점수 단위: 초당 발급 수 (전체 스레드 합)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class AssignContentionBenchmark {
+
+    private static final String CODE = "DROP";
+
+    @Param({"memory", "h2"})
+    public String backend;
+
+    @Param({"true", "false"})
+    public boolean capped;
+
+    private CouponBackend coupons;
+    private CouponService service;
+    private final AtomicLong nextUserId = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coupons = CouponBackend.create(backend);
+        coupons.seed(List.of(BenchmarkCoupons.limited(
+            BenchmarkCoupons.FIRST_ID, CODE, capped ? Integer.MAX_VALUE : null)));
+        service = coupons.couponService();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearAssignments() {
+        coupons.clearAssignments();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coupons.close();
+    }
+
+    @Benchmark
+    public void assignToUser() {
+        service.assignToUser(CODE, nextUserId.incrementAndGet());
+    }
+}
@@ -0,0 +1,50 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.service.CartCouponOptimizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장바구니 최적 쿠폰 조합 계산 지연 (기본 50개 상품줄 x 보유 쿠폰 30장)
+ * - density: 쿠폰이 특정 줄에 적용 가능할 확률 (대상 상품/카테고리 제한 정도)
+ * 점수 단위: 조합 계산 1회당 μs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartOptimizerBenchmark {
+
+    @Param("50")
+    public int items;
+
+    @Param("30")
+    public int coupons;
+
+    @Param({"0.2", "1.0"})
+    public double density;
+
+    private long[][] discounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        discounts = new long[coupons][items];
+        for (int c = 0; c < coupons; c++) {
+            for (int l = 0; l < items; l++) {
+                if (random.nextDouble() < density) {
+                    discounts[c][l] = 500 + random.nextInt(20_000);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] optimize() {
+        return CartCouponOptimizer.optimize(discounts);
+    }
+}
@@ -0,0 +1,57 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.util.CodePermutation;
+import com.vincenzo.coupon.util.CouponCodeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿠폰 코드 생성 처리량 - 단일 스레드 / 8 스레드
+ * - generateRandomCode: 스레드별 SecureRandom
+ * - permutation: 대량 발행용 키 기반 순열 (일련번호 → 코드, 충돌 없음)
+ * 점수 단위: 초당 생성 코드 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponCodeGeneratorBenchmark {
+
+    @Param({"8", "16"})
+    public int length;
+
+    private final CouponCodeGenerator generator = new CouponCodeGenerator();
+    private CodePermutation permutation;
+    private final AtomicLong nextIndex = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        permutation = new CodePermutation("bench-secret", Math.min(length, 12));
+    }
+
+    @Benchmark
+    public String singleThread() {
+        return generator.generateRandomCode(length);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String contended() {
+        return generator.generateRandomCode(length);
+    }
+
+    @Benchmark
+    public String permutationSingleThread() {
+        return permutation.code(nextIndex.getAndIncrement() % permutation.domain());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String permutationContended() {
+        return permutation.code(nextIndex.getAndIncrement() % permutation.domain());
+    }
+}
@@ -0,0 +1,122 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.rule.CouponRule;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.util.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * redeem 의 할인/포인트 평가: 기존 인라인 BigDecimal 분기 vs 컴파일된 CouponRule (long 원 단위)
+ * - 할당량 비교는 gc 프로파일러로: -Pjmh.args="-prof gc" 의 gc.alloc.rate.norm (B/op)
+ * 점수 단위: 평가 1회당 ns
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscountRuleBenchmark {
+
+    private Coupon coupon;
+    private CouponRule rule;
+    private BigDecimal orderAmount;
+    private LocalDateTime now;
+    private Long productId;
+    private Long categoryId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        now = LocalDateTime.now();
+        coupon = Coupon.builder()
+            .id(1L)
+            .code("BENCH")
+            .validFrom(now.minusDays(1))
+            .validUntil(now.plusDays(1))
+            .type("PERCENT")
+            .discountValue(15)
+            .maxDiscountAmount(new BigDecimal("20000"))
+            .minOrderAmount(new BigDecimal("10000"))
+            .rewardPointPercent(3)
+            .targetProductIds(LongStream.range(1_000, 1_200).boxed().collect(Collectors.toSet()))
+            .targetCategoryIds(Set.of(10L, 20L, 30L))
+            .build();
+        rule = CouponRule.compile(coupon);
+        orderAmount = new BigDecimal("87650");
+        productId = 1_150L;
+        categoryId = 20L;
+    }
+
+    /** 변경 전 CouponService.redeem 의 계산 부분 */
+    @Benchmark
+    public void inlineBigDecimal(Blackhole bh) {
+        Coupon c = coupon;
+        if (now.isBefore(c.getValidFrom()) || now.isAfter(c.getValidUntil())) {
+            throw new IllegalStateException();
+        }
+        if (orderAmount.compareTo(c.getMinOrderAmount()) < 0) {
+            throw new IllegalStateException();
+        }
+        if (c.getTargetProductIds() != null && !c.getTargetProductIds().isEmpty()
+            && !c.getTargetProductIds().contains(productId)) {
+            throw new IllegalStateException();
+        }
+        if (c.getTargetCategoryIds() != null && !c.getTargetCategoryIds().isEmpty()
+            && !c.getTargetCategoryIds().contains(categoryId)) {
+            throw new IllegalStateException();
+        }
+        BigDecimal rawDiscount;
+        if ("PERCENT".equals(c.getType())) {
+            rawDiscount = orderAmount
+                .multiply(BigDecimal.valueOf(c.getDiscountValue()))
+                .divide(BigDecimal.valueOf(100));
+            if (c.getMaxDiscountAmount() != null) {
+                rawDiscount = rawDiscount.min(c.getMaxDiscountAmount());
+            }
+        } else {
+            rawDiscount = BigDecimal.valueOf(c.getDiscountValue());
+        }
+        BigDecimal rewardPoints = BigDecimal.ZERO;
+        if (c.getRewardPointPercent() != null) {
+            rewardPoints = orderAmount
+                .multiply(BigDecimal.valueOf(c.getRewardPointPercent()))
+                .divide(BigDecimal.valueOf(100));
+        }
+        bh.consume(orderAmount.subtract(rawDiscount));
+        bh.consume(rawDiscount);
+        bh.consume(rewardPoints);
+    }
+
+    /** 변경 후: 컴파일된 규칙, 결과만 API 경계에서 BigDecimal 로 변환 */
+    @Benchmark
+    public void compiledRule(Blackhole bh) {
+        long amount = Money.toWon(orderAmount);
+        Rejection rejection = rule.check(now, amount, productId, categoryId);
+        if (rejection != null) {
+            throw new IllegalStateException(rejection.message());
+        }
+        long discount = rule.discount(amount);
+        bh.consume(Money.of(amount - discount));
+        bh.consume(Money.of(discount));
+        bh.consume(Money.of(rule.rewardPoints(amount)));
+    }
+
+    /** 컴파일된 규칙의 평가만 (BigDecimal 변환 제외) */
+    @Benchmark
+    public long compiledRuleEvaluationOnly() {
+        long amount = 87_650;
+        if (rule.check(now, amount, productId, categoryId) != null) {
+            return -1;
+        }
+        return rule.discount(amount) + rule.rewardPoints(amount);
+    }
+}
@@ -0,0 +1,164 @@
+package com.vincenzo.coupon.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user_coupon INSERT 처리량: IDENTITY(행마다 INSERT 후 키 조회) vs pooled 시퀀스 + JDBC 배치
+ * - Hibernate 가 각 전략에서 실제로 보내는 문장 패턴을 JDBC 로 그대로 재현
+ * - 기본은 PostgreSQL 호환 모드 H2, 내장 DB 에는 네트워크 왕복이 없으므로 roundTripMicros 로
+ *   문장 실행마다 왕복 지연을 흉내냄 (0 = 순수 내장 DB)
+ * - 실제 PostgreSQL(docker-compose) 측정 시 roundTripMicros=0 으로:
+ *   ./gradlew jmh -Pjmh.includes=IdAllocation -Pjmh.args="-p jdbcUrl=jdbc:postgresql://localhost:5432/coupon_db
+ *   -p username=coupon_user -p password=coupon_pass"
+ * 점수 단위: 초당 INSERT 행 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(IdAllocationBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdAllocationBenchmark {
+
+    static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 25;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String COLUMNS =
+        "coupon_id bigint not null, user_id bigint not null, remaining_usages integer, "
+            + "assigned_at timestamp not null, used boolean not null";
+
+    @Param("jdbc:h2:mem:idbench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+    public String jdbcUrl;
+
+    @Param("sa")
+    public String username;
+
+    @Param("")
+    public String password;
+
+    /** 문장 실행(왕복)마다 추가할 지연 (μs) - 같은 데이터센터 내 DB 왕복은 보통 100~500μs */
+    @Param({"0", "200"})
+    public long roundTripMicros;
+
+    private Connection con;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        con = DriverManager.getConnection(jdbcUrl, username, password);
+        try (Statement st = con.createStatement()) {
+            st.execute("drop table if exists bench_uc_identity");
+            st.execute("drop table if exists bench_uc_pooled");
+            st.execute("drop sequence if exists bench_uc_seq");
+            st.execute("create table bench_uc_identity (id bigint generated by default as identity primary key, "
+                + COLUMNS + ")");
+            st.execute("create table bench_uc_pooled (id bigint primary key, " + COLUMNS + ")");
+            st.execute("create sequence bench_uc_seq start with 1 increment by " + ALLOCATION_SIZE);
+        }
+        con.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("truncate table bench_uc_identity");
+            st.execute("truncate table bench_uc_pooled");
+        }
+        con.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("drop table if exists bench_uc_identity");
+            st.execute("drop table if exists bench_uc_pooled");
+            st.execute("drop sequence if exists bench_uc_seq");
+        }
+        con.commit();
+        con.close();
+    }
+
+    /** 변경 전: IDENTITY - 행마다 INSERT 1회 + 생성 키 조회, 배치 불가 */
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = con.prepareStatement(
+            "insert into bench_uc_identity (coupon_id, user_id, remaining_usages, assigned_at, used) "
+                + "values (?, ?, ?, ?, false)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, 1, now);
+                ps.executeUpdate();
+                roundTrip();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        con.commit();
+        return lastId;
+    }
+
+    /** 변경 후: pooled 시퀀스 - 50개당 시퀀스 1회, INSERT 는 25개씩 JDBC 배치 */
+    @Benchmark
+    public long pooledSequenceBatched() throws SQLException {
+        long nextId = 0;
+        long hi = -1;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement seq = con.prepareStatement("select nextval('bench_uc_seq')");
+             PreparedStatement ps = con.prepareStatement(
+                 "insert into bench_uc_pooled (id, coupon_id, user_id, remaining_usages, assigned_at, used) "
+                     + "values (?, ?, ?, ?, ?, false)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId > hi) {
+                    try (ResultSet rs = seq.executeQuery()) {
+                        rs.next();
+                        nextId = rs.getLong(1);
+                        hi = nextId + ALLOCATION_SIZE - 1;
+                    }
+                    roundTrip();
+                }
+                ps.setLong(1, nextId++);
+                bind(ps, 2, now);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    roundTrip();
+                }
+            }
+            ps.executeBatch();
+        }
+        con.commit();
+        return nextId;
+    }
+
+    private void roundTrip() {
+        if (roundTripMicros == 0) {
+            return;
+        }
+        long until = System.nanoTime() + roundTripMicros * 1_000;
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void bind(PreparedStatement ps, int from, Timestamp now) throws SQLException {
+        ps.setLong(from, 1L);
+        ps.setLong(from + 1, ++userId);
+        ps.setInt(from + 2, 1);
+        ps.setTimestamp(from + 3, now);
+    }
+}
@@ -0,0 +1,101 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.benchmark.support.BenchmarkCoupons;
+import com.vincenzo.coupon.benchmark.support.CouponBackend;
+import com.vincenzo.coupon.service.CouponService;
+import com.vincenzo.coupon.util.CouponCodeGenerator;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잘못된 쿠폰 코드 거부 처리량 (봇이 임의 코드를 뿌리는 상황)
+ * - forged*: 형식은 맞지만 MAC 이 틀린 서명 코드 (컨트롤러 입구 검증, 예외 생성 포함)
+ * - malformed: 허용되지 않는 문자가 섞인 코드
+ * - unknownCodeDatabase: 기존 경로 - 존재하지 않는 일반 코드로 redeem (카탈로그 미스 → DB 조회)
+ * 점수 단위: 초당 거부 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvalidCodeRejectionBenchmark {
+
+    private static final int POOL = 1024;
+
+    private final CouponCodeGenerator generator = new CouponCodeGenerator();
+    private final SignedCouponCodec codec = new SignedCouponCodec("bench-signed-code-secret-0123456789abcdef", generator, false);
+    private final String[] forged = new String[POOL];
+    private final String[] malformed = new String[POOL];
+    private final String[] unknown = new String[POOL];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < POOL; i++) {
+            String valid = codec.issue(BenchmarkCoupons.FIRST_ID + i);
+            // MAC 자리를 다른 난수로 바꿔 위조 코드 생성
+            forged[i] = valid.substring(0, valid.length() - 7) + generator.generateRandomCode(7);
+            malformed[i] = generator.generateRandomCode(6) + "' OR '1'='1";
+            unknown[i] = "NOPE" + generator.generateRandomCode(8);
+        }
+    }
+
+    @Benchmark
+    public boolean forgedVerify() {
+        return codec.couponIdOf(forged[next++ & (POOL - 1)]).isPresent();
+    }
+
+    @Benchmark
+    public boolean forgedCheck() {
+        try {
+            codec.check(forged[next++ & (POOL - 1)]);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean malformedCheck() {
+        try {
+            codec.check(malformed[next++ & (POOL - 1)]);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean unknownCodeDatabase(Database db) {
+        try {
+            db.service.redeem(unknown[next++ & (POOL - 1)], 1L, BigDecimal.TEN, null, null);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /** 비교 기준용 H2 백엔드 (unknownCodeDatabase 에서만 기동) */
+    @State(Scope.Benchmark)
+    public static class Database {
+        private CouponBackend backend;
+        private CouponService service;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            backend = CouponBackend.create("h2");
+            backend.seed(BenchmarkCoupons.active(100));
+            service = backend.couponService();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            backend.close();
+        }
+    }
+}
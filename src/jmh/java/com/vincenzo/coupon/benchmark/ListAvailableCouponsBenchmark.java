@@ -0,0 +1,55 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.benchmark.support.BenchmarkCoupons;
+import com.vincenzo.coupon.benchmark.support.CouponBackend;
+import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.service.CouponService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * listAvailableCoupons 지연 - 카탈로그 크기(활성 쿠폰 수)별
+ * - 사용자는 앞쪽 쿠폰 몇 장을 이미 발급받은 상태
+ * 점수 단위: 조회 1회당 μs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListAvailableCouponsBenchmark {
+
+    private static final long USER_ID = 1L;
+
+    @Param({"memory", "h2"})
+    public String backend;
+
+    @Param({"10", "1000", "100000"})
+    public int catalogSize;
+
+    private CouponBackend coupons;
+    private CouponService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coupons = CouponBackend.create(backend);
+        coupons.seed(BenchmarkCoupons.active(catalogSize));
+        service = coupons.couponService();
+        for (int i = 0; i < Math.min(5, catalogSize); i++) {
+            service.assignToUser("BENCH" + i, USER_ID);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coupons.close();
+    }
+
+    @Benchmark
+    public List<CouponDto> listAvailableCoupons() {
+        return service.listAvailableCoupons(USER_ID);
+    }
+}
@@ -0,0 +1,86 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.benchmark.support.BenchmarkCoupons;
+import com.vincenzo.coupon.benchmark.support.CouponBackend;
+import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.metrics.CouponMetrics.Operation;
+import com.vincenzo.coupon.service.CouponService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표 기록 비용 - 같은 호출을 CouponMetrics.record 로 감쌌을 때와 비교
+ * - instrumented=false: 서비스 직접 호출 (쿠폰별 상위 N 집계는 서비스 안이라 양쪽 모두 포함)
+ * - instrumented=true: 지연 히스토그램 + 결과/거절 사유 + 쿼리 수 기록 (Prometheus 레지스트리)
+ * - redeemRejected: 최소 주문 금액 미달 거절 (예외 경로)
+ * 점수 단위: 호출당 마이크로초 (두 설정의 차이가 지표 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final BigDecimal ORDER_AMOUNT = new BigDecimal("87650");
+    private static final BigDecimal SMALL_ORDER = new BigDecimal("100");
+
+    @Param({"memory", "h2"})
+    public String backend;
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private CouponBackend coupons;
+    private CouponService service;
+    private CouponMetrics metrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coupons = CouponBackend.create(backend);
+        coupons.seed(BenchmarkCoupons.active(100));
+        service = coupons.couponService();
+        metrics = coupons.metrics();
+        service.assignToUser("BENCH0", USER_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coupons.close();
+    }
+
+    @Benchmark
+    public List<CouponDto> list() {
+        return instrumented
+            ? metrics.record(Operation.LIST, () -> service.listAvailableCoupons(USER_ID))
+            : service.listAvailableCoupons(USER_ID);
+    }
+
+    @Benchmark
+    public RedemptionResult redeem() {
+        return instrumented
+            ? metrics.record(Operation.REDEEM, () -> service.redeem("BENCH0", USER_ID, ORDER_AMOUNT, 1_001L, 10L))
+            : service.redeem("BENCH0", USER_ID, ORDER_AMOUNT, 1_001L, 10L);
+    }
+
+    @Benchmark
+    public boolean redeemRejected() {
+        try {
+            if (instrumented) {
+                metrics.record(Operation.REDEEM, () -> service.redeem("BENCH0", USER_ID, SMALL_ORDER, 1_001L, 10L));
+            } else {
+                service.redeem("BENCH0", USER_ID, SMALL_ORDER, 1_001L, 10L);
+            }
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.exception.RateLimitedException;
+import com.vincenzo.coupon.service.CouponRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 빈도 제한 비용 - 요청 하나당 IP + 사용자 + 코드 세 버킷 확인
+ * - keys: 추적 중인 사용자 수 (테이블 상한 1M, 1M 이면 캐시에 안 들어가는 크기)
+ * - allowed: 대부분 통과하는 정상 트래픽 (키가 골고루 흩어짐)
+ * - limited: 한 사용자가 계속 두드리는 남용 트래픽 (미리 만든 예외로 거절)
+ * 점수 단위: 요청당 나노초
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int POOL = 1 << 16;
+
+    @Param({"1000", "1000000"})
+    public int keys;
+
+    private CouponRateLimiter limiter;
+    private CouponRateLimiter strict;
+    private final long[] users = new long[POOL];
+    private final String[] ips = new String[POOL];
+    private final String[] codes = new String[1024];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 정상 트래픽이 제한에 걸리지 않도록 한도는 넉넉히
+        limiter = new CouponRateLimiter(new SimpleMeterRegistry(), true, 1_000_000,
+            1_000_000, 1_000_000, 1_000_000, 1_000_000, 1_000_000, 1_000_000);
+        strict = new CouponRateLimiter(new SimpleMeterRegistry(), true, 1_000, 1, 1, 0, 0, 0, 0);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = "CODE" + i;
+        }
+        for (int i = 0; i < POOL; i++) {
+            users[i] = random.nextInt(keys);
+            ips[i] = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+        }
+        for (long user = 0; user < keys; user++) {
+            limiter.check(user, null);
+        }
+    }
+
+    @Benchmark
+    public int allowed() {
+        int i = next++ & (POOL - 1);
+        limiter.checkIp(ips[i]);
+        limiter.check(users[i], codes[i & (codes.length - 1)]);
+        return i;
+    }
+
+    @Benchmark
+    public boolean limited() {
+        try {
+            strict.check(1L, null);
+            return true;
+        } catch (RateLimitedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.benchmark.support.BenchmarkCoupons;
+import com.vincenzo.coupon.benchmark.support.CouponBackend;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.service.CouponService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * redeem 전체 경로 처리량 (카탈로그 규칙 조회 + 할인 계산 + 사용 횟수 차감)
+ * - 사용 횟수 무제한 쿠폰이라 매 호출이 성공 경로
+ * - 계산 부분만 따로 보려면 DiscountRuleBenchmark
+ * 점수 단위: 초당 redeem 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedeemBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final BigDecimal ORDER_AMOUNT = new BigDecimal("87650");
+
+    @Param({"memory", "h2"})
+    public String backend;
+
+    private CouponBackend coupons;
+    private CouponService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coupons = CouponBackend.create(backend);
+        coupons.seed(BenchmarkCoupons.active(100));
+        service = coupons.couponService();
+        service.assignToUser("BENCH0", USER_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coupons.close();
+    }
+
+    @Benchmark
+    public RedemptionResult redeem() {
+        return service.redeem("BENCH0", USER_ID, ORDER_AMOUNT, 1_001L, 10L);
+    }
+}
@@ -0,0 +1,78 @@
+package com.vincenzo.coupon.benchmark;
+
+import com.vincenzo.coupon.benchmark.support.BenchmarkCoupons;
+import com.vincenzo.coupon.benchmark.support.CouponBackend;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.service.CouponService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업무 거절이 대부분인 트래픽 (한정 쿠폰 오픈 직후 중복 발급/조건 미달 사용 재시도)
+ * - *Exception: 기존 경로 - 거절을 CouponRejectedException 으로 던지고 호출자가 잡음 (스택 트레이스 생성)
+ * - *Outcome: 미리 만든 거절 결과(Outcome) 반환 - 거절 경로에서 할당 없음
+ * - assignDuplicate*: 이미 발급받은 사용자의 재발급, redeemMinOrder*: 최소 주문 금액 미달 사용
+ * 점수 단위: 초당 거절 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionPathBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final BigDecimal SMALL_ORDER = new BigDecimal("100");
+
+    @Param({"memory", "h2"})
+    public String backend;
+
+    private CouponBackend coupons;
+    private CouponService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coupons = CouponBackend.create(backend);
+        coupons.seed(BenchmarkCoupons.active(100));
+        service = coupons.couponService();
+        service.assignToUser("BENCH0", USER_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coupons.close();
+    }
+
+    @Benchmark
+    public Rejection assignDuplicateException() {
+        try {
+            service.assignToUser("BENCH0", USER_ID);
+            return null;
+        } catch (IllegalStateException e) {
+            return Rejection.ALREADY_ASSIGNED;
+        }
+    }
+
+    @Benchmark
+    public Rejection assignDuplicateOutcome() {
+        return service.tryAssignToUser("BENCH0", USER_ID).rejection();
+    }
+
+    @Benchmark
+    public Rejection redeemMinOrderException() {
+        try {
+            service.redeem("BENCH0", USER_ID, SMALL_ORDER, 1_001L, 10L);
+            return null;
+        } catch (IllegalStateException e) {
+            return Rejection.MIN_ORDER_NOT_MET;
+        }
+    }
+
+    @Benchmark
+    public Rejection redeemMinOrderOutcome() {
+        return service.tryRedeem("BENCH0", USER_ID, SMALL_ORDER, 1_001L, 10L, null).rejection();
+    }
+}
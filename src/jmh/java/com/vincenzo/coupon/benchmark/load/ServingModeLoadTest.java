@@ -0,0 +1,312 @@
+package com.vincenzo.coupon.benchmark.load;
+
+import com.vincenzo.coupon.CouponSystemApplication;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 처리 모드별 부하 테스트 (p99 지연, 메모리)
+ * - 모드마다 별도 JVM 에 애플리케이션(내장 톰캣 + H2)을 띄우고 같은 JVM 의 클라이언트 스레드로 부하를 줌
+ * - 클라이언트는 닫힌 루프 (각자 응답을 받으면 바로 다음 요청), 목록 조회 70% / 발급 30%
+ * - DB 지연은 트랜잭션 커밋마다 커넥션을 잡은 채 지정 시간만큼 대기해 흉내 냄 (H2 는 너무 빨라 풀 경합이 안 생김)
+ * - 모드: platform = 플랫폼 스레드 + 입장 제어 없음 (기존 방식), 뒤에 -admission 이 붙으면 DB 입장 제어 사용,
+ *         virtual* = 가상 스레드 (Java 21 이상에서만, 그 미만이면 플랫폼 스레드로 측정됨)
+ *
+ * ./gradlew loadTest -Pload.args="--clients=500 --seconds=20 --db-latency-ms=5 --modes=platform,virtual-admission"
+ */
+public class ServingModeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        if (options.containsKey("mode")) {
+            runMode(options);
+            return;
+        }
+        System.out.printf("%-20s %8s %8s %8s %8s %10s %9s %9s %9s %10s %10s %9s%n",
+            "mode", "requests", "ok", "shed503", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)",
+            "heap(MB)", "rss(MB)", "threads");
+        for (String mode : options.getOrDefault("modes", "platform,virtual-admission").split(",")) {
+            List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx" + options.getOrDefault("xmx", "512m"),
+                "-cp", System.getProperty("java.class.path"),
+                ServingModeLoadTest.class.getName(),
+                "--mode=" + mode));
+            options.forEach((key, value) -> {
+                if (!key.equals("modes")) {
+                    command.add("--" + key + "=" + value);
+                }
+            });
+            int exit = new ProcessBuilder(command).inheritIO().start().waitFor();
+            if (exit != 0) {
+                throw new IllegalStateException(mode + " 모드 실행 실패 (exit " + exit + ")");
+            }
+        }
+    }
+
+    private static void runMode(Map<String, String> options) throws Exception {
+        String mode = options.get("mode");
+        boolean virtual = mode.startsWith("virtual");
+        boolean admission = mode.endsWith("-admission");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "500"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "20"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+        long dbLatencyMillis = Long.parseLong(options.getOrDefault("db-latency-ms", "5"));
+        int poolSize = Integer.parseInt(options.getOrDefault("pool-size", "10"));
+        if (virtual && Runtime.version().feature() < 21) {
+            System.err.printf("[%s] Java %d 에서는 가상 스레드를 쓸 수 없어 플랫폼 스레드로 측정합니다.%n",
+                mode, Runtime.version().feature());
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CouponSystemApplication.class)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new DbLatency(dbLatencyMillis)))
+            .run("--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--coupon.db-admission.enabled=" + admission,
+                // 모든 요청이 같은 IP 라 빈도 제한은 끔
+                "--coupon.rate-limit.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--coupon.journal.dir=" + System.getProperty("java.io.tmpdir") + "/coupon-journal-load/" + UUID.randomUUID(),
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.datasource.hikari.connection-timeout=20000",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.vincenzo.coupon=ERROR",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        String base = "http://localhost:" + port + "/api/coupons";
+
+        HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+        AtomicLong nextUserId = new AtomicLong(1_000_000);
+        LongAdder ok = new LongAdder();
+        LongAdder shed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long[][] latencies = new long[clients][];
+        int[] counts = new int[clients];
+
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(seconds).toNanos();
+        MemorySampler sampler = new MemorySampler();
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            latencies[c] = new long[1024];
+            Thread thread = new Thread(() -> {
+                try {
+                    while (true) {
+                        long started = System.nanoTime();
+                        if (started >= end) {
+                            break;
+                        }
+                        int status = send(http, base, nextUserId);
+                        long elapsed = System.nanoTime() - started;
+                        if (started < warmupEnd) {
+                            continue;
+                        }
+                        if (status < 400 || status == 409) {
+                            ok.increment();
+                        } else if (status == 503) {
+                            shed.increment();
+                        } else {
+                            errors.increment();
+                        }
+                        if (counts[client] == latencies[client].length) {
+                            latencies[client] = Arrays.copyOf(latencies[client], counts[client] * 2);
+                        }
+                        latencies[client][counts[client]++] = elapsed;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + c);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        Thread.sleep(Duration.ofSeconds(warmupSeconds).toMillis());
+        sampler.start();
+        done.await();
+        sampler.stop();
+
+        long[] all = merge(latencies, counts);
+        Arrays.sort(all);
+        long total = ok.sum() + shed.sum() + errors.sum();
+        System.out.printf("%-20s %8d %8d %8d %8d %10.0f %9.1f %9.1f %9.1f %10.1f %10.1f %9d%n",
+            mode, total, ok.sum(), shed.sum(), errors.sum(), (double) total / seconds,
+            millis(percentile(all, 0.50)), millis(percentile(all, 0.99)), millis(all.length == 0 ? 0 : all[all.length - 1]),
+            sampler.peakHeapBytes / 1024.0 / 1024.0, sampler.peakRssBytes / 1024.0 / 1024.0, sampler.peakThreads);
+        context.close();
+    }
+
+    /** 목록 조회 70%, 새 사용자 발급 30% (무제한 쿠폰) */
+    private static int send(HttpClient http, String base, AtomicLong nextUserId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request;
+        if (random.nextInt(10) < 7) {
+            request = HttpRequest.newBuilder(URI.create(base + "?userId=" + random.nextLong(1, 10_000)))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        } else {
+            String body = "{\"code\":\"TECH15OFF\",\"userId\":" + nextUserId.incrementAndGet() + "}";
+            request = HttpRequest.newBuilder(URI.create(base + "/assign"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        }
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return 599;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 599;
+        }
+    }
+
+    private static long[] merge(long[][] latencies, int[] counts) {
+        long[] all = new long[Arrays.stream(counts).sum()];
+        int offset = 0;
+        for (int i = 0; i < latencies.length; i++) {
+            System.arraycopy(latencies[i], 0, all, offset, counts[i]);
+            offset += counts[i];
+        }
+        return all;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--key=value 형식이 아닙니다: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    /** 측정 구간의 힙 사용량/RSS/플랫폼 스레드 수 최댓값 (50ms 간격 표본) */
+    private static final class MemorySampler implements Runnable {
+
+        private volatile boolean running = true;
+        private final Thread thread = new Thread(this, "load-memory-sampler");
+        private long peakHeapBytes;
+        private long peakRssBytes;
+        private int peakThreads;
+
+        void start() {
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            thread.join();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                peakHeapBytes = Math.max(peakHeapBytes, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+                peakThreads = Math.max(peakThreads, ManagementFactory.getThreadMXBean().getThreadCount());
+                peakRssBytes = Math.max(peakRssBytes, rssBytes());
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        /** Linux 에서만 측정 (그 외 0) */
+        private static long rssBytes() {
+            try {
+                for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                return 0;
+            }
+            return 0;
+        }
+    }
+
+    /** 트랜잭션 커밋/롤백마다 커넥션을 잡은 채 대기 (DB 왕복 지연 흉내) */
+    private record DbLatency(long millis) implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (millis <= 0 || !(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws java.sql.SQLException {
+                    return slow(super.getConnection());
+                }
+            };
+        }
+
+        private Connection slow(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, methodArgs) -> {
+                    if (method.getName().equals("commit") || method.getName().equals("rollback")) {
+                        Thread.sleep(millis);
+                    }
+                    try {
+                        return method.invoke(connection, methodArgs);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.vincenzo.coupon.benchmark.support;
+
+import com.vincenzo.coupon.domain.Coupon;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** 벤치마크용 쿠폰 정의 */
+public final class BenchmarkCoupons {
+
+    /** 시퀀스로 할당되는 ID 와 겹치지 않도록 큰 값부터 사용 */
+    public static final long FIRST_ID = 10_000_000L;
+
+    private BenchmarkCoupons() {
+    }
+
+    /** 현재 유효한 정율 쿠폰 count 개 (코드: BENCH0, BENCH1, ...) */
+    public static List<Coupon> active(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Coupon> coupons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            coupons.add(Coupon.builder()
+                .id(FIRST_ID + i)
+                .code("BENCH" + i)
+                .title("벤치마크 쿠폰 " + i)
+                .label("10% 할인")
+                .validFrom(now.minusDays(1))
+                .validUntil(now.plusDays(30))
+                .type("PERCENT")
+                .discountValue(10)
+                .maxDiscountAmount(new BigDecimal("5000"))
+                .minOrderAmount(new BigDecimal("10000"))
+                .rewardPointPercent(1)
+                .issuedCount(0)
+                .build());
+        }
+        return coupons;
+    }
+
+    /** 발급 한도 쿠폰 (maxIssueCount = null 이면 무제한) */
+    public static Coupon limited(long id, String code, Integer maxIssueCount) {
+        Coupon coupon = active(1).get(0);
+        coupon.setId(id);
+        coupon.setCode(code);
+        coupon.setMaxIssueCount(maxIssueCount);
+        coupon.setMaxUsages(1);
+        return coupon;
+    }
+}
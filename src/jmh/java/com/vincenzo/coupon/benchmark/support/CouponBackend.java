@@ -0,0 +1,37 @@
+package com.vincenzo.coupon.benchmark.support;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.service.CouponService;
+
+import java.util.List;
+
+/**
+ * 벤치마크 대상 CouponService 와 저장소 구성
+ * - memory: 인메모리 저장소 가짜 (DB 비용 제외, 서비스/카탈로그 자체 비용)
+ * - h2: Spring 컨텍스트 + 내장 H2 (JPA/트랜잭션/SQL 포함)
+ */
+public interface CouponBackend extends AutoCloseable {
+
+    CouponService couponService();
+
+    /** 서비스가 쓰는 지표 (Prometheus 레지스트리) */
+    CouponMetrics metrics();
+
+    /** 쿠폰 정의 일괄 적재 후 카탈로그 갱신 */
+    void seed(List<Coupon> coupons);
+
+    /** 발급 내역 초기화 (반복 측정 사이 메모리 누적 방지) */
+    void clearAssignments();
+
+    @Override
+    void close();
+
+    static CouponBackend create(String name) {
+        return switch (name) {
+            case "memory" -> new InMemoryCouponBackend();
+            case "h2" -> new H2CouponBackend();
+            default -> throw new IllegalArgumentException("알 수 없는 backend: " + name);
+        };
+    }
+}
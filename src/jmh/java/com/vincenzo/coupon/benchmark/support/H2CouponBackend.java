@@ -0,0 +1,84 @@
+package com.vincenzo.coupon.benchmark.support;
+
+import com.vincenzo.coupon.CouponSystemApplication;
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.service.CouponService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 내장 H2 위에 애플리케이션 컨텍스트를 띄워 실제 JPA/트랜잭션 경로로 측정
+ * - 웹 서버 없이 서비스 빈만 사용, SQL 로그는 끔
+ */
+public class H2CouponBackend implements CouponBackend {
+
+    private final ConfigurableApplicationContext context;
+    private final JdbcTemplate jdbc;
+
+    public H2CouponBackend() {
+        this.context = new SpringApplicationBuilder(CouponSystemApplication.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .run("--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--coupon.journal.dir=" + System.getProperty("java.io.tmpdir") + "/coupon-journal-bench/" + UUID.randomUUID(),
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.hikari.maximum-pool-size=16",
+                "--logging.level.root=WARN",
+                "--logging.level.com.vincenzo.coupon=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        this.jdbc = context.getBean(JdbcTemplate.class);
+    }
+
+    @Override
+    public CouponService couponService() {
+        return context.getBean(CouponService.class);
+    }
+
+    @Override
+    public CouponMetrics metrics() {
+        return context.getBean(CouponMetrics.class);
+    }
+
+    @Override
+    public void seed(List<Coupon> coupons) {
+        jdbc.batchUpdate("INSERT INTO coupon (id, code, title, label, valid_from, valid_until, type, discount_value, "
+                + "max_discount_amount, min_order_amount, reward_point_percent, max_issue_count, issued_count, max_usages) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            coupons, 1_000, (ps, c) -> {
+                ps.setLong(1, c.getId());
+                ps.setString(2, c.getCode());
+                ps.setString(3, c.getTitle());
+                ps.setString(4, c.getLabel());
+                ps.setTimestamp(5, Timestamp.valueOf(c.getValidFrom()));
+                ps.setTimestamp(6, Timestamp.valueOf(c.getValidUntil()));
+                ps.setString(7, c.getType());
+                ps.setInt(8, c.getDiscountValue());
+                ps.setBigDecimal(9, c.getMaxDiscountAmount());
+                ps.setBigDecimal(10, c.getMinOrderAmount());
+                ps.setObject(11, c.getRewardPointPercent());
+                ps.setObject(12, c.getMaxIssueCount());
+                ps.setInt(13, c.getIssuedCount());
+                ps.setObject(14, c.getMaxUsages());
+            });
+        context.getBean(CouponCatalog.class).refresh();
+    }
+
+    @Override
+    public void clearAssignments() {
+        jdbc.update("DELETE FROM user_coupon");
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
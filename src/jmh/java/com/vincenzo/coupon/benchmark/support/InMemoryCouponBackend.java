@@ -0,0 +1,258 @@
+package com.vincenzo.coupon.benchmark.support;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.MintedCodeFilter;
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.cache.WalletEntry;
+import com.vincenzo.coupon.cache.WalletRemoteTier;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.domain.UserCoupon;
+import com.vincenzo.coupon.journal.RedemptionJournal;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.repository.CouponCodeRepository;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.RedemptionEffectRepository;
+import com.vincenzo.coupon.repository.RedemptionReceiptRepository;
+import com.vincenzo.coupon.repository.UserCouponHistoryRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.service.CouponIssuanceEngine;
+import com.vincenzo.coupon.service.CouponService;
+import com.vincenzo.coupon.service.RedemptionEffectRecorder;
+import com.vincenzo.coupon.util.CouponCodeGenerator;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 저장소 인터페이스를 동적 프록시로 구현한 인메모리 가짜
+ * - CouponService 가 실제로 호출하는 메서드만 구현, 나머지는 UnsupportedOperationException
+ * - 유니크 제약/조건부 UPDATE 의 의미는 그대로 흉내냄
+ */
+public class InMemoryCouponBackend implements CouponBackend {
+
+    private final Map<Long, Coupon> coupons = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> issuedCounts = new ConcurrentHashMap<>();
+    /** 사용자 ID → (쿠폰 ID → 발급 쿠폰) */
+    private final Map<Long, Map<Long, UserCoupon>> userCoupons = new ConcurrentHashMap<>();
+
+    private final CouponCatalog catalog;
+    private final CouponIssuanceEngine engine;
+    private final CouponService service;
+    private final RedemptionJournal journal;
+    private final CouponMetrics metrics = new CouponMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), 20, 10_000);
+    /** DB 반영 없이 저널 세그먼트만 정리 (드레이너가 따라잡는 상황 가정, 디스크 사용량 제한) */
+    private final ScheduledExecutorService journalTruncation = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "bench-journal-truncate");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public InMemoryCouponBackend() {
+        PlatformTransactionManager txManager = new NoOpTransactionManager();
+        CouponRepository couponRepo = proxy(CouponRepository.class, this::couponRepository);
+        UserCouponRepository userCouponRepo = proxy(UserCouponRepository.class, this::userCouponRepository);
+        CouponCodeRepository couponCodeRepo = proxy(CouponCodeRepository.class, this::couponCodeRepository);
+        this.catalog = new CouponCatalog(couponRepo, txManager, true, 0.01);
+        this.engine = new CouponIssuanceEngine(couponRepo, txManager, true, 0);
+        engine.watch(catalog);
+        MintedCodeFilter mintedCodes = new MintedCodeFilter(couponCodeRepo, txManager, true, 0.01, 1_000);
+        mintedCodes.rebuild();
+        try {
+            this.journal = new RedemptionJournal(Files.createTempDirectory("bench-journal").toString(), 1 << 16, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        journalTruncation.scheduleWithFixedDelay(() -> journal.truncateUpTo(journal.lastLsn()), 1, 1, TimeUnit.SECONDS);
+        this.service = new CouponService(couponRepo, userCouponRepo,
+            // 보관된 행 없음
+            proxy(UserCouponHistoryRepository.class, (method, args) -> switch (method) {
+                case "existsByUserIdAndCouponIdAndUsedTrue" -> false;
+                default -> throw new UnsupportedOperationException(method);
+            }),
+            couponCodeRepo, catalog, engine,
+            new SignedCouponCodec("benchmark-signed-code-secret-0123456789", new CouponCodeGenerator(), false),
+            mintedCodes,
+            new UserWalletCache(userCouponRepo, txManager,
+                new DefaultListableBeanFactory().getBeanProvider(WalletRemoteTier.class), 100_000, 600),
+            // 커밋 표시 INSERT 는 하지 않음 (저널 추가 비용만 측정)
+            new RedemptionEffectRecorder(journal, new RedemptionEffectRepository(new JdbcTemplate() {
+                @Override
+                public int update(String sql, Object... args) {
+                    return 1;
+                }
+            }), "bench"),
+            // 멱등 키 없는 사용만 측정
+            proxy(RedemptionReceiptRepository.class, (method, args) -> {
+                throw new UnsupportedOperationException(method);
+            }),
+            metrics);
+    }
+
+    @Override
+    public CouponService couponService() {
+        return service;
+    }
+
+    @Override
+    public CouponMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public void seed(List<Coupon> list) {
+        for (Coupon c : list) {
+            coupons.put(c.getId(), c);
+            issuedCounts.put(c.getId(), new AtomicInteger(c.getIssuedCount()));
+        }
+        catalog.refresh();
+    }
+
+    @Override
+    public void clearAssignments() {
+        userCoupons.clear();
+    }
+
+    @Override
+    public void close() {
+        engine.shutdown();
+        journalTruncation.shutdownNow();
+    }
+
+    private Object couponRepository(String method, Object[] args) {
+        return switch (method) {
+            case "findAll" -> List.copyOf(coupons.values());
+            case "findById" -> Optional.ofNullable(coupons.get((Long) args[0]));
+            case "getReferenceById" -> coupons.get((Long) args[0]);
+            case "findByCode" -> coupons.values().stream().filter(c -> c.getCode().equals(args[0])).findFirst();
+            case "existsByCode" -> coupons.values().stream().anyMatch(c -> c.getCode().equals(args[0]));
+            case "findIssuedCountById" -> issuedCounts.get((Long) args[0]).get();
+            case "addIssuedCount" -> addIssuedCount((Long) args[0], (Integer) args[1]);
+            case "incrementIssuedCount" -> incrementIssuedCount((Long) args[0]);
+            default -> throw new UnsupportedOperationException(method);
+        };
+    }
+
+    private int addIssuedCount(Long couponId, int delta) {
+        issuedCounts.get(couponId).addAndGet(delta);
+        return 1;
+    }
+
+    private int incrementIssuedCount(Long couponId) {
+        Integer max = coupons.get(couponId).getMaxIssueCount();
+        AtomicInteger count = issuedCounts.get(couponId);
+        while (true) {
+            int current = count.get();
+            if (max != null && current >= max) {
+                return 0;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return 1;
+            }
+        }
+    }
+
+    private Object userCouponRepository(String method, Object[] args) {
+        return switch (method) {
+            case "saveAndFlush" -> insert((UserCoupon) args[0]);
+            case "findWalletEntriesByUserId" -> userCoupons.getOrDefault((Long) args[0], Map.of()).values().stream()
+                .map(uc -> new WalletEntry(uc.getCoupon().getId(), uc.getRemainingUsages(), uc.getUsed()))
+                .toList();
+            case "useOnce" -> useOnce((Long) args[0], (Long) args[1]);
+            default -> throw new UnsupportedOperationException(method);
+        };
+    }
+
+    /** 일회용 발행 코드는 없음 */
+    private Object couponCodeRepository(String method, Object[] args) {
+        return switch (method) {
+            case "findCouponIdByCode" -> Optional.empty();
+            case "existsByCode" -> false;
+            case "count" -> 0L;
+            case "streamAllCodes" -> Stream.empty();
+            default -> throw new UnsupportedOperationException(method);
+        };
+    }
+
+    private UserCoupon insert(UserCoupon uc) {
+        Map<Long, UserCoupon> held = userCoupons.computeIfAbsent(uc.getUserId(), k -> new ConcurrentHashMap<>());
+        if (held.putIfAbsent(uc.getCoupon().getId(), uc) != null) {
+            throw new DataIntegrityViolationException("uk_user_coupon");
+        }
+        return uc;
+    }
+
+    private int useOnce(Long couponId, Long userId) {
+        UserCoupon uc = userCoupons.getOrDefault(userId, Map.of()).get(couponId);
+        if (uc == null) {
+            return 0;
+        }
+        synchronized (uc) {
+            Integer remaining = uc.getRemainingUsages();
+            if (uc.getUsed() || (remaining != null && remaining <= 0)) {
+                return 0;
+            }
+            if (remaining != null) {
+                uc.setRemainingUsages(remaining - 1);
+                uc.setUsed(remaining <= 1);
+            }
+            return 1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, m, args) -> {
+            if (m.getDeclaringClass() == Object.class) {
+                return switch (m.getName()) {
+                    case "equals" -> p == args[0];
+                    case "hashCode" -> System.identityHashCode(p);
+                    default -> type.getSimpleName() + "(in-memory)";
+                };
+            }
+            return handler.invoke(m.getName(), args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(String method, Object[] args);
+    }
+
+    /** 트랜잭션 경계만 통과시키는 가짜 트랜잭션 매니저 */
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
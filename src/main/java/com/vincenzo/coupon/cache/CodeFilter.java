@@ -0,0 +1,121 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.dto.CodeFilterStats;
+import com.vincenzo.coupon.util.BloomFilter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 코드 존재 여부 부정 조회 필터 (DB 조회 앞단)
+ * - mightContain 이 false 면 확실히 없는 코드라 DB 를 건너뜀, true 면 DB 로 확인
+ * - 재구성 중 추가된 코드는 새 필터에도 넣어 교체 시 누락되지 않음
+ *   (추가는 커밋 이후에 호출하므로, 재구성 시작 전에 커밋된 코드는 DB 적재에서 읽힘)
+ * - 첫 구성 전이거나 비활성화 상태면 항상 "있을 수도 있음"
+ */
+public class CodeFilter {
+
+    private final String name;
+    private final boolean enabled;
+    private final double fpp;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private volatile long lastRebuildMillis;
+    private volatile LocalDateTime lastRebuiltAt;
+
+    public CodeFilter(String name, boolean enabled, double fpp) {
+        this.name = name;
+        this.enabled = enabled;
+        this.fpp = fpp;
+    }
+
+    public boolean mightContain(String code) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            return true;
+        }
+        if (filter.mightContain(code)) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /** 새로 커밋된 코드 반영 */
+    public void add(String code) {
+        if (!enabled) {
+            return;
+        }
+        // 재구성 중인 필터를 먼저 읽어야 교체 직전/직후 어느 쪽이든 한 곳에는 들어감
+        BloomFilter next = building;
+        BloomFilter filter = current;
+        if (next != null) {
+            next.put(code);
+        }
+        if (filter != null) {
+            filter.put(code);
+        }
+    }
+
+    /** 필터는 통과했지만 DB 에 없던 코드 (관측 오탐) */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * 전체 재구성 후 교체
+     * @param expectedCodes 담을 코드 수 (다음 재구성까지 늘어날 몫 포함)
+     * @param source 전체 코드를 하나씩 넘겨주는 적재 함수
+     */
+    public synchronized void rebuild(long expectedCodes, Consumer<Consumer<String>> source) {
+        if (!enabled) {
+            // 적재 함수가 다른 상태도 함께 채울 수 있으므로 실행은 함
+            source.accept(code -> { });
+            return;
+        }
+        long started = System.currentTimeMillis();
+        BloomFilter next = BloomFilter.create(expectedCodes, fpp);
+        building = next;
+        try {
+            source.accept(next::put);
+            current = next;
+        } finally {
+            building = null;
+        }
+        rebuilds.increment();
+        lastRebuildMillis = System.currentTimeMillis() - started;
+        lastRebuiltAt = LocalDateTime.now();
+    }
+
+    public CodeFilterStats stats() {
+        BloomFilter filter = current;
+        long rejectedCount = rejected.sum();
+        long falsePositiveCount = falsePositives.sum();
+        long absent = rejectedCount + falsePositiveCount;
+        return CodeFilterStats.builder()
+            .name(name)
+            .enabled(enabled)
+            .ready(filter != null)
+            .codes(filter == null ? 0 : filter.insertions())
+            .bitSize(filter == null ? 0 : filter.bitSize())
+            .sizeInBytes(filter == null ? 0 : filter.bitSize() / 8)
+            .hashCount(filter == null ? 0 : filter.hashCount())
+            .expectedFpp(filter == null ? 0 : filter.expectedFpp())
+            .observedFpp(absent == 0 ? 0 : (double) falsePositiveCount / absent)
+            .rejected(rejectedCount)
+            .passed(passed.sum())
+            .falsePositives(falsePositiveCount)
+            .rebuilds(rebuilds.sum())
+            .lastRebuildMillis(lastRebuildMillis)
+            .lastRebuiltAt(lastRebuiltAt)
+            .build();
+    }
+}
@@ -0,0 +1,463 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.dto.CatalogStats;
+import com.vincenzo.coupon.dto.CodeFilterStats;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.rule.CouponRule;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 쿠폰 정의 카탈로그 캐시 (read-through)
+ * - 코드 → 쿠폰 조회는 lock-free 맵에서 처리하고, 없으면 DB에서 읽어 채움
+ * - 시간 인덱스: 시작 대기 쿠폰은 validFrom 순, 활성 쿠폰은 validUntil 순으로 정렬해 두고
+ *   조회 시각이 다음 전환 시각을 넘었을 때만 범위 단위로 활성화/만료 처리
+ * - 쿠폰마다 컴파일된 적용 규칙({@link CouponRule})을 함께 보관
+ * - 활성 쿠폰의 상품/카테고리 역인덱스({@link CouponTargetIndex})를 스냅샷과 함께 재구성
+ *   - 생성/변경/무효화는 시간 인덱스만 고치고, 활성 집합이 바뀐 경우에만 스냅샷을 더럽힘 표시
+ *   - 스냅샷은 다음 조회 때 한 번만 재구성 (변경이 몰려도 쓰기마다 O(n) 재구성하지 않음)
+ * - 전체 재적재 중 들어온 생성/변경/무효화는 기록해 두었다가 새 상태에 다시 적용 (적재 시점 이후 변경 유실 방지)
+ * - 전체 코드 Bloom 필터({@link CodeFilter})를 재적재 때마다 함께 구성해, 캐시 미스 중 확실히 없는 코드는 DB 조회 생략
+ *   (다른 노드에서 만든 쿠폰은 다음 재적재까지 보이지 않으므로 기본은 꺼짐 - 단일 노드 배포에서만 켬)
+ * - 발급 수(issuedCount)는 이 노드에서 DB 에 반영한 발급마다 커밋 후 더하고, 다른 노드의 발급은 주기적 재적재 때 반영
+ * - 반영/재적재한 쿠폰의 발급 한도는 변경 순서대로 알림 (발급 엔진 재고 조정)
+ */
+@Slf4j
+@Component
+public class CouponCatalog {
+
+    /** 코드 필터 최소 용량 (쿠폰 수가 적을 때 생성 몇 건만으로 오탐률이 치솟지 않도록) */
+    private static final long MIN_FILTER_CODES = 10_000;
+
+    private final CouponRepository couponRepo;
+    private final TransactionTemplate readTx;
+    private final CodeFilter codeFilter;
+
+    private volatile Map<String, Coupon> byCode = new ConcurrentHashMap<>();
+    private volatile Map<Long, Coupon> byId = new ConcurrentHashMap<>();
+    private volatile Map<Long, CouponRule> rules = new ConcurrentHashMap<>();
+
+    /** 아직 시작되지 않은 쿠폰 (validFrom 기준) - lock 보호 */
+    private final NavigableMap<LocalDateTime, Map<Long, Coupon>> pending = new TreeMap<>();
+    /** 현재 활성 쿠폰 (validUntil 기준) - lock 보호 */
+    private final NavigableMap<LocalDateTime, Map<Long, Coupon>> active = new TreeMap<>();
+
+    private volatile List<Coupon> activeSnapshot = List.of();
+    private volatile CouponTargetIndex targetIndex = CouponTargetIndex.EMPTY;
+    private volatile LocalDateTime nextActivation = LocalDateTime.MAX;
+    private volatile LocalDateTime nextExpiry = LocalDateTime.MAX;
+    /** 활성 집합이 바뀌어 스냅샷/역인덱스 재구성이 필요함 */
+    private volatile boolean dirty;
+
+    /** 재적재 중 들어온 변경 (재적재 중이 아니면 null) - lock 보호 */
+    private List<Change> changesDuringRefresh;
+    /** 재적재는 한 번에 하나만 */
+    private final Object refreshLock = new Object();
+    /** (쿠폰 ID, 발급 한도) 알림 - lock 안에서 호출 */
+    private volatile BiConsumer<Long, Integer> issueLimitListener = (id, limit) -> { };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private volatile LocalDateTime lastRefreshedAt;
+
+    public CouponCatalog(CouponRepository couponRepo,
+                         PlatformTransactionManager txManager,
+                         @Value("${coupon.code-filter.enabled:false}") boolean codeFilterEnabled,
+                         @Value("${coupon.code-filter.fpp:0.01}") double codeFilterFpp) {
+        this.couponRepo = couponRepo;
+        this.readTx = new TransactionTemplate(txManager);
+        this.readTx.setReadOnly(true);
+        this.codeFilter = new CodeFilter("coupon", codeFilterEnabled, codeFilterFpp);
+    }
+
+    /**
+     * 코드로 쿠폰 조회 (캐시에 없으면 코드 필터 확인 후 DB 조회해 적재)
+     */
+    public Optional<Coupon> findByCode(String code) {
+        Coupon cached = byCode.get(code);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        if (!codeFilter.mightContain(code)) {
+            return Optional.empty();
+        }
+        misses.increment();
+        Optional<Coupon> loaded = readTx.execute(status -> couponRepo.findByCode(code).map(CouponCatalog::initialize));
+        loaded.ifPresentOrElse(this::put, codeFilter::recordFalsePositive);
+        return loaded;
+    }
+
+    /**
+     * ID로 쿠폰 조회 (캐시에 없으면 DB 조회 후 적재)
+     */
+    public Optional<Coupon> findById(Long id) {
+        Coupon cached = byId.get(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        Optional<Coupon> loaded = readTx.execute(status -> couponRepo.findById(id).map(CouponCatalog::initialize));
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * 코드로 컴파일된 쿠폰 규칙 조회
+     */
+    public Optional<CouponRule> findRuleByCode(String code) {
+        return findByCode(code).map(this::ruleOf);
+    }
+
+    /**
+     * ID로 컴파일된 쿠폰 규칙 조회
+     */
+    public Optional<CouponRule> findRuleById(Long id) {
+        return findById(id).map(this::ruleOf);
+    }
+
+    /**
+     * 캐시에 있는 규칙만 조회 (DB 조회 없음 - 논블로킹 경로용, 미스면 호출 측이 적재 후 {@link #putLoaded})
+     */
+    public Optional<CouponRule> cachedRuleByCode(String code) {
+        return cached(byCode.get(code));
+    }
+
+    public Optional<CouponRule> cachedRuleById(Long id) {
+        return cached(byId.get(id));
+    }
+
+    /**
+     * 반영/재적재한 쿠폰의 발급 한도를 받을 곳 등록 (한도가 바뀌지 않았어도 호출됨)
+     */
+    public void onIssueLimitChange(BiConsumer<Long, Integer> listener) {
+        this.issueLimitListener = listener;
+    }
+
+    /** 코드 필터 확인 (false 면 확실히 없는 코드) */
+    public boolean mightContain(String code) {
+        return codeFilter.mightContain(code);
+    }
+
+    /** 캐시 밖에서 적재한 쿠폰 반영 (대상 컬렉션까지 채운 상태여야 함) */
+    public CouponRule putLoaded(Coupon coupon) {
+        misses.increment();
+        put(coupon);
+        return ruleOf(coupon);
+    }
+
+    /** 코드 필터는 통과했지만 저장소에 없던 코드 */
+    public void recordCodeMiss() {
+        misses.increment();
+        codeFilter.recordFalsePositive();
+    }
+
+    /**
+     * 주어진 시각에 유효한 쿠폰 목록 (ID 순)
+     * - 다음 활성화/만료 시각 전이면 스냅샷을 그대로 반환
+     */
+    public List<Coupon> activeAt(LocalDateTime now) {
+        if (!now.isBefore(nextActivation) || now.isAfter(nextExpiry)) {
+            advance(now);
+        }
+        if (dirty) {
+            rebuildSnapshot();
+        }
+        return activeSnapshot;
+    }
+
+    /**
+     * 주어진 시각에 해당 상품(및 카테고리)에 적용 가능한 쿠폰 목록 (ID 순)
+     * - 역인덱스 조회로 전체 쿠폰을 훑지 않음
+     */
+    public List<Coupon> applicableAt(LocalDateTime now, long productId, Long categoryId) {
+        activeAt(now);
+        long[] ids = targetIndex.applicable(productId, categoryId);
+        List<Coupon> coupons = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Coupon c = byId.get(id);
+            if (c != null) {
+                coupons.add(c);
+            }
+        }
+        return coupons;
+    }
+
+    /**
+     * 쿠폰을 캐시에 반영 (생성/변경 시)
+     */
+    public synchronized void put(Coupon coupon) {
+        if (changesDuringRefresh != null) {
+            changesDuringRefresh.add(new Change(coupon, null));
+        }
+        apply(coupon);
+    }
+
+    private synchronized void apply(Coupon coupon) {
+        Coupon previous = byId.get(coupon.getId());
+        if (previous != null) {
+            byCode.remove(previous.getCode());
+            unindex(previous);
+        }
+        rules.put(coupon.getId(), CouponRule.compile(coupon));
+        codeFilter.add(coupon.getCode());
+        byCode.put(coupon.getCode(), coupon);
+        byId.put(coupon.getId(), coupon);
+        pending.computeIfAbsent(coupon.getValidFrom(), k -> new HashMap<>()).put(coupon.getId(), coupon);
+        advance(LocalDateTime.now());
+        issueLimitListener.accept(coupon.getId(), coupon.getMaxIssueCount());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 캐시에 반영 (롤백 시 반영하지 않음)
+     */
+    public void putAfterCommit(Coupon coupon) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(coupon);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(coupon);
+            }
+        });
+    }
+
+    /**
+     * DB 에 반영한 발급 수를 현재 트랜잭션이 커밋된 뒤 캐시된 쿠폰에도 더함 (목록의 남은 발급 수가 바로 줄도록)
+     */
+    public void issuedAfterCommit(long couponId, int count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addIssued(couponId, count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addIssued(couponId, count);
+            }
+        });
+    }
+
+    private synchronized void addIssued(long couponId, int count) {
+        Coupon cached = byId.get(couponId);
+        if (cached != null) {
+            cached.setIssuedCount(cached.getIssuedCount() + count);
+        }
+    }
+
+    /**
+     * 코드 단위 무효화 - 다음 조회 시 DB에서 다시 읽음
+     */
+    public synchronized void invalidate(String code) {
+        if (changesDuringRefresh != null) {
+            changesDuringRefresh.add(new Change(null, code));
+        }
+        Coupon removed = byCode.remove(code);
+        if (removed != null) {
+            byId.remove(removed.getId());
+            rules.remove(removed.getId());
+            unindex(removed);
+            updateBounds();
+        }
+    }
+
+    /**
+     * 전체 카탈로그 재적재 (기동 시, 주기적으로, 관리자 요청 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${coupon.catalog.refresh-interval-ms:300000}",
+               fixedDelayString = "${coupon.catalog.refresh-interval-ms:300000}")
+    public void refresh() {
+        synchronized (refreshLock) {
+            reload();
+        }
+    }
+
+    private void reload() {
+        synchronized (this) {
+            changesDuringRefresh = new ArrayList<>();
+        }
+        // 코드 필터는 DB 적재 전에 재구성을 시작해야 적재 중 커밋된 쿠폰이 put 으로 새 필터에도 들어감
+        List<Coupon> coupons = new ArrayList<>();
+        try {
+            codeFilter.rebuild(Math.max(MIN_FILTER_CODES, byCode.size() * 2L), sink -> {
+                coupons.addAll(readTx.execute(status -> couponRepo.findAll().stream()
+                    .map(CouponCatalog::initialize)
+                    .toList()));
+                coupons.forEach(c -> sink.accept(c.getCode()));
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRefresh = null;
+            }
+            throw e;
+        }
+        Map<String, Coupon> newByCode = new ConcurrentHashMap<>();
+        Map<Long, Coupon> newById = new ConcurrentHashMap<>();
+        Map<Long, CouponRule> newRules = new ConcurrentHashMap<>();
+        for (Coupon c : coupons) {
+            newByCode.put(c.getCode(), c);
+            newById.put(c.getId(), c);
+            newRules.put(c.getId(), CouponRule.compile(c));
+        }
+        synchronized (this) {
+            pending.clear();
+            active.clear();
+            for (Coupon c : coupons) {
+                pending.computeIfAbsent(c.getValidFrom(), k -> new HashMap<>()).put(c.getId(), c);
+            }
+            rules = newRules;
+            byCode = newByCode;
+            byId = newById;
+            for (Coupon c : coupons) {
+                issueLimitListener.accept(c.getId(), c.getMaxIssueCount());
+            }
+            // 적재한 목록이 이 변경들을 반영하지 못했을 수 있으므로 순서대로 다시 적용
+            List<Change> changes = changesDuringRefresh;
+            changesDuringRefresh = null;
+            for (Change change : changes) {
+                if (change.coupon() != null) {
+                    apply(change.coupon());
+                } else {
+                    invalidate(change.invalidatedCode());
+                }
+            }
+            dirty = true;
+            advance(LocalDateTime.now());
+        }
+        refreshes.increment();
+        lastRefreshedAt = LocalDateTime.now();
+        log.debug("쿠폰 카탈로그 갱신 - 전체: {}, 활성: {}", coupons.size(), activeSnapshot.size());
+    }
+
+    public CodeFilterStats codeFilterStats() {
+        return codeFilter.stats();
+    }
+
+    public CatalogStats stats() {
+        return CatalogStats.builder()
+            .hits(hits.sum())
+            .misses(misses.sum())
+            .size(byCode.size())
+            .activeSize(activeSnapshot.size())
+            .targetIndexBytes(targetIndex.sizeInBytes())
+            .refreshes(refreshes.sum())
+            .lastRefreshedAt(lastRefreshedAt)
+            .build();
+    }
+
+    /**
+     * 시작 시각이 지난 쿠폰은 활성으로, 종료 시각이 지난 쿠폰은 제거
+     */
+    private synchronized void advance(LocalDateTime now) {
+        NavigableMap<LocalDateTime, Map<Long, Coupon>> started = pending.headMap(now, true);
+        for (Map<Long, Coupon> group : started.values()) {
+            for (Coupon c : group.values()) {
+                if (!now.isAfter(c.getValidUntil())) {
+                    active.computeIfAbsent(c.getValidUntil(), k -> new HashMap<>()).put(c.getId(), c);
+                    dirty = true;
+                }
+            }
+        }
+        started.clear();
+        NavigableMap<LocalDateTime, Map<Long, Coupon>> expired = active.headMap(now, false);
+        if (!expired.isEmpty()) {
+            expired.clear();
+            dirty = true;
+        }
+        updateBounds();
+    }
+
+    /** 더럽힘 표시가 있을 때만 활성 스냅샷과 역인덱스 재구성 */
+    private synchronized void rebuildSnapshot() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        List<Coupon> snapshot = new ArrayList<>();
+        active.values().forEach(group -> snapshot.addAll(group.values()));
+        snapshot.sort(Comparator.comparing(Coupon::getId));
+        activeSnapshot = List.copyOf(snapshot);
+        targetIndex = CouponTargetIndex.build(snapshot.stream().map(this::ruleOf).toList());
+    }
+
+    private void updateBounds() {
+        nextActivation = pending.isEmpty() ? LocalDateTime.MAX : pending.firstKey();
+        nextExpiry = active.isEmpty() ? LocalDateTime.MAX : active.firstKey();
+    }
+
+    private void unindex(Coupon coupon) {
+        if (coupon == null) {
+            return;
+        }
+        removeFrom(pending, coupon.getValidFrom(), coupon.getId());
+        if (removeFrom(active, coupon.getValidUntil(), coupon.getId())) {
+            dirty = true;
+        }
+    }
+
+    /** @return 있던 항목을 지웠는지 */
+    private static boolean removeFrom(NavigableMap<LocalDateTime, Map<Long, Coupon>> index,
+                                      LocalDateTime key, Long id) {
+        Map<Long, Coupon> group = index.get(key);
+        if (group == null || group.remove(id) == null) {
+            return false;
+        }
+        if (group.isEmpty()) {
+            index.remove(key);
+        }
+        return true;
+    }
+
+    private Optional<CouponRule> cached(Coupon coupon) {
+        if (coupon == null) {
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(ruleOf(coupon));
+    }
+
+    /** 규칙은 쿠폰보다 먼저 적재되지만, 교체 중 경합으로 비어 있으면 즉석 컴파일 */
+    private CouponRule ruleOf(Coupon coupon) {
+        CouponRule rule = rules.get(coupon.getId());
+        return rule != null ? rule : CouponRule.compile(coupon);
+    }
+
+    /** 재적재 중 들어온 변경 - 생성/변경이면 coupon, 무효화면 invalidatedCode */
+    private record Change(Coupon coupon, String invalidatedCode) {
+    }
+
+    /** 캐시 밖에서 지연 로딩되지 않도록 대상 컬렉션을 미리 로딩 */
+    private static Coupon initialize(Coupon coupon) {
+        Hibernate.initialize(coupon.getTargetCategoryIds());
+        Hibernate.initialize(coupon.getTargetProductIds());
+        return coupon;
+    }
+}
@@ -0,0 +1,158 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.rule.CouponRule;
+import com.vincenzo.coupon.rule.TargetSet;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상품/카테고리 → 적용 가능 쿠폰 ID 역인덱스 (불변, 활성 쿠폰 기준으로 카탈로그가 재구성)
+ * - 대상 ID 는 정렬된 long[], 쿠폰 ID 목록은 하나의 long[] 에 이어 붙이고 시작 위치(int[])로 구분
+ * - 제한 없는 쿠폰은 별도 목록으로 두고 조회 시 합침 (정렬 배열의 합집합/교집합만 사용)
+ */
+public final class CouponTargetIndex {
+
+    public static final CouponTargetIndex EMPTY = build(List.of());
+
+    private final Postings byProduct;
+    private final Postings byCategory;
+
+    private CouponTargetIndex(Postings byProduct, Postings byCategory) {
+        this.byProduct = byProduct;
+        this.byCategory = byCategory;
+    }
+
+    /**
+     * @param rules 색인할 쿠폰 규칙 (쿠폰 ID 오름차순)
+     */
+    public static CouponTargetIndex build(Collection<CouponRule> rules) {
+        return new CouponTargetIndex(
+            Postings.build(rules, CouponRule::targetProducts),
+            Postings.build(rules, CouponRule::targetCategories));
+    }
+
+    /**
+     * 상품(및 카테고리)에 적용 가능한 쿠폰 ID (오름차순)
+     * @param categoryId null 이면 카테고리 제한 쿠폰은 제외
+     */
+    public long[] applicable(long productId, Long categoryId) {
+        long[] byProductIds = byProduct.lookup(productId);
+        long[] byCategoryIds = categoryId == null ? byCategory.unrestricted : byCategory.lookup(categoryId);
+        return intersect(byProductIds, byCategoryIds);
+    }
+
+    /** 색인 배열이 차지하는 대략적인 바이트 수 */
+    public long sizeInBytes() {
+        return byProduct.sizeInBytes() + byCategory.sizeInBytes();
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /** 대상 ID 하나에 대한 쿠폰 ID 목록 모음 */
+    private static final class Postings {
+        private final long[] keys;
+        private final int[] offsets;
+        private final long[] couponIds;
+        private final long[] unrestricted;
+
+        private Postings(long[] keys, int[] offsets, long[] couponIds, long[] unrestricted) {
+            this.keys = keys;
+            this.offsets = offsets;
+            this.couponIds = couponIds;
+            this.unrestricted = unrestricted;
+        }
+
+        static Postings build(Collection<CouponRule> rules, Function<CouponRule, TargetSet> targets) {
+            // 1) 전체 대상 ID (중복 제거, 정렬)
+            int total = 0;
+            int unrestrictedCount = 0;
+            for (CouponRule rule : rules) {
+                TargetSet set = targets.apply(rule);
+                total += set.size();
+                if (set.isAny()) {
+                    unrestrictedCount++;
+                }
+            }
+            long[] all = new long[total];
+            long[] unrestricted = new long[unrestrictedCount];
+            int n = 0, u = 0;
+            for (CouponRule rule : rules) {
+                TargetSet set = targets.apply(rule);
+                if (set.isAny()) {
+                    unrestricted[u++] = rule.couponId();
+                }
+                for (int i = 0; i < set.size(); i++) {
+                    all[n++] = set.get(i);
+                }
+            }
+            long[] keys = Arrays.stream(all).sorted().distinct().toArray();
+
+            // 2) 대상 ID 별 쿠폰 수 → 시작 위치
+            int[] offsets = new int[keys.length + 1];
+            for (long id : all) {
+                offsets[Arrays.binarySearch(keys, id) + 1]++;
+            }
+            for (int k = 0; k < keys.length; k++) {
+                offsets[k + 1] += offsets[k];
+            }
+
+            // 3) 쿠폰 ID 순으로 채워 넣어 목록마다 정렬 유지
+            long[] couponIds = new long[total];
+            int[] cursor = Arrays.copyOf(offsets, keys.length);
+            for (CouponRule rule : rules) {
+                TargetSet set = targets.apply(rule);
+                for (int i = 0; i < set.size(); i++) {
+                    couponIds[cursor[Arrays.binarySearch(keys, set.get(i))]++] = rule.couponId();
+                }
+            }
+            return new Postings(keys, offsets, couponIds, unrestricted);
+        }
+
+        /** 대상으로 지정된 쿠폰 ∪ 제한 없는 쿠폰 */
+        long[] lookup(long id) {
+            int k = Arrays.binarySearch(keys, id);
+            if (k < 0) {
+                return unrestricted;
+            }
+            return union(couponIds, offsets[k], offsets[k + 1], unrestricted);
+        }
+
+        long sizeInBytes() {
+            return 8L * keys.length + 4L * offsets.length + 8L * couponIds.length + 8L * unrestricted.length;
+        }
+
+        private static long[] union(long[] a, int from, int to, long[] b) {
+            long[] out = new long[(to - from) + b.length];
+            int i = from, j = 0, n = 0;
+            while (i < to || j < b.length) {
+                if (j == b.length || (i < to && a[i] < b[j])) {
+                    out[n++] = a[i++];
+                } else if (i == to || b[j] < a[i]) {
+                    out[n++] = b[j++];
+                } else {
+                    out[n++] = a[i++];
+                    j++;
+                }
+            }
+            return n == out.length ? out : Arrays.copyOf(out, n);
+        }
+    }
+}
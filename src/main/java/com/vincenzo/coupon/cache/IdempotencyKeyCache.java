@@ -0,0 +1,100 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.dto.RedemptionResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 멱등 키 → 쿠폰 사용 결과 (메모리, 시간 버킷)
+ * - 만료는 버킷 단위로 통째로 버림 (항목별 타이머/정렬 없음), 조회는 버킷 수만큼의 해시 조회
+ * - 현재 버킷이 가득 차면 시간이 되기 전에 가장 오래된 버킷을 버려 항목 수 상한 유지
+ * - 여기서 빠진 키는 DB 유니크 제약(redemption_receipt)이 중복 차감을 막음
+ */
+@Component
+public class IdempotencyKeyCache {
+
+    private final long bucketMillis;
+    private final int maxEntriesPerBucket;
+
+    /** [0] = 현재 버킷, 뒤로 갈수록 오래된 버킷 */
+    private volatile Bucket[] buckets;
+
+    public IdempotencyKeyCache(@Value("${coupon.idempotency.memory-ttl-seconds:600}") long ttlSeconds,
+                               @Value("${coupon.idempotency.buckets:4}") int bucketCount,
+                               @Value("${coupon.idempotency.max-entries:200000}") int maxEntries) {
+        this.bucketMillis = Math.max(1, ttlSeconds * 1000 / bucketCount);
+        this.maxEntriesPerBucket = Math.max(1, maxEntries / bucketCount);
+        this.buckets = new Bucket[bucketCount];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket(now);
+        }
+    }
+
+    public Optional<Receipt> get(long userId, String key) {
+        Key k = new Key(userId, key);
+        long expiredBefore = System.currentTimeMillis() - bucketMillis * buckets.length;
+        for (Bucket bucket : buckets) {
+            if (bucket.startMillis < expiredBefore) {
+                break;
+            }
+            Receipt receipt = bucket.entries.get(k);
+            if (receipt != null) {
+                return Optional.of(receipt);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void put(long userId, String key, Receipt receipt) {
+        Bucket current = buckets[0];
+        if (System.currentTimeMillis() - current.startMillis >= bucketMillis
+                || current.entries.size() >= maxEntriesPerBucket) {
+            current = rotate(current);
+        }
+        current.entries.put(new Key(userId, key), receipt);
+    }
+
+    /** 메모리에 있는 키 수 */
+    public int size() {
+        int size = 0;
+        for (Bucket bucket : buckets) {
+            size += bucket.entries.size();
+        }
+        return size;
+    }
+
+    private synchronized Bucket rotate(Bucket seen) {
+        Bucket[] old = buckets;
+        if (old[0] != seen) {
+            return old[0];
+        }
+        Bucket[] next = new Bucket[old.length];
+        next[0] = new Bucket(System.currentTimeMillis());
+        System.arraycopy(old, 0, next, 1, old.length - 1);
+        buckets = next;
+        return next[0];
+    }
+
+    /**
+     * 같은 키의 재요청에 돌려줄 결과
+     * @param code 처음 요청한 쿠폰 코드 (같은 키로 다른 코드를 쓰면 거부)
+     */
+    public record Receipt(String code, RedemptionResult result) {
+    }
+
+    private record Key(long userId, String key) {
+    }
+
+    private static final class Bucket {
+        final long startMillis;
+        final ConcurrentHashMap<Key, Receipt> entries = new ConcurrentHashMap<>();
+
+        Bucket(long startMillis) {
+            this.startMillis = startMillis;
+        }
+    }
+}
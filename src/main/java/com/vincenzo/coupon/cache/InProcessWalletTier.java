@@ -0,0 +1,61 @@
+package com.vincenzo.coupon.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 원격 계층 대용품 (테스트/단일 노드용)
+ * - 원격 저장소처럼 직렬화한 바이트로 보관해 객체 공유 없이 동작을 흉내 냄
+ */
+@Component
+@ConditionalOnProperty(name = "coupon.wallet.remote-tier", havingValue = "in-process")
+public class InProcessWalletTier implements WalletRemoteTier {
+
+    private final Map<Long, byte[]> store = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<UserWallet> get(long userId) {
+        byte[] bytes = store.get(userId);
+        return bytes == null ? Optional.empty() : Optional.of(deserialize(bytes));
+    }
+
+    @Override
+    public void put(long userId, UserWallet wallet) {
+        store.put(userId, serialize(wallet));
+    }
+
+    @Override
+    public void evict(long userId) {
+        store.remove(userId);
+    }
+
+    private static byte[] serialize(UserWallet wallet) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(wallet);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static UserWallet deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (UserWallet) in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
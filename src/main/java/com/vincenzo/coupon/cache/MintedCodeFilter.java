@@ -0,0 +1,76 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.dto.CodeFilterStats;
+import com.vincenzo.coupon.repository.CouponCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * 일회용 발행 코드(coupon_code) 부정 조회 필터
+ * - 수천만 건이라 카탈로그처럼 통째로 캐시할 수 없어 Bloom 필터만 메모리에 둠 (코드당 약 10비트 @ 1%)
+ * - 기동 시와 주기적으로 전체 재구성, 발행 작업은 청크 커밋 후 바로 추가
+ * - 다른 노드에서 발행한 코드는 다음 재구성까지 보이지 않으므로 기본은 꺼짐 - 단일 노드 배포에서만 켬
+ */
+@Slf4j
+@Component
+public class MintedCodeFilter {
+
+    private final CouponCodeRepository couponCodeRepo;
+    private final TransactionTemplate readTx;
+    private final CodeFilter filter;
+    private final long expectedCodes;
+
+    public MintedCodeFilter(CouponCodeRepository couponCodeRepo,
+                            PlatformTransactionManager txManager,
+                            @Value("${coupon.code-filter.enabled:false}") boolean enabled,
+                            @Value("${coupon.code-filter.fpp:0.01}") double fpp,
+                            @Value("${coupon.code-filter.expected-minted-codes:1000000}") long expectedCodes) {
+        this.couponCodeRepo = couponCodeRepo;
+        this.readTx = new TransactionTemplate(txManager);
+        this.readTx.setReadOnly(true);
+        this.filter = new CodeFilter("minted", enabled, fpp);
+        this.expectedCodes = expectedCodes;
+    }
+
+    public boolean mightContain(String code) {
+        return filter.mightContain(code);
+    }
+
+    public void add(String code) {
+        filter.add(code);
+    }
+
+    public void recordFalsePositive() {
+        filter.recordFalsePositive();
+    }
+
+    /**
+     * 전체 재구성 (다음 재구성까지 늘어날 몫으로 현재 건수의 1.5배 확보)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${coupon.code-filter.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${coupon.code-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long count = readTx.execute(status -> couponCodeRepo.count());
+        filter.rebuild(Math.max(expectedCodes, count + count / 2), sink -> readTx.executeWithoutResult(status -> {
+            try (Stream<String> codes = couponCodeRepo.streamAllCodes()) {
+                codes.forEach(sink);
+            }
+        }));
+        CodeFilterStats stats = filter.stats();
+        log.info("발행 코드 필터 재구성 - 코드: {}, 크기: {}KB, 소요: {}ms",
+            stats.getCodes(), stats.getSizeInBytes() / 1024, stats.getLastRebuildMillis());
+    }
+
+    public CodeFilterStats stats() {
+        return filter.stats();
+    }
+}
@@ -0,0 +1,59 @@
+package com.vincenzo.coupon.cache;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 한 명의 발급 쿠폰 상태 (불변 - 변경 시 새 객체)
+ * - 사용자당 보유 쿠폰은 수십 개 수준이라 변경마다 복사해도 부담이 작음
+ */
+public final class UserWallet implements Serializable {
+
+    public static final UserWallet EMPTY = new UserWallet(Map.of());
+
+    private final Map<Long, WalletEntry> entries;
+
+    private UserWallet(Map<Long, WalletEntry> entries) {
+        this.entries = entries;
+    }
+
+    public static UserWallet of(Collection<WalletEntry> entries) {
+        return new UserWallet(entries.stream()
+            .collect(Collectors.toUnmodifiableMap(WalletEntry::couponId, e -> e)));
+    }
+
+    /** 발급받은 쿠폰 ID 전체 */
+    public Set<Long> couponIds() {
+        return entries.keySet();
+    }
+
+    /** 아직 사용할 수 있는 쿠폰 ID */
+    public Set<Long> usableCouponIds() {
+        return entries.values().stream()
+            .filter(WalletEntry::usable)
+            .map(WalletEntry::couponId)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean contains(long couponId) {
+        return entries.containsKey(couponId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public UserWallet withAssigned(long couponId, Integer remainingUsages) {
+        return with(new WalletEntry(couponId, remainingUsages, false));
+    }
+
+    private UserWallet with(WalletEntry entry) {
+        Map<Long, WalletEntry> copy = new HashMap<>(entries);
+        copy.put(entry.couponId(), entry);
+        return new UserWallet(Map.copyOf(copy));
+    }
+}
@@ -0,0 +1,156 @@
+package com.vincenzo.coupon.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.vincenzo.coupon.dto.WalletCacheStats;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 발급 쿠폰 지갑 캐시 (로컬 W-TinyLFU + 선택적 원격 계층 + DB)
+ * - 목록 조회의 "이미 발급" 표시, 장바구니의 보유 쿠폰, 발급 시 중복 판단을 DB 왕복 없이 처리
+ * - 발급은 커밋 후 로컬 항목에 같은 변경을 적용하고 원격 계층은 무효화
+ *   (로딩 중인 키의 변경은 Caffeine 이 로딩 완료까지 대기시키므로 유실되지 않음, 추가는 멱등)
+ * - 사용은 남은 횟수 차감이 멱등이 아니라(커밋 직후 적재와 겹치면 두 번 차감) 커밋 후 무효화
+ * - 저장소를 직접 수정한 경우(대량 발급 등)는 해당 사용자 무효화, 나머지는 TTL 이 상한
+ * - 다른 노드의 변경은 원격 계층을 쓰더라도 로컬 항목 TTL 동안 늦게 보일 수 있음
+ */
+@Component
+public class UserWalletCache {
+
+    private final UserCouponRepository userCouponRepo;
+    private final TransactionTemplate readTx;
+    private final WalletRemoteTier remote;
+    private final Cache<Long, UserWallet> local;
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder databaseLoads = new LongAdder();
+
+    public UserWalletCache(UserCouponRepository userCouponRepo,
+                           PlatformTransactionManager txManager,
+                           ObjectProvider<WalletRemoteTier> remoteTier,
+                           @Value("${coupon.wallet.max-users:100000}") long maxUsers,
+                           @Value("${coupon.wallet.ttl-seconds:600}") long ttlSeconds) {
+        this.userCouponRepo = userCouponRepo;
+        this.readTx = new TransactionTemplate(txManager);
+        this.readTx.setReadOnly(true);
+        this.remote = remoteTier.getIfAvailable();
+        this.local = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 사용자 지갑 조회 (로컬 → 원격 → DB 1회)
+     */
+    public UserWallet get(long userId) {
+        return local.get(userId, this::load);
+    }
+
+    /**
+     * 로컬 계층에 있는 지갑만 조회 (적재 없음 - 논블로킹 경로용)
+     * - 미스일 때 호출 측이 따로 읽은 값은 캐시에 넣지 않음 (적재와 발급 커밋이 겹치면 오래된 값이 남을 수 있음)
+     */
+    public Optional<UserWallet> getIfPresent(long userId) {
+        return Optional.ofNullable(local.getIfPresent(userId));
+    }
+
+    /** 발급 커밋 후 지갑에 추가 */
+    public void assignedAfterCommit(long userId, long couponId, Integer remainingUsages) {
+        afterCommit(userId, wallet -> wallet.withAssigned(couponId, remainingUsages));
+    }
+
+    /** 사용 커밋 후 무효화 (다음 조회에서 남은 횟수 재적재) */
+    public void usedAfterCommit(long userId) {
+        runAfterCommit(() -> invalidate(userId));
+    }
+
+    /** 커밋 후 무효화 (저장소를 직접 일괄 수정한 경우) */
+    public void invalidateAfterCommit(long[] userIds, int length) {
+        long[] copy = Arrays.copyOf(userIds, length);
+        runAfterCommit(() -> {
+            for (long userId : copy) {
+                invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidate(long userId) {
+        local.invalidate(userId);
+        if (remote != null) {
+            remote.evict(userId);
+        }
+    }
+
+    /** 로컬 계층 전체 비우기 (원격 계층은 TTL 에 맡김) */
+    public void invalidateLocal() {
+        local.invalidateAll();
+    }
+
+    public WalletCacheStats stats() {
+        CacheStats stats = local.stats();
+        return WalletCacheStats.builder()
+            .size(local.estimatedSize())
+            .hits(stats.hitCount())
+            .misses(stats.missCount())
+            .hitRate(stats.hitRate())
+            .evictions(stats.evictionCount())
+            .remoteEnabled(remote != null)
+            .remoteHits(remoteHits.sum())
+            .databaseLoads(databaseLoads.sum())
+            .build();
+    }
+
+    private UserWallet load(Long userId) {
+        if (remote != null) {
+            Optional<UserWallet> shared = remote.get(userId);
+            if (shared.isPresent()) {
+                remoteHits.increment();
+                return shared.get();
+            }
+        }
+        UserWallet wallet = UserWallet.of(readTx.execute(status -> userCouponRepo.findWalletEntriesByUserId(userId)));
+        databaseLoads.increment();
+        if (remote != null) {
+            remote.put(userId, wallet);
+        }
+        return wallet;
+    }
+
+    private void afterCommit(long userId, UnaryOperator<UserWallet> change) {
+        runAfterCommit(() -> {
+            local.asMap().computeIfPresent(userId, (id, wallet) -> change.apply(wallet));
+            if (remote != null) {
+                remote.evict(userId);
+            }
+        });
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
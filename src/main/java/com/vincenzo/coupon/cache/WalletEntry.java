@@ -0,0 +1,14 @@
+package com.vincenzo.coupon.cache;
+
+import java.io.Serializable;
+
+/**
+ * 사용자 지갑의 발급 쿠폰 하나 (user_coupon 한 행의 상태)
+ * @param remainingUsages 남은 사용 횟수 (null = 무제한)
+ */
+public record WalletEntry(long couponId, Integer remainingUsages, boolean used) implements Serializable {
+
+    public boolean usable() {
+        return !used && (remainingUsages == null || remainingUsages > 0);
+    }
+}
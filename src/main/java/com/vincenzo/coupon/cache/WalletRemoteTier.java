@@ -0,0 +1,16 @@
+package com.vincenzo.coupon.cache;
+
+import java.util.Optional;
+
+/**
+ * 사용자 지갑 캐시의 원격 계층 (예: Redis) - 노드 간 공유, 로컬 캐시 미스 시 DB 보다 먼저 조회
+ * - 쓰기는 무효화만 사용 (노드 간 읽기-수정-쓰기 경합 없이 다음 조회에서 DB 로 다시 채움)
+ */
+public interface WalletRemoteTier {
+
+    Optional<UserWallet> get(long userId);
+
+    void put(long userId, UserWallet wallet);
+
+    void evict(long userId);
+}
@@ -0,0 +1,63 @@
+package com.vincenzo.coupon.config;
+
+import com.vincenzo.coupon.service.DbPermitScheduler;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 쿠폰 API 요청을 DB 입장 허가를 얻은 뒤에만 컨트롤러로 넘김
+ * - 허가는 응답 완료(예외 포함) 시 반환
+ * - 입장 실패 시 ServiceOverloadedException 이 그대로 예외 처리기로 가서 503 응답
+ * - deferred 인스턴스는 표시만 해 두고, 본문 빈도 제한(RateLimitBodyAdvice)을 통과한 뒤 admitDeferred 로 입장
+ *   (빈도 제한에 걸릴 요청이 허가를 기다리거나 차지하지 않게)
+ */
+@RequiredArgsConstructor
+public class DbAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED = DbAdmissionInterceptor.class.getName() + ".ADMITTED";
+    private static final String DEFERRED = DbAdmissionInterceptor.class.getName() + ".DEFERRED";
+
+    private final DbPermitScheduler scheduler;
+    private final boolean deferred;
+
+    public DbAdmissionInterceptor(DbPermitScheduler scheduler) {
+        this(scheduler, false);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (deferred) {
+            request.setAttribute(DEFERRED, this);
+        } else {
+            admit(request);
+        }
+        return true;
+    }
+
+    /**
+     * 입장을 미뤄 둔 요청이면 지금 입장 (아니면 아무것도 하지 않음)
+     * @throws com.vincenzo.coupon.exception.ServiceOverloadedException 입장 실패
+     */
+    public static void admitDeferred(HttpServletRequest request) {
+        if (request.getAttribute(DEFERRED) instanceof DbAdmissionInterceptor interceptor) {
+            request.removeAttribute(DEFERRED);
+            interceptor.admit(request);
+        }
+    }
+
+    private void admit(HttpServletRequest request) {
+        scheduler.acquire();
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        request.removeAttribute(DEFERRED);
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            scheduler.release();
+        }
+    }
+}
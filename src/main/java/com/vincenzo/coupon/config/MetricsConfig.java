@@ -0,0 +1,20 @@
+package com.vincenzo.coupon.config;
+
+import com.vincenzo.coupon.metrics.QueryCountingInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 요청당 쿼리 수 지표용 - Hibernate 가 준비하는 모든 SQL 을 스레드별로 셈
+     * - 이미 지정된 검사기(QueryCountingInspector 하위 클래스)가 있으면 그대로 둠
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingInspector());
+    }
+}
@@ -0,0 +1,56 @@
+package com.vincenzo.coupon.config;
+
+import com.vincenzo.coupon.controller.CouponController;
+import com.vincenzo.coupon.dto.AssignRequest;
+import com.vincenzo.coupon.dto.RedemptionRequest;
+import com.vincenzo.coupon.service.CouponRateLimiter;
+import com.vincenzo.coupon.service.FlashDropService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * 발급/사용 요청 본문의 사용자 ID, 쿠폰 코드 빈도 제한 - 본문을 읽은 직후, 컨트롤러 호출 전
+ * - 본문은 한 번만 읽으므로 제한 키를 얻으려고 따로 파싱하지 않음
+ * - 제한을 통과한 뒤에 DB 입장 (제한에 걸린 요청은 허가를 기다리거나 차지하지 않음), 빈도 제한이 꺼져 있어도 입장은 여기서
+ * - 선착순 대기열이 열린 코드의 발급은 코드 제한과 DB 입장에서 제외
+ *   (대기열 칸 수가 이미 상한이고 줄 서기는 DB 를 쓰지 않으므로, 오픈 순간 요청을 잘라내거나 허가를 기다리게 하지 않음)
+ */
+@Profile("!reactive")
+@ControllerAdvice(assignableTypes = CouponController.class)
+@RequiredArgsConstructor
+public class RateLimitBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private final CouponRateLimiter limiter;
+    private final FlashDropService drops;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType == AssignRequest.class || targetType == RedemptionRequest.class;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        boolean dropEntry = false;
+        if (body instanceof AssignRequest req) {
+            dropEntry = req.getCode() != null && drops.isOpen(req.getCode());
+            limiter.check(req.getUserId(), dropEntry ? null : req.getCode());
+        } else if (body instanceof RedemptionRequest req) {
+            limiter.check(req.getUserId(), req.getCode());
+        }
+        if (!dropEntry && RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            DbAdmissionInterceptor.admitDeferred(attributes.getRequest());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,24 @@
+package com.vincenzo.coupon.config;
+
+import com.vincenzo.coupon.service.CouponRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 발급/사용 요청의 클라이언트 IP 빈도 제한 - DB 입장 허가를 얻기 전에 거름
+ * - 초과 시 RateLimitedException 이 예외 처리기로 가서 429 응답
+ * - 프록시 뒤라면 server.forward-headers-strategy 로 원래 클라이언트 주소가 remoteAddr 가 되게 함
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final CouponRateLimiter limiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        limiter.checkIp(request.getRemoteAddr());
+        return true;
+    }
+}
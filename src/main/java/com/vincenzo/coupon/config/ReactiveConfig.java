@@ -0,0 +1,65 @@
+package com.vincenzo.coupon.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * reactive 프로필 구성
+ * - 서버: 톰캣도 클래스패스에 있으므로 Netty 를 직접 지정 (적은 이벤트 루프 스레드로 처리)
+ * - R2DBC: 자동 구성은 꺼 두고(JPA 트랜잭션 매니저와 충돌 방지) DatabaseClient 만 구성
+ *   ConnectionFactory 를 빈으로 올리면 DataSource 자동 구성이 물러나 JPA 가 빠지므로 풀은 이 구성이 소유
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig implements DisposableBean {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(@Value("${coupon.reactive.r2dbc-url}") String url,
+                                              @Value("${coupon.reactive.username:}") String username,
+                                              @Value("${coupon.reactive.password:}") String password,
+                                              @Value("${coupon.reactive.pool-size:10}") int poolSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+            .initialSize(1)
+            .maxSize(poolSize)
+            .build());
+        return DatabaseClient.create(pool);
+    }
+
+    /** 여러 문장을 묶어야 하는 R2DBC 작업용 (트랜잭션 매니저는 빈으로 올리지 않아 JPA 쪽 @Transactional 과 무관) */
+    @Bean
+    public TransactionalOperator r2dbcTransactionalOperator(DatabaseClient databaseClient) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(databaseClient.getConnectionFactory()));
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.vincenzo.coupon.config;
+
+import com.vincenzo.coupon.service.CouponRateLimiter;
+import com.vincenzo.coupon.service.DbPermitScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    /** 본문의 사용자 ID/쿠폰 코드로 빈도 제한하고, 본문을 읽은 뒤 DB 입장하는 경로 */
+    private static final String[] BODY_LIMITED = {"/api/coupons/assign", "/api/coupons/redeem"};
+
+    private final DbPermitScheduler dbPermitScheduler;
+    private final CouponRateLimiter rateLimiter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 빈도 제한을 먼저 - 제한된 요청이 DB 입장 허가를 기다리지 않게
+        if (rateLimiter.isEnabled()) {
+            registry.addInterceptor(new RateLimitInterceptor(rateLimiter))
+                .addPathPatterns(BODY_LIMITED);
+        }
+        if (!dbPermitScheduler.isEnabled()) {
+            return;
+        }
+        // 입장 제어 지표는 과부하 중에도 조회할 수 있도록, 번호표 조회는 DB 를 쓰지 않으므로 제외
+        registry.addInterceptor(new DbAdmissionInterceptor(dbPermitScheduler))
+            .addPathPatterns("/api/coupons/**", "/api/admin/coupons/**")
+            .excludePathPatterns("/api/admin/coupons/db-admission", "/api/coupons/drops/**")
+            .excludePathPatterns(BODY_LIMITED);
+        // 사용자/코드 제한과 선착순 대기열 여부는 본문을 읽어야 알 수 있으므로, 입장은 RateLimitBodyAdvice 가 본문을 읽은 뒤
+        registry.addInterceptor(new DbAdmissionInterceptor(dbPermitScheduler, true))
+            .addPathPatterns(BODY_LIMITED);
+    }
+}
@@ -0,0 +1,50 @@
+package com.vincenzo.coupon.controller;
+
+import com.vincenzo.coupon.domain.BulkIssuanceJob;
+import com.vincenzo.coupon.service.BulkIssuanceService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/bulk-issuances")
+@RequiredArgsConstructor
+public class AdminBulkIssuanceController {
+
+    private final BulkIssuanceService bulkIssuanceService;
+
+    /**
+     * 대량 발급 작업 등록 - 요청 본문은 사용자 ID 목록 (줄바꿈/쉼표 구분 텍스트, 스트리밍 업로드)
+     */
+    @PostMapping(value = "/{code}", consumes = {MediaType.TEXT_PLAIN_VALUE, "text/csv"})
+    public ResponseEntity<BulkIssuanceJob> submit(@PathVariable String code,
+                                                  HttpServletRequest request) throws IOException {
+        log.info("대량 발급 요청 - 쿠폰: {}", code);
+        BulkIssuanceJob job = bulkIssuanceService.submit(code, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * 대량 발급 진행 상황 조회
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<BulkIssuanceJob> get(@PathVariable Long jobId) {
+        return ResponseEntity.ok(bulkIssuanceService.getJob(jobId));
+    }
+
+    /**
+     * 실패한 대량 발급 작업 재개
+     */
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<BulkIssuanceJob> resume(@PathVariable Long jobId) {
+        log.info("대량 발급 재개 요청 - 작업: {}", jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkIssuanceService.resume(jobId));
+    }
+}
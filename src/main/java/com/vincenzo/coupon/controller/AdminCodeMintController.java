@@ -0,0 +1,58 @@
+package com.vincenzo.coupon.controller;
+
+import com.vincenzo.coupon.domain.CodeMintJob;
+import com.vincenzo.coupon.service.CodeMintService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/code-mints")
+@RequiredArgsConstructor
+public class AdminCodeMintController {
+
+    private final CodeMintService codeMintService;
+
+    /**
+     * 일회용 코드 발행 작업 등록
+     */
+    @PostMapping("/{code}")
+    public ResponseEntity<CodeMintJob> submit(@PathVariable String code, @RequestParam long count) {
+        log.info("코드 발행 요청 - 쿠폰: {}, 수량: {}", code, count);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(codeMintService.submit(code, count));
+    }
+
+    /**
+     * 발행 진행 상황 조회 (초당 발행 수 포함)
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<CodeMintJob> get(@PathVariable Long jobId) {
+        return ResponseEntity.ok(codeMintService.getJob(jobId));
+    }
+
+    /**
+     * 발행된 코드 내려받기 (한 줄에 하나, 스트리밍)
+     */
+    @GetMapping(value = "/jobs/{jobId}/codes", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> codes(@PathVariable Long jobId) {
+        codeMintService.getJob(jobId);
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII));
+            codeMintService.exportCodes(jobId, writer);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+            .header("Content-Disposition", "attachment; filename=codes-" + jobId + ".txt")
+            .body(body);
+    }
+}
@@ -1,8 +1,24 @@
 package com.vincenzo.coupon.controller;
 
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.MintedCodeFilter;
+import com.vincenzo.coupon.cache.UserWalletCache;
 import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.dto.ArchiveStats;
+import com.vincenzo.coupon.dto.CatalogStats;
+import com.vincenzo.coupon.dto.CodeFilterStats;
 import com.vincenzo.coupon.dto.CouponCreateRequest;
+import com.vincenzo.coupon.dto.DbAdmissionStats;
+import com.vincenzo.coupon.dto.DropStats;
+import com.vincenzo.coupon.dto.JournalStats;
+import com.vincenzo.coupon.dto.ReservationStats;
+import com.vincenzo.coupon.dto.WalletCacheStats;
+import com.vincenzo.coupon.service.CouponReservationService;
 import com.vincenzo.coupon.service.CouponService;
+import com.vincenzo.coupon.service.DbPermitScheduler;
+import com.vincenzo.coupon.service.FlashDropService;
+import com.vincenzo.coupon.service.RedemptionEffectDrainer;
+import com.vincenzo.coupon.service.UserCouponArchiver;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +26,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/admin/coupons")
@@ -17,6 +35,14 @@ import org.springframework.web.bind.annotation.*;
 public class AdminCouponController {
 
     private final CouponService couponService;
+    private final CouponCatalog couponCatalog;
+    private final MintedCodeFilter mintedCodeFilter;
+    private final UserWalletCache walletCache;
+    private final DbPermitScheduler dbPermitScheduler;
+    private final RedemptionEffectDrainer effectDrainer;
+    private final CouponReservationService reservationService;
+    private final FlashDropService drops;
+    private final UserCouponArchiver archiver;
 
     /**
      * 관리자용 쿠폰 생성 API
@@ -45,4 +71,128 @@ public class AdminCouponController {
         Coupon createdCoupon = couponService.createCoupon(coupon);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCoupon);
     }
-}
\ No newline at end of file
+
+    /**
+     * 서명 쿠폰 코드 발행 (DB 조회 없이 검증 가능한 배포용 코드)
+     */
+    @PostMapping("/{code}/signed-codes")
+    public ResponseEntity<List<String>> issueSignedCodes(@PathVariable String code,
+                                                         @RequestParam(defaultValue = "1") int count) {
+        log.info("서명 코드 발행 요청 - 쿠폰: {}, 수량: {}", code, count);
+        return ResponseEntity.status(HttpStatus.CREATED).body(couponService.issueSignedCodes(code, count));
+    }
+
+    /**
+     * 쿠폰 카탈로그 캐시 지표 조회
+     */
+    @GetMapping("/catalog/stats")
+    public ResponseEntity<CatalogStats> catalogStats() {
+        return ResponseEntity.ok(couponCatalog.stats());
+    }
+
+    /**
+     * 쿠폰 카탈로그 캐시 전체 재적재 (DB 직접 수정 후 등)
+     */
+    @PostMapping("/catalog/refresh")
+    public ResponseEntity<CatalogStats> refreshCatalog() {
+        log.info("쿠폰 카탈로그 재적재 요청");
+        couponCatalog.refresh();
+        return ResponseEntity.ok(couponCatalog.stats());
+    }
+
+    /**
+     * 코드 존재 여부 필터 지표 (오탐률, 크기, DB 조회 생략 수)
+     */
+    @GetMapping("/code-filters")
+    public ResponseEntity<List<CodeFilterStats>> codeFilterStats() {
+        return ResponseEntity.ok(List.of(couponCatalog.codeFilterStats(), mintedCodeFilter.stats()));
+    }
+
+    /**
+     * 코드 존재 여부 필터 재구성 (쿠폰 코드 필터는 카탈로그 재적재와 함께)
+     */
+    @PostMapping("/code-filters/rebuild")
+    public ResponseEntity<List<CodeFilterStats>> rebuildCodeFilters() {
+        log.info("코드 필터 재구성 요청");
+        couponCatalog.refresh();
+        mintedCodeFilter.rebuild();
+        return codeFilterStats();
+    }
+
+    /**
+     * 사용자 지갑 캐시 지표 (적중률, 축출 수, 원격 계층 적중/DB 적재 수)
+     */
+    @GetMapping("/wallet-cache")
+    public ResponseEntity<WalletCacheStats> walletCacheStats() {
+        return ResponseEntity.ok(walletCache.stats());
+    }
+
+    /**
+     * DB 입장 제어 지표 (처리 중/대기 수, 거절 수) - 입장 제어 대상에서 제외된 경로
+     */
+    @GetMapping("/db-admission")
+    public ResponseEntity<DbAdmissionStats> dbAdmissionStats() {
+        return ResponseEntity.ok(dbPermitScheduler.stats());
+    }
+
+    /**
+     * 쿠폰 사용 부수 효과 저널 지표 (기록/반영 LSN, 밀린 기록 수, 실패 수)
+     */
+    @GetMapping("/journal")
+    public ResponseEntity<JournalStats> journalStats() {
+        return ResponseEntity.ok(effectDrainer.stats());
+    }
+
+    /**
+     * 쿠폰 예약 지표 (미결 예약 수, 확정/해제/만료 수)
+     */
+    @GetMapping("/reservations")
+    public ResponseEntity<ReservationStats> reservationStats() {
+        return ResponseEntity.ok(reservationService.stats());
+    }
+
+    /**
+     * 선착순 대기열 열기 (한정 쿠폰 오픈 전에) - 이후 이 코드의 발급 요청은 대기열로
+     */
+    @PostMapping("/{code}/drop")
+    public ResponseEntity<DropStats> openDrop(@PathVariable String code) {
+        log.info("선착순 대기열 열기 요청 - 쿠폰: {}", code);
+        return ResponseEntity.status(HttpStatus.CREATED).body(drops.open(code));
+    }
+
+    /**
+     * 선착순 대기열 닫기 - 발급 요청은 일반 경로로 돌아가고 기다리던 번호표는 거절
+     */
+    @DeleteMapping("/{code}/drop")
+    public ResponseEntity<Void> closeDrop(@PathVariable String code) {
+        log.info("선착순 대기열 닫기 요청 - 쿠폰: {}", code);
+        drops.close(code);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 열린 선착순 대기열 지표 (대기/처리/발급 수, 입구 거절 수, 매진 여부)
+     */
+    @GetMapping("/drops")
+    public ResponseEntity<List<DropStats>> dropStats() {
+        return ResponseEntity.ok(drops.stats());
+    }
+
+    /**
+     * 발급 쿠폰 보관 지표 (옮긴 행 수, 진행 중인 id 구간, 실패 수)
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<ArchiveStats> archiveStats() {
+        return ResponseEntity.ok(archiver.stats());
+    }
+
+    /**
+     * 발급 쿠폰 보관 즉시 실행 (주기 실행과 같은 묶음 단위, 한 번에 max-batches-per-run 묶음까지)
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<ArchiveStats> runArchive() {
+        int moved = archiver.archive();
+        log.info("발급 쿠폰 보관 실행 - 옮긴 행: {}", moved);
+        return ResponseEntity.ok(archiver.stats());
+    }
+}
@@ -1,55 +1,165 @@
 package com.vincenzo.coupon.controller;
 
 import com.vincenzo.coupon.dto.AssignRequest;
+import com.vincenzo.coupon.dto.CartRedemptionRequest;
+import com.vincenzo.coupon.dto.CartRedemptionResult;
 import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.dto.CouponHistoryEntry;
+import com.vincenzo.coupon.dto.DropTicket;
 import com.vincenzo.coupon.dto.RedemptionRequest;
 import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.dto.ReservationRequest;
+import com.vincenzo.coupon.dto.ReservationResult;
+import com.vincenzo.coupon.exception.GlobalExceptionHandler;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.metrics.CouponMetrics.Operation;
+import com.vincenzo.coupon.service.CartCouponService;
+import com.vincenzo.coupon.service.CouponReservationService;
 import com.vincenzo.coupon.service.CouponService;
+import com.vincenzo.coupon.service.FlashDropService;
+import com.vincenzo.coupon.service.IdempotentRedemptionService;
+import com.vincenzo.coupon.service.Outcome;
+import com.vincenzo.coupon.util.SignedCouponCodec;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+/**
+ * 쿠폰 API (서블릿/블로킹) - reactive 프로필에서는 {@link ReactiveCouponController} 가 대신함
+ */
 @Slf4j
+@Profile("!reactive")
 @RestController
 @RequestMapping("/api/coupons")
 @RequiredArgsConstructor
 public class CouponController {
 
     private final CouponService service;
+    private final IdempotentRedemptionService redemptions;
+    private final CartCouponService cartService;
+    private final CouponReservationService reservationService;
+    private final FlashDropService drops;
+    private final SignedCouponCodec signedCodes;
+    private final CouponMetrics metrics;
 
     /** 1) 사용자별 사용 가능한 쿠폰 목록 조회 */
     @GetMapping
     public ResponseEntity<List<CouponDto>> list(@RequestParam Long userId) {
         log.info("쿠폰 목록 조회 요청 - 사용자: {}", userId);
-        List<CouponDto> coupons = service.listAvailableCoupons(userId);
+        List<CouponDto> coupons = metrics.record(Operation.LIST, () -> service.listAvailableCoupons(userId));
         return ResponseEntity.ok(coupons);
     }
 
-    /** 2) 사용자 직접 발급 (쿠폰 코드 입력) */
+    /** 1-1) 상품에 적용 가능한 쿠폰 목록 조회 */
+    @GetMapping("/applicable")
+    public ResponseEntity<List<CouponDto>> applicable(@RequestParam Long productId,
+                                                      @RequestParam(required = false) Long categoryId,
+                                                      @RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok(service.listApplicableCoupons(productId, categoryId, userId));
+    }
+
+    /** 1-2) 다 쓴/만료된 쿠폰 이력 조회 (보관 테이블) */
+    @GetMapping("/history")
+    public ResponseEntity<List<CouponHistoryEntry>> history(@RequestParam Long userId,
+                                                            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(service.listHistory(userId, limit));
+    }
+
+    /**
+     * 2) 사용자 직접 발급 (쿠폰 코드 입력) - 거절(409)은 예외 없이 결과로 응답
+     * - 선착순 대기열이 열린 쿠폰이면 발급 대신 번호표(202) 또는 즉시 매진(409)
+     */
     @PostMapping("/assign")
-    public ResponseEntity<Void> assign(@Valid @RequestBody AssignRequest req) {
+    public ResponseEntity<?> assign(@Valid @RequestBody AssignRequest req) {
         log.info("쿠폰 발급 요청 - 코드: {}, 사용자: {}", req.getCode(), req.getUserId());
-        service.assignToUser(req.getCode(), req.getUserId());
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+        if (drops.isOpen(req.getCode())) {
+            return queued(drops.enter(req.getCode(), req.getUserId()));
+        }
+        Outcome<Void> outcome = metrics.record(Operation.ASSIGN, () -> {
+            signedCodes.check(req.getCode());
+            return service.tryAssignToUser(req.getCode(), req.getUserId());
+        });
+        return outcome.isRejected()
+            ? GlobalExceptionHandler.rejected(outcome.rejection())
+            : ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    /** 2-1) 선착순 대기 번호표 조회 (WAITING → ISSUED/REJECTED) */
+    @GetMapping("/drops/{token}")
+    public ResponseEntity<?> dropTicket(@PathVariable String token, @RequestParam Long userId) {
+        Outcome<DropTicket> ticket = drops.ticket(token, userId);
+        return ticket.isRejected()
+            ? GlobalExceptionHandler.rejected(ticket.rejection())
+            : ResponseEntity.ok(ticket.value());
     }
 
-    /** 3) 쿠폰 사용 (결제 시) */
+    /** 3) 쿠폰 사용 (결제 시) - 형식이 깨졌거나 위조된 코드는 조회 전에 거부, 멱등 키가 같은 재시도는 처음 결과 반환 */
     @PostMapping("/redeem")
-    public ResponseEntity<RedemptionResult> redeem(@Valid @RequestBody RedemptionRequest req) {
+    public ResponseEntity<?> redeem(@Valid @RequestBody RedemptionRequest req) {
         log.info("쿠폰 사용 요청 - 코드: {}, 사용자: {}, 주문금액: {}", 
                 req.getCode(), req.getUserId(), req.getOrderAmount());
-        RedemptionResult result = service.redeem(
-            req.getCode(),
-            req.getUserId(),
-            req.getOrderAmount(),
-            req.getProductId(),
-            req.getCategoryId()
-        );
-        return ResponseEntity.ok(result);
-    }
-}
\ No newline at end of file
+        Outcome<RedemptionResult> outcome = metrics.record(Operation.REDEEM, () -> {
+            signedCodes.check(req.getCode());
+            return redemptions.tryRedeem(
+                req.getCode(),
+                req.getUserId(),
+                req.getOrderAmount(),
+                req.getProductId(),
+                req.getCategoryId(),
+                req.getIdempotencyKey()
+            );
+        });
+        return outcome.isRejected()
+            ? GlobalExceptionHandler.rejected(outcome.rejection())
+            : ResponseEntity.ok(outcome.value());
+    }
+
+    /** 4) 장바구니 최적 쿠폰 조합 미리보기 (쿠폰 차감 없음) */
+    @PostMapping("/cart/quote")
+    public ResponseEntity<CartRedemptionResult> quoteCart(@Valid @RequestBody CartRedemptionRequest req) {
+        log.info("장바구니 쿠폰 조합 조회 - 사용자: {}, 상품 수: {}", req.getUserId(), req.getItems().size());
+        return ResponseEntity.ok(cartService.quote(req.getUserId(), req.getItems(), req.getCouponCodes()));
+    }
+
+    /** 5) 장바구니 쿠폰 사용 (최적 조합으로 한 번에 차감) */
+    @PostMapping("/cart/redeem")
+    public ResponseEntity<CartRedemptionResult> redeemCart(@Valid @RequestBody CartRedemptionRequest req) {
+        log.info("장바구니 쿠폰 사용 요청 - 사용자: {}, 상품 수: {}", req.getUserId(), req.getItems().size());
+        return ResponseEntity.ok(cartService.redeem(req.getUserId(), req.getItems(), req.getCouponCodes()));
+    }
+
+    /** 6) 결제 전 쿠폰 예약 (사용 횟수를 미리 잡아 두고, 기한 안에 확정하지 않으면 자동 해제) */
+    @PostMapping("/reservations")
+    public ResponseEntity<ReservationResult> reserve(@Valid @RequestBody ReservationRequest req) {
+        signedCodes.check(req.getCode());
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservationService.reserve(
+            req.getCode(), req.getUserId(), req.getOrderAmount(), req.getProductId(), req.getCategoryId()));
+    }
+
+    /** 7) 예약 확정 (결제 성공) - 예약한 사용자만 */
+    @PostMapping("/reservations/{reservationId}/confirm")
+    public ResponseEntity<RedemptionResult> confirmReservation(@PathVariable Long reservationId,
+                                                               @RequestParam Long userId) {
+        return ResponseEntity.ok(reservationService.confirm(reservationId, userId));
+    }
+
+    /** 8) 예약 해제 (결제 실패/취소) - 예약한 사용자만 */
+    @PostMapping("/reservations/{reservationId}/release")
+    public ResponseEntity<Void> releaseReservation(@PathVariable Long reservationId,
+                                                   @RequestParam Long userId) {
+        reservationService.release(reservationId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseEntity<?> queued(Outcome<DropTicket> ticket) {
+        return ticket.isRejected()
+            ? GlobalExceptionHandler.rejected(ticket.rejection())
+            : ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket.value());
+    }
+}
@@ -0,0 +1,186 @@
+package com.vincenzo.coupon.controller;
+
+import com.vincenzo.coupon.dto.AssignRequest;
+import com.vincenzo.coupon.dto.CartRedemptionRequest;
+import com.vincenzo.coupon.dto.CartRedemptionResult;
+import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.dto.CouponHistoryEntry;
+import com.vincenzo.coupon.dto.DropTicket;
+import com.vincenzo.coupon.dto.RedemptionRequest;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.dto.ReservationRequest;
+import com.vincenzo.coupon.dto.ReservationResult;
+import com.vincenzo.coupon.exception.GlobalExceptionHandler;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.metrics.CouponMetrics.Operation;
+import com.vincenzo.coupon.service.CartCouponService;
+import com.vincenzo.coupon.service.CouponRateLimiter;
+import com.vincenzo.coupon.service.CouponReservationService;
+import com.vincenzo.coupon.service.CouponService;
+import com.vincenzo.coupon.service.FlashDropService;
+import com.vincenzo.coupon.service.Outcome;
+import com.vincenzo.coupon.service.ReactiveCouponService;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 쿠폰 API (WebFlux, reactive 프로필) - 경로/요청/응답은 {@link CouponController} 와 동일
+ * - 목록 조회와 쿠폰 사용은 논블로킹 경로 ({@link ReactiveCouponService})
+ * - 발급/장바구니/예약은 JPA 트랜잭션 경로를 그대로 쓰되 이벤트 루프를 막지 않도록 boundedElastic 에서 실행
+ */
+@Slf4j
+@Profile("reactive")
+@RestController
+@RequestMapping("/api/coupons")
+@RequiredArgsConstructor
+public class ReactiveCouponController {
+
+    private final ReactiveCouponService reactiveService;
+    private final CouponService service;
+    private final CartCouponService cartService;
+    private final CouponReservationService reservationService;
+    private final FlashDropService drops;
+    private final CouponRateLimiter rateLimiter;
+    private final SignedCouponCodec signedCodes;
+    private final CouponMetrics metrics;
+
+    /** 1) 사용자별 사용 가능한 쿠폰 목록 조회 */
+    @GetMapping
+    public Mono<ResponseEntity<List<CouponDto>>> list(@RequestParam Long userId) {
+        return metrics.record(Operation.LIST, reactiveService.listAvailableCoupons(userId)).map(ResponseEntity::ok);
+    }
+
+    /** 1-1) 상품에 적용 가능한 쿠폰 목록 조회 */
+    @GetMapping("/applicable")
+    public Mono<ResponseEntity<List<CouponDto>>> applicable(@RequestParam Long productId,
+                                                            @RequestParam(required = false) Long categoryId,
+                                                            @RequestParam(required = false) Long userId) {
+        return blocking(() -> service.listApplicableCoupons(productId, categoryId, userId)).map(ResponseEntity::ok);
+    }
+
+    /** 1-2) 다 쓴/만료된 쿠폰 이력 조회 (보관 테이블) */
+    @GetMapping("/history")
+    public Mono<ResponseEntity<List<CouponHistoryEntry>>> history(@RequestParam Long userId,
+                                                                  @RequestParam(defaultValue = "50") int limit) {
+        return blocking(() -> service.listHistory(userId, limit)).map(ResponseEntity::ok);
+    }
+
+    /** 2) 사용자 직접 발급 (쿠폰 코드 입력) - 선착순 대기열이 열린 쿠폰은 DB 없이 번호표/매진 응답 */
+    @PostMapping("/assign")
+    public Mono<ResponseEntity<?>> assign(@Valid @RequestBody AssignRequest req, ServerHttpRequest request) {
+        log.info("쿠폰 발급 요청 - 코드: {}, 사용자: {}", req.getCode(), req.getUserId());
+        // 선착순 대기열이 열린 코드는 코드 제한에서 제외 (서블릿 본문 advice 와 같음)
+        boolean dropOpen = drops.isOpen(req.getCode());
+        limit(request, req.getUserId(), dropOpen ? null : req.getCode());
+        if (dropOpen) {
+            return Mono.just(queued(drops.enter(req.getCode(), req.getUserId())));
+        }
+        return blocking(() -> {
+            Outcome<Void> outcome = metrics.record(Operation.ASSIGN, () -> {
+                signedCodes.check(req.getCode());
+                return service.tryAssignToUser(req.getCode(), req.getUserId());
+            });
+            return outcome.isRejected()
+                ? GlobalExceptionHandler.rejected(outcome.rejection())
+                : ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+    }
+
+    /** 2-1) 선착순 대기 번호표 조회 */
+    @GetMapping("/drops/{token}")
+    public Mono<ResponseEntity<?>> dropTicket(@PathVariable String token, @RequestParam Long userId) {
+        Outcome<DropTicket> ticket = drops.ticket(token, userId);
+        return Mono.just(ticket.isRejected()
+            ? GlobalExceptionHandler.rejected(ticket.rejection())
+            : ResponseEntity.ok(ticket.value()));
+    }
+
+    /** 3) 쿠폰 사용 (결제 시) - 형식이 깨졌거나 위조된 코드는 조회 전에 거부 */
+    @PostMapping("/redeem")
+    public Mono<ResponseEntity<?>> redeem(@Valid @RequestBody RedemptionRequest req, ServerHttpRequest request) {
+        limit(request, req.getUserId(), req.getCode());
+        return metrics.record(Operation.REDEEM, Mono.defer(() -> {
+                signedCodes.check(req.getCode());
+                return reactiveService.tryRedeem(
+                    req.getCode(),
+                    req.getUserId(),
+                    req.getOrderAmount(),
+                    req.getProductId(),
+                    req.getCategoryId(),
+                    req.getIdempotencyKey());
+            }))
+            .map(outcome -> outcome.isRejected()
+                ? GlobalExceptionHandler.rejected(outcome.rejection())
+                : ResponseEntity.ok(outcome.value()));
+    }
+
+    /** 4) 장바구니 최적 쿠폰 조합 미리보기 (쿠폰 차감 없음) */
+    @PostMapping("/cart/quote")
+    public Mono<ResponseEntity<CartRedemptionResult>> quoteCart(@Valid @RequestBody CartRedemptionRequest req) {
+        return blocking(() -> cartService.quote(req.getUserId(), req.getItems(), req.getCouponCodes()))
+            .map(ResponseEntity::ok);
+    }
+
+    /** 5) 장바구니 쿠폰 사용 (최적 조합으로 한 번에 차감) */
+    @PostMapping("/cart/redeem")
+    public Mono<ResponseEntity<CartRedemptionResult>> redeemCart(@Valid @RequestBody CartRedemptionRequest req) {
+        return blocking(() -> cartService.redeem(req.getUserId(), req.getItems(), req.getCouponCodes()))
+            .map(ResponseEntity::ok);
+    }
+
+    /** 6) 결제 전 쿠폰 예약 */
+    @PostMapping("/reservations")
+    public Mono<ResponseEntity<ReservationResult>> reserve(@Valid @RequestBody ReservationRequest req) {
+        signedCodes.check(req.getCode());
+        return blocking(() -> reservationService.reserve(
+                req.getCode(), req.getUserId(), req.getOrderAmount(), req.getProductId(), req.getCategoryId()))
+            .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result));
+    }
+
+    /** 7) 예약 확정 (결제 성공) - 예약한 사용자만 */
+    @PostMapping("/reservations/{reservationId}/confirm")
+    public Mono<ResponseEntity<RedemptionResult>> confirmReservation(@PathVariable Long reservationId,
+                                                                     @RequestParam Long userId) {
+        return blocking(() -> reservationService.confirm(reservationId, userId)).map(ResponseEntity::ok);
+    }
+
+    /** 8) 예약 해제 (결제 실패/취소) - 예약한 사용자만 */
+    @PostMapping("/reservations/{reservationId}/release")
+    public Mono<ResponseEntity<Void>> releaseReservation(@PathVariable Long reservationId,
+                                                         @RequestParam Long userId) {
+        return blocking(() -> {
+            reservationService.release(reservationId, userId);
+            return ResponseEntity.noContent().<Void>build();
+        });
+    }
+
+    /** 서블릿 경로의 빈도 제한 인터셉터/본문 advice 와 같은 제한 (서비스 호출 전) */
+    private void limit(ServerHttpRequest request, Long userId, String code) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        rateLimiter.checkIp(remote == null ? null : remote.getHostString());
+        rateLimiter.check(userId, code);
+    }
+
+    private static ResponseEntity<?> queued(Outcome<DropTicket> ticket) {
+        return ticket.isRejected()
+            ? GlobalExceptionHandler.rejected(ticket.rejection())
+            : ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket.value());
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,76 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 쿠폰 발급 작업
+ * - 업로드된 사용자 ID 목록은 작업 파일로 저장하고, processedCount 를 커서로 삼아 중단 지점부터 재개
+ */
+@Entity
+@Table(name = "bulk_issuance_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkIssuanceJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 발급 대상 쿠폰 */
+    @Column(nullable = false)
+    private Long couponId;
+
+    /** 발급 대상 쿠폰 코드 */
+    @Column(nullable = false)
+    private String couponCode;
+
+    /** 사용자 ID 목록 작업 파일 경로 (한 줄에 하나) */
+    @Column(nullable = false)
+    private String sourcePath;
+
+    /** 작업 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    /** 전체 대상 사용자 수 */
+    @Column(nullable = false)
+    private long totalCount;
+
+    /** 처리한 사용자 수 (재개 커서) */
+    @Column(nullable = false)
+    private long processedCount;
+
+    /** 새로 발급된 수 */
+    @Column(nullable = false)
+    private long insertedCount;
+
+    /** 이미 발급되어 건너뛴 수 */
+    @Column(nullable = false)
+    private long skippedCount;
+
+    /** 실패 사유 */
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    /** 진행률(%) */
+    public double getProgressPercent() {
+        return totalCount == 0 ? 100.0 : processedCount * 100.0 / totalCount;
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,81 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 일회용 쿠폰 코드 대량 발행 작업
+ * - 전역 일련번호 구간 [startIndex, startIndex + requestedCount) 를 키 기반 순열로 코드화
+ *   (작업끼리 구간이 겹치지 않으므로 발행된 코드끼리는 충돌하지 않음)
+ */
+@Entity
+@Table(name = "code_mint_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CodeMintJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 코드로 발급될 쿠폰 */
+    @Column(nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private String couponCode;
+
+    /** 일련번호 구간 시작 */
+    @Column(nullable = false)
+    private long startIndex;
+
+    /** 요청한 코드 수 (일련번호 구간 길이) */
+    @Column(nullable = false)
+    private long requestedCount;
+
+    /** 저장된 코드 수 */
+    @Column(nullable = false)
+    private long mintedCount;
+
+    /** 기존 코드와 겹쳐 건너뛴 수 */
+    @Column(nullable = false)
+    private long skippedCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    /** 진행률(%) */
+    public double getProgressPercent() {
+        return requestedCount == 0 ? 100.0 : (mintedCount + skippedCount) * 100.0 / requestedCount;
+    }
+
+    /** 초당 발행 코드 수 (진행 중이면 현재까지 기준) */
+    public double getCodesPerSecond() {
+        if (startedAt == null) {
+            return 0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return mintedCount * 1000.0 / millis;
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
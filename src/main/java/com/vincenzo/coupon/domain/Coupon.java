@@ -2,6 +2,8 @@ package com.vincenzo.coupon.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,8 +17,10 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 public class Coupon {
+    /** 시퀀스에서 50개 단위로 미리 할당 (pooled) - IDENTITY 와 달리 INSERT JDBC 배치가 동작 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coupon_seq")
+    @SequenceGenerator(name = "coupon_seq", sequenceName = "coupon_seq", allocationSize = 50)
     private Long id;
 
     /** 쿠폰 코드 (고유) */
@@ -73,12 +77,14 @@ public class Coupon {
 
     /** 대상 카테고리 ID 목록 (상품 장바구니 내 아이템의 categoryId와 매칭) */
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "coupon_target_category", joinColumns = @JoinColumn(name = "coupon_id"))
     @Column(name = "category_id")
     private Set<Long> targetCategoryIds;
 
     /** 대상 상품 ID 목록 (장바구니 내 item.productId와 매칭) */
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "coupon_target_product", joinColumns = @JoinColumn(name = "coupon_id"))
     @Column(name = "product_id")
     private Set<Long> targetProductIds;
@@ -0,0 +1,38 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일회용 쿠폰 코드 (대량 발행)
+ * - 코드 하나를 입력하면 연결된 쿠폰이 발급되고 코드는 소진됨
+ * - 코드 자체가 PK (유니크 보장, 별도 ID 생성 없음)
+ */
+@Entity
+@Table(name = "coupon_code", indexes = @Index(name = "idx_coupon_code_job", columnList = "job_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CouponCode {
+    @Id
+    @Column(length = 16)
+    private String code;
+
+    /** 발급될 쿠폰 */
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    /** 발행 작업 */
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    /** 코드를 사용한 사용자 (null = 미사용) */
+    @Column(name = "claimed_by")
+    private Long claimedBy;
+
+    private LocalDateTime claimedAt;
+}
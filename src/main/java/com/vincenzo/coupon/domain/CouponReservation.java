@@ -0,0 +1,67 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 전 쿠폰 예약 (reserve → confirm/release)
+ * - 예약 시 발급 쿠폰의 사용 횟수를 미리 1 차감해 두고, 해제/만료되면 되돌림
+ * - 상태 전이는 조건부 UPDATE 로만 처리 (확정과 만료가 겹쳐도 한쪽만 성공)
+ */
+@Entity
+@Table(name = "coupon_reservation",
+       indexes = {
+           @Index(name = "idx_coupon_reservation_status", columnList = "status, expires_at"),
+           // 보관 작업이 옮길 발급 쿠폰마다 예약 중인지 확인
+           @Index(name = "idx_coupon_reservation_user", columnList = "user_id, coupon_id")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CouponReservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private String code;
+
+    /** 예약 시 계산한 금액 (확정 시 그대로 사용) */
+    @Column(nullable = false)
+    private BigDecimal orderAmount;
+
+    @Column(nullable = false)
+    private BigDecimal finalAmount;
+
+    @Column(nullable = false)
+    private BigDecimal discountApplied;
+
+    @Column(nullable = false)
+    private BigDecimal rewardPointsEarned;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private LocalDateTime reservedAt;
+
+    /** 이 시각까지 확정하지 않으면 만료 */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public enum Status {
+        RESERVED, CONFIRMED, RELEASED, EXPIRED
+    }
+}
@@ -0,0 +1,33 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 쿠폰별 사용 누계 - 저널 드레이너가 배치 단위로 더함 (사용 요청은 이 행을 잠그지 않음)
+ */
+@Entity
+@Table(name = "coupon_usage_stat")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CouponUsageStat {
+    @Id
+    private Long couponId;
+
+    /** 사용 횟수 */
+    @Column(nullable = false)
+    private long usedCount;
+
+    /** 할인액 합계 */
+    @Column(nullable = false)
+    private BigDecimal discountTotal;
+
+    /** 적립 포인트 합계 */
+    @Column(nullable = false)
+    private BigDecimal rewardPointTotal;
+}
@@ -0,0 +1,24 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 저널별 DB 반영 지점 - 부수 효과와 같은 트랜잭션에서 갱신하므로 재시작 후 재반영은 정확히 한 번
+ */
+@Entity
+@Table(name = "journal_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalCheckpoint {
+    @Id
+    @Column(length = 64)
+    private String journalId;
+
+    /** 반영을 마친 마지막 LSN */
+    @Column(nullable = false)
+    private long appliedLsn;
+}
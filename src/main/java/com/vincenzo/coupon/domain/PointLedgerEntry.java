@@ -0,0 +1,45 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 사용 적립 포인트 원장 - 저널 드레이너가 JDBC 배치로 INSERT (적립 포인트가 있는 사용만)
+ */
+@Entity
+@Table(name = "point_ledger",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"journal_id", "lsn"}),
+       indexes = @Index(name = "idx_point_ledger_user", columnList = "user_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointLedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "journal_id", nullable = false, length = 64)
+    private String journalId;
+
+    @Column(nullable = false)
+    private long lsn;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** 적립 원인 쿠폰 */
+    @Column(nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private BigDecimal points;
+
+    /** 적립 일시 (쿠폰 사용 시각) */
+    @Column(nullable = false)
+    private LocalDateTime earnedAt;
+}
@@ -0,0 +1,53 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 사용 감사 기록 - 저널 드레이너가 JDBC 배치로 INSERT
+ * - (저널, LSN) 유니크로 같은 저널 기록이 두 번 반영되지 않음
+ */
+@Entity
+@Table(name = "redemption_audit",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"journal_id", "lsn"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RedemptionAudit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 기록을 남긴 노드의 저널 */
+    @Column(name = "journal_id", nullable = false, length = 64)
+    private String journalId;
+
+    /** 저널 일련번호 */
+    @Column(nullable = false)
+    private long lsn;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** 쿠폰 적용 기준 금액 (장바구니는 적용된 줄 금액) */
+    @Column(nullable = false)
+    private BigDecimal orderAmount;
+
+    @Column(nullable = false)
+    private BigDecimal discountAmount;
+
+    @Column(nullable = false)
+    private BigDecimal rewardPoints;
+
+    /** 사용 일시 (DB 반영 시각이 아님) */
+    @Column(name = "redeemed_at", nullable = false)
+    private LocalDateTime redeemedAt;
+}
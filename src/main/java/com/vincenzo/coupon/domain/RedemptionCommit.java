@@ -0,0 +1,52 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 사용 커밋 표시 - 사용 트랜잭션 커밋 직전에 저널 LSN 과 함께 같은 트랜잭션에서 INSERT
+ * - 드레이너는 표시가 있는 LSN 만 반영하고 표시를 지움 (표시가 없으면 롤백된 사용이므로 버림)
+ * - 반영 지점을 지났는데 남은 표시는 저널에서 빠진 사용이므로, 대조 작업이 저장된 내용으로 반영
+ */
+@Entity
+@Table(name = "redemption_commit",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"journal_id", "lsn"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RedemptionCommit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "journal_id", nullable = false, length = 64)
+    private String journalId;
+
+    @Column(nullable = false)
+    private long lsn;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** 쿠폰 적용 기준 금액 (원) */
+    @Column(nullable = false)
+    private long orderAmount;
+
+    /** 할인 금액 (원) */
+    @Column(nullable = false)
+    private long discountAmount;
+
+    /** 적립 포인트 */
+    @Column(nullable = false)
+    private long rewardPoints;
+
+    @Column(name = "redeemed_at", nullable = false)
+    private LocalDateTime redeemedAt;
+}
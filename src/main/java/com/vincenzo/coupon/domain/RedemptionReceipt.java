@@ -0,0 +1,48 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키가 있는 쿠폰 사용 결과
+ * - 사용 횟수 차감과 같은 트랜잭션에서 INSERT, (사용자, 키) 유니크라 재시도가 동시에 와도 한 번만 차감
+ */
+@Entity
+@Table(name = "redemption_receipt",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "idempotency_key"}),
+       indexes = @Index(name = "idx_redemption_receipt_created", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RedemptionReceipt {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    /** 요청한 쿠폰 코드 (같은 키로 다른 코드를 쓰면 거부) */
+    @Column(nullable = false)
+    private String code;
+
+    @Column(nullable = false)
+    private BigDecimal finalAmount;
+
+    @Column(nullable = false)
+    private BigDecimal discountApplied;
+
+    @Column(nullable = false)
+    private BigDecimal rewardPointsEarned;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
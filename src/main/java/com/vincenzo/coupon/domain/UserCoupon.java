@@ -5,17 +5,25 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * 발급 쿠폰 - 다 쓴 쿠폰과 만료된 쿠폰은 주기적으로 user_coupon_history 로 옮겨져 아직 쓸 수 있는 쿠폰만 남음
+ * - 발급/사용 경로의 쿼리는 모두 (user_id, coupon_id) 유니크 인덱스 한 번으로 찾음
+ *   (지갑 적재 = user_id 앞부분 범위, 사용 차감/복구 = 두 컬럼 일치, 중복 발급 = 유니크 제약)
+ * - 쿠폰 코드는 카탈로그에서 쿠폰 ID 로 바꾼 뒤 조회하므로 coupon 테이블과 조인하지 않음
+ */
 @Entity
 @Table(name = "user_coupon",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "coupon_id"}))
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_coupon_user_coupon", columnNames = {"user_id", "coupon_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class UserCoupon {
+    /** 시퀀스에서 50개 단위로 미리 할당 (pooled) - IDENTITY 와 달리 INSERT JDBC 배치가 동작 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_coupon_seq")
+    @SequenceGenerator(name = "user_coupon_seq", sequenceName = "user_coupon_seq", allocationSize = 50)
     private Long id;
 
     /** 발급된 쿠폰 정보 */
@@ -0,0 +1,48 @@
+package com.vincenzo.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 발급 쿠폰 - 다 쓴 쿠폰과 유효기간이 지난 쿠폰을 user_coupon 에서 옮겨 둔 행
+ * - id 는 user_coupon 의 id 를 그대로 사용 (옮길 때 새로 할당하지 않음)
+ * - 보관 시각(archived_at) 기준으로 월 단위 범위 파티션을 나누어 오래된 파티션째 정리하는 것을 전제로 함
+ */
+@Entity
+@Table(name = "user_coupon_history",
+       indexes = {
+           @Index(name = "idx_user_coupon_history_user", columnList = "user_id, coupon_id"),
+           @Index(name = "idx_user_coupon_history_archived", columnList = "archived_at")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCouponHistory {
+    @Id
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** 보관 시점의 남은 사용 횟수 */
+    @Column(nullable = true)
+    private Integer remainingUsages;
+
+    @Column(nullable = false)
+    private LocalDateTime assignedAt;
+
+    /** 보관 시점의 사용 완료 여부 (false 면 쓰지 않고 만료된 쿠폰) */
+    @Column(nullable = false)
+    private Boolean used;
+
+    /** 보관 일시 */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
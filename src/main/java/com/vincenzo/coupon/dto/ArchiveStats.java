@@ -0,0 +1,33 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+/**
+ * 발급 쿠폰 보관(user_coupon → user_coupon_history) 지표 (이 노드 기준)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchiveStats {
+    /** 주기 실행 여부 (false 여도 관리자 요청으로는 실행) */
+    private boolean enabled;
+
+    /** 이번 바퀴에서 훑은 마지막 id */
+    private long cursor;
+
+    /** 이번 바퀴의 끝 id (바퀴 시작 시점의 최대 id) */
+    private long passEnd;
+
+    /** 옮긴 행 수 */
+    private long archived;
+
+    /** 실행한 묶음 수 (묶음마다 트랜잭션 하나) */
+    private long batches;
+
+    /** 끝까지 훑은 바퀴 수 */
+    private long passes;
+
+    /** 묶음 실패 수 (같은 구간부터 다음 주기에 재시도) */
+    private long failures;
+}
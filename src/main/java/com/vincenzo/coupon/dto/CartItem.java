@@ -0,0 +1,33 @@
+package com.vincenzo.coupon.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/** 장바구니 상품 한 줄 */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartItem {
+    @NotNull(message = "상품 ID는 필수입니다.")
+    private Long productId;
+
+    private Long categoryId;
+
+    @NotNull(message = "상품 가격은 필수입니다.")
+    @Positive(message = "상품 가격은 0보다 커야 합니다.")
+    private BigDecimal unitPrice;
+
+    @Positive(message = "수량은 0보다 커야 합니다.")
+    @Builder.Default
+    private int quantity = 1;
+
+    /** 줄 금액 = 단가 x 수량 */
+    public BigDecimal lineAmount() {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+}
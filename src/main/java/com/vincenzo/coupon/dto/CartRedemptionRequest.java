@@ -0,0 +1,25 @@
+package com.vincenzo.coupon.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+/** 장바구니 단위 쿠폰 적용 요청 */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartRedemptionRequest {
+    @NotNull(message = "사용자 ID는 필수입니다.")
+    private Long userId;
+
+    @NotEmpty(message = "장바구니 상품은 필수입니다.")
+    private List<@Valid CartItem> items;
+
+    /** 적용을 고려할 쿠폰 코드 (비어 있으면 사용자가 보유한 사용 가능 쿠폰 전체) */
+    private List<String> couponCodes;
+}
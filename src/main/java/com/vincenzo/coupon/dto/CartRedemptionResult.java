@@ -0,0 +1,43 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 쿠폰 적용 결과 (상품 한 줄에 쿠폰 하나, 쿠폰 하나는 한 줄에만 적용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartRedemptionResult {
+    /** 장바구니 총액 */
+    private BigDecimal totalAmount;
+
+    /** 쿠폰 적용 후 최종 결제 금액 */
+    private BigDecimal finalAmount;
+
+    /** 전체 할인 금액 */
+    private BigDecimal discountApplied;
+
+    /** 전체 적립 포인트 */
+    private BigDecimal rewardPointsEarned;
+
+    /** 쿠폰별 적용 내역 */
+    private List<AppliedCoupon> appliedCoupons;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AppliedCoupon {
+        private String code;
+        /** 적용된 장바구니 줄 (0부터) */
+        private int itemIndex;
+        private Long productId;
+        private BigDecimal discountApplied;
+        private BigDecimal rewardPointsEarned;
+    }
+}
@@ -0,0 +1,35 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 카탈로그 캐시 지표
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogStats {
+    /** 캐시 적중 수 */
+    private long hits;
+
+    /** 캐시 미스(DB 조회) 수 */
+    private long misses;
+
+    /** 캐시된 전체 쿠폰 수 */
+    private int size;
+
+    /** 현재 유효기간 내 쿠폰 수 */
+    private int activeSize;
+
+    /** 상품/카테고리 역인덱스 크기 (바이트, 근사치) */
+    private long targetIndexBytes;
+
+    /** 전체 재적재 횟수 */
+    private long refreshes;
+
+    /** 마지막 전체 재적재 시각 */
+    private LocalDateTime lastRefreshedAt;
+}
@@ -0,0 +1,54 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 코드 존재 여부 필터 지표
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CodeFilterStats {
+    /** 필터 이름 (coupon = 쿠폰 코드, minted = 일회용 발행 코드) */
+    private String name;
+
+    private boolean enabled;
+
+    /** 첫 구성 완료 여부 (전에는 모든 조회가 DB 로 감) */
+    private boolean ready;
+
+    /** 담긴 코드 수 (중복 포함 put 횟수) */
+    private long codes;
+
+    private long bitSize;
+
+    private long sizeInBytes;
+
+    private int hashCount;
+
+    /** 비트 점유율로 추정한 오탐률 */
+    private double expectedFpp;
+
+    /** 관측 오탐률 = 오탐 / (필터가 거른 조회 + 오탐) */
+    private double observedFpp;
+
+    /** 필터가 없다고 판단해 DB 조회를 건너뛴 수 */
+    private long rejected;
+
+    /** 필터를 통과해 DB 로 확인한 수 */
+    private long passed;
+
+    /** 필터는 통과했지만 DB 에 없던 수 */
+    private long falsePositives;
+
+    /** 전체 재구성 횟수 */
+    private long rebuilds;
+
+    /** 마지막 재구성 소요 시간 (ms) */
+    private long lastRebuildMillis;
+
+    private LocalDateTime lastRebuiltAt;
+}
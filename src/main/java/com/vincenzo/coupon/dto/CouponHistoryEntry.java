@@ -0,0 +1,27 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 발급 쿠폰 한 건 (쿠폰 사용/만료 이력 조회용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CouponHistoryEntry {
+    private Long couponId;
+    private String code;
+    private String title;
+
+    /** 보관 시점의 남은 사용 횟수 (null = 무제한) */
+    private Integer remainingUsages;
+
+    /** true = 다 쓴 쿠폰, false = 쓰지 않고 만료된 쿠폰 */
+    private boolean used;
+
+    private LocalDateTime assignedAt;
+    private LocalDateTime archivedAt;
+}
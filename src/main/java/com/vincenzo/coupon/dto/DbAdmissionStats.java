@@ -0,0 +1,44 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+/**
+ * DB 커넥션 기준 요청 입장 제어 지표
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DbAdmissionStats {
+    private boolean enabled;
+
+    /** 동시 입장 허용 수 (보통 커넥션 풀 크기) */
+    private int permits;
+
+    /** 현재 입장해 처리 중인 요청 수 */
+    private int inUse;
+
+    /** 현재 대기 중인 요청 수 */
+    private int waiting;
+
+    /** 최대 동시 대기 수 */
+    private int peakWaiting;
+
+    /** 대기열 상한 (넘으면 바로 거절) */
+    private int maxWaiting;
+
+    /** 입장 대기 기한 (ms) */
+    private long deadlineMillis;
+
+    /** 입장한 요청 수 */
+    private long admitted;
+
+    /** 바로 입장하지 못하고 대기한 요청 수 */
+    private long queued;
+
+    /** 대기열이 가득 차 거절한 수 */
+    private long shedQueueFull;
+
+    /** 기한 안에 입장하지 못해 거절한 수 */
+    private long shedDeadline;
+}
@@ -0,0 +1,31 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+/**
+ * 선착순 대기열 지표 (쿠폰별, 이 노드 기준)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DropStats {
+    private String code;
+    private Long couponId;
+
+    /** 대기열을 열 때 남은 발급 가능 수 / 대기열 칸 수 */
+    private int stock;
+    private int capacity;
+
+    /** 줄 선 요청 수, 발급 처리까지 끝난 수, 아직 기다리는 수 */
+    private int entered;
+    private int drained;
+    private int waiting;
+
+    private long issued;
+
+    /** 대기열에 들어가지 못하고 바로 거절된 수 (매진/대기열 가득) */
+    private long rejectedAtEntry;
+
+    private boolean soldOut;
+}
@@ -0,0 +1,23 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+/**
+ * 선착순 대기열 번호표 - 발급 결과가 나올 때까지 token 으로 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DropTicket {
+    private String token;
+
+    /** WAITING / ISSUED / REJECTED */
+    private String status;
+
+    /** 내 앞에서 기다리는 요청 수 (WAITING 일 때만) */
+    private int ahead;
+
+    /** 거절 사유 (REJECTED 일 때만) */
+    private String message;
+}
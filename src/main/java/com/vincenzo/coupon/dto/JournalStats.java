@@ -0,0 +1,42 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+/**
+ * 쿠폰 사용 부수 효과 저널 지표
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalStats {
+    /** 노드별 저널 식별자 */
+    private String journalId;
+
+    /** 마지막으로 기록된 LSN */
+    private long lastLsn;
+
+    /** DB 반영을 마친 LSN */
+    private long appliedLsn;
+
+    /** 아직 반영되지 않은 기록 수 */
+    private long pending;
+
+    /** 남아 있는 세그먼트 파일 수 */
+    private int segments;
+
+    /** 반영한 기록 수 (이 프로세스 기준) */
+    private long applied;
+
+    /** 커밋 표시가 없어 버린 기록 수 (롤백된 사용, 이 프로세스 기준) */
+    private long discarded;
+
+    /** 반영 실패 횟수 (다음 주기에 같은 지점부터 재시도) */
+    private long drainFailures;
+
+    /** 저널 추가 실패 수 (그 사용은 롤백됨) */
+    private long appendFailures;
+
+    /** 저널에서 빠져 커밋 표시 내용으로 반영한 수 (이 프로세스 기준) */
+    private long reconciled;
+}
@@ -3,6 +3,7 @@ package com.vincenzo.coupon.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -26,4 +27,8 @@ public class RedemptionRequest {
     
     private Long productId;   // 장바구니 내 상품 ID
     private Long categoryId;  // 장바구니 내 카테고리 ID
+
+    /** 재시도 식별 키 (선택) - 같은 사용자가 같은 키로 다시 요청하면 차감 없이 처음 결과를 반환 */
+    @Size(max = 64, message = "멱등 키는 64자 이하여야 합니다.")
+    private String idempotencyKey;
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.vincenzo.coupon.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/** 결제 전 쿠폰 예약 요청 (검증 조건은 쿠폰 사용과 동일) */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationRequest {
+    @NotBlank(message = "쿠폰 코드는 필수입니다.")
+    private String code;
+
+    @NotNull(message = "사용자 ID는 필수입니다.")
+    private Long userId;
+
+    @NotNull(message = "주문 금액은 필수입니다.")
+    @Positive(message = "주문 금액은 0보다 커야 합니다.")
+    private BigDecimal orderAmount;
+
+    private Long productId;
+    private Long categoryId;
+}
@@ -0,0 +1,24 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 예약 결과 - 확정하면 같은 금액으로 사용 처리
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationResult {
+    private Long reservationId;
+
+    /** 이 시각까지 확정하지 않으면 자동 해제 */
+    private LocalDateTime expiresAt;
+
+    private BigDecimal finalAmount;
+    private BigDecimal discountApplied;
+    private BigDecimal rewardPointsEarned;
+}
@@ -0,0 +1,29 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+/**
+ * 쿠폰 예약 지표 (이 노드 기준)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationStats {
+    /** 확정/해제/만료 전인 예약 수 (만료 휠에 걸린 수) */
+    private int outstanding;
+
+    private long reserved;
+    private long confirmed;
+    private long released;
+
+    /** 기한이 지나 자동 해제된 수 */
+    private long expired;
+
+    /** 예약 유지 시간 (s) */
+    private long holdSeconds;
+
+    /** 만료 휠 칸 수 / 한 칸 (ms) */
+    private int wheelSlots;
+    private long tickMillis;
+}
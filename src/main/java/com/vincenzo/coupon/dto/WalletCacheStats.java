@@ -0,0 +1,32 @@
+package com.vincenzo.coupon.dto;
+
+import lombok.*;
+
+/**
+ * 사용자 지갑 캐시 지표
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalletCacheStats {
+    /** 로컬 캐시에 있는 사용자 수 (근사치) */
+    private long size;
+
+    private long hits;
+
+    private long misses;
+
+    private double hitRate;
+
+    /** 용량 초과/만료로 축출된 수 */
+    private long evictions;
+
+    private boolean remoteEnabled;
+
+    /** 로컬 미스 중 원격 계층에서 찾은 수 */
+    private long remoteHits;
+
+    /** DB 에서 읽은 수 */
+    private long databaseLoads;
+}
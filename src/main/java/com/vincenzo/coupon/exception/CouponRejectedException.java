@@ -0,0 +1,20 @@
+package com.vincenzo.coupon.exception;
+
+import com.vincenzo.coupon.rule.Rejection;
+
+/**
+ * 업무 규칙에 따른 발급/사용 거절 (409) - 메시지 대신 사유 코드로 구분
+ */
+public class CouponRejectedException extends IllegalStateException {
+
+    private final Rejection reason;
+
+    public CouponRejectedException(Rejection reason) {
+        super(reason.message());
+        this.reason = reason;
+    }
+
+    public Rejection reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,20 @@
+package com.vincenzo.coupon.exception;
+
+/**
+ * 요청 빈도 제한 초과 (429, 클라이언트는 잠시 후 재시도)
+ * - 남용 트래픽마다 만들지 않도록 제한 종류별로 미리 만들어 공유 (스택 트레이스 없음)
+ */
+public class RateLimitedException extends RuntimeException {
+
+    private final String key;
+
+    public RateLimitedException(String key, String message) {
+        super(message, null, false, false);
+        this.key = key;
+    }
+
+    /** 초과한 제한 종류 (user / code / ip) */
+    public String key() {
+        return key;
+    }
+}
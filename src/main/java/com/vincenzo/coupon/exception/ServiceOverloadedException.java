@@ -0,0 +1,11 @@
+package com.vincenzo.coupon.exception;
+
+/**
+ * 과부하로 요청을 처리하지 않고 거절 (503, 클라이언트는 재시도)
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
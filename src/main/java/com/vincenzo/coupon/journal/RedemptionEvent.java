@@ -0,0 +1,21 @@
+package com.vincenzo.coupon.journal;
+
+import java.time.Instant;
+
+/**
+ * 쿠폰 사용 1건의 부수 효과 기록 (포인트 원장/사용 통계/감사 기록의 원천)
+ * - 금액은 원 단위 long
+ *
+ * @param lsn 저널 일련번호 (추가 전에는 0)
+ */
+public record RedemptionEvent(long lsn, long couponId, long userId, long orderAmount,
+                              long discount, long rewardPoints, Instant redeemedAt) {
+
+    public static RedemptionEvent of(long couponId, long userId, long orderAmount, long discount, long rewardPoints) {
+        return new RedemptionEvent(0, couponId, userId, orderAmount, discount, rewardPoints, Instant.now());
+    }
+
+    public RedemptionEvent withLsn(long lsn) {
+        return new RedemptionEvent(lsn, couponId, userId, orderAmount, discount, rewardPoints, redeemedAt);
+    }
+}
@@ -0,0 +1,288 @@
+package com.vincenzo.coupon.journal;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 쿠폰 사용 부수 효과 추가 전용 저널 (메모리 매핑 세그먼트 파일)
+ * - 기록은 64바이트 고정 길이, 일련번호(LSN)는 1부터 빈틈없이 증가 (체크포인트 이후 재시작 시에만 건너뜀)
+ * - 매핑된 페이지는 OS 페이지 캐시에 남으므로 프로세스가 죽어도 유실 없음 (전원 장애 대비는 force-on-append)
+ * - 추가는 사용 트랜잭션 커밋 직전 (RedemptionEffectRecorder) - 커밋이 끝날 때까지 그 LSN 부터는 읽지 않고,
+ *   커밋 여부는 같은 트랜잭션의 커밋 표시(redemption_commit)로 판단하므로 롤백된 기록은 드레이너가 버림
+ * - 시작 시 마지막 세그먼트를 훑어 CRC 가 맞는 마지막 기록 다음부터 이어 씀 (찢어진 기록은 덮어씀)
+ */
+@Slf4j
+@Component
+public class RedemptionJournal {
+
+    static final int RECORD_SIZE = 64;
+    private static final int CRC_OFFSET = 56;
+    private static final String PREFIX = "redemption-";
+    private static final String SUFFIX = ".journal";
+
+    private final Path dir;
+    private final int segmentRecords;
+    private final boolean forceOnAppend;
+
+    /** 첫 LSN → 세그먼트 */
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    /** 커밋/롤백을 기다리는 LSN - 가장 작은 것 앞까지만 읽음 */
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private final LongAdder appendFailures = new LongAdder();
+    private Segment active;
+    private long nextLsn = 1;
+    /** 읽을 수 있는 마지막 LSN (기록을 다 쓴 뒤 갱신) */
+    private volatile long lastLsn;
+
+    public RedemptionJournal(@Value("${coupon.journal.dir:${java.io.tmpdir}/coupon-journal}") String dir,
+                             @Value("${coupon.journal.segment-records:1048576}") int segmentRecords,
+                             @Value("${coupon.journal.force-on-append:false}") boolean forceOnAppend) {
+        this.dir = Path.of(dir);
+        this.segmentRecords = segmentRecords;
+        this.forceOnAppend = forceOnAppend;
+        recover();
+    }
+
+    /**
+     * 트랜잭션 커밋 전 추가 - settle 을 부를 때까지 이 LSN 부터는 읽지 않음
+     * - 추가 실패는 예외로 올려 사용 트랜잭션을 롤백 (커밋된 사용의 부수 효과가 빠지지 않도록)
+     * @return 부여된 LSN
+     */
+    public synchronized long appendPending(RedemptionEvent event) {
+        try {
+            // 읽는 쪽이 lastLsn 을 본 시점에는 진행 중 표시가 이미 있도록 추가 전에 등록
+            inFlight.add(nextLsn);
+            return append(event);
+        } catch (RuntimeException e) {
+            inFlight.remove(nextLsn);
+            appendFailures.increment();
+            log.error("저널 추가 실패 - 쿠폰 ID: {}, 사용자: {}", event.couponId(), event.userId(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 커밋/롤백이 끝난 LSN 을 읽을 수 있게 함
+     */
+    public void settle(long lsn) {
+        inFlight.remove(lsn);
+    }
+
+    /**
+     * 기록 추가
+     * @return 부여된 LSN
+     */
+    public synchronized long append(RedemptionEvent event) {
+        if (active == null || nextLsn - active.firstLsn >= active.capacity) {
+            active = createSegment(nextLsn);
+        }
+        long lsn = nextLsn;
+        int offset = (int) (lsn - active.firstLsn) * RECORD_SIZE;
+        write(active.buffer, offset, event.withLsn(lsn));
+        if (forceOnAppend) {
+            active.buffer.force(offset, RECORD_SIZE);
+        }
+        nextLsn = lsn + 1;
+        lastLsn = lsn;
+        return lsn;
+    }
+
+    /**
+     * fromLsn 이상 기록을 최대 max 개 (LSN 순, 커밋/롤백을 기다리는 LSN 앞까지)
+     */
+    public List<RedemptionEvent> readFrom(long fromLsn, int max) {
+        long last = lastLsn;
+        Long pending = inFlight.ceiling(0L);
+        if (pending != null) {
+            last = Math.min(last, pending - 1);
+        }
+        List<RedemptionEvent> events = new ArrayList<>(Math.min(max, 1024));
+        long lsn = Math.max(1, fromLsn);
+        while (lsn <= last && events.size() < max) {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(lsn);
+            Segment segment = entry == null ? null : entry.getValue();
+            RedemptionEvent event = segment == null || lsn - segment.firstLsn >= segment.capacity
+                ? null
+                : read(segment.buffer, (int) (lsn - segment.firstLsn) * RECORD_SIZE);
+            if (event == null) {
+                // 세그먼트 뒤 빈 구간(체크포인트 이후로 건너뛴 LSN)은 다음 세그먼트로 이동
+                Long next = segments.higherKey(lsn);
+                if (next == null) {
+                    throw new IllegalStateException("저널 기록이 손상되었습니다. LSN: " + lsn);
+                }
+                lsn = next;
+                continue;
+            }
+            if (event.lsn() != lsn) {
+                throw new IllegalStateException("저널 기록이 손상되었습니다. LSN: " + lsn);
+            }
+            events.add(event);
+            lsn++;
+        }
+        return events;
+    }
+
+    /**
+     * 이미 반영된 LSN 이후부터 번호를 매기도록 보장 (저널 파일을 잃고 재시작한 경우)
+     */
+    public synchronized void advanceTo(long appliedLsn) {
+        if (nextLsn <= appliedLsn) {
+            log.warn("저널이 반영 지점보다 뒤처져 있어 LSN 을 건너뜀 - 저널: {}, 반영: {}", nextLsn - 1, appliedLsn);
+            nextLsn = appliedLsn + 1;
+            active = null;
+            lastLsn = appliedLsn;
+        }
+    }
+
+    /**
+     * appliedLsn 까지 모두 반영된 세그먼트 파일 삭제 (쓰는 중인 세그먼트는 유지)
+     */
+    public synchronized void truncateUpTo(long appliedLsn) {
+        for (Segment segment : segments.values()) {
+            Long next = segments.higherKey(segment.firstLsn);
+            if (segment == active || next == null || next - 1 > appliedLsn) {
+                break;
+            }
+            segments.remove(segment.firstLsn);
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 삭제 실패 - {}", segment.path, e);
+            }
+        }
+    }
+
+    public long lastLsn() {
+        return lastLsn;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public long appendFailures() {
+        return appendFailures.sum();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.buffer.force();
+        }
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(dir);
+            try (Stream<Path> files = Files.list(dir)) {
+                files.filter(p -> p.getFileName().toString().startsWith(PREFIX)
+                        && p.getFileName().toString().endsWith(SUFFIX))
+                    .forEach(p -> {
+                        Segment segment = map(p, firstLsnOf(p), (int) (size(p) / RECORD_SIZE));
+                        segments.put(segment.firstLsn, segment);
+                    });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 디렉터리를 열 수 없습니다: " + dir, e);
+        }
+        if (segments.isEmpty()) {
+            return;
+        }
+        active = segments.lastEntry().getValue();
+        int written = 0;
+        while (written < active.capacity) {
+            RedemptionEvent event = read(active.buffer, written * RECORD_SIZE);
+            if (event == null || event.lsn() != active.firstLsn + written) {
+                break;
+            }
+            written++;
+        }
+        nextLsn = active.firstLsn + written;
+        lastLsn = nextLsn - 1;
+        log.info("저널 복구 - 세그먼트: {}, 마지막 LSN: {}", segments.size(), lastLsn);
+    }
+
+    private Segment createSegment(long firstLsn) {
+        Segment segment = map(dir.resolve(String.format("%s%020d%s", PREFIX, firstLsn, SUFFIX)), firstLsn, segmentRecords);
+        segments.put(firstLsn, segment);
+        return segment;
+    }
+
+    private static Segment map(Path path, long firstLsn, int capacity) {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+            return new Segment(firstLsn, path, buffer, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 매핑할 수 없습니다: " + path, e);
+        }
+    }
+
+    private static long firstLsnOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(MappedByteBuffer buffer, int offset, RedemptionEvent event) {
+        buffer.putLong(offset, event.lsn());
+        buffer.putLong(offset + 8, event.couponId());
+        buffer.putLong(offset + 16, event.userId());
+        buffer.putLong(offset + 24, event.orderAmount());
+        buffer.putLong(offset + 32, event.discount());
+        buffer.putLong(offset + 40, event.rewardPoints());
+        buffer.putLong(offset + 48, event.redeemedAt().toEpochMilli());
+        buffer.putInt(offset + CRC_OFFSET, crc(buffer, offset));
+    }
+
+    /** @return CRC 가 맞지 않거나 비어 있으면 null */
+    private static RedemptionEvent read(MappedByteBuffer buffer, int offset) {
+        long lsn = buffer.getLong(offset);
+        if (lsn == 0 || buffer.getInt(offset + CRC_OFFSET) != crc(buffer, offset)) {
+            return null;
+        }
+        return new RedemptionEvent(lsn,
+            buffer.getLong(offset + 8),
+            buffer.getLong(offset + 16),
+            buffer.getLong(offset + 24),
+            buffer.getLong(offset + 32),
+            buffer.getLong(offset + 40),
+            Instant.ofEpochMilli(buffer.getLong(offset + 48)));
+    }
+
+    private static int crc(ByteBuffer buffer, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private record Segment(long firstLsn, Path path, MappedByteBuffer buffer, int capacity) {
+    }
+}
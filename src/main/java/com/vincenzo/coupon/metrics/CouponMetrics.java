@@ -0,0 +1,195 @@
+package com.vincenzo.coupon.metrics;
+
+import com.vincenzo.coupon.exception.CouponRejectedException;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.service.Outcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 쿠폰 목록/발급/사용 경로 지표 (Micrometer, /actuator/prometheus)
+ * - coupon.operation: 동작별 지연 히스토그램 (outcome = success / rejected / invalid / error)
+ * - coupon.rejections: 동작 x 거절 사유({@link Rejection})별 건수
+ * - coupon.db.queries: 요청당 SQL 수 (블로킹 경로만)
+ * - coupon.hot.issuance / coupon.hot.redemption: 최근 구간 초당 건수, 상위 N개 쿠폰만 태그로 노출
+ * - 미터는 모두 생성 시 등록해 두고 요청마다 이름/태그로 찾지 않음
+ */
+@Component
+public class CouponMetrics {
+
+    public enum Operation {
+        LIST, ASSIGN, REDEEM
+    }
+
+    private enum Result {
+        SUCCESS, REJECTED, INVALID, ERROR
+    }
+
+    private final int hotCoupons;
+    /** [동작][결과] */
+    private final Timer[][] timers;
+    /** [동작][거절 사유] */
+    private final Counter[][] rejections;
+    private final DistributionSummary[] queries;
+    private final HotCouponCounter issued;
+    private final HotCouponCounter redeemed;
+    private final MultiGauge hotIssuance;
+    private final MultiGauge hotRedemption;
+    private long windowStartNanos = System.nanoTime();
+
+    public CouponMetrics(MeterRegistry registry,
+                         @Value("${coupon.metrics.hot-coupons:20}") int hotCoupons,
+                         @Value("${coupon.metrics.max-tracked-coupons:10000}") int maxTrackedCoupons) {
+        this.hotCoupons = hotCoupons;
+        Operation[] operations = Operation.values();
+        Result[] outcomes = Result.values();
+        Rejection[] reasons = Rejection.values();
+        this.timers = new Timer[operations.length][outcomes.length];
+        this.rejections = new Counter[operations.length][reasons.length];
+        this.queries = new DistributionSummary[operations.length];
+        for (Operation op : operations) {
+            for (Result outcome : outcomes) {
+                timers[op.ordinal()][outcome.ordinal()] = Timer.builder("coupon.operation")
+                    .description("쿠폰 동작 처리 시간")
+                    .tag("operation", tag(op))
+                    .tag("outcome", tag(outcome))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry);
+            }
+            for (Rejection reason : reasons) {
+                rejections[op.ordinal()][reason.ordinal()] = Counter.builder("coupon.rejections")
+                    .description("쿠폰 동작 거절 수")
+                    .tag("operation", tag(op))
+                    .tag("reason", tag(reason))
+                    .register(registry);
+            }
+            queries[op.ordinal()] = DistributionSummary.builder("coupon.db.queries")
+                .description("요청당 SQL 수")
+                .baseUnit("queries")
+                .tag("operation", tag(op))
+                .register(registry);
+        }
+        this.issued = new HotCouponCounter(maxTrackedCoupons);
+        this.redeemed = new HotCouponCounter(maxTrackedCoupons);
+        this.hotIssuance = MultiGauge.builder("coupon.hot.issuance")
+            .description("발급이 많은 쿠폰의 초당 발급 수 (상위 N개)")
+            .baseUnit("per_second")
+            .register(registry);
+        this.hotRedemption = MultiGauge.builder("coupon.hot.redemption")
+            .description("사용이 많은 쿠폰의 초당 사용 수 (상위 N개)")
+            .baseUnit("per_second")
+            .register(registry);
+    }
+
+    /**
+     * 동작 실행 시간/결과/쿼리 수 기록 (예외는 그대로 전달)
+     * - 반환값이 거절된 {@link Outcome} 이면 거절로 기록
+     */
+    public <T> T record(Operation op, Supplier<T> call) {
+        long start = System.nanoTime();
+        int queriesBefore = QueryCountingInspector.current();
+        Result outcome = Result.ERROR;
+        try {
+            T result = call.get();
+            outcome = rejectedOrSuccess(op, result);
+            return result;
+        } catch (CouponRejectedException e) {
+            outcome = Result.REJECTED;
+            rejections[op.ordinal()][e.reason().ordinal()].increment();
+            throw e;
+        } catch (IllegalArgumentException e) {
+            outcome = Result.INVALID;
+            throw e;
+        } finally {
+            timers[op.ordinal()][outcome.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            queries[op.ordinal()].record(QueryCountingInspector.current() - queriesBefore);
+        }
+    }
+
+    public void record(Operation op, Runnable call) {
+        record(op, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * 논블로킹 경로 - 구독부터 완료까지 시간과 결과 (쿼리 수는 스레드가 바뀌므로 기록하지 않음)
+     */
+    public <T> Mono<T> record(Operation op, Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                .doOnSuccess(result -> time(op, rejectedOrSuccess(op, result), start))
+                .doOnError(e -> {
+                    if (e instanceof CouponRejectedException rejected) {
+                        rejections[op.ordinal()][rejected.reason().ordinal()].increment();
+                        time(op, Result.REJECTED, start);
+                    } else {
+                        time(op, e instanceof IllegalArgumentException ? Result.INVALID : Result.ERROR, start);
+                    }
+                });
+        });
+    }
+
+    /** 쿠폰 발급 1건 (상위 N 집계용) */
+    public void issued(long couponId) {
+        issued.increment(couponId);
+    }
+
+    /** 쿠폰 사용 1건 (상위 N 집계용) */
+    public void redeemed(long couponId) {
+        redeemed.increment(couponId);
+    }
+
+    /**
+     * 구간을 닫고 상위 N개 쿠폰의 초당 건수로 게이지 교체 (상위에서 빠진 쿠폰의 시계열은 제거)
+     */
+    @Scheduled(fixedDelayString = "${coupon.metrics.hot-window-ms:10000}")
+    public synchronized void publishHotCoupons() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-3, (now - windowStartNanos) / 1e9);
+        windowStartNanos = now;
+        hotIssuance.register(rows(issued.rollTop(hotCoupons), seconds), true);
+        hotRedemption.register(rows(redeemed.rollTop(hotCoupons), seconds), true);
+    }
+
+    private Result rejectedOrSuccess(Operation op, Object result) {
+        if (result instanceof Outcome<?> outcome && outcome.isRejected()) {
+            rejections[op.ordinal()][outcome.rejection().ordinal()].increment();
+            return Result.REJECTED;
+        }
+        return Result.SUCCESS;
+    }
+
+    private void time(Operation op, Result outcome, long start) {
+        timers[op.ordinal()][outcome.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static List<MultiGauge.Row<?>> rows(List<HotCouponCounter.Hot> top, double seconds) {
+        return top.stream()
+            .<MultiGauge.Row<?>>map(hot -> MultiGauge.Row.of(
+                Tags.of("coupon", Long.toString(hot.couponId())), hot.count() / seconds))
+            .toList();
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
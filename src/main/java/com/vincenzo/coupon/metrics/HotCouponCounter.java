@@ -0,0 +1,60 @@
+package com.vincenzo.coupon.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 쿠폰별 건수를 구간 단위로 세고, 구간을 닫을 때 상위 N개만 남김
+ * - 한 구간에 셀 쿠폰 수는 maxTracked 로 제한 (넘치면 그 구간에서는 버림)
+ * - 구간을 바꾸는 순간 들어온 건수는 닫힌 구간에 들어가 빠질 수 있음 (지표용이라 허용)
+ */
+class HotCouponCounter {
+
+    private final int maxTracked;
+    private volatile ConcurrentHashMap<Long, LongAdder> window = new ConcurrentHashMap<>();
+
+    HotCouponCounter(int maxTracked) {
+        this.maxTracked = maxTracked;
+    }
+
+    void increment(long couponId) {
+        ConcurrentHashMap<Long, LongAdder> current = window;
+        LongAdder count = current.get(couponId);
+        if (count == null) {
+            if (current.size() >= maxTracked) {
+                return;
+            }
+            count = current.computeIfAbsent(couponId, id -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * 현재 구간을 닫고 건수 상위 n개 (내림차순)
+     */
+    List<Hot> rollTop(int n) {
+        Map<Long, LongAdder> closed = window;
+        window = new ConcurrentHashMap<>();
+        PriorityQueue<Hot> top = new PriorityQueue<>(Comparator.comparingLong(Hot::count));
+        for (Map.Entry<Long, LongAdder> e : closed.entrySet()) {
+            long count = e.getValue().sum();
+            if (top.size() < n) {
+                top.add(new Hot(e.getKey(), count));
+            } else if (n > 0 && count > top.peek().count()) {
+                top.poll();
+                top.add(new Hot(e.getKey(), count));
+            }
+        }
+        List<Hot> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingLong(Hot::count).reversed());
+        return result;
+    }
+
+    record Hot(long couponId, long count) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.vincenzo.coupon.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별 SQL 실행 수 (Hibernate 가 SQL 을 준비할 때마다 1 증가)
+ * - 요청 전후 값의 차이로 요청당 쿼리 수를 구함 (JdbcTemplate 직접 호출은 포함하지 않음)
+ * - SQL 문자열은 남기지 않음 (카운터만)
+ */
+public class QueryCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /** 현재 스레드에서 지금까지 실행한 SQL 수 */
+    public static int current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,26 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.domain.BulkIssuanceJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BulkIssuanceJobRepository extends JpaRepository<BulkIssuanceJob, Long> {
+    List<BulkIssuanceJob> findByStatusIn(Collection<BulkIssuanceJob.Status> statuses);
+
+    /**
+     * 상태 조건부 전이 - 여러 요청/노드가 같은 작업을 동시에 잡아도 한 곳만 성공
+     * @return 전이된 행 수 (0 이면 이미 다른 상태)
+     */
+    @Modifying
+    @Query("update BulkIssuanceJob j set j.status = :to, j.errorMessage = null " +
+           "where j.id = :id and j.status = :from")
+    int transition(@Param("id") Long id, @Param("from") BulkIssuanceJob.Status from,
+                   @Param("to") BulkIssuanceJob.Status to);
+}
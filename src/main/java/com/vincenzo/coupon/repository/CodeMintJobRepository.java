@@ -0,0 +1,22 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.domain.CodeMintJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CodeMintJobRepository extends JpaRepository<CodeMintJob, Long> {
+
+    /** 다음 작업이 사용할 일련번호 구간 시작 */
+    @Query("select coalesce(max(j.startIndex + j.requestedCount), 0) from CodeMintJob j")
+    long findNextStartIndex();
+
+    /** 청크 저장 결과 반영 (작업 행 하나에 여러 워커가 동시에 더함) */
+    @Modifying
+    @Query("update CodeMintJob j set j.mintedCount = j.mintedCount + :minted, " +
+           "j.skippedCount = j.skippedCount + :skipped where j.id = :id")
+    int addProgress(@Param("id") Long id, @Param("minted") long minted, @Param("skipped") long skipped);
+}
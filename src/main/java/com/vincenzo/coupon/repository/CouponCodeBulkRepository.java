@@ -0,0 +1,48 @@
+package com.vincenzo.coupon.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * coupon_code 대량 INSERT / 스트리밍 조회 (JDBC)
+ * - 코드가 PK 라 이미 있는 코드는 유니크 제약으로 건너뜀
+ */
+@Repository
+public class CouponCodeBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DuplicateSkippingBatchInsert insert;
+
+    public CouponCodeBulkRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insert = new DuplicateSkippingBatchInsert(dataSource,
+            "coupon_code (code, coupon_id, job_id) VALUES (?, ?, ?)", "code");
+    }
+
+    /**
+     * 코드 묶음 저장 (현재 트랜잭션에 참여)
+     * @return 새로 INSERT 된 행 수
+     */
+    public int insertIgnoringDuplicates(Long couponId, Long jobId, String[] codes, int length) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) con -> insert.execute(con, length, (ps, i) -> {
+            ps.setString(1, codes[i]);
+            ps.setLong(2, couponId);
+            ps.setLong(3, jobId);
+        }));
+    }
+
+    /** 작업으로 발행된 코드를 메모리에 모으지 않고 순서대로 전달 */
+    public void streamCodes(Long jobId, Consumer<String> consumer) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("SELECT code FROM coupon_code WHERE job_id = ?");
+            ps.setFetchSize(1_000);
+            ps.setLong(1, jobId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1)));
+    }
+}
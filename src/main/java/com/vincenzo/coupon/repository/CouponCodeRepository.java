@@ -0,0 +1,39 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.domain.CouponCode;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface CouponCodeRepository extends JpaRepository<CouponCode, String> {
+
+    @Query("select cc.couponId from CouponCode cc where cc.code = :code")
+    Optional<Long> findCouponIdByCode(@Param("code") String code);
+
+    boolean existsByCode(String code);
+
+    /** 전체 발행 코드 스트리밍 (부정 조회 필터 재구성용, 트랜잭션 안에서 닫아야 함) */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    @Query("select cc.code from CouponCode cc")
+    Stream<String> streamAllCodes();
+
+    /**
+     * 미사용 코드 소진 (조건부 UPDATE)
+     * @return 1 = 소진 성공, 0 = 이미 사용된 코드
+     */
+    @Modifying
+    @Query("update CouponCode cc set cc.claimedBy = :userId, cc.claimedAt = :now " +
+           "where cc.code = :code and cc.claimedBy is null")
+    int claim(@Param("code") String code, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
@@ -2,6 +2,9 @@ package com.vincenzo.coupon.repository;
 
 import com.vincenzo.coupon.domain.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +13,22 @@ import java.util.Optional;
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
     Optional<Coupon> findByCode(String code);
     boolean existsByCode(String code);
-}
\ No newline at end of file
+
+    /** 현재 발급 수만 조회 (캐시된 쿠폰 정의의 발급 수는 오래된 값일 수 있음) */
+    @Query("select c.issuedCount from Coupon c where c.id = :id")
+    int findIssuedCountById(@Param("id") Long id);
+
+    /**
+     * 발급 한도 내에서만 발급 수 1 증가 (단일 조건부 UPDATE, 잠금 없이 초과 발급 방지)
+     * @return 변경된 행 수 (0 = 발급 한도 소진)
+     */
+    @Modifying
+    @Query("update Coupon c set c.issuedCount = c.issuedCount + 1 " +
+           "where c.id = :id and (c.maxIssueCount is null or c.issuedCount < c.maxIssueCount)")
+    int incrementIssuedCount(@Param("id") Long id);
+
+    /** 메모리에서 확정된 발급 수를 일괄 반영 */
+    @Modifying
+    @Query("update Coupon c set c.issuedCount = c.issuedCount + :delta where c.id = :id")
+    int addIssuedCount(@Param("id") Long id, @Param("delta") int delta);
+}
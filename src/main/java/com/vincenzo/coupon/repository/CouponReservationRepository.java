@@ -0,0 +1,58 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.domain.CouponReservation;
+import com.vincenzo.coupon.domain.CouponReservation.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CouponReservationRepository extends JpaRepository<CouponReservation, Long> {
+
+    /** 만료 휠 복원용 (재시작 시) - 상태 인덱스로 미결 예약만 읽음 */
+    @Query("select r.id as id, r.expiresAt as expiresAt from CouponReservation r where r.status = :status")
+    List<Pending> findPending(@Param("status") Status status);
+
+    /** 현재 상태 (영속성 컨텍스트를 거치지 않고 DB 에서) */
+    @Query("select r.status from CouponReservation r where r.id = :id")
+    Status findStatusById(@Param("id") Long id);
+
+    /**
+     * 미결 예약 상태 전이 (예약한 사용자의 예약이고, 예약 상태이고 기한 안일 때만)
+     * @return 1 = 전이 성공, 0 = 이미 처리되었거나 기한이 지났거나 다른 사용자의 예약
+     */
+    default int settle(Long id, Long userId, Status to, LocalDateTime now) {
+        return transitionBefore(id, userId, Status.RESERVED, to, now);
+    }
+
+    /**
+     * 기한이 지난 미결 예약을 만료로 전이
+     * @return 1 = 만료 처리, 0 = 이미 확정/해제됨
+     */
+    default int expire(Long id, LocalDateTime now) {
+        return transitionAfter(id, Status.RESERVED, Status.EXPIRED, now);
+    }
+
+    @Modifying
+    @Query("update CouponReservation r set r.status = :to " +
+           "where r.id = :id and r.userId = :userId and r.status = :from and r.expiresAt > :now")
+    int transitionBefore(@Param("id") Long id, @Param("userId") Long userId, @Param("from") Status from,
+                         @Param("to") Status to, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update CouponReservation r set r.status = :to " +
+           "where r.id = :id and r.status = :from and r.expiresAt <= :now")
+    int transitionAfter(@Param("id") Long id, @Param("from") Status from, @Param("to") Status to,
+                        @Param("now") LocalDateTime now);
+
+    interface Pending {
+        Long getId();
+
+        LocalDateTime getExpiresAt();
+    }
+}
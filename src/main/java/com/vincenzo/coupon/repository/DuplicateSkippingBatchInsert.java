@@ -0,0 +1,105 @@
+package com.vincenzo.coupon.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import javax.sql.DataSource;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 유니크 제약에 걸리는 행은 건너뛰는 JDBC 배치 INSERT
+ * - PostgreSQL: ON CONFLICT DO NOTHING, MySQL: INSERT IGNORE
+ * - 그 외(H2 등): 일반 배치 INSERT 후 유니크 제약 위반 행만 건너뛰고 나머지를 이어서 실행
+ */
+@Slf4j
+final class DuplicateSkippingBatchInsert {
+
+    /** 배치의 i 번째 행 파라미터 설정 */
+    @FunctionalInterface
+    interface RowBinder {
+        void bind(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    private final String sql;
+    private final boolean nativeIgnore;
+
+    /**
+     * @param intoClause "테이블 (컬럼...) VALUES (?...)"
+     * @param conflictColumns 유니크 제약 컬럼 (PostgreSQL ON CONFLICT 대상)
+     */
+    DuplicateSkippingBatchInsert(DataSource dataSource, String intoClause, String conflictColumns) {
+        String product = databaseProduct(dataSource);
+        if (product.contains("postgresql")) {
+            this.sql = "INSERT INTO " + intoClause + " ON CONFLICT (" + conflictColumns + ") DO NOTHING";
+            this.nativeIgnore = true;
+        } else if (product.contains("mysql") || product.contains("mariadb")) {
+            this.sql = "INSERT IGNORE INTO " + intoClause;
+            this.nativeIgnore = true;
+        } else {
+            this.sql = "INSERT INTO " + intoClause;
+            this.nativeIgnore = false;
+        }
+    }
+
+    /**
+     * @return 새로 INSERT 된 행 수
+     */
+    int execute(Connection con, int length, RowBinder binder) throws SQLException {
+        int inserted = 0;
+        int from = 0;
+        while (from < length) {
+            try (PreparedStatement ps = con.prepareStatement(sql)) {
+                for (int i = from; i < length; i++) {
+                    binder.bind(ps, i);
+                    ps.addBatch();
+                }
+                inserted += countInserted(ps.executeBatch());
+                from = length;
+            } catch (BatchUpdateException e) {
+                if (nativeIgnore || !isUniqueViolation(e)) {
+                    throw e;
+                }
+                int[] counts = e.getUpdateCounts();
+                inserted += countInserted(counts);
+                // 드라이버가 실패 이후 행까지 실행했으면 끝, 아니면 실패한 행 다음부터 재시도
+                from = counts.length >= length - from ? length : from + counts.length + 1;
+            }
+        }
+        return inserted;
+    }
+
+    private static int countInserted(int[] counts) {
+        int inserted = 0;
+        for (int count : counts) {
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    /** SQLSTATE 23xxx = 무결성 제약 위반 */
+    private static boolean isUniqueViolation(SQLException e) {
+        for (SQLException cur = e; cur != null; cur = cur.getNextException()) {
+            if (cur.getSQLState() != null && cur.getSQLState().startsWith("23")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String databaseProduct(DataSource dataSource) {
+        try {
+            String name = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return name.toLowerCase();
+        } catch (Exception e) {
+            log.warn("DB 종류 확인 실패 - 일반 배치 INSERT 사용", e);
+            return "";
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.domain.Coupon;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * coupon 논블로킹 조회 (R2DBC, reactive 프로필)
+ * - 카탈로그 캐시 미스일 때만 사용 (대상 카테고리/상품까지 채워 카탈로그에 넣을 수 있는 상태로 반환)
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveCouponRepository {
+
+    private static final String COLUMNS = "id, code, title, label, valid_from, valid_until, type, discount_value, "
+        + "max_discount_amount, min_order_amount, reward_point_percent, max_issue_count, issued_count, max_usages";
+
+    private final DatabaseClient db;
+
+    public ReactiveCouponRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    public Mono<Coupon> findByCode(String code) {
+        return find("code", code);
+    }
+
+    public Mono<Coupon> findById(Long id) {
+        return find("id", id);
+    }
+
+    private Mono<Coupon> find(String column, Object key) {
+        return db.sql("SELECT " + COLUMNS + " FROM coupon WHERE " + column + " = :key")
+            .bind("key", key)
+            .map(ReactiveCouponRepository::toCoupon)
+            .one()
+            .flatMap(coupon -> Mono.zip(
+                    targets("coupon_target_category", "category_id", coupon.getId()),
+                    targets("coupon_target_product", "product_id", coupon.getId()))
+                .map(targets -> {
+                    coupon.setTargetCategoryIds(targets.getT1());
+                    coupon.setTargetProductIds(targets.getT2());
+                    return coupon;
+                }));
+    }
+
+    private Mono<Set<Long>> targets(String table, String column, Long couponId) {
+        return db.sql("SELECT " + column + " FROM " + table + " WHERE coupon_id = :couponId")
+            .bind("couponId", couponId)
+            .map(row -> row.get(column, Long.class))
+            .all()
+            .collect(Collectors.toSet());
+    }
+
+    private static Coupon toCoupon(Readable row) {
+        return Coupon.builder()
+            .id(row.get("id", Long.class))
+            .code(row.get("code", String.class))
+            .title(row.get("title", String.class))
+            .label(row.get("label", String.class))
+            .validFrom(row.get("valid_from", LocalDateTime.class))
+            .validUntil(row.get("valid_until", LocalDateTime.class))
+            .type(row.get("type", String.class))
+            .discountValue(row.get("discount_value", Integer.class))
+            .maxDiscountAmount(row.get("max_discount_amount", BigDecimal.class))
+            .minOrderAmount(row.get("min_order_amount", BigDecimal.class))
+            .rewardPointPercent(row.get("reward_point_percent", Integer.class))
+            .maxIssueCount(row.get("max_issue_count", Integer.class))
+            .issuedCount(row.get("issued_count", Integer.class))
+            .maxUsages(row.get("max_usages", Integer.class))
+            .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * redemption_commit 논블로킹 저장 (R2DBC, reactive 프로필) - {@link RedemptionEffectRepository#insertCommit} 과 같은 테이블
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveRedemptionCommitRepository {
+
+    private final DatabaseClient db;
+
+    public ReactiveRedemptionCommitRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    /** 사용 트랜잭션의 커밋 표시 저장 (현재 R2DBC 트랜잭션에 참여) */
+    public Mono<Void> insert(String journalId, RedemptionEvent event) {
+        return db.sql("INSERT INTO redemption_commit (journal_id, lsn, coupon_id, user_id, order_amount, "
+                + "discount_amount, reward_points, redeemed_at) "
+                + "VALUES (:journalId, :lsn, :couponId, :userId, :orderAmount, :discount, :points, :redeemedAt)")
+            .bind("journalId", journalId)
+            .bind("lsn", event.lsn())
+            .bind("couponId", event.couponId())
+            .bind("userId", event.userId())
+            .bind("orderAmount", event.orderAmount())
+            .bind("discount", event.discount())
+            .bind("points", event.rewardPoints())
+            .bind("redeemedAt", LocalDateTime.ofInstant(event.redeemedAt(), ZoneId.systemDefault()))
+            .then();
+    }
+}
@@ -0,0 +1,53 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.cache.IdempotencyKeyCache.Receipt;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * redemption_receipt 논블로킹 저장/조회 (R2DBC, reactive 프로필) - {@link RedemptionReceiptRepository} 와 같은 테이블
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveRedemptionReceiptRepository {
+
+    private final DatabaseClient db;
+
+    public ReactiveRedemptionReceiptRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    /** 결과 저장 - 같은 (사용자, 키)가 있으면 DataIntegrityViolationException */
+    public Mono<Void> insert(long userId, String idempotencyKey, String code, RedemptionResult result) {
+        return db.sql("INSERT INTO redemption_receipt (user_id, idempotency_key, code, final_amount, "
+                + "discount_applied, reward_points_earned, created_at) "
+                + "VALUES (:userId, :key, :code, :finalAmount, :discount, :points, :createdAt)")
+            .bind("userId", userId)
+            .bind("key", idempotencyKey)
+            .bind("code", code)
+            .bind("finalAmount", result.getFinalAmount())
+            .bind("discount", result.getDiscountApplied())
+            .bind("points", result.getRewardPointsEarned())
+            .bind("createdAt", LocalDateTime.now())
+            .then();
+    }
+
+    public Mono<Receipt> find(long userId, String idempotencyKey) {
+        return db.sql("SELECT code, final_amount, discount_applied, reward_points_earned FROM redemption_receipt "
+                + "WHERE user_id = :userId AND idempotency_key = :key")
+            .bind("userId", userId)
+            .bind("key", idempotencyKey)
+            .map(row -> new Receipt(row.get("code", String.class), RedemptionResult.builder()
+                .finalAmount(row.get("final_amount", BigDecimal.class))
+                .discountApplied(row.get("discount_applied", BigDecimal.class))
+                .rewardPointsEarned(row.get("reward_points_earned", BigDecimal.class))
+                .build()))
+            .one();
+    }
+}
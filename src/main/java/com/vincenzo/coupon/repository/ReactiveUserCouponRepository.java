@@ -0,0 +1,56 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.cache.WalletEntry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * user_coupon 논블로킹 조회/차감 (R2DBC, reactive 프로필)
+ * - 쿼리는 {@link UserCouponRepository} 의 같은 이름 메서드와 동일한 조건
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveUserCouponRepository {
+
+    private final DatabaseClient db;
+
+    public ReactiveUserCouponRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    public Flux<WalletEntry> findWalletEntriesByUserId(long userId) {
+        return db.sql("SELECT coupon_id, remaining_usages, used FROM user_coupon WHERE user_id = :userId "
+                + "UNION ALL "
+                + "SELECT h.coupon_id, h.remaining_usages, h.used FROM user_coupon_history h "
+                + "JOIN coupon c ON c.id = h.coupon_id "
+                + "WHERE h.user_id = :userId AND h.used = TRUE AND c.valid_until >= :now")
+            .bind("userId", userId)
+            .bind("now", LocalDateTime.now())
+            .map(row -> new WalletEntry(
+                row.get("coupon_id", Long.class),
+                row.get("remaining_usages", Integer.class),
+                Boolean.TRUE.equals(row.get("used", Boolean.class))))
+            .all();
+    }
+
+    /**
+     * 사용 횟수 1회 차감 (조건부 UPDATE 1회, 단일 문장이라 별도 트랜잭션 없음)
+     * @return 변경된 행 수 (0 = 사용 가능한 쿠폰 없음)
+     */
+    public Mono<Long> useOnce(long couponId, long userId) {
+        return db.sql("UPDATE user_coupon "
+                + "SET used = CASE WHEN remaining_usages <= 1 THEN TRUE ELSE FALSE END, "
+                + "    remaining_usages = remaining_usages - 1 "
+                + "WHERE coupon_id = :couponId AND user_id = :userId AND used = FALSE "
+                + "AND (remaining_usages IS NULL OR remaining_usages > 0)")
+            .bind("couponId", couponId)
+            .bind("userId", userId)
+            .fetch()
+            .rowsUpdated();
+    }
+}
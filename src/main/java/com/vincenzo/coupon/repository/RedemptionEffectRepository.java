@@ -0,0 +1,219 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 쿠폰 사용 부수 효과 일괄 반영 (JDBC 배치, 현재 트랜잭션에 참여)
+ * - 감사 기록/포인트 원장 INSERT, 쿠폰별 사용 누계 가산, 커밋 표시 삭제, 저널 반영 지점 갱신을 한 트랜잭션에서 처리
+ */
+@Repository
+public class RedemptionEffectRepository {
+
+    /** 반영 지점을 지난 커밋 표시 - (journal_id, lsn) 유니크 인덱스 범위 조회 */
+    static final String FIND_ORPHANED = "SELECT lsn, coupon_id, user_id, order_amount, discount_amount, "
+        + "reward_points, redeemed_at FROM redemption_commit WHERE journal_id = ? AND lsn <= ? ORDER BY lsn LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RedemptionEffectRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 저널의 반영 지점 (없으면 0 으로 생성)
+     */
+    public long appliedLsn(String journalId) {
+        List<Long> applied = jdbcTemplate.queryForList(
+            "SELECT applied_lsn FROM journal_checkpoint WHERE journal_id = ?", Long.class, journalId);
+        if (!applied.isEmpty()) {
+            return applied.get(0);
+        }
+        jdbcTemplate.update("INSERT INTO journal_checkpoint (journal_id, applied_lsn) VALUES (?, 0)", journalId);
+        return 0;
+    }
+
+    /**
+     * 사용 트랜잭션의 커밋 표시 INSERT (현재 트랜잭션에 참여)
+     */
+    public void insertCommit(String journalId, RedemptionEvent event) {
+        jdbcTemplate.update(
+            "INSERT INTO redemption_commit (journal_id, lsn, coupon_id, user_id, order_amount, discount_amount, "
+                + "reward_points, redeemed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            journalId, event.lsn(), event.couponId(), event.userId(), event.orderAmount(), event.discount(),
+            event.rewardPoints(), timestamp(event));
+    }
+
+    /**
+     * 반영 지점을 expectedLsn → lsn 으로 이동 (이미 움직였으면 예외)
+     */
+    public void moveCheckpoint(String journalId, long expectedLsn, long lsn) {
+        int moved = jdbcTemplate.update(
+            "UPDATE journal_checkpoint SET applied_lsn = ? WHERE journal_id = ? AND applied_lsn = ?",
+            lsn, journalId, expectedLsn);
+        if (moved == 0) {
+            throw new IllegalStateException("저널 반영 지점이 변경되었습니다: " + journalId);
+        }
+    }
+
+    /**
+     * 저널의 가장 큰 커밋 표시 LSN (없으면 0)
+     */
+    public long maxCommittedLsn(String journalId) {
+        Long max = jdbcTemplate.queryForObject(
+            "SELECT MAX(lsn) FROM redemption_commit WHERE journal_id = ?", Long.class, journalId);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * 기록 묶음 중 커밋 표시가 있는 것만 반영하고 반영 지점을 expectedLsn → 마지막 LSN 으로 이동
+     * - 표시가 없는 기록은 롤백된 사용이므로 버림, 반영한 기록의 표시는 삭제
+     * - 반영 지점이 이미 움직였으면(다른 드레이너가 반영) 예외로 전체 롤백
+     * @return 버린 기록 수
+     */
+    public int apply(String journalId, long expectedLsn, List<RedemptionEvent> events) {
+        long lastLsn = events.get(events.size() - 1).lsn();
+        moveCheckpoint(journalId, expectedLsn, lastLsn);
+
+        Set<Long> committed = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT lsn FROM redemption_commit WHERE journal_id = ? AND lsn BETWEEN ? AND ?",
+            Long.class, journalId, events.get(0).lsn(), lastLsn));
+        List<RedemptionEvent> effective = events.stream().filter(e -> committed.contains(e.lsn())).toList();
+        if (!effective.isEmpty()) {
+            deleteCommits(journalId, effective);
+            insertEffects(journalId, effective);
+        }
+        return events.size() - effective.size();
+    }
+
+    /**
+     * 반영 지점(appliedLsn)을 지났는데 남은 커밋 표시 (저널에서 빠진 사용)
+     * @return 표시에 저장된 내용 (LSN 순)
+     */
+    public List<RedemptionEvent> findOrphaned(String journalId, long appliedLsn, int limit) {
+        return jdbcTemplate.query(FIND_ORPHANED, (rs, i) -> new RedemptionEvent(
+                rs.getLong("lsn"),
+                rs.getLong("coupon_id"),
+                rs.getLong("user_id"),
+                rs.getLong("order_amount"),
+                rs.getLong("discount_amount"),
+                rs.getLong("reward_points"),
+                rs.getTimestamp("redeemed_at").toInstant()),
+            journalId, appliedLsn, limit);
+    }
+
+    /**
+     * 저널에서 빠진 사용을 커밋 표시 내용으로 반영하고 표시 삭제
+     * - 표시가 이미 지워졌으면(다른 노드가 반영) 예외로 전체 롤백
+     */
+    public void applyOrphaned(String journalId, List<RedemptionEvent> events) {
+        deleteCommits(journalId, events);
+        insertEffects(journalId, events);
+    }
+
+    /** 반영 지점이 있는 저널 */
+    public List<String> journalIds() {
+        return jdbcTemplate.queryForList("SELECT journal_id FROM journal_checkpoint", String.class);
+    }
+
+    private void deleteCommits(String journalId, List<RedemptionEvent> events) {
+        int[][] deleted = jdbcTemplate.batchUpdate(
+            "DELETE FROM redemption_commit WHERE journal_id = ? AND lsn = ?",
+            events, events.size(), (ps, e) -> {
+                ps.setString(1, journalId);
+                ps.setLong(2, e.lsn());
+            });
+        for (int count : deleted[0]) {
+            if (count == 0) {
+                throw new IllegalStateException("커밋 표시가 이미 반영되었습니다: " + journalId);
+            }
+        }
+    }
+
+    /** 감사 기록, 포인트 원장, 사용 누계 - (journal_id, lsn) 유니크라 같은 기록은 두 번 들어가지 않음 */
+    private void insertEffects(String journalId, List<RedemptionEvent> events) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO redemption_audit (journal_id, lsn, coupon_id, user_id, order_amount, discount_amount, "
+                + "reward_points, redeemed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            events, events.size(), (ps, e) -> {
+                ps.setString(1, journalId);
+                ps.setLong(2, e.lsn());
+                ps.setLong(3, e.couponId());
+                ps.setLong(4, e.userId());
+                ps.setBigDecimal(5, BigDecimal.valueOf(e.orderAmount()));
+                ps.setBigDecimal(6, BigDecimal.valueOf(e.discount()));
+                ps.setBigDecimal(7, BigDecimal.valueOf(e.rewardPoints()));
+                ps.setTimestamp(8, timestamp(e));
+            });
+
+        List<RedemptionEvent> earned = events.stream().filter(e -> e.rewardPoints() > 0).toList();
+        if (!earned.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO point_ledger (journal_id, lsn, user_id, coupon_id, points, earned_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)",
+                earned, earned.size(), (ps, e) -> {
+                    ps.setString(1, journalId);
+                    ps.setLong(2, e.lsn());
+                    ps.setLong(3, e.userId());
+                    ps.setLong(4, e.couponId());
+                    ps.setBigDecimal(5, BigDecimal.valueOf(e.rewardPoints()));
+                    ps.setTimestamp(6, timestamp(e));
+                });
+        }
+
+        addUsageStats(events);
+    }
+
+    /** 쿠폰별로 합산해 UPDATE, 행이 없던 쿠폰만 INSERT */
+    private void addUsageStats(List<RedemptionEvent> events) {
+        Map<Long, long[]> totals = new LinkedHashMap<>();
+        for (RedemptionEvent e : events) {
+            long[] t = totals.computeIfAbsent(e.couponId(), id -> new long[3]);
+            t[0]++;
+            t[1] += e.discount();
+            t[2] += e.rewardPoints();
+        }
+        List<Map.Entry<Long, long[]>> rows = new ArrayList<>(totals.entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate(
+            "UPDATE coupon_usage_stat SET used_count = used_count + ?, discount_total = discount_total + ?, "
+                + "reward_point_total = reward_point_total + ? WHERE coupon_id = ?",
+            rows, rows.size(), (ps, row) -> {
+                ps.setLong(1, row.getValue()[0]);
+                ps.setBigDecimal(2, BigDecimal.valueOf(row.getValue()[1]));
+                ps.setBigDecimal(3, BigDecimal.valueOf(row.getValue()[2]));
+                ps.setLong(4, row.getKey());
+            });
+        List<Map.Entry<Long, long[]>> missing = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (updated[0][i] == 0) {
+                missing.add(rows.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO coupon_usage_stat (coupon_id, used_count, discount_total, reward_point_total) "
+                    + "VALUES (?, ?, ?, ?)",
+                missing, missing.size(), (ps, row) -> {
+                    ps.setLong(1, row.getKey());
+                    ps.setLong(2, row.getValue()[0]);
+                    ps.setBigDecimal(3, BigDecimal.valueOf(row.getValue()[1]));
+                    ps.setBigDecimal(4, BigDecimal.valueOf(row.getValue()[2]));
+                });
+        }
+    }
+
+    private static Timestamp timestamp(RedemptionEvent e) {
+        return Timestamp.valueOf(e.redeemedAt().atZone(ZoneId.systemDefault()).toLocalDateTime());
+    }
+}
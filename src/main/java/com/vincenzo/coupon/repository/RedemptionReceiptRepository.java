@@ -0,0 +1,22 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.domain.RedemptionReceipt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RedemptionReceiptRepository extends JpaRepository<RedemptionReceipt, Long> {
+
+    Optional<RedemptionReceipt> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    /** 보관 기간이 지난 결과 삭제 (이후 같은 키는 새 요청으로 처리) */
+    @Modifying
+    @Query("delete from RedemptionReceipt r where r.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
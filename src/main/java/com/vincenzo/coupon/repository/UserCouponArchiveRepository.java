@@ -0,0 +1,64 @@
+package com.vincenzo.coupon.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * user_coupon → user_coupon_history 이동 (JDBC, 현재 트랜잭션에 참여)
+ * - 대상은 다 쓴 쿠폰, 유효기간이 지난 쿠폰 - 단, 예약 중인 쿠폰은 해제 시 복구해야 하므로 제외
+ * - id 구간 단위로 훑어 한 번에 읽는 범위와 잠그는 행 수를 묶음 크기로 제한
+ */
+@Repository
+public class UserCouponArchiveRepository {
+
+    /** 기본 키 구간 + 예약 (user_id, coupon_id) 인덱스 조회 (실행 계획 테스트에서도 사용) */
+    static final String FIND_COLD = "SELECT uc.id FROM user_coupon uc JOIN coupon c ON c.id = uc.coupon_id "
+        + "WHERE uc.id > ? AND uc.id <= ? AND (uc.used = TRUE OR c.valid_until < ?) "
+        + "AND NOT EXISTS (SELECT 1 FROM coupon_reservation r WHERE r.user_id = uc.user_id "
+        + "AND r.coupon_id = uc.coupon_id AND r.status = 'RESERVED') "
+        + "ORDER BY uc.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserCouponArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** 현재 가장 큰 user_coupon id (한 바퀴의 끝, 없으면 0) */
+    public long maxId() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM user_coupon", Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * id 구간 (afterId, toId] 의 보관 대상 id (id 순, 최대 limit 건)
+     * @param expiredBefore 이 시각 전에 유효기간이 끝난 쿠폰은 쓰지 않았어도 보관
+     */
+    public List<Long> findCold(long afterId, long toId, LocalDateTime expiredBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_COLD, Long.class, afterId, toId, Timestamp.valueOf(expiredBefore), limit);
+    }
+
+    /**
+     * 행 복사 후 삭제 (같은 트랜잭션 - 중간에 실패하면 둘 다 롤백)
+     * @return 옮긴 행 수
+     */
+    public int moveToHistory(List<Long> ids, LocalDateTime archivedAt) {
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = Timestamp.valueOf(archivedAt);
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update(
+            "INSERT INTO user_coupon_history (id, coupon_id, user_id, remaining_usages, assigned_at, used, archived_at) "
+                + "SELECT id, coupon_id, user_id, remaining_usages, assigned_at, used, ? FROM user_coupon "
+                + "WHERE id IN (" + in + ")",
+            args);
+        return jdbcTemplate.update("DELETE FROM user_coupon WHERE id IN (" + in + ")", ids.toArray());
+    }
+}
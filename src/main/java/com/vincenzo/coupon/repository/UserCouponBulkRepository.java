@@ -0,0 +1,63 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.domain.UserCoupon;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * user_coupon 대량 INSERT (JDBC 배치)
+ * - 중복 발급은 (user_id, coupon_id) 유니크 제약으로 건너뜀 (행 단위 존재 여부 조회 없음)
+ * - id 는 엔티티와 같은 Hibernate pooled 시퀀스 생성기에서 할당 (50개당 시퀀스 1회 호출)
+ */
+@Repository
+public class UserCouponBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DuplicateSkippingBatchInsert insert;
+
+    public UserCouponBulkRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insert = new DuplicateSkippingBatchInsert(dataSource,
+            "user_coupon (id, coupon_id, user_id, remaining_usages, assigned_at, used) VALUES (?, ?, ?, ?, ?, false)",
+            "user_id, coupon_id");
+    }
+
+    /**
+     * 사용자 ID 묶음에 쿠폰 발급 (현재 트랜잭션에 참여)
+     * @return 새로 INSERT 된 행 수 (나머지는 이미 발급된 사용자)
+     */
+    public int insertIgnoringDuplicates(Long couponId, Integer remainingUsages, LocalDateTime assignedAt,
+                                        long[] userIds, int length) {
+        Timestamp assigned = Timestamp.valueOf(assignedAt);
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator idGenerator = (BeforeExecutionGenerator) session.getFactory()
+            .getMappingMetamodel()
+            .getEntityDescriptor(UserCoupon.class)
+            .getGenerator();
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) con -> insert.execute(con, length, (ps, i) -> {
+            ps.setLong(1, (Long) idGenerator.generate(session, null, null, EventType.INSERT));
+            ps.setLong(2, couponId);
+            ps.setLong(3, userIds[i]);
+            if (remainingUsages == null) {
+                ps.setNull(4, Types.INTEGER);
+            } else {
+                ps.setInt(4, remainingUsages);
+            }
+            ps.setTimestamp(5, assigned);
+        }));
+    }
+}
@@ -0,0 +1,34 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.domain.UserCouponHistory;
+import com.vincenzo.coupon.dto.CouponHistoryEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 보관된 발급 쿠폰 조회 - 발급/사용 경로가 아닌 이력 조회와 중복 발급 확인에만 사용
+ */
+@Repository
+public interface UserCouponHistoryRepository extends JpaRepository<UserCouponHistory, Long> {
+
+    /** 사용자별 쿠폰 이력 (최근 발급 순) */
+    @Query("select new com.vincenzo.coupon.dto.CouponHistoryEntry(c.id, c.code, c.title, h.remainingUsages, " +
+           "h.used, h.assignedAt, h.archivedAt) " +
+           "from UserCouponHistory h join Coupon c on c.id = h.couponId " +
+           "where h.userId = :userId order by h.assignedAt desc")
+    List<CouponHistoryEntry> findHistory(@Param("userId") Long userId, Pageable page);
+
+    /** 다 써서 보관된 쿠폰이 있는지 (유효기간 안의 쿠폰 재발급 방지) */
+    boolean existsByUserIdAndCouponIdAndUsedTrue(Long userId, Long couponId);
+
+    /** 사용자 묶음 중 이 쿠폰을 다 써서 보관된 사용자 (대량 발급에서 제외) */
+    @Query("select h.userId from UserCouponHistory h " +
+           "where h.couponId = :couponId and h.used = true and h.userId in :userIds")
+    List<Long> findUsedUserIds(@Param("couponId") Long couponId, @Param("userIds") Collection<Long> userIds);
+}
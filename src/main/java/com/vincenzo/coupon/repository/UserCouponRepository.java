@@ -1,13 +1,55 @@
 package com.vincenzo.coupon.repository;
 
+import com.vincenzo.coupon.cache.WalletEntry;
 import com.vincenzo.coupon.domain.UserCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
-    boolean existsByCoupon_IdAndUserId(Long couponId, Long userId);
-    Optional<UserCoupon> findByCoupon_CodeAndUserIdAndUsedFalse(String code, Long userId);
-}
\ No newline at end of file
+
+    /** 사용자 지갑 캐시 적재 (발급 쿠폰별 남은 횟수/사용 여부) */
+    default List<WalletEntry> findWalletEntriesByUserId(Long userId) {
+        return findWalletEntries(userId, LocalDateTime.now());
+    }
+
+    /**
+     * 발급 쿠폰 + 아직 유효한 쿠폰을 다 써서 보관된 행 (쿼리 1회)
+     * - 보관된 행도 지갑에 있어야 목록의 "이미 발급" 표시와 발급 시 중복 판단이 보관 전과 같음
+     */
+    @Query("select new com.vincenzo.coupon.cache.WalletEntry(uc.coupon.id, uc.remainingUsages, uc.used) " +
+           "from UserCoupon uc where uc.userId = :userId " +
+           "union all " +
+           "select new com.vincenzo.coupon.cache.WalletEntry(h.couponId, h.remainingUsages, h.used) " +
+           "from UserCouponHistory h join Coupon c on c.id = h.couponId " +
+           "where h.userId = :userId and h.used = true and c.validUntil >= :now")
+    List<WalletEntry> findWalletEntries(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용 가능한 발급 쿠폰의 사용 횟수 1 차감 (단일 조건부 UPDATE)
+     * - 남은 횟수가 1 이하였으면 used=true 로 전환, 무제한(null)은 횟수/상태 유지
+     * - used 를 먼저 대입해 SET 절을 왼쪽부터 평가하는 DB(MySQL)에서도 차감 전 값으로 판단
+     * @return 변경된 행 수 (0 = 사용 가능한 쿠폰 없음)
+     */
+    @Modifying
+    @Query("update UserCoupon uc " +
+           "set uc.used = case when uc.remainingUsages <= 1 then true else false end, " +
+           "    uc.remainingUsages = uc.remainingUsages - 1 " +
+           "where uc.coupon.id = :couponId and uc.userId = :userId and uc.used = false " +
+           "and (uc.remainingUsages is null or uc.remainingUsages > 0)")
+    int useOnce(@Param("couponId") Long couponId, @Param("userId") Long userId);
+
+    /**
+     * 예약 해제/만료로 차감했던 사용 횟수 1 복구 (무제한(null)은 그대로)
+     */
+    @Modifying
+    @Query("update UserCoupon uc set uc.used = false, uc.remainingUsages = uc.remainingUsages + 1 " +
+           "where uc.coupon.id = :couponId and uc.userId = :userId")
+    int restoreOnce(@Param("couponId") Long couponId, @Param("userId") Long userId);
+}
@@ -0,0 +1,99 @@
+package com.vincenzo.coupon.rule;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.util.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 1장의 적용 규칙을 미리 컴파일한 불변 평가기 (카탈로그에 쿠폰과 함께 캐시)
+ * - 금액은 원 단위 long, 대상 상품/카테고리는 {@link TargetSet} (박싱/지연 로딩 없음)
+ * - 평가 중 객체를 만들지 않음: 거절 사유는 enum 상수로 반환
+ */
+public final class CouponRule {
+
+    private final Long couponId;
+    private final String code;
+    private final LocalDateTime validFrom;
+    private final LocalDateTime validUntil;
+    private final long minOrderAmount;
+    private final TargetSet targetProducts;
+    private final TargetSet targetCategories;
+    private final DiscountFormula formula;
+    private final int rewardPointPercent;
+
+    private CouponRule(Coupon c) {
+        this.couponId = c.getId();
+        this.code = c.getCode();
+        this.validFrom = c.getValidFrom();
+        this.validUntil = c.getValidUntil();
+        this.minOrderAmount = Money.toWon(c.getMinOrderAmount());
+        this.targetProducts = TargetSet.of(c.getTargetProductIds());
+        this.targetCategories = TargetSet.of(c.getTargetCategoryIds());
+        this.formula = DiscountFormula.of(c);
+        this.rewardPointPercent = c.getRewardPointPercent() == null ? 0 : c.getRewardPointPercent();
+    }
+
+    public static CouponRule compile(Coupon coupon) {
+        return new CouponRule(coupon);
+    }
+
+    public Long couponId() {
+        return couponId;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public TargetSet targetProducts() {
+        return targetProducts;
+    }
+
+    public TargetSet targetCategories() {
+        return targetCategories;
+    }
+
+    /**
+     * 주문 1건에 대한 적용 가능 여부
+     * @return 거절 사유 (적용 가능하면 null)
+     */
+    public Rejection check(LocalDateTime now, long orderAmount, Long productId, Long categoryId) {
+        if (!isActiveAt(now)) {
+            return Rejection.NOT_IN_VALID_PERIOD;
+        }
+        if (orderAmount < minOrderAmount) {
+            return Rejection.MIN_ORDER_NOT_MET;
+        }
+        if (!targetProducts.matches(productId)) {
+            return Rejection.PRODUCT_NOT_TARGETED;
+        }
+        if (!targetCategories.matches(categoryId)) {
+            return Rejection.CATEGORY_NOT_TARGETED;
+        }
+        return null;
+    }
+
+    public boolean isActiveAt(LocalDateTime now) {
+        return !now.isBefore(validFrom) && !now.isAfter(validUntil);
+    }
+
+    public boolean meetsMinOrder(long orderAmount) {
+        return orderAmount >= minOrderAmount;
+    }
+
+    /** 대상 상품/카테고리 조건 (지정되지 않았으면 모두 허용) */
+    public boolean appliesTo(Long productId, Long categoryId) {
+        return targetProducts.matches(productId) && targetCategories.matches(categoryId);
+    }
+
+    /** 할인액 (원) */
+    public long discount(long amount) {
+        return formula.discount(amount);
+    }
+
+    /** 적립 포인트 (원, 1원 미만 버림) */
+    public long rewardPoints(long amount) {
+        return rewardPointPercent == 0 ? 0 : Money.percentOf(amount, rewardPointPercent);
+    }
+}
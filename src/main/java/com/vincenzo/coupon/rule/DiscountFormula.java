@@ -0,0 +1,42 @@
+package com.vincenzo.coupon.rule;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.util.Money;
+
+/**
+ * 할인액 계산식 (원 단위)
+ * - 새 할인 타입은 구현을 추가하고 {@link #of(Coupon)} 에 등록
+ */
+@FunctionalInterface
+public interface DiscountFormula {
+
+    /**
+     * @param amount 적용 대상 금액 (원)
+     * @return 할인액 (원, 대상 금액을 넘지 않음)
+     */
+    long discount(long amount);
+
+    static DiscountFormula of(Coupon c) {
+        if ("PERCENT".equals(c.getType())) {
+            long cap = c.getMaxDiscountAmount() == null ? Long.MAX_VALUE : Money.toWon(c.getMaxDiscountAmount());
+            return new Percent(c.getDiscountValue(), cap);
+        }
+        return new Fixed(c.getDiscountValue());
+    }
+
+    /** 정율 할인 (최대 할인 한도 적용) */
+    record Percent(int percent, long cap) implements DiscountFormula {
+        @Override
+        public long discount(long amount) {
+            return Math.min(Math.min(Money.percentOf(amount, percent), cap), amount);
+        }
+    }
+
+    /** 정액 할인 */
+    record Fixed(long value) implements DiscountFormula {
+        @Override
+        public long discount(long amount) {
+            return Math.min(value, amount);
+        }
+    }
+}
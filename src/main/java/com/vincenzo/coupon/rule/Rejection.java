@@ -0,0 +1,35 @@
+package com.vincenzo.coupon.rule;
+
+/**
+ * 쿠폰 발급/사용 거절 사유 (상수라 평가 시 할당 없음)
+ * - 앞의 네 가지는 규칙 평가, 나머지는 발급/사용/예약/선착순 대기열 처리 중 상태 확인 결과
+ * - 이름은 지표 태그(reason)로도 쓰이므로 바꾸지 않음
+ */
+public enum Rejection {
+    NOT_IN_VALID_PERIOD("유효 기간이 아닌 쿠폰입니다."),
+    MIN_ORDER_NOT_MET("최소 주문 금액 미달입니다."),
+    PRODUCT_NOT_TARGETED("해당 상품에 사용할 수 없는 쿠폰입니다."),
+    CATEGORY_NOT_TARGETED("해당 카테고리에 사용할 수 없는 쿠폰입니다."),
+    COUPON_NOT_FOUND("쿠폰을 찾을 수 없습니다."),
+    UNKNOWN_CODE("쿠폰이 존재하지 않습니다."),
+    CODE_ALREADY_CLAIMED("이미 사용된 쿠폰 코드입니다."),
+    ALREADY_ASSIGNED("이미 발급된 쿠폰입니다."),
+    ISSUE_LIMIT_EXCEEDED("발급 한도를 초과했습니다."),
+    NO_USAGE_LEFT("사용 가능한 쿠폰이 없습니다."),
+    IDEMPOTENCY_KEY_REUSED("다른 쿠폰 사용에 쓰인 멱등 키입니다."),
+    RESERVATION_NOT_FOUND("예약이 존재하지 않습니다."),
+    RESERVATION_CLOSED("예약이 만료되었거나 이미 처리되었습니다."),
+    RESERVATION_CONFIRMED("이미 확정된 예약입니다."),
+    DROP_TICKET_NOT_FOUND("대기 번호가 존재하지 않습니다."),
+    DROP_ISSUE_FAILED("발급 처리 중 오류가 발생했습니다. 다시 시도해 주세요.");
+
+    private final String message;
+
+    Rejection(String message) {
+        this.message = message;
+    }
+
+    public String message() {
+        return message;
+    }
+}
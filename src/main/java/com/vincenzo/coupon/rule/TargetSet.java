@@ -0,0 +1,69 @@
+package com.vincenzo.coupon.rule;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 쿠폰 대상 상품/카테고리 ID 집합 (불변, 정렬된 원시 배열 + 이진 탐색)
+ * - 모든 ID가 int 범위면 int[] (4B/개), 아니면 long[] (8B/개) 로 보관
+ *   HashSet&lt;Long&gt; (개당 약 50B + 박싱) 대비 10만 개 대상도 수백 KB 수준
+ * - 비어 있으면 제한 없음(모두 허용)
+ */
+public final class TargetSet {
+
+    public static final TargetSet ANY = new TargetSet(new int[0], null);
+
+    private final int[] ints;
+    private final long[] longs;
+
+    private TargetSet(int[] ints, long[] longs) {
+        this.ints = ints;
+        this.longs = longs;
+    }
+
+    public static TargetSet of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return ANY;
+        }
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        if (sorted[0] >= Integer.MIN_VALUE && sorted[sorted.length - 1] <= Integer.MAX_VALUE) {
+            int[] narrowed = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                narrowed[i] = (int) sorted[i];
+            }
+            return new TargetSet(narrowed, null);
+        }
+        return new TargetSet(null, sorted);
+    }
+
+    /** 제한 없음 여부 */
+    public boolean isAny() {
+        return size() == 0;
+    }
+
+    /** 대상 여부 (제한 없으면 항상 true, 제한이 있는데 id 가 없으면 false) */
+    public boolean matches(Long id) {
+        return isAny() || (id != null && contains(id));
+    }
+
+    public boolean contains(long id) {
+        if (longs != null) {
+            return Arrays.binarySearch(longs, id) >= 0;
+        }
+        return id >= Integer.MIN_VALUE && id <= Integer.MAX_VALUE && Arrays.binarySearch(ints, (int) id) >= 0;
+    }
+
+    public int size() {
+        return longs != null ? longs.length : ints.length;
+    }
+
+    /** i 번째 ID (오름차순) */
+    public long get(int i) {
+        return longs != null ? longs[i] : ints[i];
+    }
+
+    /** 원소 배열이 차지하는 대략적인 바이트 수 */
+    public long sizeInBytes() {
+        return longs != null ? 16L + 8L * longs.length : 16L + 4L * ints.length;
+    }
+}
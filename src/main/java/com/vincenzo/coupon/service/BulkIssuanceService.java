@@ -0,0 +1,287 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.domain.BulkIssuanceJob;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.repository.BulkIssuanceJobRepository;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponBulkRepository;
+import com.vincenzo.coupon.repository.UserCouponHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 대량 쿠폰 발급 (수백만 사용자 대상 캠페인)
+ * - 업로드된 사용자 ID 스트림을 작업 파일로 저장한 뒤 백그라운드에서 청크 단위로 발급
+ * - 청크 INSERT 와 진행 상황(커서) 갱신을 한 트랜잭션으로 묶어, 재기동 시 마지막 커밋 지점부터 재개
+ */
+@Slf4j
+@Service
+public class BulkIssuanceService {
+
+    private final BulkIssuanceJobRepository jobRepo;
+    private final CouponRepository couponRepo;
+    private final UserCouponBulkRepository bulkRepo;
+    private final UserCouponHistoryRepository historyRepo;
+    private final CouponCatalog catalog;
+    private final UserWalletCache wallets;
+    private final TransactionTemplate tx;
+    private final Path workDir;
+    private final int batchSize;
+    private final ExecutorService workers;
+
+    public BulkIssuanceService(BulkIssuanceJobRepository jobRepo,
+                               CouponRepository couponRepo,
+                               UserCouponBulkRepository bulkRepo,
+                               UserCouponHistoryRepository historyRepo,
+                               CouponCatalog catalog,
+                               UserWalletCache wallets,
+                               PlatformTransactionManager txManager,
+                               @Value("${coupon.bulk.work-dir:${java.io.tmpdir}/coupon-bulk}") String workDir,
+                               @Value("${coupon.bulk.batch-size:1000}") int batchSize,
+                               @Value("${coupon.bulk.workers:2}") int workers) {
+        this.jobRepo = jobRepo;
+        this.couponRepo = couponRepo;
+        this.bulkRepo = bulkRepo;
+        this.historyRepo = historyRepo;
+        this.catalog = catalog;
+        this.wallets = wallets;
+        this.tx = new TransactionTemplate(txManager);
+        this.workDir = Path.of(workDir);
+        this.batchSize = batchSize;
+        this.workers = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "bulk-issuance");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 대량 발급 작업 등록
+     * @param code 쿠폰 코드
+     * @param userIds 사용자 ID 스트림 (줄바꿈/쉼표/공백 구분)
+     */
+    public BulkIssuanceJob submit(String code, InputStream userIds) {
+        Coupon coupon = catalog.findByCode(code)
+            .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다."));
+        if (coupon.getMaxIssueCount() != null) {
+            // 선착순 재고(메모리/조건부 UPDATE)와 별개로 한도를 소모하지 않도록 무제한 쿠폰만 허용
+            throw new IllegalArgumentException("발급 한도가 있는 쿠폰은 일괄 발급할 수 없습니다.");
+        }
+
+        Path source = workDir.resolve("bulk-" + UUID.randomUUID() + ".txt");
+        long total = spool(userIds, source);
+
+        BulkIssuanceJob job = jobRepo.save(BulkIssuanceJob.builder()
+            .couponId(coupon.getId())
+            .couponCode(coupon.getCode())
+            .sourcePath(source.toString())
+            .status(BulkIssuanceJob.Status.PENDING)
+            .totalCount(total)
+            .createdAt(LocalDateTime.now())
+            .build());
+        log.info("대량 발급 작업 등록 - 작업: {}, 쿠폰: {}, 대상: {}명", job.getId(), code, total);
+
+        workers.submit(() -> run(job.getId()));
+        return job;
+    }
+
+    public BulkIssuanceJob getJob(Long jobId) {
+        return jobRepo.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("대량 발급 작업을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 실패한 작업을 마지막 커밋 지점부터 재개
+     * - FAILED → RUNNING 조건부 전이에 성공한 요청만 실행 (실행 중인 작업을 한 번 더 돌려 진행 커서가 꼬이지 않도록)
+     */
+    public BulkIssuanceJob resume(Long jobId) {
+        Integer claimed = tx.execute(status -> jobRepo.transition(
+            jobId, BulkIssuanceJob.Status.FAILED, BulkIssuanceJob.Status.RUNNING));
+        BulkIssuanceJob job = getJob(jobId);
+        if (claimed == null || claimed == 0) {
+            throw new IllegalStateException("실패한 작업만 재개할 수 있습니다. (현재 상태: " + job.getStatus() + ")");
+        }
+        workers.submit(() -> run(jobId));
+        return job;
+    }
+
+    /**
+     * 재기동 시 중단된 작업 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        jobRepo.findByStatusIn(EnumSet.of(BulkIssuanceJob.Status.PENDING, BulkIssuanceJob.Status.RUNNING))
+            .forEach(job -> {
+                log.info("중단된 대량 발급 작업 재개 - 작업: {}, 진행: {}/{}",
+                    job.getId(), job.getProcessedCount(), job.getTotalCount());
+                workers.submit(() -> run(job.getId()));
+            });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void run(Long jobId) {
+        BulkIssuanceJob job = tx.execute(status -> {
+            BulkIssuanceJob j = getJob(jobId);
+            j.setStatus(BulkIssuanceJob.Status.RUNNING);
+            j.setErrorMessage(null);
+            if (j.getStartedAt() == null) {
+                j.setStartedAt(LocalDateTime.now());
+            }
+            return j;
+        });
+        Integer remainingUsages = catalog.findById(job.getCouponId())
+            .map(Coupon::getMaxUsages)
+            .orElse(null);
+
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(job.getSourcePath()), StandardCharsets.US_ASCII)) {
+            // 이미 커밋된 지점까지 건너뜀
+            for (long i = 0; i < job.getProcessedCount(); i++) {
+                reader.readLine();
+            }
+            long[] chunk = new long[batchSize];
+            int size;
+            while ((size = readChunk(reader, chunk)) > 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                int length = size;
+                tx.executeWithoutResult(status -> applyChunk(jobId, job.getCouponId(), remainingUsages, chunk, length));
+            }
+            tx.executeWithoutResult(status -> {
+                BulkIssuanceJob j = getJob(jobId);
+                j.setStatus(BulkIssuanceJob.Status.COMPLETED);
+                j.setFinishedAt(LocalDateTime.now());
+                log.info("대량 발급 완료 - 작업: {}, 발급: {}, 중복 건너뜀: {}",
+                    jobId, j.getInsertedCount(), j.getSkippedCount());
+            });
+            Files.deleteIfExists(Path.of(job.getSourcePath()));
+        } catch (Exception e) {
+            log.error("대량 발급 실패 - 작업: {}", jobId, e);
+            tx.executeWithoutResult(status -> {
+                BulkIssuanceJob j = getJob(jobId);
+                j.setStatus(BulkIssuanceJob.Status.FAILED);
+                j.setErrorMessage(String.valueOf(e.getMessage()));
+            });
+        }
+    }
+
+    /** 청크 INSERT + 발급 수 + 진행 커서를 같은 트랜잭션에서 반영 (커밋 후 대상 사용자 지갑 캐시 무효화) */
+    private void applyChunk(Long jobId, Long couponId, Integer remainingUsages, long[] chunk, int length) {
+        int kept = remainingUsages == null ? length : withoutArchived(couponId, chunk, length);
+        int inserted = bulkRepo.insertIgnoringDuplicates(couponId, remainingUsages, LocalDateTime.now(), chunk, kept);
+        if (inserted > 0) {
+            couponRepo.addIssuedCount(couponId, inserted);
+            catalog.issuedAfterCommit(couponId, inserted);
+            wallets.invalidateAfterCommit(chunk, kept);
+        }
+        BulkIssuanceJob j = getJob(jobId);
+        j.setProcessedCount(j.getProcessedCount() + length);
+        j.setInsertedCount(j.getInsertedCount() + inserted);
+        j.setSkippedCount(j.getSkippedCount() + (length - inserted));
+    }
+
+    /**
+     * 이 쿠폰을 다 써서 보관된 사용자를 청크에서 빼고 앞으로 당김 (유니크 제약으로 걸러지지 않으므로 청크당 1회 조회)
+     * @return 남은 사용자 수
+     */
+    private int withoutArchived(Long couponId, long[] chunk, int length) {
+        Set<Long> archived = new HashSet<>(historyRepo.findUsedUserIds(couponId,
+            Arrays.stream(chunk, 0, length).boxed().toList()));
+        if (archived.isEmpty()) {
+            return length;
+        }
+        int kept = 0;
+        for (int i = 0; i < length; i++) {
+            if (!archived.contains(chunk[i])) {
+                chunk[kept++] = chunk[i];
+            }
+        }
+        return kept;
+    }
+
+    private static int readChunk(BufferedReader reader, long[] chunk) throws IOException {
+        int size = 0;
+        String line;
+        while (size < chunk.length && (line = reader.readLine()) != null) {
+            chunk[size++] = Long.parseLong(line);
+        }
+        return size;
+    }
+
+    /**
+     * 요청 본문을 한 줄에 하나씩 정규화해 작업 파일로 저장
+     * @return 사용자 ID 수
+     */
+    private long spool(InputStream in, Path target) {
+        try {
+            Files.createDirectories(workDir);
+            long count = 0;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+                 BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.US_ASCII)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    for (String token : line.split("[,\\s]+")) {
+                        if (token.isEmpty()) {
+                            continue;
+                        }
+                        writer.write(Long.toString(parseUserId(token)));
+                        writer.newLine();
+                        count++;
+                    }
+                }
+            }
+            if (count == 0) {
+                Files.deleteIfExists(target);
+                throw new IllegalArgumentException("발급 대상 사용자가 없습니다.");
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalArgumentException e) {
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException ignored) {
+                // 작업 파일 정리 실패는 무시
+            }
+            throw e;
+        }
+    }
+
+    private static long parseUserId(String token) {
+        try {
+            return Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 사용자 ID 입니다: " + token);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.vincenzo.coupon.service;
+
+import java.util.Arrays;
+
+/**
+ * 장바구니 쿠폰 최적 조합 계산
+ * - 쿠폰 하나는 한 줄에만, 한 줄에는 쿠폰 하나만 적용된다는 규칙에서 총 할인액 최대화는
+ *   쿠폰-상품줄 이분 그래프의 최대 가중 매칭이므로 헝가리안 알고리즘으로 정확히 풂 (O(n^2 m))
+ * - 적용 가능한 줄이 없는 쿠폰/적용 가능한 쿠폰이 없는 줄은 미리 제외해 행렬을 줄임
+ */
+public final class CartCouponOptimizer {
+
+    private CartCouponOptimizer() {
+    }
+
+    /**
+     * @param discounts [쿠폰][줄] 할인액 (0 = 적용 불가)
+     * @return 쿠폰별로 적용할 줄 번호 (-1 = 미적용)
+     */
+    public static int[] optimize(long[][] discounts) {
+        int couponCount = discounts.length;
+        int[] assignment = new int[couponCount];
+        Arrays.fill(assignment, -1);
+        if (couponCount == 0) {
+            return assignment;
+        }
+        int lineCount = discounts[0].length;
+
+        // 가지치기: 할인이 발생하는 쿠폰/줄만 남김
+        int[] coupons = new int[couponCount];
+        int rows = 0;
+        boolean[] lineUsed = new boolean[lineCount];
+        for (int c = 0; c < couponCount; c++) {
+            boolean any = false;
+            for (int l = 0; l < lineCount; l++) {
+                if (discounts[c][l] > 0) {
+                    lineUsed[l] = true;
+                    any = true;
+                }
+            }
+            if (any) {
+                coupons[rows++] = c;
+            }
+        }
+        int[] lines = new int[lineCount];
+        int cols = 0;
+        for (int l = 0; l < lineCount; l++) {
+            if (lineUsed[l]) {
+                lines[cols++] = l;
+            }
+        }
+        if (rows == 0) {
+            return assignment;
+        }
+
+        // 헝가리안은 행 <= 열 을 가정하므로 필요하면 전치
+        boolean transposed = rows > cols;
+        int n = transposed ? cols : rows;
+        int m = transposed ? rows : cols;
+        long[][] cost = new long[n + 1][m + 1];
+        for (int i = 1; i <= n; i++) {
+            for (int j = 1; j <= m; j++) {
+                int c = transposed ? coupons[j - 1] : coupons[i - 1];
+                int l = transposed ? lines[i - 1] : lines[j - 1];
+                cost[i][j] = -discounts[c][l];
+            }
+        }
+
+        int[] match = hungarian(cost, n, m);
+        for (int j = 1; j <= m; j++) {
+            int i = match[j];
+            if (i == 0) {
+                continue;
+            }
+            int c = transposed ? coupons[j - 1] : coupons[i - 1];
+            int l = transposed ? lines[i - 1] : lines[j - 1];
+            if (discounts[c][l] > 0) {
+                assignment[c] = l;
+            }
+        }
+        return assignment;
+    }
+
+    /**
+     * 최소 비용 할당 (행 n <= 열 m, 1-based)
+     * @return 열 j 에 할당된 행 번호 (0 = 없음)
+     */
+    private static int[] hungarian(long[][] cost, int n, int m) {
+        long inf = Long.MAX_VALUE / 4;
+        long[] u = new long[n + 1];
+        long[] v = new long[m + 1];
+        int[] match = new int[m + 1];
+        int[] way = new int[m + 1];
+        long[] minv = new long[m + 1];
+        boolean[] used = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            match[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, inf);
+            Arrays.fill(used, false);
+            do {
+                used[j0] = true;
+                int i0 = match[j0];
+                long delta = inf;
+                int j1 = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (used[j]) {
+                        continue;
+                    }
+                    long cur = cost[i0][j] - u[i0] - v[j];
+                    if (cur < minv[j]) {
+                        minv[j] = cur;
+                        way[j] = j0;
+                    }
+                    if (minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[match[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (match[j0] != 0);
+            do {
+                int j1 = way[j0];
+                match[j0] = match[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+        return match;
+    }
+}
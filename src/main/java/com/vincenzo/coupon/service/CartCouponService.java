@@ -0,0 +1,166 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.dto.CartItem;
+import com.vincenzo.coupon.dto.CartRedemptionResult;
+import com.vincenzo.coupon.dto.CartRedemptionResult.AppliedCoupon;
+import com.vincenzo.coupon.exception.CouponRejectedException;
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.rule.CouponRule;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.util.Money;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 장바구니 단위 쿠폰 적용
+ * - 상품 줄마다 대상 상품/카테고리로 적용 가능 여부를 판단하고, 줄 금액 기준으로 할인액 계산
+ * - 최소 주문 금액은 장바구니 총액 기준
+ * - 쿠폰 하나는 한 줄에만, 한 줄에는 쿠폰 하나만 적용하며 총 할인액이 최대인 조합을 선택
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CartCouponService {
+
+    private final UserCouponRepository userCouponRepo;
+    private final CouponCatalog catalog;
+    private final SignedCouponCodec signedCodes;
+    private final UserWalletCache wallets;
+    private final RedemptionEffectRecorder recorder;
+    private final CouponMetrics metrics;
+
+    /**
+     * 최적 쿠폰 조합 미리보기 (쿠폰을 사용하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public CartRedemptionResult quote(Long userId, List<CartItem> items, List<String> couponCodes) {
+        return plan(items, heldRules(userId, couponCodes));
+    }
+
+    /**
+     * 최적 조합으로 쿠폰 사용 - 하나라도 사용할 수 없으면 전체 롤백
+     * - 부수 효과는 쿠폰마다 적용된 줄 금액 기준으로 커밋 직전 저널에 기록
+     */
+    public CartRedemptionResult redeem(Long userId, List<CartItem> items, List<String> couponCodes) {
+        List<CouponRule> held = heldRules(userId, couponCodes);
+        CartRedemptionResult result = plan(items, held);
+        for (AppliedCoupon applied : result.getAppliedCoupons()) {
+            CouponRule rule = held.stream()
+                .filter(r -> r.code().equals(applied.getCode()))
+                .findFirst()
+                .orElseThrow();
+            if (userCouponRepo.useOnce(rule.couponId(), userId) == 0) {
+                throw new CouponRejectedException(Rejection.NO_USAGE_LEFT);
+            }
+            wallets.usedAfterCommit(userId);
+            recorder.record(RedemptionEvent.of(rule.couponId(), userId,
+                Money.toWon(items.get(applied.getItemIndex()).lineAmount()),
+                Money.toWon(applied.getDiscountApplied()), Money.toWon(applied.getRewardPointsEarned())));
+            metrics.redeemed(rule.couponId());
+        }
+        log.debug("장바구니 쿠폰 사용 완료 - 사용자: {}, 쿠폰 수: {}, 할인액: {}",
+            userId, result.getAppliedCoupons().size(), result.getDiscountApplied());
+        return result;
+    }
+
+    /**
+     * 쿠폰 x 상품줄 할인액 행렬을 만들고 최대 할인 조합을 계산
+     */
+    CartRedemptionResult plan(List<CartItem> items, List<CouponRule> rules) {
+        LocalDateTime now = LocalDateTime.now();
+        long[] lineAmounts = new long[items.size()];
+        long total = 0;
+        for (int l = 0; l < items.size(); l++) {
+            lineAmounts[l] = Money.toWon(items.get(l).lineAmount());
+            total += lineAmounts[l];
+        }
+
+        long[][] discounts = new long[rules.size()][items.size()];
+        for (int c = 0; c < rules.size(); c++) {
+            CouponRule rule = rules.get(c);
+            if (!rule.isActiveAt(now) || !rule.meetsMinOrder(total)) {
+                continue;
+            }
+            for (int l = 0; l < items.size(); l++) {
+                CartItem item = items.get(l);
+                if (rule.appliesTo(item.getProductId(), item.getCategoryId())) {
+                    discounts[c][l] = rule.discount(lineAmounts[l]);
+                }
+            }
+        }
+
+        int[] assignment = CartCouponOptimizer.optimize(discounts);
+
+        List<AppliedCoupon> applied = new ArrayList<>();
+        long discountSum = 0;
+        long pointSum = 0;
+        for (int c = 0; c < assignment.length; c++) {
+            int l = assignment[c];
+            if (l < 0) {
+                continue;
+            }
+            CouponRule rule = rules.get(c);
+            long points = rule.rewardPoints(lineAmounts[l]);
+            discountSum += discounts[c][l];
+            pointSum += points;
+            applied.add(AppliedCoupon.builder()
+                .code(rule.code())
+                .itemIndex(l)
+                .productId(items.get(l).getProductId())
+                .discountApplied(Money.of(discounts[c][l]))
+                .rewardPointsEarned(Money.of(points))
+                .build());
+        }
+
+        return CartRedemptionResult.builder()
+            .totalAmount(Money.of(total))
+            .finalAmount(Money.of(total - discountSum))
+            .discountApplied(Money.of(discountSum))
+            .rewardPointsEarned(Money.of(pointSum))
+            .appliedCoupons(applied)
+            .build();
+    }
+
+    private List<CouponRule> heldRules(Long userId, Collection<String> couponCodes) {
+        Set<Long> usable = wallets.get(userId).usableCouponIds();
+        if (couponCodes == null || couponCodes.isEmpty()) {
+            return usable.stream()
+                .map(catalog::findRuleById)
+                .flatMap(Optional::stream)
+                .toList();
+        }
+        // 같은 쿠폰의 일반 코드/서명 코드가 함께 와도 한 번만 (코드 문자열이 아닌 쿠폰 ID 기준)
+        Set<Long> seen = new HashSet<>();
+        return couponCodes.stream()
+            .map(this::findRule)
+            .flatMap(Optional::stream)
+            .filter(r -> usable.contains(r.couponId()) && seen.add(r.couponId()))
+            .toList();
+    }
+
+    /** 서명 코드는 코드에 담긴 쿠폰 ID 로 조회, 위조된 서명 코드는 조회 없이 제외 */
+    private Optional<CouponRule> findRule(String code) {
+        if (!SignedCouponCodec.isSigned(code)) {
+            return catalog.findRuleByCode(code);
+        }
+        OptionalLong couponId = signedCodes.couponIdOf(code);
+        return couponId.isPresent() ? catalog.findRuleById(couponId.getAsLong()) : Optional.empty();
+    }
+}
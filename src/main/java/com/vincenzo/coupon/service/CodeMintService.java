@@ -0,0 +1,179 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.MintedCodeFilter;
+import com.vincenzo.coupon.domain.CodeMintJob;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.repository.CodeMintJobRepository;
+import com.vincenzo.coupon.repository.CouponCodeBulkRepository;
+import com.vincenzo.coupon.util.CodePermutation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 일회용 쿠폰 코드 대량 발행
+ * - 작업마다 전역 일련번호 구간을 배정하고, 키 기반 순열(CodePermutation)로 코드화해 충돌 없이 병렬 생성
+ * - 일반 쿠폰 코드와의 충돌은 카탈로그(코드 필터 → DB)로 검사해, 필터가 "있을 수도 있음" 이라고 한 코드만 DB 확인
+ * - 청크마다 JDBC 배치 INSERT + 진행 상황 갱신을 한 트랜잭션으로 저장하고, 커밋 후 발행 코드 필터에 추가
+ * - 구간 배정은 이 인스턴스 안에서만 직렬화되므로 발행은 한 노드에서만 실행
+ */
+@Slf4j
+@Service
+public class CodeMintService {
+
+    public static final long MAX_COUNT_PER_JOB = 50_000_000L;
+
+    private final CodeMintJobRepository jobRepo;
+    private final CouponCodeBulkRepository codeBulkRepo;
+    private final CouponCatalog catalog;
+    private final MintedCodeFilter mintedCodes;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate readTx;
+    private final CodePermutation permutation;
+    private final int batchSize;
+    private final ExecutorService workers;
+
+    public CodeMintService(CodeMintJobRepository jobRepo,
+                           CouponCodeBulkRepository codeBulkRepo,
+                           CouponCatalog catalog,
+                           MintedCodeFilter mintedCodes,
+                           PlatformTransactionManager txManager,
+                           @Value("${coupon.code-mint.secret}") String secret,
+                           @Value("${coupon.code-mint.length:10}") int length,
+                           @Value("${coupon.code-mint.batch-size:5000}") int batchSize,
+                           @Value("${coupon.code-mint.workers:0}") int workers) {
+        this.jobRepo = jobRepo;
+        this.codeBulkRepo = codeBulkRepo;
+        this.catalog = catalog;
+        this.mintedCodes = mintedCodes;
+        this.tx = new TransactionTemplate(txManager);
+        this.readTx = new TransactionTemplate(txManager);
+        this.readTx.setReadOnly(true);
+        this.permutation = new CodePermutation(secret, length);
+        this.batchSize = batchSize;
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "code-mint");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 코드 발행 작업 등록
+     * @param couponCode 코드로 발급될 쿠폰
+     * @param count 발행할 코드 수
+     */
+    public synchronized CodeMintJob submit(String couponCode, long count) {
+        Coupon coupon = catalog.findByCode(couponCode)
+            .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다."));
+        if (count < 1 || count > MAX_COUNT_PER_JOB) {
+            throw new IllegalArgumentException("발행 수량은 1 ~ " + MAX_COUNT_PER_JOB + " 사이여야 합니다.");
+        }
+
+        CodeMintJob job = tx.execute(status -> {
+            long start = jobRepo.findNextStartIndex();
+            if (start + count > permutation.domain()) {
+                throw new IllegalStateException("발행 가능한 코드가 부족합니다.");
+            }
+            LocalDateTime now = LocalDateTime.now();
+            return jobRepo.save(CodeMintJob.builder()
+                .couponId(coupon.getId())
+                .couponCode(coupon.getCode())
+                .startIndex(start)
+                .requestedCount(count)
+                .status(CodeMintJob.Status.RUNNING)
+                .createdAt(now)
+                .startedAt(now)
+                .build());
+        });
+        log.info("코드 발행 작업 등록 - 작업: {}, 쿠폰: {}, 수량: {}", job.getId(), couponCode, count);
+
+        long chunks = (count + batchSize - 1) / batchSize;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[(int) chunks];
+        for (int i = 0; i < chunks; i++) {
+            long from = job.getStartIndex() + (long) i * batchSize;
+            long to = Math.min(from + batchSize, job.getStartIndex() + count);
+            futures[i] = CompletableFuture.runAsync(() -> mintChunk(job, from, to), workers);
+        }
+        CompletableFuture.allOf(futures).whenComplete((ignored, error) -> finish(job.getId(), error));
+        return job;
+    }
+
+    public CodeMintJob getJob(Long jobId) {
+        return jobRepo.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("코드 발행 작업을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 작업으로 발행된 코드를 한 줄에 하나씩 출력 (메모리에 모으지 않음)
+     */
+    public void exportCodes(Long jobId, Writer writer) {
+        getJob(jobId);
+        readTx.executeWithoutResult(status -> codeBulkRepo.streamCodes(jobId, code -> {
+            try {
+                writer.write(code);
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void mintChunk(CodeMintJob job, long from, long to) {
+        int length = (int) (to - from);
+        String[] codes = new String[length];
+        int size = 0;
+        for (long index = from; index < to; index++) {
+            String code = permutation.code(index);
+            if (catalog.findByCode(code).isEmpty()) {
+                codes[size++] = code;
+            }
+        }
+        int candidates = size;
+        tx.executeWithoutResult(status -> {
+            int inserted = codeBulkRepo.insertIgnoringDuplicates(job.getCouponId(), job.getId(), codes, candidates);
+            jobRepo.addProgress(job.getId(), inserted, length - inserted);
+        });
+        for (int i = 0; i < candidates; i++) {
+            mintedCodes.add(codes[i]);
+        }
+    }
+
+    private void finish(Long jobId, Throwable error) {
+        CodeMintJob job = tx.execute(status -> {
+            CodeMintJob j = getJob(jobId);
+            j.setFinishedAt(LocalDateTime.now());
+            if (error == null) {
+                j.setStatus(CodeMintJob.Status.COMPLETED);
+            } else {
+                j.setStatus(CodeMintJob.Status.FAILED);
+                j.setErrorMessage(String.valueOf(error.getMessage()));
+            }
+            return j;
+        });
+        if (error == null) {
+            log.info("코드 발행 완료 - 작업: {}, 발행: {}, 건너뜀: {}, 초당: {}",
+                jobId, job.getMintedCount(), job.getSkippedCount(), String.format("%.0f", job.getCodesPerSecond()));
+        } else {
+            log.error("코드 발행 실패 - 작업: {}", jobId, error);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.repository.CouponRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 발급 한도(maxIssueCount)가 있는 쿠폰의 선착순 발급 엔진
+ * - 남은 재고를 스트라이프 단위 토큰 버킷으로 나눠 메모리에서 CAS로 예약 (행 잠금 없음)
+ * - 토큰 총량은 보존되므로 동시 요청이 몰려도 한도를 초과해 발급하지 않음
+ * - 커밋된 발급 수는 모아 두었다가 주기적으로 coupon.issued_count 에 반영
+ * - 재고는 노드 메모리에 있으므로 단일 노드 배포 전용 - 기본은 꺼져 있고 (노드마다 재고를 따로 세면 한도 초과 발급),
+ *   단일 노드에서만 coupon.issuance.in-memory-enabled 로 켬
+ * - 카탈로그가 발급 한도 변경을 보면 (생성/변경 반영, 재적재) 차이만큼 재고를 늘리거나 줄임
+ */
+@Slf4j
+@Component
+public class CouponIssuanceEngine {
+
+    private final CouponRepository couponRepo;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final int stripes;
+
+    private final Map<Long, StripedStock> stocks = new ConcurrentHashMap<>();
+    private CouponCatalog catalog;
+
+    public CouponIssuanceEngine(CouponRepository couponRepo,
+                                PlatformTransactionManager txManager,
+                                @Value("${coupon.issuance.in-memory-enabled:false}") boolean enabled,
+                                @Value("${coupon.issuance.stripes:0}") int stripes) {
+        this.couponRepo = couponRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.enabled = enabled;
+        int requested = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.stripes = Integer.highestOneBit(Math.max(1, requested - 1)) << 1;
+        if (enabled) {
+            log.info("인메모리 발급 재고 사용 (단일 노드 배포 전용) - 스트라이프: {}", this.stripes);
+        }
+    }
+
+    /**
+     * 카탈로그의 발급 한도 변경을 재고에 반영하도록 등록 (DB 에 반영한 발급 수는 카탈로그에도 더함)
+     */
+    @Autowired
+    public void watch(CouponCatalog catalog) {
+        this.catalog = catalog;
+        if (enabled) {
+            catalog.onIssueLimitChange(this::limitChanged);
+        }
+    }
+
+    /**
+     * 발급 한도 변경 반영 - 적재된 재고가 있으면 한도 차이만큼 늘리거나 줄임 (같은 한도면 그대로)
+     * - 한도를 없앤 쿠폰은 조건부 UPDATE 경로로 가므로 재고는 두고, 남은 발급 수 반영만 계속
+     */
+    public void limitChanged(long couponId, Integer maxIssueCount) {
+        StripedStock stock = stocks.get(couponId);
+        if (stock != null && maxIssueCount != null) {
+            stock.resize(maxIssueCount);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재고 1개 예약
+     * - 트랜잭션 안이면 커밋 시 발급 수로 확정하고, 롤백 시 재고를 되돌림
+     * @return 예약 성공 여부 (false = 발급 한도 소진)
+     */
+    public boolean tryReserve(Coupon coupon) {
+        StripedStock stock = stockOf(coupon);
+        int stripe = stock.tryAcquire();
+        if (stripe < 0) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stock.unflushed.increment();
+            return true;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    stock.unflushed.increment();
+                } else {
+                    stock.release(stripe);
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 남은 발급 가능 수 (재고가 아직 적재되지 않았으면 카탈로그의 발급 수 기준 - 이 노드의 발급은 커밋마다 반영)
+     */
+    public int remaining(Coupon coupon) {
+        StripedStock stock = stocks.get(coupon.getId());
+        if (stock != null) {
+            return stock.available();
+        }
+        return Math.max(0, coupon.getMaxIssueCount() - coupon.getIssuedCount());
+    }
+
+    /**
+     * DB 의 현재 발급 수 기준 남은 발급 가능 수 (재고가 적재되어 있으면 재고 기준)
+     * - 대기열 칸 수처럼 한 번 정해 오래 쓰는 값용 (다른 노드/대량 발급이 반영한 발급 수까지 포함)
+     */
+    public int remainingInDb(Coupon coupon) {
+        StripedStock stock = stocks.get(coupon.getId());
+        if (stock != null) {
+            return stock.available();
+        }
+        int issued = tx.execute(status -> couponRepo.findIssuedCountById(coupon.getId()));
+        return Math.max(0, coupon.getMaxIssueCount() - issued);
+    }
+
+    /**
+     * 커밋된 발급 수를 DB에 반영 (write-behind)
+     */
+    @Scheduled(fixedDelayString = "${coupon.issuance.flush-interval-ms:1000}")
+    public void flush() {
+        stocks.forEach((couponId, stock) -> {
+            long delta = stock.unflushed.sumThenReset();
+            if (delta == 0) {
+                return;
+            }
+            try {
+                tx.executeWithoutResult(status -> {
+                    couponRepo.addIssuedCount(couponId, (int) delta);
+                    if (catalog != null) {
+                        catalog.issuedAfterCommit(couponId, (int) delta);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 반영
+                stock.unflushed.add(delta);
+                log.warn("발급 수 반영 실패 - 쿠폰 ID: {}, 건수: {}", couponId, delta, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private StripedStock stockOf(Coupon coupon) {
+        StripedStock stock = stocks.get(coupon.getId());
+        if (stock != null) {
+            return stock;
+        }
+        return stocks.computeIfAbsent(coupon.getId(), id -> {
+            int issued = tx.execute(status -> couponRepo.findIssuedCountById(id));
+            return new StripedStock(stripes, coupon.getMaxIssueCount() - issued, coupon.getMaxIssueCount());
+        });
+    }
+
+    /**
+     * 스트라이프로 나눈 재고 토큰
+     * - 스레드별로 시작 스트라이프를 달리해 같은 캐시 라인 경합을 줄이고, 비면 다른 스트라이프에서 가져옴
+     * - 한도를 이미 나간 수보다 낮추면 모자란 만큼 0번 스트라이프가 음수가 되고, 반환 토큰으로 먼저 갚음
+     */
+    static final class StripedStock {
+        /** false sharing 방지를 위한 슬롯 간격 (int 16개 = 64바이트) */
+        private static final int PAD = 16;
+
+        private final AtomicIntegerArray tokens;
+        private final int mask;
+        private final LongAdder unflushed = new LongAdder();
+        /** 재고를 만들 때/마지막으로 조정할 때의 발급 한도 */
+        private int limit;
+
+        StripedStock(int stripes, int initial, int limit) {
+            this.tokens = new AtomicIntegerArray(stripes * PAD);
+            this.mask = stripes - 1;
+            this.limit = limit;
+            if (initial < 0) {
+                // 이미 한도보다 많이 나간 경우 - 부족분은 0번 스트라이프에 (이후 한도를 올리면 먼저 갚음)
+                tokens.set(0, initial);
+                return;
+            }
+            for (int i = 0; i < stripes; i++) {
+                tokens.set(i * PAD, initial / stripes + (i < initial % stripes ? 1 : 0));
+            }
+        }
+
+        /** @return 토큰을 가져온 스트라이프 번호, 재고가 없으면 -1 */
+        int tryAcquire() {
+            int home = (int) Thread.currentThread().getId();
+            for (int i = 0; i <= mask; i++) {
+                int stripe = (home + i) & mask;
+                int slot = stripe * PAD;
+                int current;
+                while ((current = tokens.get(slot)) > 0) {
+                    if (tokens.compareAndSet(slot, current, current - 1)) {
+                        return stripe;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        void release(int stripe) {
+            tokens.incrementAndGet(tokens.get(0) < 0 ? 0 : stripe * PAD);
+        }
+
+        /** 한도 차이만큼 토큰 추가/회수 (예약 중인 토큰은 그대로 두므로 총량 보존) */
+        synchronized void resize(int newLimit) {
+            int delta = newLimit - limit;
+            limit = newLimit;
+            if (delta >= 0) {
+                tokens.addAndGet(0, delta);
+                return;
+            }
+            int debt = -delta;
+            for (int i = 0; i <= mask && debt > 0; i++) {
+                int slot = i * PAD;
+                int current;
+                while (debt > 0 && (current = tokens.get(slot)) > 0) {
+                    int taken = Math.min(current, debt);
+                    if (tokens.compareAndSet(slot, current, current - taken)) {
+                        debt -= taken;
+                    }
+                }
+            }
+            if (debt > 0) {
+                tokens.addAndGet(0, -debt);
+            }
+        }
+
+        int available() {
+            int sum = 0;
+            for (int i = 0; i <= mask; i++) {
+                sum += tokens.get(i * PAD);
+            }
+            return Math.max(0, sum);
+        }
+    }
+}
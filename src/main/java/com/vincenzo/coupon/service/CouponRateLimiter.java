@@ -0,0 +1,110 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.exception.RateLimitedException;
+import com.vincenzo.coupon.util.TokenBucketTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 쿠폰 발급/사용 요청 빈도 제한 (사용자 ID, 쿠폰 코드, 클라이언트 IP 별 토큰 버킷)
+ * - 서비스 호출(DB 조회) 전에 걸러 코드 무작위 대입/재시도 폭주가 DB 까지 가지 않게 함
+ * - 버킷은 노드 메모리의 고정 크기 테이블 하나에 종류별 키로 저장 (키 수 상한, 만료 스레드 없음)
+ * - 초당 허용 수가 0 인 종류는 제한하지 않음
+ */
+@Component
+public class CouponRateLimiter {
+
+    public enum Key {
+        USER, CODE, IP
+    }
+
+    private static final String MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final boolean enabled;
+    private final TokenBucketTable buckets;
+    /** [종류] 토큰 간격 (0 = 제한 없음) / 버킷 크기 */
+    private final long[] intervalNanos = new long[Key.values().length];
+    private final int[] burst = new int[Key.values().length];
+    private final Counter[] limited = new Counter[Key.values().length];
+    private final RateLimitedException[] rejections = new RateLimitedException[Key.values().length];
+
+    public CouponRateLimiter(MeterRegistry registry,
+                             @Value("${coupon.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${coupon.rate-limit.max-keys:1000000}") int maxKeys,
+                             @Value("${coupon.rate-limit.user.per-second:5}") int userPerSecond,
+                             @Value("${coupon.rate-limit.user.burst:10}") int userBurst,
+                             @Value("${coupon.rate-limit.code.per-second:1000}") int codePerSecond,
+                             @Value("${coupon.rate-limit.code.burst:2000}") int codeBurst,
+                             @Value("${coupon.rate-limit.ip.per-second:50}") int ipPerSecond,
+                             @Value("${coupon.rate-limit.ip.burst:100}") int ipBurst) {
+        this.enabled = enabled;
+        this.buckets = new TokenBucketTable(enabled ? maxKeys : 1, System.nanoTime());
+        limit(Key.USER, userPerSecond, userBurst);
+        limit(Key.CODE, codePerSecond, codeBurst);
+        limit(Key.IP, ipPerSecond, ipBurst);
+        for (Key key : Key.values()) {
+            String tag = key.name().toLowerCase(Locale.ROOT);
+            limited[key.ordinal()] = Counter.builder("coupon.rate.limited")
+                .description("빈도 제한으로 거절한 요청 수")
+                .tag("key", tag)
+                .register(registry);
+            rejections[key.ordinal()] = new RateLimitedException(tag, MESSAGE);
+        }
+        FunctionCounter.builder("coupon.rate.evictions", buckets, TokenBucketTable::evictions)
+            .description("키 수 상한 때문에 아직 토큰이 남은 버킷을 비운 수")
+            .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 클라이언트 IP 제한
+     * @throws RateLimitedException 초과
+     */
+    public void checkIp(String ip) {
+        if (enabled && ip != null) {
+            acquire(Key.IP, TokenBucketTable.key(Key.IP.ordinal(), ip));
+        }
+    }
+
+    /**
+     * 사용자 ID, 쿠폰 코드 제한 (값이 없는 쪽은 건너뜀)
+     * @throws RateLimitedException 초과
+     */
+    public void check(Long userId, String code) {
+        if (!enabled) {
+            return;
+        }
+        if (userId != null) {
+            acquire(Key.USER, TokenBucketTable.key(Key.USER.ordinal(), userId));
+        }
+        if (code != null) {
+            acquire(Key.CODE, TokenBucketTable.key(Key.CODE.ordinal(), code));
+        }
+    }
+
+    private void acquire(Key key, long hash) {
+        int k = key.ordinal();
+        if (intervalNanos[k] == 0) {
+            return;
+        }
+        if (!buckets.tryAcquire(hash, System.nanoTime(), intervalNanos[k], burst[k])) {
+            limited[k].increment();
+            throw rejections[k];
+        }
+    }
+
+    private void limit(Key key, int perSecond, int burstSize) {
+        if (perSecond > 0) {
+            intervalNanos[key.ordinal()] = Math.max(1, 1_000_000_000L / perSecond);
+            burst[key.ordinal()] = Math.max(1, burstSize);
+        }
+    }
+}
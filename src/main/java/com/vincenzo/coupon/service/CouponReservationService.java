@@ -0,0 +1,258 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.domain.CouponReservation;
+import com.vincenzo.coupon.domain.CouponReservation.Status;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.dto.ReservationResult;
+import com.vincenzo.coupon.dto.ReservationStats;
+import com.vincenzo.coupon.exception.CouponRejectedException;
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.repository.CouponReservationRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.rule.CouponRule;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.util.Money;
+import com.vincenzo.coupon.util.TimerWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제 전 쿠폰 예약 (reserve → confirm/release)
+ * - 예약 시 사용 횟수를 미리 차감해 같은 쿠폰으로 동시에 결제를 진행해도 한 번만 사용되게 함
+ * - 확정하면 부수 효과(포인트/누계/감사)를 저널에 남기고, 해제/만료되면 사용 횟수를 되돌림
+ * - 만료는 타이머 휠로 처리 (기한이 된 예약만 꺼내므로 user_coupon/예약 테이블을 주기적으로 훑지 않음)
+ */
+@Slf4j
+@Service
+public class CouponReservationService {
+
+    private final CouponService couponService;
+    private final CouponReservationRepository reservationRepo;
+    private final UserCouponRepository userCouponRepo;
+    private final UserWalletCache wallets;
+    private final RedemptionEffectRecorder recorder;
+    private final CouponMetrics metrics;
+    private final TransactionTemplate tx;
+    private final long holdSeconds;
+    private final long tickMillis;
+    private final TimerWheel expiries;
+
+    private final LongAdder reserved = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    public CouponReservationService(CouponService couponService,
+                                    CouponReservationRepository reservationRepo,
+                                    UserCouponRepository userCouponRepo,
+                                    UserWalletCache wallets,
+                                    RedemptionEffectRecorder recorder,
+                                    CouponMetrics metrics,
+                                    PlatformTransactionManager txManager,
+                                    @Value("${coupon.reservation.hold-seconds:900}") long holdSeconds,
+                                    @Value("${coupon.reservation.tick-ms:1000}") long tickMillis) {
+        this.couponService = couponService;
+        this.reservationRepo = reservationRepo;
+        this.userCouponRepo = userCouponRepo;
+        this.wallets = wallets;
+        this.recorder = recorder;
+        this.metrics = metrics;
+        this.tx = new TransactionTemplate(txManager);
+        this.holdSeconds = holdSeconds;
+        this.tickMillis = tickMillis;
+        this.expiries = new TimerWheel(tickMillis, holdSeconds * 1000, System.currentTimeMillis());
+    }
+
+    /**
+     * 쿠폰 예약 - 사용과 같은 검증/금액 계산 후 사용 횟수 1 차감, 만료 휠 등록은 커밋 후
+     */
+    @Transactional
+    public ReservationResult reserve(String code, Long userId, BigDecimal orderAmount,
+                                     Long productId, Long categoryId) {
+        CouponRule rule = couponService.findRule(code)
+            .orElseThrow(() -> new CouponRejectedException(Rejection.UNKNOWN_CODE));
+        RedemptionResult priced = couponService.price(rule, orderAmount, productId, categoryId);
+        if (userCouponRepo.useOnce(rule.couponId(), userId) == 0) {
+            throw new CouponRejectedException(Rejection.NO_USAGE_LEFT);
+        }
+        wallets.usedAfterCommit(userId);
+
+        LocalDateTime now = LocalDateTime.now();
+        CouponReservation reservation = reservationRepo.save(CouponReservation.builder()
+            .userId(userId)
+            .couponId(rule.couponId())
+            .code(code)
+            .orderAmount(orderAmount)
+            .finalAmount(priced.getFinalAmount())
+            .discountApplied(priced.getDiscountApplied())
+            .rewardPointsEarned(priced.getRewardPointsEarned())
+            .status(Status.RESERVED)
+            .reservedAt(now)
+            .expiresAt(now.plusSeconds(holdSeconds))
+            .build());
+        long id = reservation.getId();
+        long deadline = epochMillis(reservation.getExpiresAt());
+        afterCommit(() -> {
+            expiries.schedule(id, deadline);
+            reserved.increment();
+        });
+
+        log.info("쿠폰 예약 - 예약 ID: {}, 코드: {}, 사용자: {}, 만료: {}", id, code, userId, reservation.getExpiresAt());
+        return ReservationResult.builder()
+            .reservationId(id)
+            .expiresAt(reservation.getExpiresAt())
+            .finalAmount(priced.getFinalAmount())
+            .discountApplied(priced.getDiscountApplied())
+            .rewardPointsEarned(priced.getRewardPointsEarned())
+            .build();
+    }
+
+    /**
+     * 예약 확정 (결제 성공) - 예약 때 계산한 금액으로 사용 완료, 예약한 사용자만
+     */
+    @Transactional
+    public RedemptionResult confirm(Long reservationId, Long userId) {
+        CouponReservation reservation = find(reservationId, userId);
+        if (reservationRepo.settle(reservationId, userId, Status.CONFIRMED, LocalDateTime.now()) == 0) {
+            throw new CouponRejectedException(Rejection.RESERVATION_CLOSED);
+        }
+        recorder.record(RedemptionEvent.of(reservation.getCouponId(), reservation.getUserId(),
+            Money.toWon(reservation.getOrderAmount()), Money.toWon(reservation.getDiscountApplied()),
+            Money.toWon(reservation.getRewardPointsEarned())));
+        afterCommit(() -> {
+            expiries.cancel(reservationId);
+            confirmed.increment();
+            metrics.redeemed(reservation.getCouponId());
+        });
+        return RedemptionResult.builder()
+            .finalAmount(reservation.getFinalAmount())
+            .discountApplied(reservation.getDiscountApplied())
+            .rewardPointsEarned(reservation.getRewardPointsEarned())
+            .build();
+    }
+
+    /**
+     * 예약 해제 (결제 실패/취소) - 사용 횟수 복구, 이미 해제/만료된 예약이면 아무것도 하지 않음, 예약한 사용자만
+     */
+    @Transactional
+    public void release(Long reservationId, Long userId) {
+        CouponReservation reservation = find(reservationId, userId);
+        if (reservationRepo.settle(reservationId, userId, Status.RELEASED, LocalDateTime.now()) == 0) {
+            if (reservationRepo.findStatusById(reservationId) == Status.CONFIRMED) {
+                throw new CouponRejectedException(Rejection.RESERVATION_CONFIRMED);
+            }
+            return;
+        }
+        restore(reservation);
+        afterCommit(() -> {
+            expiries.cancel(reservationId);
+            released.increment();
+        });
+    }
+
+    /**
+     * 기한이 된 예약만 만료 처리 (휠에서 이번에 꺼낸 것만, 예약마다 별도 트랜잭션)
+     */
+    @Scheduled(fixedDelayString = "${coupon.reservation.tick-ms:1000}")
+    public void expireDue() {
+        for (long id : expiries.advance(System.currentTimeMillis())) {
+            try {
+                Boolean done = tx.execute(status -> expire(id));
+                if (Boolean.TRUE.equals(done)) {
+                    expired.increment();
+                }
+            } catch (RuntimeException e) {
+                // 다음 tick 에 다시 시도
+                expiries.schedule(id, System.currentTimeMillis());
+                log.warn("쿠폰 예약 만료 처리 실패 - 예약 ID: {}", id, e);
+            }
+        }
+    }
+
+    /**
+     * 재시작 시 미결 예약을 만료 휠에 다시 등록 (이미 기한이 지난 예약은 다음 tick 에 만료)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restorePending() {
+        List<CouponReservationRepository.Pending> pending =
+            tx.execute(status -> reservationRepo.findPending(Status.RESERVED));
+        for (CouponReservationRepository.Pending p : pending) {
+            expiries.schedule(p.getId(), epochMillis(p.getExpiresAt()));
+        }
+        if (!pending.isEmpty()) {
+            log.info("미결 쿠폰 예약 복원 - {}건", pending.size());
+        }
+    }
+
+    public ReservationStats stats() {
+        return ReservationStats.builder()
+            .outstanding(expiries.pending())
+            .reserved(reserved.sum())
+            .confirmed(confirmed.sum())
+            .released(released.sum())
+            .expired(expired.sum())
+            .holdSeconds(holdSeconds)
+            .wheelSlots(expiries.slots())
+            .tickMillis(tickMillis)
+            .build();
+    }
+
+    private boolean expire(long id) {
+        if (reservationRepo.expire(id, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        restore(find(id));
+        return true;
+    }
+
+    private void restore(CouponReservation reservation) {
+        userCouponRepo.restoreOnce(reservation.getCouponId(), reservation.getUserId());
+        wallets.usedAfterCommit(reservation.getUserId());
+    }
+
+    private CouponReservation find(Long reservationId) {
+        return reservationRepo.findById(reservationId)
+            .orElseThrow(() -> new CouponRejectedException(Rejection.RESERVATION_NOT_FOUND));
+    }
+
+    /** 다른 사용자의 예약은 없는 예약과 같게 거절 (예약 ID 존재 여부를 드러내지 않도록) */
+    private CouponReservation find(Long reservationId, Long userId) {
+        return reservationRepo.findById(reservationId)
+            .filter(r -> r.getUserId().equals(userId))
+            .orElseThrow(() -> new CouponRejectedException(Rejection.RESERVATION_NOT_FOUND));
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
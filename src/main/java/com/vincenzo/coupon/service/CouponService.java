@@ -1,20 +1,44 @@
 package com.vincenzo.coupon.service;
 
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.MintedCodeFilter;
+import com.vincenzo.coupon.cache.UserWalletCache;
 import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.domain.RedemptionReceipt;
 import com.vincenzo.coupon.domain.UserCoupon;
 import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.dto.CouponHistoryEntry;
 import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.repository.CouponCodeRepository;
 import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.RedemptionReceiptRepository;
+import com.vincenzo.coupon.repository.UserCouponHistoryRepository;
 import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.rule.CouponRule;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.util.Money;
+import com.vincenzo.coupon.util.SignedCouponCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.beans.BeanUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -22,169 +46,353 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CouponService {
 
+    private static final int MAX_SIGNED_CODES_PER_REQUEST = 10_000;
+    private static final int MAX_HISTORY_PER_REQUEST = 200;
+
     private final CouponRepository couponRepo;
     private final UserCouponRepository userCouponRepo;
+    private final UserCouponHistoryRepository historyRepo;
+    private final CouponCodeRepository couponCodeRepo;
+    private final CouponCatalog catalog;
+    private final CouponIssuanceEngine issuanceEngine;
+    private final SignedCouponCodec signedCodes;
+    private final MintedCodeFilter mintedCodes;
+    private final UserWalletCache wallets;
+    private final RedemptionEffectRecorder recorder;
+    private final RedemptionReceiptRepository receiptRepo;
+    private final CouponMetrics metrics;
 
     /**
      * (1) 유효한 쿠폰 목록 조회
-     * - 현재 시각이 validFrom ~ validUntil 범위 내
-     * - 사용자에게 이미 발급되었는지 여부 포함
+     * - 현재 시각이 validFrom ~ validUntil 범위 내 (카탈로그 시간 인덱스)
+     * - 사용자에게 이미 발급되었는지 여부 포함 (사용자 지갑 캐시, 미스일 때만 DB 1회)
      */
     @Transactional(readOnly = true)
     public List<CouponDto> listAvailableCoupons(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        return couponRepo.findAll().stream()
-            // 유효기간 필터
-            .filter(c -> !now.isBefore(c.getValidFrom()) && !now.isAfter(c.getValidUntil()))
-            .map(c -> {
-                CouponDto dto = new CouponDto();
-                BeanUtils.copyProperties(c, dto);
-                // 이미 발급된 쿠폰인지
-                dto.setAlreadyAssigned(
-                    userCouponRepo.existsByCoupon_IdAndUserId(c.getId(), userId));
-                // 남은 발급 수 계산
-                dto.setRemainingIssue(
-                    c.getMaxIssueCount() == null
-                        ? Integer.MAX_VALUE
-                        : Math.max(0, c.getMaxIssueCount() - c.getIssuedCount())
-                );
-                return dto;
-            })
-            .toList();
+        List<Coupon> coupons = catalog.activeAt(LocalDateTime.now());
+        if (coupons.isEmpty()) {
+            return List.of();
+        }
+        return toDtos(coupons, wallets.get(userId).couponIds());
+    }
+
+    /**
+     * (1-1) 상품에 적용 가능한 쿠폰 목록 조회 (상품 상세 페이지)
+     * - 카탈로그 역인덱스와 사용자 지갑 캐시로 조회하므로 보통 DB 조회 없음
+     */
+    @Transactional(readOnly = true)
+    public List<CouponDto> listApplicableCoupons(Long productId, Long categoryId, Long userId) {
+        List<Coupon> coupons = catalog.applicableAt(LocalDateTime.now(), productId, categoryId);
+        if (coupons.isEmpty()) {
+            return List.of();
+        }
+        return toDtos(coupons, userId == null ? Set.of() : wallets.get(userId).couponIds());
+    }
+
+    /**
+     * (1-2) 보관된 쿠폰 이력 조회 (다 쓴 쿠폰, 유효기간이 지난 쿠폰)
+     * - 발급/사용 경로와 달리 보관 테이블만 읽음 (아직 쓸 수 있는 쿠폰은 목록 조회로)
+     */
+    @Transactional(readOnly = true)
+    public List<CouponHistoryEntry> listHistory(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_PER_REQUEST) {
+            throw new IllegalArgumentException("조회 수는 1~" + MAX_HISTORY_PER_REQUEST + " 사이여야 합니다.");
+        }
+        return historyRepo.findHistory(userId, PageRequest.of(0, limit));
     }
 
     /**
      * (2) 쿠폰 생성 (관리자용)
+     * - 코드 중복 검사는 카탈로그/발행 코드 필터를 거쳐, 확실히 없는 코드는 DB 조회 생략
      */
     public Coupon createCoupon(Coupon coupon) {
-        if (couponRepo.existsByCode(coupon.getCode())) {
+        if (catalog.findByCode(coupon.getCode()).isPresent() || mintedCodeExists(coupon.getCode())) {
             throw new IllegalArgumentException("이미 존재하는 쿠폰 코드입니다.");
         }
-        return couponRepo.save(coupon);
+        Coupon saved = couponRepo.save(coupon);
+        catalog.putAfterCommit(saved);
+        return saved;
+    }
+
+    /**
+     * (2-1) 서명 코드 발행 (관리자용)
+     * - 코드에 쿠폰 ID 와 MAC 이 들어 있어 저장하지 않음 (채널별 배포용으로 여러 개 발행 가능)
+     */
+    @Transactional(readOnly = true)
+    public List<String> issueSignedCodes(String code, int count) {
+        if (count < 1 || count > MAX_SIGNED_CODES_PER_REQUEST) {
+            throw new IllegalArgumentException("발행 수는 1~" + MAX_SIGNED_CODES_PER_REQUEST + " 사이여야 합니다.");
+        }
+        Coupon coupon = catalog.findByCode(code)
+            .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다."));
+        List<String> codes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            codes.add(signedCodes.issue(coupon.getId()));
+        }
+        return codes;
     }
 
     /**
-     * (3) 사용자 발급 (코드 직접 입력)
+     * (3) 사용자 발급 (코드 직접 입력) - 거절은 예외 ({@link #tryAssignToUser} 참고)
      */
     public void assignToUser(String code, Long userId) {
-        Coupon c = couponRepo.findByCode(code)
-            .orElseThrow(() -> new IllegalStateException("쿠폰을 찾을 수 없습니다."));
-            
+        tryAssignToUser(code, userId).orThrow();
+    }
+
+    /**
+     * (3) 사용자 발급 - 거절은 예외 대신 결과로 반환하고 트랜잭션은 롤백 표시
+     * - 쿠폰 정의는 카탈로그에서 조회, 쿠폰 코드가 아니면 일회용 발행 코드로 보고 소진 처리
+     * - 서명 코드는 코드에 담긴 쿠폰 ID 로 바로 조회 (코드 자체는 DB 에 없음)
+     * - 중복 발급은 지갑 캐시로 먼저 거르고, 최종 판단은 (user_id, coupon_id) 유니크 제약
+     * - 발급 수 증가는 한도 조건부 UPDATE 1회 (한도 소진 시 롤백)
+     */
+    public Outcome<Void> tryAssignToUser(String code, Long userId) {
+        Coupon c;
+        if (SignedCouponCodec.isSigned(code)) {
+            c = catalog.findById(signedCouponId(code)).orElse(null);
+            if (c == null) {
+                return Outcome.rejected(Rejection.COUPON_NOT_FOUND);
+            }
+        } else {
+            c = catalog.findByCode(code).orElse(null);
+            if (c == null) {
+                Outcome<Coupon> claimed = claimMintedCode(code, userId);
+                if (claimed.isRejected()) {
+                    return rollback(claimed.rejection());
+                }
+                c = claimed.value();
+            }
+        }
+
         // 유효기간 체크
         LocalDateTime now = LocalDateTime.now();
         if (now.isBefore(c.getValidFrom()) || now.isAfter(c.getValidUntil())) {
-            throw new IllegalStateException("유효 기간이 아닌 쿠폰입니다.");
-        }
-        
-        // 발급 제한 체크
-        if (c.getMaxIssueCount() != null && c.getIssuedCount() >= c.getMaxIssueCount()) {
-            throw new IllegalStateException("발급 한도를 초과했습니다.");
+            return rollback(Rejection.NOT_IN_VALID_PERIOD);
         }
-        
-        // 중복 발급 금지
-        if (userCouponRepo.existsByCoupon_IdAndUserId(c.getId(), userId)) {
-            throw new IllegalStateException("이미 발급된 쿠폰입니다.");
+        if (wallets.get(userId).contains(c.getId())) {
+            return rollback(Rejection.ALREADY_ASSIGNED);
         }
         
-        // UserCoupon 생성
+        // UserCoupon 생성 (중복 발급 금지 - 유니크 제약 위반 시)
         UserCoupon uc = UserCoupon.builder()
-            .coupon(c)
+            .coupon(couponRepo.getReferenceById(c.getId()))
             .userId(userId)
             .remainingUsages(c.getMaxUsages())
-            .assignedAt(LocalDateTime.now())
+            .assignedAt(now)
             .used(false)
             .build();
-        userCouponRepo.save(uc);
-
-        // 발급 카운트 증가
-        c.setIssuedCount(c.getIssuedCount() + 1);
-        couponRepo.save(c);
+        try {
+            userCouponRepo.saveAndFlush(uc);
+        } catch (DataIntegrityViolationException e) {
+            return rollback(Rejection.ALREADY_ASSIGNED);
+        }
+        // 다 써서 보관된 쿠폰은 user_coupon 유니크 제약에 걸리지 않으므로 보관 테이블 확인 (횟수 제한 쿠폰만 다 쓸 수 있음)
+        if (c.getMaxUsages() != null && historyRepo.existsByUserIdAndCouponIdAndUsedTrue(userId, c.getId())) {
+            return rollback(Rejection.ALREADY_ASSIGNED);
+        }
+        
+        // 발급 제한 체크 (실패 시 롤백되어 UserCoupon 도 취소됨)
+        if (!reserveIssue(c)) {
+            return rollback(Rejection.ISSUE_LIMIT_EXCEEDED);
+        }
+        wallets.assignedAfterCommit(userId, c.getId(), c.getMaxUsages());
+        metrics.issued(c.getId());
         
         log.info("쿠폰 발급 완료 - 코드: {}, 사용자: {}", code, userId);
+        return Outcome.done();
     }
 
     /**
      * (4) 쿠폰 사용(장바구니/결제 시)
-     * - 유효기간, 최소주문금액, 대상 상품/카테고리 체크
-     * - 할인액 계산(정율+캐/정액)
-     * - 사용횟수 차감, 포인트 적립량 계산
+     * - 카탈로그에 캐시된 컴파일 규칙으로 유효기간, 최소주문금액, 대상 상품/카테고리 체크
+     * - 할인액/포인트는 원 단위 long 으로 계산 (정율+캡/정액)
+     * - 사용횟수 차감(조건부 UPDATE 1회)만 요청 안에서 처리하고, 포인트 적립/사용 누계/감사 기록은 커밋 직전 저널로 (같은 트랜잭션에 커밋 표시)
      */
     public RedemptionResult redeem(String code, Long userId, BigDecimal orderAmount,
                                    Long productId, Long categoryId) {
-        LocalDateTime now = LocalDateTime.now();
+        return tryRedeem(code, userId, orderAmount, productId, categoryId, null).orThrow();
+    }
 
-        // 쿠폰 존재 & 유효기간 체크
-        Coupon c = couponRepo.findByCode(code)
-            .orElseThrow(() -> new IllegalStateException("쿠폰이 존재하지 않습니다."));
-        if (now.isBefore(c.getValidFrom()) || now.isAfter(c.getValidUntil())) {
-            throw new IllegalStateException("유효 기간이 아닌 쿠폰입니다.");
+    public RedemptionResult redeem(String code, Long userId, BigDecimal orderAmount,
+                                   Long productId, Long categoryId, String idempotencyKey) {
+        return tryRedeem(code, userId, orderAmount, productId, categoryId, idempotencyKey).orThrow();
+    }
+
+    /**
+     * (4) 쿠폰 사용 - 거절은 예외 대신 결과로 반환 (거절 시점까지 쓴 데이터가 없어 롤백 불필요)
+     * - 멱등 키가 있으면 결과를 차감과 같은 트랜잭션에서 저장
+     * - 같은 키가 이미 저장되어 있으면 유니크 제약 위반으로 이번 차감까지 롤백 ({@link IdempotentRedemptionService} 가 처음 결과로 응답)
+     */
+    public Outcome<RedemptionResult> tryRedeem(String code, Long userId, BigDecimal orderAmount,
+                                               Long productId, Long categoryId, String idempotencyKey) {
+        CouponRule rule = findRule(code).orElse(null);
+        if (rule == null) {
+            return Outcome.rejected(Rejection.UNKNOWN_CODE);
         }
-        
-        // 최소 주문 금액 체크
-        if (orderAmount.compareTo(c.getMinOrderAmount()) < 0) {
-            throw new IllegalStateException("최소 주문 금액 미달입니다.");
+        Outcome<RedemptionResult> priced = tryPrice(rule, orderAmount, productId, categoryId);
+        if (priced.isRejected()) {
+            return priced;
         }
-        
-        // 대상 상품/카테고리 체크 (지정된 게 있으면 반드시 포함)
-        if (c.getTargetProductIds() != null && !c.getTargetProductIds().isEmpty()
-            && !c.getTargetProductIds().contains(productId)) {
-            throw new IllegalStateException("해당 상품에 사용할 수 없는 쿠폰입니다.");
-        }
-        if (c.getTargetCategoryIds() != null && !c.getTargetCategoryIds().isEmpty()
-            && !c.getTargetCategoryIds().contains(categoryId)) {
-            throw new IllegalStateException("해당 카테고리에 사용할 수 없는 쿠폰입니다.");
-        }
-
-        // 사용자 발급 내역 조회
-        UserCoupon uc = userCouponRepo
-            .findByCoupon_CodeAndUserIdAndUsedFalse(code, userId)
-            .orElseThrow(() -> new IllegalStateException("사용 가능한 쿠폰이 없습니다."));
-
-        // 할인액 계산
-        BigDecimal rawDiscount;
-        if ("PERCENT".equals(c.getType())) {
-            // 정율 할인
-            rawDiscount = orderAmount
-                .multiply(BigDecimal.valueOf(c.getDiscountValue()))
-                .divide(BigDecimal.valueOf(100));
-            // 최대 할인 한도 캐 적용
-            if (c.getMaxDiscountAmount() != null) {
-                rawDiscount = rawDiscount.min(c.getMaxDiscountAmount());
-            }
-        } else {
-            // 정액 할인
-            rawDiscount = BigDecimal.valueOf(c.getDiscountValue());
+        RedemptionResult result = priced.value();
+
+        // 사용횟수 차감 (동시 요청이 같은 값에서 차감하지 않도록 DB에서 원자적으로 처리)
+        if (userCouponRepo.useOnce(rule.couponId(), userId) == 0) {
+            return Outcome.rejected(Rejection.NO_USAGE_LEFT);
         }
+        if (idempotencyKey != null) {
+            receiptRepo.saveAndFlush(RedemptionReceipt.builder()
+                .userId(userId)
+                .idempotencyKey(idempotencyKey)
+                .code(code)
+                .finalAmount(result.getFinalAmount())
+                .discountApplied(result.getDiscountApplied())
+                .rewardPointsEarned(result.getRewardPointsEarned())
+                .createdAt(LocalDateTime.now())
+                .build());
+        }
+        wallets.usedAfterCommit(userId);
+        recorder.record(redemptionEvent(rule, userId, orderAmount, result));
+        metrics.redeemed(rule.couponId());
 
-        // 사용횟수 차감
-        if (uc.getRemainingUsages() != null) {
-            uc.setRemainingUsages(uc.getRemainingUsages() - 1);
-            if (uc.getRemainingUsages() <= 0) {
-                uc.setUsed(true);
-            }
-        } else {
-            // 무제한 사용인 경우엔 used 플래그만 false로 유지
+        log.debug("쿠폰 사용 완료 - 코드: {}, 사용자: {}, 할인액: {}, 최종금액: {}",
+                code, userId, result.getDiscountApplied(), result.getFinalAmount());
+        return Outcome.of(result);
+    }
+
+    /**
+     * 사용 조건 검증과 금액 계산 (차감 없음 - 예약/장바구니 경로와 공유), 거절은 예외
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RedemptionResult price(CouponRule rule, BigDecimal orderAmount, Long productId, Long categoryId) {
+        return tryPrice(rule, orderAmount, productId, categoryId).orThrow();
+    }
+
+    /**
+     * 사용 조건 검증과 금액 계산 (차감 없음 - 논블로킹 사용 경로와 공유)
+     * - 최종 결제액 = 주문금액 - 할인액, 포인트는 주문금액 기준
+     * - DB 를 쓰지 않으므로 단독 호출 시 트랜잭션(커넥션)을 열지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Outcome<RedemptionResult> tryPrice(CouponRule rule, BigDecimal orderAmount, Long productId, Long categoryId) {
+        long amount = Money.toWon(orderAmount);
+        Rejection rejection = rule.check(LocalDateTime.now(), amount, productId, categoryId);
+        if (rejection != null) {
+            return Outcome.rejected(rejection);
         }
-        userCouponRepo.save(uc);
+        long discount = rule.discount(amount);
+        return Outcome.of(RedemptionResult.builder()
+            .finalAmount(Money.of(amount - discount))
+            .discountApplied(Money.of(discount))
+            .rewardPointsEarned(Money.of(rule.rewardPoints(amount)))
+            .build());
+    }
+
+    /** 저널에 남길 사용 기록 (논블로킹 사용 경로와 공유) */
+    public static RedemptionEvent redemptionEvent(CouponRule rule, long userId, BigDecimal orderAmount,
+                                                  RedemptionResult result) {
+        return RedemptionEvent.of(rule.couponId(), userId, Money.toWon(orderAmount),
+            Money.toWon(result.getDiscountApplied()), Money.toWon(result.getRewardPointsEarned()));
+    }
+
+    /** 쿠폰 목록 응답 변환 (논블로킹 목록 경로와 공유, 트랜잭션 없음) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CouponDto> toDtos(List<Coupon> coupons, Set<Long> assignedCouponIds) {
+        return coupons.stream()
+            .map(c -> toDto(c, assignedCouponIds.contains(c.getId())))
+            .toList();
+    }
+
+    /** 코드로 규칙 조회 (서명 코드는 쿠폰 ID 로) - 같은 패키지의 사용 경로와 공유 */
+    Optional<CouponRule> findRule(String code) {
+        return SignedCouponCodec.isSigned(code)
+            ? catalog.findRuleById(signedCouponId(code))
+            : catalog.findRuleByCode(code);
+    }
 
-        // 포인트 적립량 계산 (예: 결제금액 기준)
-        BigDecimal rewardPoints = BigDecimal.ZERO;
-        if (c.getRewardPointPercent() != null) {
-            rewardPoints = orderAmount
-                .multiply(BigDecimal.valueOf(c.getRewardPointPercent()))
-                .divide(BigDecimal.valueOf(100));
+    /** 서명 코드에 담긴 쿠폰 ID (위조된 코드면 조회 없이 거부) */
+    private long signedCouponId(String code) {
+        OptionalLong couponId = signedCodes.couponIdOf(code);
+        if (couponId.isEmpty()) {
+            throw new IllegalArgumentException("유효하지 않은 쿠폰 코드입니다.");
         }
+        return couponId.getAsLong();
+    }
 
-        // 최종 결제액 = 주문금액 - 할인액
-        BigDecimal finalAmount = orderAmount.subtract(rawDiscount);
-        
-        log.info("쿠폰 사용 완료 - 코드: {}, 사용자: {}, 할인액: {}, 최종금액: {}", 
-                code, userId, rawDiscount, finalAmount);
+    /**
+     * 일회용 발행 코드 소진 후 연결된 쿠폰 반환 (이후 발급이 실패하면 함께 롤백)
+     */
+    private Outcome<Coupon> claimMintedCode(String code, Long userId) {
+        if (!mintedCodes.mightContain(code)) {
+            return Outcome.rejected(Rejection.COUPON_NOT_FOUND);
+        }
+        Optional<Long> couponId = couponCodeRepo.findCouponIdByCode(code);
+        if (couponId.isEmpty()) {
+            mintedCodes.recordFalsePositive();
+            return Outcome.rejected(Rejection.COUPON_NOT_FOUND);
+        }
+        if (couponCodeRepo.claim(code, userId, LocalDateTime.now()) == 0) {
+            return Outcome.rejected(Rejection.CODE_ALREADY_CLAIMED);
+        }
+        return catalog.findById(couponId.get())
+            .map(Outcome::of)
+            .orElseGet(() -> Outcome.rejected(Rejection.COUPON_NOT_FOUND));
+    }
 
-        return RedemptionResult.builder()
-            .finalAmount(finalAmount)
-            .discountApplied(rawDiscount)
-            .rewardPointsEarned(rewardPoints)
-            .build();
+    /**
+     * 거절 결과 반환 전 현재 트랜잭션을 롤백 표시 (앞서 쓴 발급 내역/코드 소진 취소)
+     */
+    private static <T> Outcome<T> rollback(Rejection reason) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return Outcome.rejected(reason);
+    }
+
+    private boolean mintedCodeExists(String code) {
+        if (!mintedCodes.mightContain(code)) {
+            return false;
+        }
+        boolean exists = couponCodeRepo.existsByCode(code);
+        if (!exists) {
+            mintedCodes.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    /**
+     * 발급 수 1 확보
+     * - 한도 쿠폰 + 인메모리 엔진 사용 시: 메모리 재고 예약
+     * - 그 외: 한도 조건부 UPDATE (변경된 행이 없으면 한도 소진)
+     */
+    private boolean reserveIssue(Coupon c) {
+        if (c.getMaxIssueCount() != null && issuanceEngine.isEnabled()) {
+            return issuanceEngine.tryReserve(c);
+        }
+        if (couponRepo.incrementIssuedCount(c.getId()) == 0) {
+            return false;
+        }
+        catalog.issuedAfterCommit(c.getId(), 1);
+        return true;
+    }
+
+    private CouponDto toDto(Coupon c, boolean alreadyAssigned) {
+        CouponDto dto = new CouponDto();
+        BeanUtils.copyProperties(c, dto, "targetProductIds", "targetCategoryIds");
+        // 트랜잭션 안에서 대상 목록을 복사해 지연 로딩 컬렉션이 응답 직렬화까지 새지 않도록 함
+        dto.setTargetProductIds(copyOf(c.getTargetProductIds()));
+        dto.setTargetCategoryIds(copyOf(c.getTargetCategoryIds()));
+        // 이미 발급된 쿠폰인지
+        dto.setAlreadyAssigned(alreadyAssigned);
+        // 남은 발급 수 계산
+        dto.setRemainingIssue(
+            c.getMaxIssueCount() == null
+                ? Integer.MAX_VALUE
+                : issuanceEngine.remaining(c)
+        );
+        return dto;
+    }
+
+    private static Set<Long> copyOf(Set<Long> ids) {
+        return ids == null ? null : new HashSet<>(ids);
     }
-}
\ No newline at end of file
+}
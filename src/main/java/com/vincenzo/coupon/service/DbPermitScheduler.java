@@ -0,0 +1,103 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.dto.DbAdmissionStats;
+import com.vincenzo.coupon.exception.ServiceOverloadedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 커넥션 수에 맞춘 요청 입장 제어 (공정 세마포어 = FIFO 대기열)
+ * - 동시에 서비스 계층에 들어가는 요청을 커넥션 풀 크기 이하로 제한해, 초과분이 커넥션 대기로 쌓이지 않게 함
+ * - 대기열이 가득 찼거나 기한 안에 입장하지 못한 요청은 503 으로 거절 (클라이언트 재시도)
+ * - 가상 스레드 모드에서는 요청 스레드 수 상한이 없으므로 이 세마포어가 실질적인 동시성 상한
+ */
+@Component
+public class DbPermitScheduler {
+
+    private final boolean enabled;
+    private final int permits;
+    private final int maxWaiting;
+    private final long deadlineMillis;
+    private final Semaphore semaphore;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger peakWaiting = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder shedQueueFull = new LongAdder();
+    private final LongAdder shedDeadline = new LongAdder();
+
+    public DbPermitScheduler(@Value("${coupon.db-admission.enabled:true}") boolean enabled,
+                             @Value("${coupon.db-admission.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+                             @Value("${coupon.db-admission.max-waiting:1000}") int maxWaiting,
+                             @Value("${coupon.db-admission.deadline-ms:2000}") long deadlineMillis) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("coupon.db-admission.permits 는 1 이상이어야 합니다.");
+        }
+        this.enabled = enabled;
+        this.permits = permits;
+        this.maxWaiting = maxWaiting;
+        this.deadlineMillis = deadlineMillis;
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 입장 (허가를 얻을 때까지 기한 내 대기)
+     * @throws ServiceOverloadedException 대기열 초과 또는 기한 초과
+     */
+    public void acquire() {
+        // 대기자가 있으면 새치기하지 않도록 바로 얻을 수 있어도 공정 순서를 따름
+        if (!semaphore.hasQueuedThreads() && semaphore.tryAcquire()) {
+            admitted.increment();
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            shedQueueFull.increment();
+            throw new ServiceOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        peakWaiting.accumulateAndGet(waiting.get(), Math::max);
+        queued.increment();
+        try {
+            if (!semaphore.tryAcquire(deadlineMillis, TimeUnit.MILLISECONDS)) {
+                shedDeadline.increment();
+                throw new ServiceOverloadedException("요청 대기 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("요청 대기 중 중단되었습니다.");
+        } finally {
+            waiting.decrementAndGet();
+        }
+        admitted.increment();
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public DbAdmissionStats stats() {
+        return DbAdmissionStats.builder()
+            .enabled(enabled)
+            .permits(permits)
+            .inUse(permits - semaphore.availablePermits())
+            .waiting(waiting.get())
+            .peakWaiting(peakWaiting.get())
+            .maxWaiting(maxWaiting)
+            .deadlineMillis(deadlineMillis)
+            .admitted(admitted.sum())
+            .queued(queued.sum())
+            .shedQueueFull(shedQueueFull.sum())
+            .shedDeadline(shedDeadline.sum())
+            .build();
+    }
+}
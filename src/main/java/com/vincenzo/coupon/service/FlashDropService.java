@@ -0,0 +1,337 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.dto.DropStats;
+import com.vincenzo.coupon.dto.DropTicket;
+import com.vincenzo.coupon.exception.CouponRejectedException;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.metrics.CouponMetrics.Operation;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한정 쿠폰 오픈(validFrom) 순간의 발급 요청을 받는 선착순 대기열
+ * - 대기열을 연 쿠폰의 발급 요청은 DB 를 거치지 않고 도착 순서대로 칸을 받아 번호표(202)로 응답
+ * - 칸은 남은 재고의 queue-per-stock 배까지만 만들고, 넘치거나 매진되면 들어오는 즉시 거절 (409)
+ * - 줄 선 요청은 스케줄러가 drain-per-second 속도로 꺼내 발급 (DB 처리량에 맞춰 한 번에 한 건씩)
+ * - 재고를 다 쓰면 아직 기다리는 번호표는 DB 조회 없이 모두 거절로 응답
+ * - 같은 쿠폰이면 일반 코드/서명 코드 모두 같은 대기열로 (쿠폰 ID 기준), 일회용 발급 코드는 일반 경로
+ * - 발급 중 예외가 max-attempts 번 이어진 번호표는 거절로 처리하고 다음 번호로 넘어감 (한 건이 줄 전체를 막지 않도록)
+ * - 대기열은 노드 메모리에 있으므로 발급 엔진과 마찬가지로 단일 노드 배포를 전제로 함
+ */
+@Slf4j
+@Service
+public class FlashDropService {
+
+    private static final String WAITING = "WAITING";
+    private static final String ISSUED = "ISSUED";
+    private static final String REJECTED = "REJECTED";
+    private static final Rejection[] REASONS = Rejection.values();
+
+    private final CouponService couponService;
+    private final CouponCatalog catalog;
+    private final CouponIssuanceEngine issuanceEngine;
+    private final CouponMetrics metrics;
+    private final SignedCouponCodec signedCodes;
+    private final int maxQueue;
+    private final int queuePerStock;
+    private final int batchPerTick;
+    private final int maxAttempts;
+
+    /** 쿠폰 ID → 열려 있는 대기열 (발급 요청 분기용) */
+    private final Map<Long, Drop> open = new ConcurrentHashMap<>();
+    /** 쿠폰 ID → 마지막 대기열 (닫힌 뒤에도 번호표 조회용) */
+    private final Map<Long, Drop> byCouponId = new ConcurrentHashMap<>();
+
+    public FlashDropService(CouponService couponService,
+                            CouponCatalog catalog,
+                            CouponIssuanceEngine issuanceEngine,
+                            CouponMetrics metrics,
+                            SignedCouponCodec signedCodes,
+                            @Value("${coupon.drop.max-queue:100000}") int maxQueue,
+                            @Value("${coupon.drop.queue-per-stock:2}") int queuePerStock,
+                            @Value("${coupon.drop.drain-per-second:200}") int drainPerSecond,
+                            @Value("${coupon.drop.drain-interval-ms:100}") long drainIntervalMillis,
+                            @Value("${coupon.drop.max-attempts:3}") int maxAttempts) {
+        this.couponService = couponService;
+        this.catalog = catalog;
+        this.issuanceEngine = issuanceEngine;
+        this.metrics = metrics;
+        this.signedCodes = signedCodes;
+        this.maxQueue = maxQueue;
+        this.queuePerStock = queuePerStock;
+        this.batchPerTick = (int) Math.max(1, drainPerSecond * drainIntervalMillis / 1000);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * 쿠폰 코드로 대기열 열기 (이미 열려 있으면 그대로)
+     */
+    public DropStats open(String code) {
+        Coupon coupon = catalog.findByCode(code)
+            .orElseThrow(() -> new CouponRejectedException(Rejection.COUPON_NOT_FOUND));
+        if (coupon.getMaxIssueCount() == null) {
+            throw new IllegalArgumentException("발급 한도가 있는 쿠폰만 선착순 대기열을 열 수 있습니다.");
+        }
+        Drop drop = open.computeIfAbsent(coupon.getId(), id -> {
+            // 칸 수는 열 때 한 번 정하므로 캐시된 발급 수 대신 DB 의 현재 발급 수로
+            int stock = issuanceEngine.remainingInDb(coupon);
+            int capacity = (int) Math.min(maxQueue, Math.max(1L, (long) stock * queuePerStock));
+            Drop created = new Drop(coupon, stock, capacity);
+            byCouponId.put(coupon.getId(), created);
+            log.info("선착순 대기열 열림 - 코드: {}, 재고: {}, 칸: {}, 시작: {}", code, stock, capacity, coupon.getValidFrom());
+            return created;
+        });
+        return drop.stats();
+    }
+
+    /**
+     * 대기열 닫기 - 이후 발급 요청은 일반 경로로, 아직 기다리던 번호표는 거절
+     */
+    public void close(String code) {
+        Drop found = openDrop(code);
+        Drop drop = found == null ? null : open.remove(found.couponId);
+        if (drop != null) {
+            drop.closed = true;
+            log.info("선착순 대기열 닫힘 - 코드: {}, 발급: {}, 대기 중 거절: {}", code, drop.issued, drop.waiting());
+        }
+    }
+
+    public boolean isOpen(String code) {
+        return openDrop(code) != null;
+    }
+
+    /**
+     * 줄 서기 - 같은 사용자가 다시 오면 처음 번호표
+     * - 매진이거나 칸이 모두 찼으면 바로 거절 (발급 한도 초과)
+     */
+    public Outcome<DropTicket> enter(String code, long userId) {
+        Drop drop = openDrop(code);
+        int seq = drop == null || drop.finished() ? -1 : drop.enter(userId);
+        if (seq < 0) {
+            if (drop != null) {
+                drop.rejectedAtEntry.increment();
+            }
+            return Outcome.rejected(Rejection.ISSUE_LIMIT_EXCEEDED);
+        }
+        return Outcome.of(drop.ticket(seq));
+    }
+
+    /**
+     * 번호표 조회 (본인 번호표만)
+     */
+    public Outcome<DropTicket> ticket(String token, long userId) {
+        int dash = token.indexOf('-');
+        if (dash > 0) {
+            try {
+                Drop drop = byCouponId.get(Long.parseLong(token.substring(0, dash)));
+                int seq = Integer.parseInt(token.substring(dash + 1));
+                if (drop != null && seq >= 0 && seq < drop.entered() && drop.users.get(seq) == userId) {
+                    return Outcome.of(drop.ticket(seq));
+                }
+            } catch (NumberFormatException ignored) {
+                // 형식이 틀린 번호표는 없는 번호표로 응답
+            }
+        }
+        return Outcome.rejected(Rejection.DROP_TICKET_NOT_FOUND);
+    }
+
+    /**
+     * 열린 대기열마다 줄 선 순서대로 최대 batchPerTick 건 발급 (시작 시각 전에는 대기만)
+     * @return 이번에 처리한 요청 수
+     */
+    @Scheduled(fixedDelayString = "${coupon.drop.drain-interval-ms:100}")
+    public synchronized int drain() {
+        int total = 0;
+        for (Drop drop : open.values()) {
+            total += drain(drop);
+        }
+        return total;
+    }
+
+    public List<DropStats> stats() {
+        return open.values().stream().map(Drop::stats).toList();
+    }
+
+    /**
+     * 요청 코드가 가리키는 열린 대기열 (없으면 null)
+     * - 서명 코드는 MAC 검증으로 쿠폰 ID 를 얻고, 일반 코드는 카탈로그에서 찾음 (열린 대기열이 없으면 조회 없음)
+     */
+    private Drop openDrop(String code) {
+        if (open.isEmpty()) {
+            return null;
+        }
+        OptionalLong signed = signedCodes.couponIdOf(code);
+        if (signed.isPresent()) {
+            return open.get(signed.getAsLong());
+        }
+        if (SignedCouponCodec.isSigned(code)) {
+            return null;
+        }
+        return catalog.findByCode(code).map(coupon -> open.get(coupon.getId())).orElse(null);
+    }
+
+    private int drain(Drop drop) {
+        if (drop.finished() || LocalDateTime.now().isBefore(drop.validFrom)) {
+            return 0;
+        }
+        int drained = 0;
+        while (drained < batchPerTick && !drop.finished()) {
+            int seq = drop.head;
+            if (seq >= drop.entered()) {
+                break;
+            }
+            long userId = drop.users.get(seq);
+            if (userId == Drop.EMPTY) {
+                // 칸은 잡았지만 사용자 ID 를 아직 쓰는 중
+                break;
+            }
+            Outcome<Void> outcome;
+            try {
+                outcome = metrics.record(Operation.ASSIGN, () -> couponService.tryAssignToUser(drop.code, userId));
+            } catch (RuntimeException e) {
+                if (++drop.attempts < maxAttempts) {
+                    // 같은 번호부터 다음 주기에 재시도
+                    log.warn("선착순 발급 실패 - 코드: {}, 번호: {}, 사용자: {}, 시도: {}", drop.code, seq, userId, drop.attempts, e);
+                    break;
+                }
+                log.error("선착순 발급 포기 - 코드: {}, 번호: {}, 사용자: {}, 시도: {}", drop.code, seq, userId, drop.attempts, e);
+                outcome = Outcome.rejected(Rejection.DROP_ISSUE_FAILED);
+            }
+            drop.complete(seq, outcome.rejection());
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 쿠폰 하나의 대기열 - 칸 배열에 도착 순서대로 사용자 ID 기록, head 앞쪽은 처리 완료
+     * - 칸은 tail 증가로 잡고(CAS), 꺼내기는 스케줄러 한 스레드만 하므로 head 는 잠금 없이 갱신
+     * - 처리 결과를 먼저 쓰고 head(volatile) 를 옮겨, head 를 읽은 조회 스레드가 결과를 보게 함
+     */
+    private static final class Drop {
+        static final long EMPTY = Long.MIN_VALUE;
+        /** results 값: 0 = 미처리, 1 = 발급, 2 + 거절 사유 순번 = 거절 */
+        private static final byte DONE = 1;
+
+        final String code;
+        final long couponId;
+        final LocalDateTime validFrom;
+        final int stock;
+        final int capacity;
+        final AtomicLongArray users;
+        final byte[] results;
+        final Map<Long, Integer> seqByUser = new ConcurrentHashMap<>();
+        final AtomicInteger tail = new AtomicInteger();
+        final LongAdder rejectedAtEntry = new LongAdder();
+        volatile int head;
+        /** head 번호표의 연속 실패 횟수 (스케줄러 스레드만 씀) */
+        int attempts;
+        volatile long issued;
+        volatile boolean soldOut;
+        volatile boolean closed;
+
+        Drop(Coupon coupon, int stock, int capacity) {
+            this.code = coupon.getCode();
+            this.couponId = coupon.getId();
+            this.validFrom = coupon.getValidFrom();
+            this.stock = stock;
+            this.capacity = capacity;
+            this.users = new AtomicLongArray(capacity);
+            this.results = new byte[capacity];
+            for (int i = 0; i < capacity; i++) {
+                users.set(i, EMPTY);
+            }
+            this.soldOut = stock == 0;
+        }
+
+        /** @return 번호 (칸이 모두 찼으면 -1) */
+        int enter(long userId) {
+            Integer seq = seqByUser.computeIfAbsent(userId, id -> {
+                if (tail.get() >= capacity) {
+                    return null;
+                }
+                int claimed = tail.getAndIncrement();
+                if (claimed >= capacity) {
+                    return null;
+                }
+                users.set(claimed, id);
+                return claimed;
+            });
+            return seq == null ? -1 : seq;
+        }
+
+        void complete(int seq, Rejection rejection) {
+            results[seq] = rejection == null ? DONE : (byte) (2 + rejection.ordinal());
+            if (rejection == null) {
+                issued++;
+            }
+            if (issued >= stock || rejection == Rejection.ISSUE_LIMIT_EXCEEDED) {
+                soldOut = true;
+                log.info("선착순 매진 - 코드: {}, 발급: {}, 대기 중 거절: {}", code, issued, entered() - seq - 1);
+            }
+            attempts = 0;
+            head = seq + 1;
+        }
+
+        DropTicket ticket(int seq) {
+            int done = head;
+            String token = couponId + "-" + seq;
+            if (seq < done) {
+                byte result = results[seq];
+                return result == DONE
+                    ? DropTicket.builder().token(token).status(ISSUED).build()
+                    : rejected(token, REASONS[result - 2]);
+            }
+            if (finished()) {
+                return rejected(token, Rejection.ISSUE_LIMIT_EXCEEDED);
+            }
+            return DropTicket.builder().token(token).status(WAITING).ahead(seq - done).build();
+        }
+
+        boolean finished() {
+            return soldOut || closed;
+        }
+
+        int entered() {
+            return Math.min(tail.get(), capacity);
+        }
+
+        int waiting() {
+            return finished() ? 0 : entered() - head;
+        }
+
+        DropStats stats() {
+            return DropStats.builder()
+                .code(code)
+                .couponId(couponId)
+                .stock(stock)
+                .capacity(capacity)
+                .entered(entered())
+                .drained(head)
+                .waiting(waiting())
+                .issued(issued)
+                .rejectedAtEntry(rejectedAtEntry.sum())
+                .soldOut(soldOut)
+                .build();
+        }
+
+        private static DropTicket rejected(String token, Rejection reason) {
+            return DropTicket.builder().token(token).status(REJECTED).message(reason.message()).build();
+        }
+    }
+}
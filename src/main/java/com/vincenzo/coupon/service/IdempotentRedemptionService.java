@@ -0,0 +1,122 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.IdempotencyKeyCache;
+import com.vincenzo.coupon.cache.IdempotencyKeyCache.Receipt;
+import com.vincenzo.coupon.domain.RedemptionReceipt;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.repository.RedemptionReceiptRepository;
+import com.vincenzo.coupon.rule.Rejection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등 키가 있는 쿠폰 사용 (결제 게이트웨이 재시도 대응)
+ * - 최근 키는 메모리에서 바로 처음 결과를 반환 (DB 조회 없음)
+ * - 메모리에 없으면 그대로 사용을 시도하고, 결과 저장이 유니크 제약에 걸리면(이미 처리된 키) 차감은 롤백되므로 저장된 결과 반환
+ * - 거절돼도 저장된 결과가 있으면 그 결과 반환 (마지막 사용 횟수를 쓴 요청의 재시도는 차감 단계에서 먼저 거절됨)
+ * - 트랜잭션 밖에서 위반을 받아야 하므로 CouponService 와 분리
+ */
+@Slf4j
+@Service
+public class IdempotentRedemptionService {
+
+    private final CouponService couponService;
+    private final IdempotencyKeyCache recentKeys;
+    private final RedemptionReceiptRepository receiptRepo;
+    private final TransactionTemplate tx;
+    private final long retentionHours;
+
+    public IdempotentRedemptionService(CouponService couponService,
+                                       IdempotencyKeyCache recentKeys,
+                                       RedemptionReceiptRepository receiptRepo,
+                                       PlatformTransactionManager txManager,
+                                       @Value("${coupon.idempotency.retention-hours:24}") long retentionHours) {
+        this.couponService = couponService;
+        this.recentKeys = recentKeys;
+        this.receiptRepo = receiptRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.retentionHours = retentionHours;
+    }
+
+    public RedemptionResult redeem(String code, Long userId, BigDecimal orderAmount,
+                                   Long productId, Long categoryId, String idempotencyKey) {
+        return tryRedeem(code, userId, orderAmount, productId, categoryId, idempotencyKey).orThrow();
+    }
+
+    /**
+     * 쿠폰 사용 - 거절은 예외 대신 결과로 반환
+     */
+    public Outcome<RedemptionResult> tryRedeem(String code, Long userId, BigDecimal orderAmount,
+                                               Long productId, Long categoryId, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return couponService.tryRedeem(code, userId, orderAmount, productId, categoryId, null);
+        }
+        Optional<Receipt> seen = recentKeys.get(userId, idempotencyKey);
+        if (seen.isPresent()) {
+            return replay(seen.get(), code);
+        }
+        try {
+            Outcome<RedemptionResult> outcome =
+                couponService.tryRedeem(code, userId, orderAmount, productId, categoryId, idempotencyKey);
+            if (!outcome.isRejected()) {
+                recentKeys.put(userId, idempotencyKey, new Receipt(code, outcome.value()));
+                return outcome;
+            }
+            return replayStored(userId, idempotencyKey, code).orElse(outcome);
+        } catch (DataIntegrityViolationException e) {
+            return replayStored(userId, idempotencyKey, code).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * DB 에 저장된 같은 키의 처음 결과 (메모리에도 다시 올림)
+     */
+    private Optional<Outcome<RedemptionResult>> replayStored(Long userId, String idempotencyKey, String code) {
+        return receiptRepo.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+            .map(IdempotentRedemptionService::toReceipt)
+            .map(receipt -> {
+                recentKeys.put(userId, idempotencyKey, receipt);
+                log.info("중복 쿠폰 사용 요청 - 사용자: {}, 멱등 키: {}", userId, idempotencyKey);
+                return replay(receipt, code);
+            });
+    }
+
+    /**
+     * 같은 키의 처음 결과 (다른 코드에 쓴 키면 거부)
+     */
+    public static Outcome<RedemptionResult> replay(Receipt receipt, String code) {
+        if (!receipt.code().equals(code)) {
+            return Outcome.rejected(Rejection.IDEMPOTENCY_KEY_REUSED);
+        }
+        return Outcome.of(receipt.result());
+    }
+
+    public static Receipt toReceipt(RedemptionReceipt saved) {
+        return new Receipt(saved.getCode(), RedemptionResult.builder()
+            .finalAmount(saved.getFinalAmount())
+            .discountApplied(saved.getDiscountApplied())
+            .rewardPointsEarned(saved.getRewardPointsEarned())
+            .build());
+    }
+
+    /**
+     * 보관 기간이 지난 결과 삭제 (메모리 쪽은 버킷 회전으로 먼저 사라짐)
+     */
+    @Scheduled(fixedDelayString = "${coupon.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = tx.execute(status -> receiptRepo.deleteCreatedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("만료된 멱등 키 삭제 - {}건", deleted);
+        }
+    }
+}
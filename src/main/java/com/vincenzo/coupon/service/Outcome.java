@@ -0,0 +1,64 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.exception.CouponRejectedException;
+import com.vincenzo.coupon.rule.Rejection;
+
+/**
+ * 쿠폰 발급/사용 결과 - 성공 값 또는 거절 사유
+ * - 거절 결과는 사유별로 미리 만들어 둔 인스턴스를 공유 (거절 경로에서 예외/스택 트레이스 생성 없음)
+ * - 예외가 필요한 호출자는 {@link #orThrow()}
+ */
+public final class Outcome<T> {
+
+    private static final Outcome<?>[] REJECTED = new Outcome<?>[Rejection.values().length];
+    private static final Outcome<Void> DONE = new Outcome<>(null, null);
+
+    static {
+        for (Rejection reason : Rejection.values()) {
+            REJECTED[reason.ordinal()] = new Outcome<>(null, reason);
+        }
+    }
+
+    private final T value;
+    private final Rejection rejection;
+
+    private Outcome(T value, Rejection rejection) {
+        this.value = value;
+        this.rejection = rejection;
+    }
+
+    public static <T> Outcome<T> of(T value) {
+        return new Outcome<>(value, null);
+    }
+
+    /** 값 없는 성공 (발급 등) */
+    public static Outcome<Void> done() {
+        return DONE;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Outcome<T> rejected(Rejection reason) {
+        return (Outcome<T>) REJECTED[reason.ordinal()];
+    }
+
+    public boolean isRejected() {
+        return rejection != null;
+    }
+
+    /** 거절 사유 (성공이면 null) */
+    public Rejection rejection() {
+        return rejection;
+    }
+
+    public T value() {
+        return value;
+    }
+
+    /** 성공 값, 거절이면 {@link CouponRejectedException} (409) */
+    public T orThrow() {
+        if (rejection != null) {
+            throw new CouponRejectedException(rejection);
+        }
+        return value;
+    }
+}
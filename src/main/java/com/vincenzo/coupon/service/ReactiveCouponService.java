@@ -0,0 +1,183 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.IdempotencyKeyCache;
+import com.vincenzo.coupon.cache.IdempotencyKeyCache.Receipt;
+import com.vincenzo.coupon.cache.UserWallet;
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.cache.WalletEntry;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.journal.RedemptionJournal;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.repository.ReactiveCouponRepository;
+import com.vincenzo.coupon.repository.ReactiveRedemptionCommitRepository;
+import com.vincenzo.coupon.repository.ReactiveRedemptionReceiptRepository;
+import com.vincenzo.coupon.repository.ReactiveUserCouponRepository;
+import com.vincenzo.coupon.rule.CouponRule;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 목록 조회/사용의 논블로킹 구현 (reactive 프로필)
+ * - 쿠폰 정의/규칙은 같은 카탈로그 캐시, 검증/금액 계산은 {@link CouponService#price} 를 그대로 사용
+ * - DB 접근(캐시 미스 적재, 사용 횟수 차감)만 R2DBC 로 처리해 이벤트 루프 스레드를 막지 않음
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCouponService {
+
+    private final CouponService couponService;
+    private final CouponCatalog catalog;
+    private final UserWalletCache wallets;
+    private final SignedCouponCodec signedCodes;
+    private final ReactiveCouponRepository couponRepo;
+    private final ReactiveUserCouponRepository userCouponRepo;
+    private final RedemptionJournal journal;
+    private final RedemptionEffectRecorder recorder;
+    private final ReactiveRedemptionCommitRepository commitRepo;
+    private final IdempotencyKeyCache recentKeys;
+    private final ReactiveRedemptionReceiptRepository receiptRepo;
+    private final TransactionalOperator tx;
+    private final CouponMetrics metrics;
+
+    /**
+     * 유효한 쿠폰 목록 (발급 여부는 로컬 지갑 캐시, 없으면 R2DBC 1회)
+     */
+    public Mono<List<CouponDto>> listAvailableCoupons(Long userId) {
+        List<Coupon> coupons = catalog.activeAt(LocalDateTime.now());
+        if (coupons.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return assignedCouponIds(userId).map(assigned -> couponService.toDtos(coupons, assigned));
+    }
+
+    /**
+     * 쿠폰 사용 - 규칙 조회 → 검증/금액 계산 → 사용 횟수 조건부 차감 → 부수 효과 저널 기록
+     * - 거절은 오류 신호 대신 결과로 반환 (거절 시점까지 쓴 데이터가 없어 롤백 불필요)
+     * - 차감, 부수 효과 커밋 표시, (멱등 키가 있으면) 결과 저장을 한 R2DBC 트랜잭션으로 묶음
+     * - 이미 처리된 키면 (거절됐더라도) 저장된 결과 반환
+     */
+    public Mono<Outcome<RedemptionResult>> tryRedeem(String code, Long userId, BigDecimal orderAmount,
+                                                     Long productId, Long categoryId, String idempotencyKey) {
+        String key = idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey;
+        if (key != null) {
+            Optional<Receipt> seen = recentKeys.get(userId, key);
+            if (seen.isPresent()) {
+                return Mono.just(IdempotentRedemptionService.replay(seen.get(), code));
+            }
+        }
+        return findRule(code)
+            .flatMap(rule -> {
+                Outcome<RedemptionResult> priced = couponService.tryPrice(rule, orderAmount, productId, categoryId);
+                if (priced.isRejected()) {
+                    return Mono.just(priced);
+                }
+                RedemptionResult result = priced.value();
+                RedemptionEvent event = CouponService.redemptionEvent(rule, userId, orderAmount, result);
+                AtomicLong pendingLsn = new AtomicLong();
+                Mono<Outcome<RedemptionResult>> used = userCouponRepo.useOnce(rule.couponId(), userId)
+                    .flatMap(updated -> {
+                        if (updated == 0) {
+                            return Mono.just(Outcome.<RedemptionResult>rejected(Rejection.NO_USAGE_LEFT));
+                        }
+                        // 저널 추가 후 같은 트랜잭션에 커밋 표시 - 커밋/롤백이 끝나야 드레이너가 이 LSN 을 지나감
+                        long lsn = journal.appendPending(event);
+                        pendingLsn.set(lsn);
+                        Mono<Void> saved = commitRepo.insert(recorder.journalId(), event.withLsn(lsn));
+                        if (key != null) {
+                            saved = saved.then(receiptRepo.insert(userId, key, code, result));
+                        }
+                        return saved.thenReturn(Outcome.of(result));
+                    });
+                used = tx.transactional(used).doFinally(signal -> {
+                    if (pendingLsn.get() > 0) {
+                        journal.settle(pendingLsn.get());
+                    }
+                });
+                return used.doOnNext(outcome -> {
+                    if (outcome.isRejected()) {
+                        return;
+                    }
+                    metrics.redeemed(rule.couponId());
+                    wallets.usedAfterCommit(userId);
+                    if (key != null) {
+                        recentKeys.put(userId, key, new Receipt(code, result));
+                    }
+                    log.debug("쿠폰 사용 완료 - 코드: {}, 사용자: {}, 할인액: {}, 최종금액: {}",
+                        code, userId, result.getDiscountApplied(), result.getFinalAmount());
+                });
+            })
+            .defaultIfEmpty(Outcome.rejected(Rejection.UNKNOWN_CODE))
+            .flatMap(outcome -> !outcome.isRejected() || key == null
+                ? Mono.just(outcome)
+                : replayStored(userId, key, code).defaultIfEmpty(outcome))
+            .onErrorResume(DataIntegrityViolationException.class, e -> key == null
+                ? Mono.error(e)
+                : replayStored(userId, key, code).switchIfEmpty(Mono.error(e)));
+    }
+
+    /**
+     * DB 에 저장된 같은 키의 처음 결과 (메모리에도 다시 올림)
+     */
+    private Mono<Outcome<RedemptionResult>> replayStored(Long userId, String key, String code) {
+        return receiptRepo.find(userId, key)
+            .map(receipt -> {
+                recentKeys.put(userId, key, receipt);
+                return IdempotentRedemptionService.replay(receipt, code);
+            });
+    }
+
+    private Mono<Set<Long>> assignedCouponIds(long userId) {
+        Optional<UserWallet> cached = wallets.getIfPresent(userId);
+        if (cached.isPresent()) {
+            return Mono.just(cached.get().couponIds());
+        }
+        return userCouponRepo.findWalletEntriesByUserId(userId)
+            .map(WalletEntry::couponId)
+            .collect(Collectors.toSet());
+    }
+
+    /** 캐시에 있으면 바로, 없으면 R2DBC 로 적재해 카탈로그에 넣음 (확실히 없는 코드는 코드 필터에서 거름) */
+    private Mono<CouponRule> findRule(String code) {
+        if (SignedCouponCodec.isSigned(code)) {
+            OptionalLong couponId = signedCodes.couponIdOf(code);
+            if (couponId.isEmpty()) {
+                return Mono.error(new IllegalArgumentException("유효하지 않은 쿠폰 코드입니다."));
+            }
+            return catalog.cachedRuleById(couponId.getAsLong())
+                .map(Mono::just)
+                .orElseGet(() -> couponRepo.findById(couponId.getAsLong()).map(catalog::putLoaded));
+        }
+        Optional<CouponRule> cached = catalog.cachedRuleByCode(code);
+        if (cached.isPresent()) {
+            return Mono.just(cached.get());
+        }
+        if (!catalog.mightContain(code)) {
+            return Mono.empty();
+        }
+        return couponRepo.findByCode(code)
+            .map(catalog::putLoaded)
+            .switchIfEmpty(Mono.fromRunnable(catalog::recordCodeMiss));
+    }
+}
@@ -0,0 +1,153 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.dto.JournalStats;
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.journal.RedemptionJournal;
+import com.vincenzo.coupon.repository.RedemptionEffectRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 저널에 쌓인 쿠폰 사용 부수 효과를 DB 에 일괄 반영 (write-behind)
+ * - 커밋 표시가 있는 기록만 반영하고, 표시가 없는 기록(롤백된 사용)은 버림
+ * - 묶음 반영, 표시 삭제, 반영 지점 갱신이 한 트랜잭션이므로, 중간에 죽으면 반영 지점부터 다시 읽어 정확히 한 번 반영
+ * - 반영 실패 시 지점을 옮기지 않고 다음 주기에 같은 묶음부터 재시도
+ */
+@Slf4j
+@Component
+public class RedemptionEffectDrainer {
+
+    private final RedemptionJournal journal;
+    private final RedemptionEffectRepository effectRepo;
+    private final TransactionTemplate tx;
+    private final String journalId;
+    private final int batchSize;
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder drainFailures = new LongAdder();
+    private final LongAdder reconciled = new LongAdder();
+    private volatile boolean ready;
+    private volatile long appliedLsn;
+
+    public RedemptionEffectDrainer(RedemptionJournal journal,
+                                   RedemptionEffectRepository effectRepo,
+                                   PlatformTransactionManager txManager,
+                                   @Value("${coupon.journal.node-id:local}") String journalId,
+                                   @Value("${coupon.journal.batch-size:500}") int batchSize) {
+        this.journal = journal;
+        this.effectRepo = effectRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.journalId = journalId;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 시작 시 DB 반영 지점을 읽고 밀린 기록 반영 (스키마 생성 이후)
+     * - 저널 파일을 잃어 커밋 표시보다 저널이 뒤처져 있으면, 남은 기록을 반영한 뒤 반영 지점을 마지막 표시로 옮김
+     *   (빠진 사용은 대조 작업이 표시 내용으로 반영하고, 새 기록이 같은 LSN 을 다시 쓰지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        appliedLsn = tx.execute(status -> effectRepo.appliedLsn(journalId));
+        journal.advanceTo(appliedLsn);
+        ready = true;
+        log.info("저널 반영 재개 - 저널: {}, 반영 LSN: {}, 마지막 LSN: {}", journalId, appliedLsn, journal.lastLsn());
+        drain();
+        synchronized (this) {
+            long committed = tx.execute(status -> effectRepo.maxCommittedLsn(journalId));
+            if (committed > journal.lastLsn() && appliedLsn == journal.lastLsn()) {
+                log.warn("저널이 커밋 표시보다 뒤처져 있어 반영 지점을 옮김 - 저널: {}, 반영: {}, 마지막 표시: {}",
+                    journalId, appliedLsn, committed);
+                long expected = appliedLsn;
+                tx.executeWithoutResult(status -> effectRepo.moveCheckpoint(journalId, expected, committed));
+                journal.advanceTo(committed);
+                appliedLsn = committed;
+            }
+        }
+    }
+
+    /**
+     * 반영 지점 이후 기록을 묶음 단위로 반영
+     * @return 이번에 지나간 기록 수 (버린 기록 포함)
+     */
+    @Scheduled(fixedDelayString = "${coupon.journal.drain-interval-ms:200}")
+    public synchronized int drain() {
+        if (!ready) {
+            return 0;
+        }
+        int total = 0;
+        while (true) {
+            List<RedemptionEvent> batch = journal.readFrom(appliedLsn + 1, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            long expected = appliedLsn;
+            int dropped;
+            try {
+                dropped = tx.execute(status -> effectRepo.apply(journalId, expected, batch));
+            } catch (RuntimeException e) {
+                drainFailures.increment();
+                log.warn("저널 반영 실패 - 저널: {}, LSN: {} ~ {}", journalId, expected + 1,
+                    batch.get(batch.size() - 1).lsn(), e);
+                // 다른 드레이너가 먼저 반영했으면 그 지점부터 이어서, 아니면 다음 주기에 재시도
+                long current = tx.execute(status -> effectRepo.appliedLsn(journalId));
+                if (current == expected) {
+                    break;
+                }
+                appliedLsn = current;
+                continue;
+            }
+            appliedLsn = batch.get(batch.size() - 1).lsn();
+            applied.add(batch.size() - dropped);
+            discarded.add(dropped);
+            total += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            journal.truncateUpTo(appliedLsn);
+        }
+        return total;
+    }
+
+    /**
+     * 대조 작업이 커밋 표시 내용으로 반영한 수
+     */
+    void reconciled(int count) {
+        reconciled.add(count);
+    }
+
+    public JournalStats stats() {
+        long last = journal.lastLsn();
+        long done = appliedLsn;
+        return JournalStats.builder()
+            .journalId(journalId)
+            .lastLsn(last)
+            .appliedLsn(done)
+            .pending(Math.max(0, last - done))
+            .segments(journal.segmentCount())
+            .applied(applied.sum())
+            .discarded(discarded.sum())
+            .drainFailures(drainFailures.sum())
+            .appendFailures(journal.appendFailures())
+            .reconciled(reconciled.sum())
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drain();
+    }
+}
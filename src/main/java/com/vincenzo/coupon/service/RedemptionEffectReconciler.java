@@ -0,0 +1,86 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.repository.RedemptionEffectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 저널에서 빠진 쿠폰 사용 부수 효과를 커밋 표시로 보완 (LSN 단위)
+ * - 드레이너는 반영한 기록의 커밋 표시를 같은 트랜잭션에서 지우므로, 반영 지점을 지났는데 남은 표시는 저널에서 빠진 사용
+ *   (저널 파일 유실/손상 등) - 표시에 저장된 내용으로 원래 (journal_id, lsn) 그대로 반영하고 표시를 지움
+ * - 표시 삭제와 반영이 한 트랜잭션이고 (journal_id, lsn) 유니크라, 여러 노드에서 돌아도 한 번만 반영
+ */
+@Slf4j
+@Component
+public class RedemptionEffectReconciler {
+
+    private final RedemptionEffectRepository effectRepo;
+    private final RedemptionEffectDrainer drainer;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public RedemptionEffectReconciler(RedemptionEffectRepository effectRepo,
+                                      RedemptionEffectDrainer drainer,
+                                      PlatformTransactionManager txManager,
+                                      @Value("${coupon.journal.reconcile.enabled:true}") boolean enabled,
+                                      @Value("${coupon.journal.reconcile.batch-size:500}") int batchSize) {
+        this.effectRepo = effectRepo;
+        this.drainer = drainer;
+        this.tx = new TransactionTemplate(txManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.journal.reconcile.interval-ms:300000}",
+               initialDelayString = "${coupon.journal.reconcile.interval-ms:300000}")
+    public void scheduled() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 저널마다 반영 지점을 지난 커밋 표시를 묶음 단위로 반영
+     * @return 반영한 수
+     */
+    public synchronized int reconcile() {
+        int total = 0;
+        for (String journalId : tx.execute(status -> effectRepo.journalIds())) {
+            while (true) {
+                Integer count;
+                try {
+                    count = tx.execute(status -> {
+                        long applied = effectRepo.appliedLsn(journalId);
+                        List<RedemptionEvent> orphaned = effectRepo.findOrphaned(journalId, applied, batchSize);
+                        if (!orphaned.isEmpty()) {
+                            effectRepo.applyOrphaned(journalId, orphaned);
+                        }
+                        return orphaned.size();
+                    });
+                } catch (RuntimeException e) {
+                    // 다른 노드가 같은 표시를 먼저 반영 - 다음 주기에 남은 것부터
+                    log.warn("커밋 표시 반영 실패 - 저널: {}", journalId, e);
+                    break;
+                }
+                if (count == null || count == 0) {
+                    break;
+                }
+                log.warn("저널에서 빠진 쿠폰 사용 부수 효과 반영 - 저널: {}, {}건", journalId, count);
+                drainer.reconciled(count);
+                total += count;
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,66 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.journal.RedemptionJournal;
+import com.vincenzo.coupon.repository.RedemptionEffectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쿠폰 사용 부수 효과를 사용 트랜잭션과 함께 기록
+ * - 커밋 직전에 저널에 추가하고 같은 트랜잭션에 커밋 표시(LSN + 내용)를 INSERT - 사용이 커밋되면 표시도 커밋됨
+ * - 추가/표시 실패는 사용 트랜잭션을 롤백시키고, 롤백된 기록은 표시가 없으므로 드레이너가 버림
+ * - 커밋/롤백이 끝날 때까지 드레이너는 그 LSN 앞에서 멈춤
+ */
+@Component
+public class RedemptionEffectRecorder {
+
+    private final RedemptionJournal journal;
+    private final RedemptionEffectRepository effectRepo;
+    private final String journalId;
+
+    public RedemptionEffectRecorder(RedemptionJournal journal,
+                                    RedemptionEffectRepository effectRepo,
+                                    @Value("${coupon.journal.node-id:local}") String journalId) {
+        this.journal = journal;
+        this.effectRepo = effectRepo;
+        this.journalId = journalId;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 직전에 기록, 밖이면 (차감이 이미 커밋됐으므로) 바로 기록
+     */
+    public void record(RedemptionEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            long lsn = journal.appendPending(event);
+            try {
+                effectRepo.insertCommit(journalId, event.withLsn(lsn));
+            } finally {
+                journal.settle(lsn);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long lsn;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                lsn = journal.appendPending(event);
+                effectRepo.insertCommit(journalId, event.withLsn(lsn));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (lsn > 0) {
+                    journal.settle(lsn);
+                }
+            }
+        });
+    }
+
+    public String journalId() {
+        return journalId;
+    }
+}
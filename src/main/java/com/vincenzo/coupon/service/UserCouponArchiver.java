@@ -0,0 +1,126 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.dto.ArchiveStats;
+import com.vincenzo.coupon.repository.UserCouponArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다 쓴 쿠폰과 유효기간이 지난 쿠폰을 user_coupon 에서 user_coupon_history 로 조금씩 옮김
+ * - user_coupon(과 그 유니크 인덱스)에는 아직 쓸 수 있는 쿠폰만 남아 발급/사용 경로가 훑는 크기가 살아 있는 쿠폰 수로 유지
+ * - id 순으로 scan-window 구간씩 훑고, 구간마다 batch-size 건 이하를 짧은 트랜잭션 하나로 이동 (긴 잠금 없음)
+ * - 한 바퀴는 시작 시점의 최대 id 까지, 다 훑으면 다음 실행에서 처음부터 다시 (그 사이 다 쓴 쿠폰 포함)
+ * - 다 쓴 쿠폰은 지갑 조회/발급 중복 확인이 보관 테이블까지 보므로 지갑 내용이 보관 전과 같아 캐시는 건드리지 않음
+ */
+@Slf4j
+@Component
+public class UserCouponArchiver {
+
+    private final UserCouponArchiveRepository archiveRepo;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int scanWindow;
+    private final int maxBatchesPerRun;
+    private final long graceDays;
+
+    private final LongAdder archived = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder passes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long cursor;
+    private volatile long passEnd;
+
+    public UserCouponArchiver(UserCouponArchiveRepository archiveRepo,
+                              PlatformTransactionManager txManager,
+                              @Value("${coupon.archive.enabled:true}") boolean enabled,
+                              @Value("${coupon.archive.batch-size:500}") int batchSize,
+                              @Value("${coupon.archive.scan-window:10000}") int scanWindow,
+                              @Value("${coupon.archive.max-batches-per-run:100}") int maxBatchesPerRun,
+                              @Value("${coupon.archive.grace-days:30}") long graceDays) {
+        this.archiveRepo = archiveRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.scanWindow = Math.max(batchSize, scanWindow);
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.graceDays = graceDays;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.archive.interval-ms:60000}",
+               initialDelayString = "${coupon.archive.interval-ms:60000}")
+    public void scheduled() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    /**
+     * 최대 max-batches-per-run 묶음만큼 이어서 보관 (바퀴 끝에 닿으면 멈춤)
+     * @return 이번에 옮긴 행 수
+     */
+    public synchronized int archive() {
+        if (cursor >= passEnd) {
+            passEnd = tx.execute(status -> archiveRepo.maxId());
+            cursor = 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minusDays(graceDays);
+        int total = 0;
+        for (int b = 0; b < maxBatchesPerRun && cursor < passEnd; b++) {
+            long from = cursor;
+            long to = Math.min(passEnd, from + scanWindow);
+            Batch batch;
+            try {
+                batch = tx.execute(status -> moveBatch(from, to, expiredBefore, now));
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("쿠폰 보관 실패 - id 구간: {} ~ {}", from + 1, to, e);
+                break;
+            }
+            cursor = batch.next();
+            total += batch.moved();
+            batches.increment();
+            if (cursor >= passEnd) {
+                passes.increment();
+                log.info("쿠폰 보관 한 바퀴 완료 - 마지막 id: {}", passEnd);
+            }
+        }
+        archived.add(total);
+        return total;
+    }
+
+    public ArchiveStats stats() {
+        return ArchiveStats.builder()
+            .enabled(enabled)
+            .cursor(cursor)
+            .passEnd(passEnd)
+            .archived(archived.sum())
+            .batches(batches.sum())
+            .passes(passes.sum())
+            .failures(failures.sum())
+            .build();
+    }
+
+    private Batch moveBatch(long from, long to, LocalDateTime expiredBefore, LocalDateTime now) {
+        List<Long> ids = archiveRepo.findCold(from, to, expiredBefore, batchSize);
+        // 묶음이 꽉 찼으면 구간이 남았을 수 있으므로 마지막으로 옮긴 id 부터 이어서
+        long next = ids.size() == batchSize ? ids.get(ids.size() - 1) : to;
+        if (ids.isEmpty()) {
+            return new Batch(0, next);
+        }
+        return new Batch(archiveRepo.moveToHistory(ids, now), next);
+    }
+
+    /** 묶음 하나의 결과 - 옮긴 행 수와 다음 구간 시작 id */
+    private record Batch(int moved, long next) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.vincenzo.coupon.util;
+
+/**
+ * 키 기반 형식 보존 순열 (일련번호 → 고정 길이 영숫자 코드)
+ * - [0, 36^length) 위의 전단사 함수라 서로 다른 일련번호는 항상 서로 다른 코드 (충돌 없음)
+ * - 4라운드 Feistel + 라운드 함수 SipHash-2-4 (키 없이는 다음 코드를 예측할 수 없음)
+ * - 정의역이 2의 거듭제곱이 아니므로 범위를 벗어나면 다시 순열을 적용 (cycle walking)
+ * - 불변이라 여러 스레드가 공유해도 됨
+ */
+public final class CodePermutation {
+
+    private static final String ALPHABET = CouponCodeGenerator.CHARACTERS;
+    private static final int RADIX = ALPHABET.length();
+    private static final int ROUNDS = 4;
+
+    private final SipHash prf;
+    private final int length;
+    private final long domain;
+    private final int halfBits;
+    private final long halfMask;
+
+    /**
+     * @param secret 순열 키 (같은 키 + 같은 일련번호 → 같은 코드)
+     * @param length 코드 길이 (최대 12)
+     */
+    public CodePermutation(String secret, int length) {
+        if (length < 1 || length > 12) {
+            throw new IllegalArgumentException("코드 길이는 1~12 사이여야 합니다.");
+        }
+        this.prf = SipHash.fromSecret(secret);
+        this.length = length;
+        long d = 1;
+        for (int i = 0; i < length; i++) {
+            d *= RADIX;
+        }
+        this.domain = d;
+        int bits = 64 - Long.numberOfLeadingZeros(d - 1);
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+    }
+
+    /** 만들 수 있는 코드 수 (36^length) */
+    public long domain() {
+        return domain;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /** 일련번호 → 코드 */
+    public String code(long index) {
+        return encode(permute(index));
+    }
+
+    /** [0, domain) 위의 순열 */
+    public long permute(long index) {
+        if (index < 0 || index >= domain) {
+            throw new IllegalArgumentException("일련번호 범위를 벗어났습니다: " + index);
+        }
+        long x = index;
+        do {
+            x = feistel(x);
+        } while (x >= domain);
+        return x;
+    }
+
+    private long feistel(long x) {
+        long left = x >>> halfBits;
+        long right = x & halfMask;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ (prf.hash(((long) round << 56) | right) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private String encode(long value) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (value % RADIX));
+            value /= RADIX;
+        }
+        return new String(chars);
+    }
+}
@@ -12,8 +12,11 @@ import java.time.format.DateTimeFormatter;
 @Component
 public class CouponCodeGenerator {
     
-    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-    private static final SecureRandom RANDOM = new SecureRandom();
+    static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    /** 256 이하에서 36의 배수 최대값 - 이 이상인 바이트는 버려 문자 분포를 균등하게 유지 */
+    private static final int UNBIASED_LIMIT = 256 - 256 % CHARACTERS.length();
+    /** 스레드마다 독립된 난수 스트림 (공유 SecureRandom 경합 방지) */
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
     
     /**
      * 랜덤 쿠폰 코드 생성
@@ -21,11 +24,20 @@ public class CouponCodeGenerator {
      * @return 생성된 쿠폰 코드
      */
     public String generateRandomCode(int length) {
-        StringBuilder code = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            code.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
+        SecureRandom random = RANDOM.get();
+        byte[] bytes = new byte[length + length / 4 + 4];
+        char[] code = new char[length];
+        int filled = 0;
+        while (filled < length) {
+            random.nextBytes(bytes);
+            for (int i = 0; i < bytes.length && filled < length; i++) {
+                int b = bytes[i] & 0xFF;
+                if (b < UNBIASED_LIMIT) {
+                    code[filled++] = CHARACTERS.charAt(b % CHARACTERS.length());
+                }
+            }
         }
-        return code.toString();
+        return new String(code);
     }
     
     /**
@@ -0,0 +1,29 @@
+package com.vincenzo.coupon.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 변환 (원화, 최소 단위 1원 = scale 0)
+ * - 계산 경로에서는 long(원)으로 다루고, API 경계에서만 BigDecimal 로 변환
+ */
+public final class Money {
+
+    private Money() {
+    }
+
+    /** BigDecimal → 원 (1원 미만 버림) */
+    public static long toWon(BigDecimal amount) {
+        return amount.setScale(0, RoundingMode.DOWN).longValueExact();
+    }
+
+    /** 원 → BigDecimal (scale 0) */
+    public static BigDecimal of(long won) {
+        return BigDecimal.valueOf(won);
+    }
+
+    /** 비율(%) 적용 금액 (1원 미만 버림) */
+    public static long percentOf(long won, int percent) {
+        return Math.multiplyExact(won, percent) / 100;
+    }
+}
@@ -0,0 +1,158 @@
+package com.vincenzo.coupon.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * 서명 쿠폰 코드 (DB 조회 없이 위조 여부를 판별할 수 있는 코드 형식)
+ * - 형식: {쿠폰 ID 36진수}-{난수 6자}{MAC 7자}  예) 2S-K3J9QXA7B2C1P
+ * - MAC = SipHash-2-4(비밀키; 쿠폰 ID, 난수) 를 36진 7자리로 (약 36비트, 추측 1회 성공 확률 1/7.8e10)
+ * - 일반 쿠폰 코드는 대문자/숫자만 쓰므로 '-' 유무로 형식을 구분
+ * - 검증은 문자열 스캔과 long 연산뿐이라 할당 없이 수백 ns 안에 끝남
+ * - 비밀키가 없거나 짧으면 기동 실패 (공개된 기본값으로 서명하면 누구나 코드를 만들 수 있음)
+ */
+@Component
+public class SignedCouponCodec {
+
+    public static final char SEPARATOR = '-';
+
+    private static final int RADIX = 36;
+    private static final int NONCE_LENGTH = 6;
+    private static final int MAC_LENGTH = 7;
+    /** 36^12 < 2^63 이라 12자리까지는 long 으로 넘침 없이 해석 */
+    private static final int MAX_ID_LENGTH = 12;
+    private static final long MAC_MODULUS = pow(RADIX, MAC_LENGTH);
+    /** 일반 코드 최대 길이 (이보다 긴 입력은 조회 없이 거부) */
+    private static final int MAX_PLAIN_LENGTH = 64;
+    /** 비밀키 최소 길이 (SipHash 키 128비트를 채우는 추측 불가능한 값) */
+    static final int MIN_SECRET_LENGTH = 32;
+
+    private final SipHash mac;
+    private final CouponCodeGenerator generator;
+    private final boolean signedRequired;
+
+    public SignedCouponCodec(@Value("${coupon.signed-code.secret:}") String secret,
+                             CouponCodeGenerator generator,
+                             @Value("${coupon.signed-code.required:false}") boolean signedRequired) {
+        if (secret == null || secret.isBlank() || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException("서명 코드 비밀키(coupon.signed-code.secret, 환경변수 COUPON_SIGNED_CODE_SECRET)는 "
+                + MIN_SECRET_LENGTH + "자 이상이어야 합니다.");
+        }
+        this.mac = SipHash.fromSecret(secret);
+        this.generator = generator;
+        this.signedRequired = signedRequired;
+    }
+
+    /**
+     * 서명 코드 발행
+     * @param couponId 쿠폰(템플릿) ID
+     */
+    public String issue(long couponId) {
+        if (couponId < 0) {
+            throw new IllegalArgumentException("쿠폰 ID 가 올바르지 않습니다.");
+        }
+        String id = Long.toString(couponId, RADIX).toUpperCase();
+        String nonce = generator.generateRandomCode(NONCE_LENGTH);
+        long tag = tag(couponId, decode(nonce, 0, NONCE_LENGTH));
+
+        char[] chars = new char[id.length() + 1 + NONCE_LENGTH + MAC_LENGTH];
+        id.getChars(0, id.length(), chars, 0);
+        chars[id.length()] = SEPARATOR;
+        nonce.getChars(0, NONCE_LENGTH, chars, id.length() + 1);
+        for (int i = chars.length - 1; i >= chars.length - MAC_LENGTH; i--) {
+            chars[i] = Character.toUpperCase(Character.forDigit((int) (tag % RADIX), RADIX));
+            tag /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    public static boolean isSigned(String code) {
+        return code.indexOf(SEPARATOR) >= 0;
+    }
+
+    /**
+     * 서명이 맞는 코드면 쿠폰 ID, 서명 형식이 아니거나 위조된 코드면 empty
+     */
+    public OptionalLong couponIdOf(String code) {
+        int sep = code.indexOf(SEPARATOR);
+        if (sep < 1 || sep > MAX_ID_LENGTH || code.length() != sep + 1 + NONCE_LENGTH + MAC_LENGTH) {
+            return OptionalLong.empty();
+        }
+        if (sep > 1 && code.charAt(0) == '0') {
+            // 같은 ID 를 앞자리 0 으로 늘린 변형 코드는 거부
+            return OptionalLong.empty();
+        }
+        long couponId = decode(code, 0, sep);
+        long nonce = decode(code, sep + 1, NONCE_LENGTH);
+        long tag = decode(code, sep + 1 + NONCE_LENGTH, MAC_LENGTH);
+        if (couponId < 0 || nonce < 0 || tag < 0 || tag != tag(couponId, nonce)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(couponId);
+    }
+
+    /**
+     * 요청 입구 검증 - 형식이 깨졌거나 위조된 코드는 저장소까지 가지 않고 거부
+     * - 서명 코드: MAC 일치
+     * - 일반 코드: 서명 코드 강제 설정이 아니고 대문자/숫자/'_' 64자 이내
+     */
+    public void check(String code) {
+        boolean valid = isSigned(code)
+            ? couponIdOf(code).isPresent()
+            : !signedRequired && isPlain(code);
+        if (!valid) {
+            throw new IllegalArgumentException("유효하지 않은 쿠폰 코드입니다.");
+        }
+    }
+
+    private long tag(long couponId, long nonce) {
+        return Long.remainderUnsigned(mac.hash(couponId, nonce), MAC_MODULUS);
+    }
+
+    private static boolean isPlain(String code) {
+        int length = code.length();
+        if (length == 0 || length > MAX_PLAIN_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            if (digit(c) < 0 && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 36진 대문자 구간 해석 (허용되지 않는 문자가 있으면 -1) */
+    private static long decode(String s, int from, int length) {
+        long value = 0;
+        for (int i = from; i < from + length; i++) {
+            int d = digit(s.charAt(i));
+            if (d < 0) {
+                return -1;
+            }
+            value = value * RADIX + d;
+        }
+        return value;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
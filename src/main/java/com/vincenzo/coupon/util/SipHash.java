@@ -0,0 +1,77 @@
+package com.vincenzo.coupon.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SipHash-2-4 (키 기반 64비트 PRF, 8/16바이트 고정 길이 메시지 전용)
+ * - 배열 할당 없이 long 연산만으로 계산해 요청 경로에서 써도 부담이 없음
+ * - 불변이라 여러 스레드가 공유해도 됨
+ */
+final class SipHash {
+
+    private final long k0;
+    private final long k1;
+
+    private SipHash(long k0, long k1) {
+        this.k0 = k0;
+        this.k1 = k1;
+    }
+
+    /** 비밀 문자열의 SHA-256 앞 16바이트를 키로 사용 */
+    static SipHash fromSecret(String secret) {
+        ByteBuffer key = ByteBuffer.wrap(sha256(secret)).order(ByteOrder.LITTLE_ENDIAN);
+        return new SipHash(key.getLong(), key.getLong());
+    }
+
+    /** 8바이트 메시지 */
+    long hash(long m) {
+        return compute(m, 0, 1);
+    }
+
+    /** 16바이트 메시지 (m0, m1 순서) */
+    long hash(long m0, long m1) {
+        return compute(m0, m1, 2);
+    }
+
+    private long compute(long m0, long m1, int blocks) {
+        long v0 = k0 ^ 0x736f6d6570736575L;
+        long v1 = k1 ^ 0x646f72616e646f6dL;
+        long v2 = k0 ^ 0x6c7967656e657261L;
+        long v3 = k1 ^ 0x7465646279746573L;
+
+        // 마지막 블록은 메시지 길이만 담은 패딩 블록
+        long tail = ((long) blocks * 8) << 56;
+        for (int block = 0; block <= blocks; block++) {
+            long m = block == blocks ? tail : (block == 0 ? m0 : m1);
+            v3 ^= m;
+            for (int i = 0; i < 2; i++) {
+                v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+                v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+
+        v2 ^= 0xff;
+        for (int i = 0; i < 4; i++) {
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
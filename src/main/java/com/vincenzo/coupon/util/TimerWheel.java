@@ -0,0 +1,112 @@
+package com.vincenzo.coupon.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 해시 타이머 휠 - 만료 시각을 tick 단위 칸에 넣고, 시간이 지난 칸만 꺼내 처리
+ * - 진행 비용은 지나간 칸에 든 항목 수 (전체 대기 항목을 훑지 않음), 휠 한 바퀴보다 먼 만료는 바퀴 수만큼 다시 만남
+ * - 취소는 표시만 하고 해당 칸을 지날 때 버림
+ * - 시각은 호출자가 넘김 (ms)
+ */
+public class TimerWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final ArrayDeque<Timeout>[] slots;
+    private final ConcurrentHashMap<Long, Timeout> pending = new ConcurrentHashMap<>();
+    /** 마지막으로 처리한 tick */
+    private long currentTick;
+
+    /**
+     * @param minSpanMillis 한 바퀴로 덮어야 할 시간 (보통 최대 만료 시간) - 칸 수는 이를 넘는 2의 거듭제곱
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, long minSpanMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        int size = Integer.highestOneBit((int) Math.max(1, Math.min(1 << 20, minSpanMillis / tickMillis)));
+        size = size << 1;
+        this.mask = size - 1;
+        this.slots = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * id 를 deadlineMillis 에 만료되도록 등록 (이미 지난 시각이면 다음 tick 에 만료)
+     */
+    public synchronized void schedule(long id, long deadlineMillis) {
+        long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        Timeout timeout = new Timeout(id, tick);
+        Timeout previous = pending.put(id, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        slots[(int) (tick & mask)].add(timeout);
+    }
+
+    /**
+     * 만료 전 취소 (확정/해제)
+     * @return 대기 중이었으면 true
+     */
+    public boolean cancel(long id) {
+        Timeout timeout = pending.remove(id);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.cancelled = true;
+        return true;
+    }
+
+    /**
+     * nowMillis 까지 지나간 칸을 처리
+     * @return 만료된 id (등록 순)
+     */
+    public synchronized List<Long> advance(long nowMillis) {
+        long target = nowMillis / tickMillis;
+        List<Long> expired = new ArrayList<>();
+        // 한 바퀴 넘게 밀렸으면 모든 칸을 한 번씩만 보면 됨
+        long from = Math.max(currentTick + 1, target - mask);
+        for (long tick = from; tick <= target; tick++) {
+            Iterator<Timeout> it = slots[(int) (tick & mask)].iterator();
+            while (it.hasNext()) {
+                Timeout timeout = it.next();
+                if (timeout.cancelled) {
+                    it.remove();
+                } else if (timeout.tick <= target) {
+                    it.remove();
+                    if (pending.remove(timeout.id, timeout)) {
+                        expired.add(timeout.id);
+                    }
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, target);
+        return expired;
+    }
+
+    /** 만료/취소 전인 항목 수 */
+    public int pending() {
+        return pending.size();
+    }
+
+    public int slots() {
+        return mask + 1;
+    }
+
+    private static final class Timeout {
+        final long id;
+        final long tick;
+        volatile boolean cancelled;
+
+        Timeout(long id, long tick) {
+            this.id = id;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.vincenzo.coupon.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * long 키 → 토큰 버킷 고정 크기 해시 테이블 (잠금 없음, 항목 객체 없음)
+ * - 버킷은 "다음 토큰이 생기는 시각(TAT)" long 하나로 표현 (GCRA) - 토큰 수/갱신 시각을 따로 두지 않아 CAS 한 번으로 차감
+ * - 키와 TAT 를 한 배열에 나란히 두어 한 번의 탐색이 같은 캐시 라인 안에서 끝남
+ * - TAT 가 지난 버킷은 가득 찬 새 버킷과 같으므로 삭제/만료 스레드 없이 다른 키가 그 칸을 재사용
+ * - 탐색 범위(PROBES) 안에 빈 칸/만료 칸이 없으면 TAT 가 가장 이른 칸을 빼앗음 (크기 상한 유지, 빼앗긴 키는 새 버킷으로 다시 시작)
+ * - 시각은 호출자가 넘김 (ns, 단조 증가)
+ */
+public class TokenBucketTable {
+
+    private static final int PROBES = 8;
+    private static final long EMPTY = 0;
+
+    /** [2i] = 키, [2i+1] = TAT (origin 기준 ns) */
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long origin;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxKeys 동시에 추적할 키 수 - 칸 수는 이의 2배 이상인 2의 거듭제곱 (칸당 16바이트)
+     */
+    public TokenBucketTable(int maxKeys, long nowNanos) {
+        int size = Integer.highestOneBit((int) Math.min(1 << 29, Math.max(PROBES, 2L * maxKeys) - 1)) << 1;
+        this.slots = new AtomicLongArray(size * 2);
+        this.mask = size - 1;
+        // TAT 0(빈 칸)이 항상 지난 시각이 되도록 기준을 한 칸 앞에
+        this.origin = nowNanos - 1;
+    }
+
+    /**
+     * 토큰 1개 차감 시도
+     * @param intervalNanos 토큰 1개가 생기는 간격 (1초 / 초당 허용 수)
+     * @param burst 한꺼번에 허용하는 최대 수 (버킷 크기)
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(long key, long nowNanos, long intervalNanos, int burst) {
+        long k = key == EMPTY ? 1 : key;
+        long now = nowNanos - origin;
+        int home = spread(k) & mask;
+        int victim = -1;
+        long victimTat = Long.MAX_VALUE;
+        for (int p = 0; p < PROBES; p++) {
+            int i = ((home + p) & mask) << 1;
+            long owner = slots.get(i);
+            if (owner == EMPTY) {
+                // 칸은 비워지지 않으므로 여기까지 없으면 이 키는 테이블에 없음
+                if (slots.compareAndSet(i, EMPTY, k) || slots.get(i) == k) {
+                    return acquire(i + 1, now, intervalNanos, burst);
+                }
+                owner = slots.get(i);
+            }
+            if (owner == k) {
+                return acquire(i + 1, now, intervalNanos, burst);
+            }
+            long tat = slots.get(i + 1);
+            if (tat < victimTat) {
+                victim = i;
+                victimTat = tat;
+            }
+        }
+        long victimKey = slots.get(victim);
+        if (!slots.compareAndSet(victim, victimKey, k)) {
+            // 다른 요청이 먼저 가져감 - 이번 요청은 제한하지 않음
+            return true;
+        }
+        if (victimTat > now) {
+            evictions.increment();
+        }
+        slots.compareAndSet(victim + 1, victimTat, EMPTY);
+        return acquire(victim + 1, now, intervalNanos, burst);
+    }
+
+    /** 아직 토큰이 남은 버킷을 빼앗은 횟수 (크기 상한에 걸린 정도) */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /** 칸 수 */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private boolean acquire(int tatIndex, long now, long intervalNanos, int burst) {
+        long tolerance = intervalNanos * burst;
+        while (true) {
+            long tat = slots.get(tatIndex);
+            long start = Math.max(tat, now);
+            long next = start + intervalNanos;
+            if (next - now > tolerance) {
+                return false;
+            }
+            if (slots.compareAndSet(tatIndex, tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 종류별로 섞은 64비트 키 (종류가 다르면 같은 값이어도 다른 키)
+     */
+    public static long key(int kind, long value) {
+        return mix(value * 0x9E3779B97F4A7C15L + kind);
+    }
+
+    /**
+     * 문자열 키 (FNV-1a 64비트 후 섞음) - 해시 충돌은 같은 버킷을 나눠 쓰는 것뿐이라 무시
+     */
+    public static long key(int kind, CharSequence value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return key(kind, h);
+    }
+
+    private static int spread(long key) {
+        return (int) (key ^ (key >>> 32));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,8 +2,13 @@ package com.vincenzo.coupon;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+/**
+ * 로컬 실행 설정(dev 프로필)으로 기동되는지 확인 - 다른 프로필은 서명 코드 비밀키가 없으면 기동 실패
+ */
 @SpringBootTest
+@ActiveProfiles("dev")
 class CouponSystemApplicationTests {
 
     @Test
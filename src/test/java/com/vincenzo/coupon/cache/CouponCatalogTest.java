@@ -0,0 +1,122 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCatalogTest {
+
+    @Mock
+    private CouponRepository couponRepo;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    private CouponCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CouponCatalog(couponRepo, txManager, true, 0.01);
+    }
+
+    @Test
+    @DisplayName("재적재 중 생성된 쿠폰은 적재 목록에 없어도 재적재 후 남아 있음")
+    void putDuringRefreshSurvivesSwap() {
+        Coupon existing = coupon(1L, "OLD", LocalDateTime.now().minusDays(1));
+        Coupon created = coupon(2L, "NEW", LocalDateTime.now().minusDays(1));
+        when(couponRepo.findAll()).thenAnswer(invocation -> {
+            // 목록을 읽은 뒤 커밋된 생성 - 적재 목록에는 없음
+            catalog.put(created);
+            return List.of(existing);
+        });
+
+        catalog.refresh();
+
+        assertThat(catalog.findByCode("NEW")).containsSame(created);
+        assertThat(catalog.activeAt(LocalDateTime.now())).containsExactly(existing, created);
+        verify(couponRepo, never()).findByCode(any());
+    }
+
+    @Test
+    @DisplayName("활성 집합이 바뀌지 않는 변경은 스냅샷을 다시 만들지 않고, 바뀐 변경이 몰려도 다음 조회에서 한 번만 재구성")
+    void snapshotIsRebuiltLazilyOnlyWhenActiveSetChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        catalog.put(coupon(1L, "A", now.minusDays(1)));
+        List<Coupon> before = catalog.activeAt(now);
+
+        catalog.put(coupon(2L, "LATER", now.plusDays(1)));
+        assertThat(catalog.activeAt(now)).isSameAs(before);
+
+        catalog.put(coupon(3L, "B", now.minusDays(1)));
+        catalog.put(coupon(4L, "C", now.minusDays(1)));
+        catalog.invalidate("A");
+        List<Coupon> after = catalog.activeAt(now);
+
+        assertThat(after).extracting(Coupon::getCode).containsExactly("B", "C");
+        assertThat(catalog.activeAt(now)).isSameAs(after);
+    }
+
+    @Test
+    @DisplayName("반영과 재적재 때 쿠폰의 발급 한도를 순서대로 알림")
+    void notifiesIssueLimitOnPutAndRefresh() {
+        List<String> seen = new ArrayList<>();
+        catalog.onIssueLimitChange((id, limit) -> seen.add(id + ":" + limit));
+        Coupon coupon = coupon(1L, "LIMITED", LocalDateTime.now().minusDays(1));
+        coupon.setMaxIssueCount(100);
+        catalog.put(coupon);
+
+        Coupon raised = coupon(1L, "LIMITED", LocalDateTime.now().minusDays(1));
+        raised.setMaxIssueCount(200);
+        when(couponRepo.findAll()).thenReturn(List.of(raised));
+        catalog.refresh();
+
+        assertThat(seen).containsExactly("1:100", "1:200");
+    }
+
+    @Test
+    @DisplayName("DB 에 반영한 발급 수를 캐시된 쿠폰에도 더해 목록의 발급 수가 바로 바뀜")
+    void issuedCountFollowsCommittedIssues() {
+        Coupon coupon = coupon(1L, "LIMITED", LocalDateTime.now().minusDays(1));
+        coupon.setMaxIssueCount(100);
+        catalog.put(coupon);
+
+        catalog.issuedAfterCommit(1L, 1);
+        catalog.issuedAfterCommit(1L, 5);
+        catalog.issuedAfterCommit(2L, 1);
+
+        assertThat(catalog.activeAt(LocalDateTime.now()))
+            .singleElement()
+            .extracting(Coupon::getIssuedCount)
+            .isEqualTo(6);
+    }
+
+    private static Coupon coupon(long id, String code, LocalDateTime validFrom) {
+        return Coupon.builder()
+            .id(id)
+            .code(code)
+            .title("카탈로그 테스트 쿠폰")
+            .label("1000원 할인")
+            .validFrom(validFrom)
+            .validUntil(validFrom.plusDays(10))
+            .type("FIXED")
+            .discountValue(1000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .issuedCount(0)
+            .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.rule.CouponRule;
+import com.vincenzo.coupon.rule.TargetSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponTargetIndexTest {
+
+    @Test
+    @DisplayName("역인덱스 조회 결과가 전체 쿠폰을 훑은 결과와 같다")
+    void applicable_MatchesFullScan() {
+        Random random = new Random(11);
+        List<CouponRule> rules = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            rules.add(CouponRule.compile(coupon(id,
+                random.nextInt(3) == 0 ? null : randomIds(random, 1 + random.nextInt(50), 1_000),
+                random.nextInt(2) == 0 ? null : randomIds(random, 1 + random.nextInt(3), 20))));
+        }
+        CouponTargetIndex index = CouponTargetIndex.build(rules);
+
+        for (int q = 0; q < 2_000; q++) {
+            long productId = random.nextInt(1_100);
+            Long categoryId = random.nextInt(10) == 0 ? null : (long) random.nextInt(22);
+
+            long[] expected = rules.stream()
+                .filter(r -> r.appliesTo(productId, categoryId))
+                .mapToLong(CouponRule::couponId)
+                .toArray();
+
+            assertThat(index.applicable(productId, categoryId)).containsExactly(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("10만 개 상품 대상 쿠폰도 원시 배열로 작은 메모리에 보관한다")
+    void largeTargetList_CompactMemory() {
+        Set<Long> skus = LongStream.range(5_000_000, 5_100_000).boxed().collect(Collectors.toSet());
+        TargetSet set = TargetSet.of(skus);
+        CouponTargetIndex index = CouponTargetIndex.build(List.of(CouponRule.compile(coupon(1L, skus, null))));
+
+        assertThat(set.size()).isEqualTo(100_000);
+        assertThat(set.sizeInBytes()).isLessThan(500_000);
+        assertThat(set.contains(5_050_000L)).isTrue();
+        assertThat(set.contains(5_100_000L)).isFalse();
+        assertThat(index.sizeInBytes()).isLessThan(2_500_000);
+        assertThat(index.applicable(5_099_999L, null)).containsExactly(1L);
+        assertThat(index.applicable(4_999_999L, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 ID 도 정확히 찾는다")
+    void targetSet_WideIds() {
+        TargetSet set = TargetSet.of(List.of(Long.MAX_VALUE, 3L, 1L << 40));
+
+        assertThat(set.contains(1L << 40)).isTrue();
+        assertThat(set.contains(3L)).isTrue();
+        assertThat(set.contains(4L)).isFalse();
+        assertThat(set.matches(null)).isFalse();
+        assertThat(TargetSet.of(null).matches(null)).isTrue();
+    }
+
+    private static Set<Long> randomIds(Random random, int count, int bound) {
+        Set<Long> ids = new HashSet<>();
+        while (ids.size() < count) {
+            ids.add((long) random.nextInt(bound));
+        }
+        return ids;
+    }
+
+    private static Coupon coupon(Long id, Set<Long> products, Set<Long> categories) {
+        return Coupon.builder()
+            .id(id)
+            .code("IDX" + id)
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("FIXED")
+            .discountValue(1000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .targetProductIds(products)
+            .targetCategoryIds(categories)
+            .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.cache.IdempotencyKeyCache.Receipt;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyKeyCacheTest {
+
+    private static final Receipt RECEIPT = new Receipt("WELCOME2025", RedemptionResult.builder()
+        .finalAmount(new BigDecimal("45000"))
+        .discountApplied(new BigDecimal("5000"))
+        .rewardPointsEarned(new BigDecimal("1000"))
+        .build());
+
+    @Test
+    @DisplayName("키는 사용자별로 구분")
+    void keysAreScopedPerUser() {
+        IdempotencyKeyCache cache = new IdempotencyKeyCache(600, 4, 1_000);
+        cache.put(1L, "pay-1", RECEIPT);
+
+        assertThat(cache.get(1L, "pay-1")).contains(RECEIPT);
+        assertThat(cache.get(2L, "pay-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버킷이 가득 차면 가장 오래된 버킷부터 버려 항목 수 상한 유지")
+    void oldestBucketIsDroppedWhenFull() {
+        IdempotencyKeyCache cache = new IdempotencyKeyCache(600, 4, 40);
+        for (int i = 0; i < 100; i++) {
+            cache.put(1L, "pay-" + i, RECEIPT);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(40);
+        assertThat(cache.get(1L, "pay-0")).isEmpty();
+        assertThat(cache.get(1L, "pay-99")).contains(RECEIPT);
+    }
+}
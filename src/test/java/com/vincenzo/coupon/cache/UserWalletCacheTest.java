@@ -0,0 +1,138 @@
+package com.vincenzo.coupon.cache;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.service.CouponService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "coupon.wallet.remote-tier=in-process"
+})
+@ActiveProfiles("test")
+class UserWalletCacheTest {
+
+    private static final long USER_ID = 910_001L;
+
+    @Autowired
+    private UserWalletCache walletCache;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponCatalog couponCatalog;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        coupon = couponRepository.save(Coupon.builder()
+            .code("WALLET2025")
+            .title("지갑 캐시 테스트 쿠폰")
+            .label("1,000원 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("FIXED")
+            .discountValue(1000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .issuedCount(0)
+            .maxUsages(2)
+            .build());
+        couponCatalog.refresh();
+        walletCache.invalidate(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userCouponRepository.deleteAll(
+            userCouponRepository.findAll().stream().filter(uc -> uc.getUserId() == USER_ID).toList());
+        couponRepository.delete(coupon);
+        couponCatalog.refresh();
+        walletCache.invalidate(USER_ID);
+    }
+
+    @Test
+    @DisplayName("발급이 커밋되면 캐시된 지갑에 반영되어 목록/중복 판단에 DB 조회가 없다")
+    void assign_UpdatesCachedWallet() {
+        couponService.listAvailableCoupons(USER_ID);
+        couponService.assignToUser("WALLET2025", USER_ID);
+
+        long queries = countQueries(() -> {
+            List<CouponDto> coupons = couponService.listAvailableCoupons(USER_ID);
+            assertThat(coupons)
+                .filteredOn(c -> c.getCode().equals("WALLET2025"))
+                .singleElement()
+                .matches(CouponDto::isAlreadyAssigned);
+            assertThatThrownBy(() -> couponService.assignToUser("WALLET2025", USER_ID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 발급된 쿠폰입니다.");
+        });
+
+        assertThat(queries).isZero();
+    }
+
+    @Test
+    @DisplayName("사용이 커밋되면 지갑을 무효화해 남은 횟수를 다시 적재한다")
+    void redeem_ReloadsRemainingUsages() {
+        couponService.assignToUser("WALLET2025", USER_ID);
+        couponService.redeem("WALLET2025", USER_ID, new BigDecimal("10000"), null, null);
+        assertThat(walletCache.get(USER_ID).usableCouponIds()).containsExactly(coupon.getId());
+
+        couponService.redeem("WALLET2025", USER_ID, new BigDecimal("10000"), null, null);
+        assertThat(walletCache.get(USER_ID).couponIds()).containsExactly(coupon.getId());
+        assertThat(walletCache.get(USER_ID).usableCouponIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로컬 계층이 비어도 원격 계층에서 DB 조회 없이 채운다")
+    void localMiss_FallsBackToRemoteTier() {
+        couponService.assignToUser("WALLET2025", USER_ID);
+        // 발급 후 원격 계층은 무효화되므로, 다시 적재해 원격 계층을 채움
+        walletCache.invalidate(USER_ID);
+        walletCache.get(USER_ID);
+        walletCache.invalidateLocal();
+        long remoteHits = walletCache.stats().getRemoteHits();
+
+        long queries = countQueries(() ->
+            assertThat(walletCache.get(USER_ID).contains(coupon.getId())).isTrue());
+
+        assertThat(queries).isZero();
+        assertThat(walletCache.stats().getRemoteHits()).isEqualTo(remoteHits + 1);
+    }
+
+    private long countQueries(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
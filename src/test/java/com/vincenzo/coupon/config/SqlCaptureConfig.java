@@ -0,0 +1,37 @@
+package com.vincenzo.coupon.config;
+
+import com.vincenzo.coupon.metrics.QueryCountingInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 테스트 전용 - Hibernate 가 마지막으로 준비한 SQL 을 스레드별로 남김 (생성된 쿼리의 실행 계획 확인용)
+ * - 쿼리 수 지표도 그대로 세도록 QueryCountingInspector 를 확장해 대신 등록
+ * - 테스트 소스의 컴포넌트 스캔으로 모든 테스트 컨텍스트에 같이 등록 (컨텍스트 캐시를 나누지 않음)
+ */
+@Configuration
+public class SqlCaptureConfig {
+
+    private static final ThreadLocal<String> LAST = new ThreadLocal<>();
+
+    /** 현재 스레드에서 마지막으로 준비한 SQL */
+    public static String last() {
+        return LAST.get();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CapturingInspector());
+    }
+
+    static class CapturingInspector extends QueryCountingInspector {
+
+        @Override
+        public String inspect(String sql) {
+            LAST.set(sql);
+            return super.inspect(sql);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.vincenzo.coupon.controller;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.domain.RedemptionReceipt;
+import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.RedemptionReceiptRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.service.CouponService;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 API 동작 테스트 - 서블릿/reactive 구현이 같은 시나리오를 통과해야 함 (하위 클래스가 실행 모드 지정)
+ */
+@AutoConfigureObservability
+abstract class CouponApiBehaviorTest {
+
+    private static final AtomicLong NEXT_USER_ID = new AtomicLong(920_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private SignedCouponCodec signedCodes;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private RedemptionReceiptRepository receiptRepository;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private WebTestClient client;
+    private Coupon coupon;
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+        coupon = couponService.createCoupon(coupon(uniqueCode(), Set.of()));
+        userId = NEXT_USER_ID.incrementAndGet();
+    }
+
+    @Test
+    @DisplayName("발급한 쿠폰은 목록에서 발급됨으로 표시")
+    void list_ShowsAssignedCoupon() {
+        assign(coupon.getCode()).expectStatus().isCreated();
+
+        CouponDto[] coupons = client.get().uri("/api/coupons?userId={userId}", userId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(CouponDto[].class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(coupons)
+            .filteredOn(c -> c.getCode().equals(coupon.getCode()))
+            .singleElement()
+            .matches(CouponDto::isAlreadyAssigned);
+    }
+
+    @Test
+    @DisplayName("사용 시 할인/포인트 계산, 1회 쿠폰을 다시 쓰면 409")
+    void redeem_AppliesDiscountOnce() {
+        assign(coupon.getCode()).expectStatus().isCreated();
+
+        redeem(coupon.getCode(), 50_000, null)
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.discountApplied").isEqualTo(5000)
+            .jsonPath("$.finalAmount").isEqualTo(45000)
+            .jsonPath("$.rewardPointsEarned").isEqualTo(1000);
+
+        redeem(coupon.getCode(), 50_000, null)
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody().jsonPath("$.message").isEqualTo("사용 가능한 쿠폰이 없습니다.");
+    }
+
+    @Test
+    @DisplayName("최소 주문 금액 미달이면 차감 없이 409")
+    void redeem_MinOrderAmountNotMet() {
+        assign(coupon.getCode()).expectStatus().isCreated();
+
+        redeem(coupon.getCode(), 5_000, null)
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody().jsonPath("$.message").isEqualTo("최소 주문 금액 미달입니다.");
+        redeem(coupon.getCode(), 50_000, null).expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("거절 사유별 건수와 동작별 지연 히스토그램이 Prometheus 지표로 노출")
+    void rejectionsAreExposedAsMetrics() {
+        redeem(coupon.getCode(), 50_000, null).expectStatus().isEqualTo(HttpStatus.CONFLICT);
+
+        String scrape = client.get().uri("/actuator/prometheus")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class).returnResult().getResponseBody();
+
+        assertThat(scrape)
+            .containsPattern("coupon_rejections_total\\{[^}]*operation=\"redeem\",reason=\"no_usage_left\",?} [1-9]")
+            .contains("coupon_operation_seconds_bucket{");
+    }
+
+    @Test
+    @DisplayName("발급받지 않은 쿠폰/없는 코드/위조 코드/검증 실패는 각각 409/409/400/400")
+    void redeem_Rejections() {
+        redeem(coupon.getCode(), 50_000, null)
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody().jsonPath("$.message").isEqualTo("사용 가능한 쿠폰이 없습니다.");
+        redeem("NO_SUCH_CODE", 50_000, null)
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody().jsonPath("$.message").isEqualTo("쿠폰이 존재하지 않습니다.");
+        redeem(coupon.getId() + "-AAAAAA0000000", 50_000, null)
+            .expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.message").isEqualTo("유효하지 않은 쿠폰 코드입니다.");
+        client.post().uri("/api/coupons/redeem")
+            .bodyValue(Map.of("code", coupon.getCode(), "orderAmount", 50_000))
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.validationErrors.userId").isEqualTo("사용자 ID는 필수입니다.");
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 재시도하면 다시 차감하지 않고 처음 결과, 다른 코드에 쓰면 409")
+    void redeem_IdempotencyKeyReplaysFirstResult() {
+        assign(coupon.getCode()).expectStatus().isCreated();
+        Map<String, Object> body = Map.of("code", coupon.getCode(), "userId", userId, "orderAmount", 50_000,
+            "idempotencyKey", "pay-" + userId);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            client.post().uri("/api/coupons/redeem").bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.discountApplied").isEqualTo(5000);
+        }
+        client.post().uri("/api/coupons/redeem")
+            .bodyValue(Map.of("code", "NO_SUCH_CODE", "userId", userId, "orderAmount", 50_000,
+                "idempotencyKey", "pay-" + userId))
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody().jsonPath("$.message").isEqualTo("다른 쿠폰 사용에 쓰인 멱등 키입니다.");
+        // 1회성 쿠폰이 재시도로 소진되지 않았다면 키 없는 새 요청은 여기서 처음으로 거부됨
+        redeem(coupon.getCode(), 50_000, null)
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody().jsonPath("$.message").isEqualTo("사용 가능한 쿠폰이 없습니다.");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 마지막 사용 횟수를 쓴 멱등 키로 재시도하면 409 대신 처음 결과")
+    void redeem_IdempotencyKeyReplaysAfterLastUsageOnColdNode() {
+        assign(coupon.getCode()).expectStatus().isCreated();
+        // 다른 노드가 처리한 요청 - 이 노드 메모리에는 키가 없음
+        new TransactionTemplate(txManager).executeWithoutResult(status -> {
+            userCouponRepository.useOnce(coupon.getId(), userId);
+            receiptRepository.save(RedemptionReceipt.builder()
+                .userId(userId)
+                .idempotencyKey("cold-" + userId)
+                .code(coupon.getCode())
+                .finalAmount(new BigDecimal("45000"))
+                .discountApplied(new BigDecimal("5000"))
+                .rewardPointsEarned(new BigDecimal("1000"))
+                .createdAt(LocalDateTime.now())
+                .build());
+        });
+
+        client.post().uri("/api/coupons/redeem")
+            .bodyValue(Map.of("code", coupon.getCode(), "userId", userId, "orderAmount", 50_000,
+                "idempotencyKey", "cold-" + userId))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.discountApplied").isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 한도를 넘겨 두드리면 서비스 호출 없이 429")
+    void redeem_RateLimitedPerUser() {
+        // 한도(초당 5, 한꺼번에 10)를 넘길 때까지 - 느린 환경에서 채워지는 토큰까지 고려해 넉넉히
+        EntityExchangeResult<String> limited = null;
+        for (int attempt = 0; attempt < 40 && limited == null; attempt++) {
+            EntityExchangeResult<String> result = redeem("NO_SUCH_CODE", 50_000, null)
+                .expectBody(String.class).returnResult();
+            if (result.getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+                limited = result;
+            } else {
+                assertThat(result.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+            }
+        }
+
+        assertThat(limited).isNotNull();
+        assertThat(limited.getResponseHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(limited.getResponseBody()).contains("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 쿠폰도 서명 코드로 적재해 대상 카테고리까지 검증")
+    void redeem_SignedCodeForUncachedCoupon() {
+        // 서비스를 거치지 않고 저장해 카탈로그에 없는 쿠폰
+        Coupon uncached = couponRepository.save(coupon(uniqueCode(), Set.of(10L)));
+        String code = signedCodes.issue(uncached.getId());
+        assign(code).expectStatus().isCreated();
+
+        redeem(code, 50_000, 11L)
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody().jsonPath("$.message").isEqualTo("해당 카테고리에 사용할 수 없는 쿠폰입니다.");
+        redeem(code, 50_000, 10L)
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.discountApplied").isEqualTo(5000);
+    }
+
+    private WebTestClient.ResponseSpec assign(String code) {
+        return client.post().uri("/api/coupons/assign")
+            .bodyValue(Map.of("code", code, "userId", userId))
+            .exchange();
+    }
+
+    private WebTestClient.ResponseSpec redeem(String code, long orderAmount, Long categoryId) {
+        Map<String, Object> body = categoryId == null
+            ? Map.of("code", code, "userId", userId, "orderAmount", orderAmount)
+            : Map.of("code", code, "userId", userId, "orderAmount", orderAmount, "categoryId", categoryId);
+        return client.post().uri("/api/coupons/redeem").bodyValue(body).exchange();
+    }
+
+    private static String uniqueCode() {
+        return "API" + Long.toString(System.nanoTime(), 36).toUpperCase();
+    }
+
+    private static Coupon coupon(String code, Set<Long> categoryIds) {
+        return Coupon.builder()
+            .code(code)
+            .title("API 동작 테스트 쿠폰")
+            .label("10% 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("PERCENT")
+            .discountValue(10)
+            .maxDiscountAmount(new BigDecimal("10000"))
+            .minOrderAmount(new BigDecimal("10000"))
+            .rewardPointPercent(2)
+            .issuedCount(0)
+            .maxUsages(1)
+            .targetCategoryIds(categoryIds)
+            .build();
+    }
+}
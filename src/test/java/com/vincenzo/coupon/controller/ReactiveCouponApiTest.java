@@ -0,0 +1,17 @@
+package com.vincenzo.coupon.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * reactive(WebFlux + R2DBC) 구현의 쿠폰 API 동작 - 서블릿 구현과 같은 시나리오
+ * - JDBC/R2DBC 가 같은 인메모리 DB 를 보도록 별도 이름 사용
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.main.web-application-type=reactive",
+    "spring.datasource.url=jdbc:h2:mem:reactive-api;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "coupon.reactive.r2dbc-url=r2dbc:h2:mem:///reactive-api"
+})
+@ActiveProfiles({"test", "reactive"})
+class ReactiveCouponApiTest extends CouponApiBehaviorTest {
+}
@@ -0,0 +1,92 @@
+package com.vincenzo.coupon.controller;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.service.CouponService;
+import com.vincenzo.coupon.service.DbPermitScheduler;
+import com.vincenzo.coupon.service.FlashDropService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서블릿(Spring MVC + JPA) 구현의 쿠폰 API 동작
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ServletCouponApiTest extends CouponApiBehaviorTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DbPermitScheduler dbPermitScheduler;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private FlashDropService drops;
+
+    @Test
+    @DisplayName("사용자/코드 빈도 제한에 걸린 요청은 DB 입장 허가를 얻지 않음")
+    void rateLimitedRequestIsNotAdmitted() {
+        WebTestClient client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+        Map<String, Object> body = Map.of("code", "NO_SUCH_CODE", "userId", 929_001L, "orderAmount", 50_000);
+        long before = dbPermitScheduler.stats().getAdmitted();
+
+        int passed = 0;
+        boolean limited = false;
+        for (int attempt = 0; attempt < 40 && !limited; attempt++) {
+            HttpStatus status = (HttpStatus) client.post().uri("/api/coupons/redeem").bodyValue(body).exchange()
+                .returnResult(String.class).getStatus();
+            if (status == HttpStatus.TOO_MANY_REQUESTS) {
+                limited = true;
+            } else {
+                passed++;
+            }
+        }
+
+        assertThat(limited).isTrue();
+        assertThat(dbPermitScheduler.stats().getAdmitted() - before).isEqualTo(passed);
+    }
+
+    @Test
+    @DisplayName("선착순 대기열이 열린 코드의 발급 요청은 DB 입장 허가 없이 줄을 섬")
+    void openDropAssignIsNotAdmitted() {
+        WebTestClient client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+        Coupon coupon = couponService.createCoupon(Coupon.builder()
+            .code("APIDROP" + System.nanoTime())
+            .title("API 대기열 테스트 쿠폰")
+            .label("1000원 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("FIXED")
+            .discountValue(1000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .maxIssueCount(10)
+            .issuedCount(0)
+            .maxUsages(1)
+            .build());
+        drops.open(coupon.getCode());
+        long before = dbPermitScheduler.stats().getAdmitted();
+
+        client.post().uri("/api/coupons/assign")
+            .bodyValue(Map.of("code", coupon.getCode(), "userId", 929_101L))
+            .exchange()
+            .expectStatus().isAccepted();
+
+        assertThat(dbPermitScheduler.stats().getAdmitted()).isEqualTo(before);
+        drops.close(coupon.getCode());
+    }
+}
@@ -0,0 +1,104 @@
+package com.vincenzo.coupon.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedemptionJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("다시 열면 기록된 LSN 다음부터 이어 쓰고, 세그먼트를 넘어도 순서대로 읽힘")
+    void reopenContinuesAfterLastRecord() {
+        RedemptionJournal journal = new RedemptionJournal(dir.toString(), 4, false);
+        for (int i = 1; i <= 6; i++) {
+            assertThat(journal.append(RedemptionEvent.of(10, i, 50_000, 5_000, 1_000))).isEqualTo(i);
+        }
+        journal.close();
+
+        RedemptionJournal reopened = new RedemptionJournal(dir.toString(), 4, false);
+        assertThat(reopened.lastLsn()).isEqualTo(6);
+        assertThat(reopened.append(RedemptionEvent.of(10, 7, 50_000, 5_000, 1_000))).isEqualTo(7);
+
+        List<RedemptionEvent> events = reopened.readFrom(3, 10);
+        assertThat(events).extracting(RedemptionEvent::lsn).containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(events).extracting(RedemptionEvent::userId).containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(events.get(0).discount()).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("마지막 기록이 찢어졌으면 그 직전까지만 복구하고 그 자리부터 덮어씀")
+    void tornTailIsDiscarded() throws IOException {
+        RedemptionJournal journal = new RedemptionJournal(dir.toString(), 8, false);
+        journal.append(RedemptionEvent.of(10, 1, 50_000, 5_000, 1_000));
+        journal.append(RedemptionEvent.of(10, 2, 50_000, 5_000, 1_000));
+        journal.close();
+
+        // 두 번째 기록의 본문 일부만 바뀐 상태 (CRC 불일치)
+        try (FileChannel channel = FileChannel.open(onlySegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), RedemptionJournal.RECORD_SIZE + 20);
+        }
+
+        RedemptionJournal reopened = new RedemptionJournal(dir.toString(), 8, false);
+        assertThat(reopened.lastLsn()).isEqualTo(1);
+        assertThat(reopened.append(RedemptionEvent.of(10, 3, 50_000, 5_000, 1_000))).isEqualTo(2);
+        assertThat(reopened.readFrom(1, 10)).extracting(RedemptionEvent::userId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("반영된 세그먼트만 삭제하고, 반영 지점이 더 앞서면 그 뒤부터 번호를 매김")
+    void truncateAndAdvance() throws IOException {
+        RedemptionJournal journal = new RedemptionJournal(dir.toString(), 2, false);
+        for (int i = 1; i <= 5; i++) {
+            journal.append(RedemptionEvent.of(10, i, 50_000, 5_000, 0));
+        }
+        journal.truncateUpTo(3);
+        assertThat(journal.segmentCount()).isEqualTo(2);
+        assertThat(journal.readFrom(3, 10)).extracting(RedemptionEvent::lsn).containsExactly(3L, 4L, 5L);
+
+        // 저널 파일을 잃고 재시작한 경우 - DB 에 반영된 LSN 을 재사용하지 않음
+        journal.close();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        RedemptionJournal restarted = new RedemptionJournal(dir.toString(), 2, false);
+        restarted.advanceTo(5);
+        assertThat(restarted.append(RedemptionEvent.of(10, 6, 50_000, 5_000, 0))).isEqualTo(6);
+        assertThat(restarted.readFrom(6, 10)).extracting(RedemptionEvent::userId).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("커밋/롤백을 기다리는 기록 앞까지만 읽고, 끝나면 뒤 기록까지 읽음")
+    void readStopsBeforePendingRecord() {
+        RedemptionJournal journal = new RedemptionJournal(dir.toString(), 8, false);
+        journal.append(RedemptionEvent.of(10, 1, 50_000, 5_000, 0));
+        long pending = journal.appendPending(RedemptionEvent.of(10, 2, 50_000, 5_000, 0));
+        journal.append(RedemptionEvent.of(10, 3, 50_000, 5_000, 0));
+
+        assertThat(journal.readFrom(1, 10)).extracting(RedemptionEvent::lsn).containsExactly(1L);
+
+        journal.settle(pending);
+        assertThat(journal.readFrom(1, 10)).extracting(RedemptionEvent::lsn).containsExactly(1L, 2L, 3L);
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.vincenzo.coupon.metrics;
+
+import com.vincenzo.coupon.exception.CouponRejectedException;
+import com.vincenzo.coupon.metrics.CouponMetrics.Operation;
+import com.vincenzo.coupon.rule.Rejection;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CouponMetrics metrics = new CouponMetrics(registry, 2, 100);
+
+    @Test
+    @DisplayName("거절은 사유별로 세고, 지연은 결과별 타이머에 기록")
+    void rejectionsAreCountedByReason() {
+        metrics.record(Operation.ASSIGN, () -> { });
+        assertThatThrownBy(() -> metrics.record(Operation.ASSIGN, () -> {
+            throw new CouponRejectedException(Rejection.ALREADY_ASSIGNED);
+        })).isInstanceOf(IllegalStateException.class).hasMessage("이미 발급된 쿠폰입니다.");
+        assertThatThrownBy(() -> metrics.record(Operation.ASSIGN, () -> {
+            throw new IllegalArgumentException("유효하지 않은 쿠폰 코드입니다.");
+        }));
+
+        assertThat(registry.get("coupon.rejections").tags("operation", "assign", "reason", "already_assigned")
+            .counter().count()).isEqualTo(1);
+        assertThat(registry.get("coupon.rejections").tags("operation", "assign", "reason", "no_usage_left")
+            .counter().count()).isZero();
+        assertThat(registry.get("coupon.operation").tags("operation", "assign", "outcome", "success")
+            .timer().count()).isEqualTo(1);
+        assertThat(registry.get("coupon.operation").tags("operation", "assign", "outcome", "rejected")
+            .timer().count()).isEqualTo(1);
+        assertThat(registry.get("coupon.operation").tags("operation", "assign", "outcome", "invalid")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쿠폰별 건수는 상위 N개만 게이지로 노출하고, 상위에서 빠지면 시계열 제거")
+    void onlyTopNCouponsAreExposed() {
+        redeem(1L, 5);
+        redeem(2L, 3);
+        redeem(3L, 1);
+        metrics.publishHotCoupons();
+
+        assertThat(registry.find("coupon.hot.redemption").gauges())
+            .extracting(g -> g.getId().getTag("coupon"))
+            .containsExactlyInAnyOrder("1", "2");
+
+        redeem(3L, 4);
+        redeem(4L, 2);
+        metrics.publishHotCoupons();
+
+        assertThat(registry.find("coupon.hot.redemption").gauges())
+            .extracting(g -> g.getId().getTag("coupon"))
+            .containsExactlyInAnyOrder("3", "4");
+        Gauge hottest = registry.get("coupon.hot.redemption").tag("coupon", "3").gauge();
+        assertThat(hottest.value()).isPositive();
+    }
+
+    private void redeem(long couponId, int times) {
+        for (int i = 0; i < times; i++) {
+            metrics.redeemed(couponId);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.vincenzo.coupon.repository;
+
+import com.vincenzo.coupon.config.SqlCaptureConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발급/사용 경로 쿼리의 실행 계획 (H2 EXPLAIN) - 테이블 전체 스캔이 있으면 실패
+ * - JPA 쿼리는 Hibernate 가 실제로 만든 SQL 을 잡아 확인 (매핑/쿼리를 바꿔도 따라감)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HotQueryPlanTest {
+
+    /** 없는 ID - 수정 쿼리가 다른 테스트의 데이터를 건드리지 않도록 */
+    private static final long NONE = -1L;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private UserCouponHistoryRepository historyRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponCodeRepository couponCodeRepository;
+
+    @Autowired
+    private RedemptionReceiptRepository receiptRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @DisplayName("발급/사용/보관 경로 쿼리는 모두 인덱스로 찾음")
+    void hotQueriesUseIndexes() {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        Map<String, String> queries = new LinkedHashMap<>();
+        queries.put("지갑 적재", generated(() -> userCouponRepository.findWalletEntriesByUserId(NONE)));
+        queries.put("사용 차감", generated(() -> tx.execute(status -> userCouponRepository.useOnce(NONE, NONE))));
+        queries.put("사용 복구", generated(() -> tx.execute(status -> userCouponRepository.restoreOnce(NONE, NONE))));
+        queries.put("발급 수 증가", generated(() -> tx.execute(status -> couponRepository.incrementIssuedCount(NONE))));
+        queries.put("카탈로그 미스 코드 조회", generated(() -> couponRepository.findByCode("NONE")));
+        queries.put("일회용 코드 조회", generated(() -> couponCodeRepository.findCouponIdByCode("NONE")));
+        queries.put("일회용 코드 사용 처리",
+            generated(() -> tx.execute(status -> couponCodeRepository.claim("NONE", NONE, LocalDateTime.now()))));
+        queries.put("멱등 키 조회", generated(() -> receiptRepository.findByUserIdAndIdempotencyKey(NONE, "key")));
+        queries.put("멱등 키 정리", generated(() -> tx.execute(status -> receiptRepository.deleteCreatedBefore(LocalDateTime.now().minusYears(100)))));
+        queries.put("보관 쿠폰 재발급 확인", generated(() -> historyRepository.existsByUserIdAndCouponIdAndUsedTrue(NONE, NONE)));
+        queries.put("대량 발급 보관 사용자", generated(() -> historyRepository.findUsedUserIds(NONE, List.of(NONE, NONE - 1))));
+        queries.put("이력 조회", generated(() -> historyRepository.findHistory(NONE, PageRequest.of(0, 10))));
+        queries.put("보관 대상", UserCouponArchiveRepository.FIND_COLD);
+        queries.put("빠진 커밋 표시", RedemptionEffectRepository.FIND_ORPHANED);
+
+        queries.forEach((name, sql) -> assertThat(plan(sql))
+            .as("%s: %s", name, sql)
+            .doesNotContainIgnoringCase("tableScan"));
+    }
+
+    /** 호출 중 Hibernate 가 마지막으로 준비한 SQL */
+    private static String generated(Runnable call) {
+        call.run();
+        return SqlCaptureConfig.last();
+    }
+
+    /** 파라미터는 모두 NULL 로 묶음 (EXPLAIN 은 실행하지 않고 계획만 세움) */
+    private String plan(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                    ps.setObject(i, null);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.vincenzo.coupon.rule;
+
+import com.vincenzo.coupon.domain.Coupon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponRuleTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Test
+    @DisplayName("정율 할인은 최대 할인 한도로 제한되고 1원 미만은 버린다")
+    void percentDiscount_CappedAndTruncated() {
+        CouponRule rule = CouponRule.compile(coupon("PERCENT", 15, new BigDecimal("5000")));
+
+        assertThat(rule.discount(12_345)).isEqualTo(1_851);
+        assertThat(rule.discount(100_000)).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("정액 할인은 주문 금액을 넘지 않는다")
+    void fixedDiscount_NotExceedingAmount() {
+        CouponRule rule = CouponRule.compile(coupon("FIXED", 3000, null));
+
+        assertThat(rule.discount(20_000)).isEqualTo(3_000);
+        assertThat(rule.discount(2_000)).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("유효기간, 최소 주문 금액, 대상 상품/카테고리 순으로 거절 사유를 반환한다")
+    void check_ReturnsRejection() {
+        Coupon c = coupon("FIXED", 1000, null);
+        c.setTargetProductIds(Set.of(30L, 10L, 20L));
+        c.setTargetCategoryIds(Set.of(7L));
+        CouponRule rule = CouponRule.compile(c);
+
+        assertThat(rule.check(NOW.plusDays(30), 20_000, 10L, 7L)).isEqualTo(Rejection.NOT_IN_VALID_PERIOD);
+        assertThat(rule.check(NOW, 9_999, 10L, 7L)).isEqualTo(Rejection.MIN_ORDER_NOT_MET);
+        assertThat(rule.check(NOW, 20_000, 11L, 7L)).isEqualTo(Rejection.PRODUCT_NOT_TARGETED);
+        assertThat(rule.check(NOW, 20_000, 20L, null)).isEqualTo(Rejection.CATEGORY_NOT_TARGETED);
+        assertThat(rule.check(NOW, 20_000, 30L, 7L)).isNull();
+    }
+
+    @Test
+    @DisplayName("적립 포인트는 주문 금액 기준 비율로 계산한다")
+    void rewardPoints() {
+        Coupon c = coupon("FIXED", 1000, null);
+        c.setRewardPointPercent(5);
+
+        assertThat(CouponRule.compile(c).rewardPoints(33_333)).isEqualTo(1_666);
+        assertThat(CouponRule.compile(coupon("FIXED", 1000, null)).rewardPoints(33_333)).isZero();
+    }
+
+    private static Coupon coupon(String type, int value, BigDecimal maxDiscount) {
+        return Coupon.builder()
+            .id(1L)
+            .code("RULE")
+            .validFrom(NOW.minusDays(1))
+            .validUntil(NOW.plusDays(1))
+            .type(type)
+            .discountValue(value)
+            .maxDiscountAmount(maxDiscount)
+            .minOrderAmount(new BigDecimal("10000"))
+            .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.domain.BulkIssuanceJob;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.repository.BulkIssuanceJobRepository;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = "coupon.bulk.batch-size=100")
+@ActiveProfiles("test")
+class BulkIssuanceServiceTest {
+
+    @Autowired
+    private BulkIssuanceService bulkIssuanceService;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponCatalog couponCatalog;
+
+    @Autowired
+    private BulkIssuanceJobRepository jobRepository;
+
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        coupon = couponRepository.save(Coupon.builder()
+            .code("BULK2025")
+            .title("대량 발급 테스트 쿠폰")
+            .label("3,000원 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("FIXED")
+            .discountValue(3000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .issuedCount(0)
+            .maxUsages(1)
+            .build());
+        couponCatalog.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userCouponRepository.deleteAll(userCouponRepository.findAll().stream()
+            .filter(uc -> uc.getCoupon().getId().equals(coupon.getId()))
+            .toList());
+        couponRepository.deleteById(coupon.getId());
+        couponCatalog.refresh();
+    }
+
+    @Test
+    @DisplayName("대량 발급은 이미 발급된 사용자를 유니크 제약으로 건너뛴다")
+    void submit_SkipsAlreadyAssignedUsers() {
+        // given - 일부 사용자는 이미 발급, 목록 안에도 중복 포함
+        couponService.assignToUser("BULK2025", 700_010L);
+        couponService.assignToUser("BULK2025", 700_150L);
+        String body = LongStream.range(700_000L, 700_250L)
+            .mapToObj(Long::toString)
+            .collect(Collectors.joining("\n")) + "\n700001,700002";
+
+        // when
+        BulkIssuanceJob job = bulkIssuanceService.submit(
+            "BULK2025", new ByteArrayInputStream(body.getBytes(StandardCharsets.US_ASCII)));
+        await().atMost(Duration.ofSeconds(10)).until(
+            () -> bulkIssuanceService.getJob(job.getId()).getStatus() == BulkIssuanceJob.Status.COMPLETED);
+
+        // then
+        BulkIssuanceJob done = bulkIssuanceService.getJob(job.getId());
+        assertThat(done.getTotalCount()).isEqualTo(252);
+        assertThat(done.getProcessedCount()).isEqualTo(252);
+        assertThat(done.getInsertedCount()).isEqualTo(248);
+        assertThat(done.getSkippedCount()).isEqualTo(4);
+        assertThat(couponRepository.findIssuedCountById(coupon.getId())).isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("실패한 작업만 재개 - 실행 중인 작업과 방금 재개한 작업은 거부해 한 번만 실행")
+    void resume_OnlyFailedJobOnce() throws IOException {
+        BulkIssuanceJob running = jobRepository.save(job(BulkIssuanceJob.Status.RUNNING, Path.of("unused.txt")));
+        assertThatThrownBy(() -> bulkIssuanceService.resume(running.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("RUNNING");
+        assertThat(bulkIssuanceService.getJob(running.getId()).getStatus()).isEqualTo(BulkIssuanceJob.Status.RUNNING);
+
+        Path source = Files.createTempFile("bulk-resume", ".txt");
+        Files.writeString(source, "710001\n710002\n710003\n", StandardCharsets.US_ASCII);
+        BulkIssuanceJob failed = jobRepository.save(job(BulkIssuanceJob.Status.FAILED, source));
+        bulkIssuanceService.resume(failed.getId());
+        assertThatThrownBy(() -> bulkIssuanceService.resume(failed.getId()))
+            .isInstanceOf(IllegalStateException.class);
+        await().atMost(Duration.ofSeconds(10)).until(
+            () -> bulkIssuanceService.getJob(failed.getId()).getStatus() == BulkIssuanceJob.Status.COMPLETED);
+
+        BulkIssuanceJob done = bulkIssuanceService.getJob(failed.getId());
+        assertThat(done.getProcessedCount()).isEqualTo(3);
+        assertThat(done.getInsertedCount()).isEqualTo(3);
+        assertThat(couponRepository.findIssuedCountById(coupon.getId())).isEqualTo(3);
+    }
+
+    private BulkIssuanceJob job(BulkIssuanceJob.Status status, Path source) {
+        return BulkIssuanceJob.builder()
+            .couponId(coupon.getId())
+            .couponCode(coupon.getCode())
+            .sourcePath(source.toString())
+            .status(status)
+            .totalCount(3)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.vincenzo.coupon.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartCouponOptimizerTest {
+
+    @Test
+    @DisplayName("쿠폰별로 할인액이 가장 큰 줄이 겹치면 전체 합이 최대인 조합을 고른다")
+    void optimize_PrefersBestTotalOverGreedy() {
+        // 탐욕적으로 A->0 을 고르면 8000 + 1000, 최적은 A->1, B->0 = 7000 + 6000
+        long[][] discounts = {
+            {8000, 7000},
+            {6000, 1000},
+        };
+
+        int[] assignment = CartCouponOptimizer.optimize(discounts);
+
+        assertThat(assignment).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("적용할 수 없는 쿠폰은 배정하지 않는다")
+    void optimize_SkipsInapplicableCoupons() {
+        long[][] discounts = {
+            {0, 0, 0},
+            {0, 3000, 0},
+            {0, 2000, 0},
+        };
+
+        int[] assignment = CartCouponOptimizer.optimize(discounts);
+
+        assertThat(assignment).containsExactly(-1, 1, -1);
+    }
+
+    @Test
+    @DisplayName("무작위 행렬에서 완전 탐색과 같은 최대 할인액을 찾는다")
+    void optimize_MatchesExhaustiveSearch() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            int coupons = 1 + random.nextInt(6);
+            int lines = 1 + random.nextInt(6);
+            long[][] discounts = new long[coupons][lines];
+            for (int c = 0; c < coupons; c++) {
+                for (int l = 0; l < lines; l++) {
+                    discounts[c][l] = random.nextInt(3) == 0 ? 0 : random.nextInt(10_000);
+                }
+            }
+
+            int[] assignment = CartCouponOptimizer.optimize(discounts);
+
+            long total = 0;
+            boolean[] taken = new boolean[lines];
+            for (int c = 0; c < coupons; c++) {
+                if (assignment[c] >= 0) {
+                    assertThat(taken[assignment[c]]).isFalse();
+                    taken[assignment[c]] = true;
+                    total += discounts[c][assignment[c]];
+                }
+            }
+            assertThat(total).isEqualTo(exhaustive(discounts, 0, new boolean[lines]));
+        }
+    }
+
+    private static long exhaustive(long[][] discounts, int coupon, boolean[] taken) {
+        if (coupon == discounts.length) {
+            return 0;
+        }
+        long best = exhaustive(discounts, coupon + 1, taken);
+        for (int l = 0; l < taken.length; l++) {
+            if (!taken[l] && discounts[coupon][l] > 0) {
+                taken[l] = true;
+                best = Math.max(best, discounts[coupon][l] + exhaustive(discounts, coupon + 1, taken));
+                taken[l] = false;
+            }
+        }
+        return best;
+    }
+}
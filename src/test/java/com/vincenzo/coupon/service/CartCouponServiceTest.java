@@ -0,0 +1,65 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.dto.CartItem;
+import com.vincenzo.coupon.dto.CartRedemptionResult;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 쿠폰 적용 - 같은 쿠폰을 다른 형식의 코드로 두 번 넣어도 한 번만 적용되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CartCouponServiceTest {
+
+    private static final long USER_ID = 980_001L;
+
+    @Autowired
+    private CartCouponService cartCouponService;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private SignedCouponCodec signedCodes;
+
+    @Test
+    @DisplayName("일반 코드와 서명 코드가 같은 쿠폰이면 한 줄에만 적용하고 한 번만 차감")
+    void sameCouponByPlainAndSignedCodeAppliesOnce() {
+        Coupon coupon = couponService.createCoupon(Coupon.builder()
+            .code("CART" + System.nanoTime())
+            .title("장바구니 테스트 쿠폰")
+            .label("5000원 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("FIXED")
+            .discountValue(5000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .issuedCount(0)
+            .maxUsages(1)
+            .build());
+        couponService.assignToUser(coupon.getCode(), USER_ID);
+        List<CartItem> items = List.of(
+            CartItem.builder().productId(1L).unitPrice(new BigDecimal("30000")).build(),
+            CartItem.builder().productId(2L).unitPrice(new BigDecimal("20000")).build());
+        List<String> codes = List.of(coupon.getCode(), signedCodes.issue(coupon.getId()));
+
+        CartRedemptionResult quoted = cartCouponService.quote(USER_ID, items, codes);
+        CartRedemptionResult redeemed = cartCouponService.redeem(USER_ID, items, codes);
+
+        assertThat(quoted.getAppliedCoupons()).hasSize(1);
+        assertThat(redeemed.getAppliedCoupons()).hasSize(1);
+        assertThat(redeemed.getDiscountApplied()).isEqualByComparingTo("5000");
+    }
+}
@@ -0,0 +1,122 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.WalletEntry;
+import com.vincenzo.coupon.domain.CodeMintJob;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.repository.CouponCodeRepository;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = "coupon.code-mint.batch-size=1000")
+@ActiveProfiles("test")
+class CodeMintServiceTest {
+
+    @Autowired
+    private CodeMintService codeMintService;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponCodeRepository couponCodeRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponCatalog couponCatalog;
+
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        coupon = couponRepository.save(Coupon.builder()
+            .code("MINT2025")
+            .title("일회용 코드 테스트 쿠폰")
+            .label("5,000원 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("FIXED")
+            .discountValue(5000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .issuedCount(0)
+            .maxUsages(1)
+            .build());
+        couponCatalog.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userCouponRepository.deleteAll(userCouponRepository.findAll().stream()
+            .filter(uc -> uc.getCoupon().getId().equals(coupon.getId()))
+            .toList());
+        couponCodeRepository.deleteAll(couponCodeRepository.findAll().stream()
+            .filter(cc -> cc.getCouponId().equals(coupon.getId()))
+            .toList());
+        couponRepository.deleteById(coupon.getId());
+        couponCatalog.refresh();
+    }
+
+    @Test
+    @DisplayName("요청한 수만큼 서로 다른 코드를 발행하고, 코드는 한 번만 사용할 수 있다")
+    void submit_MintsUniqueSingleUseCodes() {
+        // when
+        CodeMintJob job = codeMintService.submit("MINT2025", 20_000);
+        await().atMost(Duration.ofSeconds(30)).until(
+            () -> codeMintService.getJob(job.getId()).getStatus() != CodeMintJob.Status.RUNNING);
+
+        // then
+        CodeMintJob done = codeMintService.getJob(job.getId());
+        assertThat(done.getStatus()).isEqualTo(CodeMintJob.Status.COMPLETED);
+        assertThat(done.getMintedCount()).isEqualTo(20_000);
+        assertThat(done.getCodesPerSecond()).isPositive();
+
+        StringWriter out = new StringWriter();
+        codeMintService.exportCodes(job.getId(), out);
+        String[] codes = out.toString().split("\n");
+        assertThat(codes).hasSize(20_000);
+        assertThat(Set.of(codes)).hasSize(20_000);
+
+        // 코드로 발급 → 같은 코드 재사용 불가
+        couponService.assignToUser(codes[0], 900_001L);
+        assertThat(userCouponRepository.findWalletEntriesByUserId(900_001L))
+            .extracting(WalletEntry::couponId)
+            .containsExactly(coupon.getId());
+        assertThatThrownBy(() -> couponService.assignToUser(codes[0], 900_002L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("이미 사용된 쿠폰 코드입니다.");
+    }
+
+    @Test
+    @DisplayName("다음 작업은 이전 작업과 겹치지 않는 일련번호 구간을 사용한다")
+    void submit_AllocatesDisjointRanges() {
+        CodeMintJob first = codeMintService.submit("MINT2025", 100);
+        CodeMintJob second = codeMintService.submit("MINT2025", 100);
+
+        assertThat(second.getStartIndex()).isEqualTo(first.getStartIndex() + 100);
+        await().atMost(Duration.ofSeconds(10)).until(
+            () -> codeMintService.getJob(second.getId()).getStatus() != CodeMintJob.Status.RUNNING
+                && codeMintService.getJob(first.getId()).getStatus() != CodeMintJob.Status.RUNNING);
+    }
+}
@@ -0,0 +1,188 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssuanceEngineTest {
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS = 200_000;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CouponIssuanceEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new CouponIssuanceEngine(couponRepository, transactionManager, true, 0);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 몰려도 발급 한도만큼만 정확히 예약된다")
+    void tryReserve_NeverOversells() throws Exception {
+        // given
+        Coupon coupon = limitedCoupon(1L, 10_000, 0);
+        when(couponRepository.findIssuedCountById(1L)).thenReturn(0);
+
+        // when
+        AtomicInteger granted = new AtomicInteger();
+        long elapsedNanos = hammer(() -> {
+            if (engine.tryReserve(coupon)) {
+                granted.incrementAndGet();
+            }
+        });
+
+        // then
+        double perSecond = REQUESTS / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("선착순 발급 처리량: %,.0f req/s%n", perSecond);
+        assertThat(granted.get()).isEqualTo(10_000);
+        assertThat(engine.remaining(coupon)).isZero();
+        assertThat(perSecond).isGreaterThan(20_000);
+
+        engine.flush();
+        verify(couponRepository).addIssuedCount(1L, 10_000);
+    }
+
+    @Test
+    @DisplayName("DB에 이미 발급된 수를 제외한 재고만 예약된다")
+    void tryReserve_StartsFromPersistedIssuedCount() throws Exception {
+        // given
+        Coupon coupon = limitedCoupon(2L, 1_000, 0);
+        when(couponRepository.findIssuedCountById(2L)).thenReturn(990);
+
+        // when
+        AtomicInteger granted = new AtomicInteger();
+        hammer(() -> {
+            if (engine.tryReserve(coupon)) {
+                granted.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(granted.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("스트라이프 간 토큰을 가져와도 총량은 보존된다")
+    void stripedStock_ConservesTokens() throws Exception {
+        CouponIssuanceEngine.StripedStock stock = new CouponIssuanceEngine.StripedStock(8, 1_000, 1_000);
+        AtomicInteger granted = new AtomicInteger();
+
+        // 예약 후 절반은 반환 (롤백 시나리오)
+        hammer(() -> {
+            int stripe = stock.tryAcquire();
+            if (stripe >= 0 && (granted.incrementAndGet() & 1) == 0) {
+                stock.release(stripe);
+                granted.decrementAndGet();
+            }
+        });
+
+        assertThat(granted.get() + stock.available()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("발급 한도를 바꾸면 이미 나간 수를 유지한 채 재고가 늘거나 줄고, 나간 수보다 낮추면 반환분으로 먼저 갚는다")
+    void limitChanged_ResizesStock() {
+        Coupon coupon = limitedCoupon(3L, 10, 0);
+        when(couponRepository.findIssuedCountById(3L)).thenReturn(4);
+        assertThat(engine.tryReserve(coupon)).isTrue();
+        assertThat(engine.remaining(coupon)).isEqualTo(5);
+
+        engine.limitChanged(3L, 20);
+        assertThat(engine.remaining(coupon)).isEqualTo(15);
+
+        // 나간 수 5 (DB 4 + 예약 1) 보다 낮은 한도 - 모자란 1개를 갚기 전까지 발급 없음
+        engine.limitChanged(3L, 4);
+        assertThat(engine.remaining(coupon)).isZero();
+        assertThat(engine.tryReserve(coupon)).isFalse();
+
+        engine.limitChanged(3L, 6);
+        assertThat(engine.tryReserve(coupon)).isTrue();
+        assertThat(engine.tryReserve(coupon)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반환된 토큰은 한도를 낮춰 생긴 부족분부터 갚는다")
+    void stripedStock_ReleasePaysDebtFirst() {
+        CouponIssuanceEngine.StripedStock stock = new CouponIssuanceEngine.StripedStock(4, 2, 2);
+        int first = stock.tryAcquire();
+        int second = stock.tryAcquire();
+
+        stock.resize(1);
+        stock.release(first);
+        assertThat(stock.available()).isZero();
+        assertThat(stock.tryAcquire()).isEqualTo(-1);
+
+        stock.release(second);
+        assertThat(stock.available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 한도보다 많이 나간 쿠폰은 한도를 올려도 초과분을 빼고 재고를 만든다")
+    void limitChanged_KeepsOverIssuedDebt() {
+        Coupon coupon = limitedCoupon(4L, 10, 0);
+        when(couponRepository.findIssuedCountById(4L)).thenReturn(12);
+        assertThat(engine.tryReserve(coupon)).isFalse();
+
+        engine.limitChanged(4L, 15);
+
+        assertThat(engine.remaining(coupon)).isEqualTo(3);
+    }
+
+    private long hammer(Runnable request) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS / THREADS; i++) {
+                    request.run();
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        return elapsed;
+    }
+
+    private static Coupon limitedCoupon(Long id, int maxIssueCount, int issuedCount) {
+        return Coupon.builder()
+            .id(id)
+            .code("DROP" + id)
+            .maxIssueCount(maxIssueCount)
+            .issuedCount(issuedCount)
+            .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.domain.CouponReservation.Status;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.dto.ReservationResult;
+import com.vincenzo.coupon.journal.RedemptionJournal;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.repository.CouponReservationRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쿠폰 예약 → 확정/해제/만료 시 사용 횟수가 한 번만 차감되거나 정확히 복구되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CouponReservationServiceTest {
+
+    private static final BigDecimal ORDER = new BigDecimal("50000");
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponReservationService reservationService;
+
+    @Autowired
+    private CouponReservationRepository reservationRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private UserWalletCache wallets;
+
+    @Autowired
+    private RedemptionJournal journal;
+
+    @Autowired
+    private RedemptionEffectRecorder recorder;
+
+    @Autowired
+    private CouponMetrics metrics;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @DisplayName("예약 시 차감, 확정하면 예약 금액으로 사용 완료되고 해제는 거부")
+    void reserveThenConfirm() {
+        Coupon coupon = assigned(950_001L);
+        long lsn = journal.lastLsn();
+
+        ReservationResult reserved = reservationService.reserve(coupon.getCode(), 950_001L, ORDER, null, null);
+        assertThat(remaining(coupon, 950_001L)).isEqualTo(2);
+
+        RedemptionResult confirmed = reservationService.confirm(reserved.getReservationId(), 950_001L);
+
+        assertThat(confirmed.getFinalAmount()).isEqualByComparingTo("45000");
+        assertThat(remaining(coupon, 950_001L)).isEqualTo(2);
+        assertThat(journal.lastLsn()).isEqualTo(lsn + 1);
+        assertThatThrownBy(() -> reservationService.release(reserved.getReservationId(), 950_001L))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> reservationService.confirm(reserved.getReservationId(), 950_001L))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("해제하면 사용 횟수 복구, 두 번 해제해도 한 번만 복구")
+    void releaseRestoresUsageOnce() {
+        Coupon coupon = assigned(950_002L);
+
+        ReservationResult reserved = reservationService.reserve(coupon.getCode(), 950_002L, ORDER, null, null);
+        reservationService.release(reserved.getReservationId(), 950_002L);
+        reservationService.release(reserved.getReservationId(), 950_002L);
+
+        assertThat(remaining(coupon, 950_002L)).isEqualTo(3);
+        assertThat(reservationRepository.findStatusById(reserved.getReservationId())).isEqualTo(Status.RELEASED);
+    }
+
+    @Test
+    @DisplayName("기한이 지난 예약은 휠이 만료시켜 사용 횟수를 복구하고, 이후 확정은 거부")
+    void expiredReservationIsRestored() throws InterruptedException {
+        Coupon coupon = assigned(950_003L);
+        CouponReservationService shortHold = new CouponReservationService(couponService, reservationRepository,
+            userCouponRepository, wallets, recorder, metrics, txManager, 0, 10);
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        ReservationResult reserved = tx.execute(status ->
+            shortHold.reserve(coupon.getCode(), 950_003L, ORDER, null, null));
+        assertThat(remaining(coupon, 950_003L)).isEqualTo(2);
+
+        Thread.sleep(50);
+        shortHold.expireDue();
+
+        assertThat(remaining(coupon, 950_003L)).isEqualTo(3);
+        assertThat(shortHold.stats().getExpired()).isEqualTo(1);
+        assertThat(reservationRepository.findStatusById(reserved.getReservationId())).isEqualTo(Status.EXPIRED);
+        assertThatThrownBy(() -> reservationService.confirm(reserved.getReservationId(), 950_003L))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("다른 사용자는 예약을 확정/해제할 수 없고, 예약은 그대로 남음")
+    void otherUserCannotSettle() {
+        Coupon coupon = assigned(950_004L);
+
+        ReservationResult reserved = reservationService.reserve(coupon.getCode(), 950_004L, ORDER, null, null);
+
+        assertThatThrownBy(() -> reservationService.confirm(reserved.getReservationId(), 950_005L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("예약이 존재하지 않습니다.");
+        assertThatThrownBy(() -> reservationService.release(reserved.getReservationId(), 950_005L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("예약이 존재하지 않습니다.");
+        assertThat(reservationRepository.findStatusById(reserved.getReservationId())).isEqualTo(Status.RESERVED);
+        assertThat(remaining(coupon, 950_004L)).isEqualTo(2);
+
+        reservationService.release(reserved.getReservationId(), 950_004L);
+        assertThat(remaining(coupon, 950_004L)).isEqualTo(3);
+    }
+
+    private Coupon assigned(long userId) {
+        Coupon coupon = couponService.createCoupon(coupon("RESV" + System.nanoTime()));
+        couponService.assignToUser(coupon.getCode(), userId);
+        return coupon;
+    }
+
+    private int remaining(Coupon coupon, long userId) {
+        return userCouponRepository.findWalletEntriesByUserId(userId).stream()
+            .filter(e -> e.couponId() == coupon.getId())
+            .findFirst()
+            .orElseThrow()
+            .remainingUsages();
+    }
+
+    private static Coupon coupon(String code) {
+        return Coupon.builder()
+            .code(code)
+            .title("예약 테스트 쿠폰")
+            .label("10% 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("PERCENT")
+            .discountValue(10)
+            .maxDiscountAmount(new BigDecimal("10000"))
+            .minOrderAmount(new BigDecimal("10000"))
+            .issuedCount(0)
+            .maxUsages(3)
+            .build();
+    }
+}
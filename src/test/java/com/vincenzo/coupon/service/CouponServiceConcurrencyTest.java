@@ -0,0 +1,136 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.domain.UserCoupon;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 UPDATE 경로가 잠금 없이도 동시 요청에서 정확한지 검증 (인메모리 발급 엔진 비활성화)
+ */
+@SpringBootTest(properties = "coupon.issuance.in-memory-enabled=false")
+@ActiveProfiles("test")
+class CouponServiceConcurrencyTest {
+
+    private static final int THREADS = 20;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponCatalog couponCatalog;
+
+    private Coupon coupon;
+
+    @AfterEach
+    void tearDown() {
+        userCouponRepository.deleteAll(userCouponRepository.findAll().stream()
+            .filter(uc -> uc.getCoupon().getId().equals(coupon.getId()))
+            .toList());
+        couponRepository.deleteById(coupon.getId());
+        couponCatalog.refresh();
+    }
+
+    @Test
+    @DisplayName("동시 발급 요청에서도 발급 한도를 초과하지 않는다")
+    void assignToUser_ConcurrentRequestsRespectLimit() throws Exception {
+        coupon = saveCoupon("CONC_ASSIGN", 5, 1);
+
+        int succeeded = runConcurrently(i -> couponService.assignToUser("CONC_ASSIGN", 800_000L + i));
+
+        assertThat(succeeded).isEqualTo(5);
+        assertThat(couponRepository.findIssuedCountById(coupon.getId())).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("같은 발급 쿠폰을 동시에 사용해도 사용 가능 횟수만큼만 차감된다")
+    void redeem_ConcurrentRequestsRespectRemainingUsages() throws Exception {
+        coupon = saveCoupon("CONC_REDEEM", null, 3);
+        couponService.assignToUser("CONC_REDEEM", 810_000L);
+
+        int succeeded = runConcurrently(i -> couponService.redeem(
+            "CONC_REDEEM", 810_000L, new BigDecimal("20000"), null, null));
+
+        assertThat(succeeded).isEqualTo(3);
+        UserCoupon uc = userCouponRepository.findAll().stream()
+            .filter(u -> u.getUserId() == 810_000L)
+            .findFirst()
+            .orElseThrow();
+        assertThat(uc.getRemainingUsages()).isZero();
+        assertThat(uc.getUsed()).isTrue();
+    }
+
+    private int runConcurrently(IndexedAction action) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int index = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    action.run(index);
+                    succeeded.incrementAndGet();
+                } catch (IllegalStateException ignored) {
+                    // 한도 소진 / 사용 가능한 쿠폰 없음
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+        return succeeded.get();
+    }
+
+    private Coupon saveCoupon(String code, Integer maxIssueCount, Integer maxUsages) {
+        Coupon saved = couponRepository.save(Coupon.builder()
+            .code(code)
+            .title("동시성 테스트 쿠폰")
+            .label("1,000원 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("FIXED")
+            .discountValue(1000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .maxIssueCount(maxIssueCount)
+            .issuedCount(0)
+            .maxUsages(maxUsages)
+            .build());
+        couponCatalog.refresh();
+        return saved;
+    }
+
+    @FunctionalInterface
+    private interface IndexedAction {
+        void run(int index);
+    }
+}
@@ -0,0 +1,196 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.domain.UserCoupon;
+import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쿠폰 목록 조회의 요청당 쿼리 수가 카탈로그 크기와 무관하게 일정한지 검증
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class CouponServiceQueryCountTest {
+
+    private static final long USER_ID = 900_001L;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponCatalog couponCatalog;
+
+    @Autowired
+    private UserWalletCache walletCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Coupon> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userCouponRepository.deleteAll(
+            userCouponRepository.findAll().stream().filter(uc -> uc.getUserId() == USER_ID).toList());
+        couponRepository.deleteAll(created);
+        created.clear();
+        couponCatalog.refresh();
+        walletCache.invalidate(USER_ID);
+    }
+
+    @Test
+    @DisplayName("쿠폰 목록 조회 쿼리 수는 쿠폰 개수와 무관하게 일정하다")
+    void listAvailableCoupons_QueryCountIsConstant() {
+        seedCoupons(10);
+        walletCache.invalidate(USER_ID);
+        long smallCatalogQueries = countQueries(() -> couponService.listAvailableCoupons(USER_ID));
+
+        seedCoupons(200);
+        walletCache.invalidate(USER_ID);
+        long largeCatalogQueries = countQueries(() -> couponService.listAvailableCoupons(USER_ID));
+        long cachedWalletQueries = countQueries(() -> couponService.listAvailableCoupons(USER_ID));
+
+        // 쿠폰 정의는 카탈로그 캐시에서, 발급 쿠폰은 지갑 캐시 미스일 때만 1회 조회
+        assertThat(smallCatalogQueries).isLessThanOrEqualTo(1);
+        assertThat(largeCatalogQueries).isEqualTo(smallCatalogQueries);
+        assertThat(cachedWalletQueries).isZero();
+    }
+
+    @Test
+    @DisplayName("발급 여부와 대상 목록이 일괄 조회 결과에 반영된다")
+    void listAvailableCoupons_MapsAssignmentAndTargets() {
+        seedCoupons(3);
+        Coupon assigned = created.get(0);
+        userCouponRepository.save(UserCoupon.builder()
+            .coupon(assigned)
+            .userId(USER_ID)
+            .remainingUsages(1)
+            .assignedAt(LocalDateTime.now())
+            .used(false)
+            .build());
+        // 서비스를 거치지 않은 저장이라 지갑 캐시를 직접 무효화
+        walletCache.invalidate(USER_ID);
+
+        List<CouponDto> result = couponService.listAvailableCoupons(USER_ID);
+
+        CouponDto dto = result.stream()
+            .filter(c -> c.getCode().equals(assigned.getCode()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(dto.isAlreadyAssigned()).isTrue();
+        assertThat(dto.getTargetCategoryIds()).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(dto.getTargetProductIds()).containsExactlyInAnyOrder(1000L, 1001L);
+        assertThat(result)
+            .filteredOn(c -> !c.getCode().equals(assigned.getCode()))
+            .noneMatch(CouponDto::isAlreadyAssigned);
+    }
+
+    @Test
+    @DisplayName("발급하면 재적재 없이 목록의 남은 발급 수가 바로 줄어든다")
+    void listAvailableCoupons_RemainingIssueFollowsIssues() {
+        Coupon limited = couponService.createCoupon(Coupon.builder()
+            .code("QCLIMIT" + System.nanoTime())
+            .title("쿼리 수 테스트 한정 쿠폰")
+            .label("10% 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("PERCENT")
+            .discountValue(10)
+            .minOrderAmount(BigDecimal.ZERO)
+            .maxIssueCount(5)
+            .issuedCount(0)
+            .build());
+        created.add(limited);
+
+        couponService.assignToUser(limited.getCode(), USER_ID);
+
+        CouponDto dto = couponService.listAvailableCoupons(USER_ID).stream()
+            .filter(c -> c.getCode().equals(limited.getCode()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(dto.getRemainingIssue()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 코드의 발급/사용 요청은 코드 필터에서 걸러져 DB 를 조회하지 않는다")
+    void unknownCode_SkipsDatabase() {
+        seedCoupons(3);
+
+        long queries = countQueries(() -> {
+            for (int i = 0; i < 20; i++) {
+                String code = "TYPO" + i;
+                assertThatThrownBy(() -> couponService.assignToUser(code, USER_ID))
+                    .hasMessage("쿠폰을 찾을 수 없습니다.");
+                assertThatThrownBy(() -> couponService.redeem(code, USER_ID, new BigDecimal("10000"), null, null))
+                    .hasMessage("쿠폰이 존재하지 않습니다.");
+            }
+        });
+
+        assertThat(queries).isZero();
+        assertThat(couponCatalog.codeFilterStats().getRejected()).isGreaterThanOrEqualTo(40);
+    }
+
+    private long countQueries(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedCoupons(int count) {
+        int offset = created.size();
+        List<Coupon> coupons = LongStream.range(offset, offset + count)
+            .mapToObj(i -> Coupon.builder()
+                .code("QC" + i)
+                .title("쿼리 수 테스트 쿠폰 " + i)
+                .label("10% 할인")
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .type("PERCENT")
+                .discountValue(10)
+                .minOrderAmount(BigDecimal.ZERO)
+                .issuedCount(0)
+                .targetCategoryIds(Set.of(10L, 11L))
+                .targetProductIds(Set.of(1000L, 1001L))
+                .build())
+            .toList();
+        created.addAll(couponRepository.saveAll(coupons));
+        // 저장소를 직접 수정했으므로 카탈로그 재적재
+        couponCatalog.refresh();
+        walletCache.invalidate(USER_ID);
+    }
+}
@@ -1,18 +1,31 @@
 package com.vincenzo.coupon.service;
 
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.cache.UserWallet;
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.cache.WalletEntry;
 import com.vincenzo.coupon.domain.Coupon;
 import com.vincenzo.coupon.domain.UserCoupon;
 import com.vincenzo.coupon.dto.CouponDto;
 import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.metrics.CouponMetrics;
 import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponHistoryRepository;
 import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.rule.CouponRule;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.util.CouponCodeGenerator;
+import com.vincenzo.coupon.util.SignedCouponCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -22,6 +35,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +47,27 @@ class CouponServiceTest {
     @Mock
     private UserCouponRepository userCouponRepository;
 
+    @Mock
+    private UserCouponHistoryRepository historyRepository;
+
+    @Mock
+    private CouponCatalog couponCatalog;
+
+    @Mock
+    private CouponIssuanceEngine issuanceEngine;
+
+    @Mock
+    private UserWalletCache wallets;
+
+    @Mock
+    private RedemptionEffectRecorder recorder;
+
+    @Mock
+    private CouponMetrics metrics;
+
+    @Spy
+    private SignedCouponCodec signedCodes = new SignedCouponCodec("test-signed-code-secret-0123456789abcdef", new CouponCodeGenerator(), false);
+
     @InjectMocks
     private CouponService couponService;
 
@@ -65,14 +100,15 @@ class CouponServiceTest {
             .assignedAt(LocalDateTime.now())
             .used(false)
             .build();
+
+        lenient().when(wallets.get(anyLong())).thenReturn(UserWallet.EMPTY);
     }
 
     @Test
     @DisplayName("사용 가능한 쿠폰 목록 조회")
     void listAvailableCoupons() {
         // given
-        when(couponRepository.findAll()).thenReturn(List.of(testCoupon));
-        when(userCouponRepository.existsByCoupon_IdAndUserId(1L, 1L)).thenReturn(false);
+        when(couponCatalog.activeAt(any(LocalDateTime.class))).thenReturn(List.of(testCoupon));
 
         // when
         List<CouponDto> result = couponService.listAvailableCoupons(1L);
@@ -87,25 +123,40 @@ class CouponServiceTest {
     @DisplayName("쿠폰 발급 성공")
     void assignToUser_Success() {
         // given
-        when(couponRepository.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
-        when(userCouponRepository.existsByCoupon_IdAndUserId(1L, 1L)).thenReturn(false);
-        when(userCouponRepository.save(any(UserCoupon.class))).thenReturn(testUserCoupon);
-        when(couponRepository.save(any(Coupon.class))).thenReturn(testCoupon);
+        when(couponCatalog.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
+        when(issuanceEngine.isEnabled()).thenReturn(true);
+        when(issuanceEngine.tryReserve(testCoupon)).thenReturn(true);
+        when(userCouponRepository.saveAndFlush(any(UserCoupon.class))).thenReturn(testUserCoupon);
 
         // when
         couponService.assignToUser("TEST100", 1L);
 
         // then
-        verify(userCouponRepository, times(1)).save(any(UserCoupon.class));
-        verify(couponRepository, times(1)).save(any(Coupon.class));
+        verify(userCouponRepository, times(1)).saveAndFlush(any(UserCoupon.class));
+        verify(issuanceEngine, times(1)).tryReserve(testCoupon);
+    }
+
+    @Test
+    @DisplayName("발급 한도 소진 시 예외 발생 - 조건부 UPDATE 경로")
+    void assignToUser_IssueLimitExceeded() {
+        // given
+        when(couponCatalog.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
+        when(issuanceEngine.isEnabled()).thenReturn(false);
+        when(couponRepository.incrementIssuedCount(1L)).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.assignToUser("TEST100", 1L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("발급 한도를 초과했습니다.");
     }
 
     @Test
     @DisplayName("중복 발급 시 예외 발생")
     void assignToUser_DuplicateAssignment() {
         // given
-        when(couponRepository.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
-        when(userCouponRepository.existsByCoupon_IdAndUserId(1L, 1L)).thenReturn(true);
+        when(couponCatalog.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
+        when(userCouponRepository.saveAndFlush(any(UserCoupon.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_user_coupon"));
 
         // when & then
         assertThatThrownBy(() -> couponService.assignToUser("TEST100", 1L))
@@ -113,15 +164,43 @@ class CouponServiceTest {
             .hasMessage("이미 발급된 쿠폰입니다.");
     }
 
+    @Test
+    @DisplayName("지갑에 이미 있는 쿠폰은 INSERT 없이 중복 발급 거부")
+    void assignToUser_AlreadyInWallet() {
+        // given
+        when(couponCatalog.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
+        when(wallets.get(1L)).thenReturn(UserWallet.of(List.of(new WalletEntry(1L, 1, false))));
+
+        // when & then
+        assertThatThrownBy(() -> couponService.assignToUser("TEST100", 1L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("이미 발급된 쿠폰입니다.");
+        verifyNoInteractions(userCouponRepository, issuanceEngine);
+    }
+
+    @Test
+    @DisplayName("중복 발급 거절은 예외 없이 미리 만든 결과로 반환")
+    void tryAssignToUser_AlreadyInWallet() {
+        // given
+        when(couponCatalog.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
+        when(wallets.get(1L)).thenReturn(UserWallet.of(List.of(new WalletEntry(1L, 1, false))));
+
+        // when
+        Outcome<Void> outcome = couponService.tryAssignToUser("TEST100", 1L);
+
+        // then
+        assertThat(outcome.isRejected()).isTrue();
+        assertThat(outcome.rejection()).isEqualTo(Rejection.ALREADY_ASSIGNED);
+        assertThat(outcome).isSameAs(Outcome.rejected(Rejection.ALREADY_ASSIGNED));
+    }
+
     @Test
     @DisplayName("쿠폰 사용 - 정율 할인")
     void redeem_PercentDiscount() {
         // given
         BigDecimal orderAmount = new BigDecimal("50000");
-        when(couponRepository.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
-        when(userCouponRepository.findByCoupon_CodeAndUserIdAndUsedFalse("TEST100", 1L))
-            .thenReturn(Optional.of(testUserCoupon));
-        when(userCouponRepository.save(any(UserCoupon.class))).thenReturn(testUserCoupon);
+        when(couponCatalog.findRuleByCode("TEST100")).thenReturn(Optional.of(CouponRule.compile(testCoupon)));
+        when(userCouponRepository.useOnce(1L, 1L)).thenReturn(1);
 
         // when
         RedemptionResult result = couponService.redeem("TEST100", 1L, orderAmount, null, null);
@@ -129,6 +208,22 @@ class CouponServiceTest {
         // then
         assertThat(result.getDiscountApplied()).isEqualTo(new BigDecimal("5000")); // 10% of 50000 = 5000
         assertThat(result.getFinalAmount()).isEqualTo(new BigDecimal("45000"));
+        verify(recorder).record(argThat((RedemptionEvent e) ->
+            e.couponId() == 1L && e.userId() == 1L && e.orderAmount() == 50000 && e.discount() == 5000));
+    }
+
+    @Test
+    @DisplayName("쿠폰 사용 - 남은 사용 횟수 없음")
+    void redeem_NoRemainingUsage() {
+        // given
+        when(couponCatalog.findRuleByCode("TEST100")).thenReturn(Optional.of(CouponRule.compile(testCoupon)));
+        when(userCouponRepository.useOnce(1L, 1L)).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.redeem("TEST100", 1L, new BigDecimal("50000"), null, null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("사용 가능한 쿠폰이 없습니다.");
+        verifyNoInteractions(recorder);
     }
 
     @Test
@@ -136,11 +231,56 @@ class CouponServiceTest {
     void redeem_MinOrderAmountNotMet() {
         // given
         BigDecimal orderAmount = new BigDecimal("5000");
-        when(couponRepository.findByCode("TEST100")).thenReturn(Optional.of(testCoupon));
+        when(couponCatalog.findRuleByCode("TEST100")).thenReturn(Optional.of(CouponRule.compile(testCoupon)));
 
         // when & then
         assertThatThrownBy(() -> couponService.redeem("TEST100", 1L, orderAmount, null, null))
             .isInstanceOf(IllegalStateException.class)
             .hasMessage("최소 주문 금액 미달입니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("쿠폰 사용 - 최소 주문 금액 미달은 차감 없이 거절 결과로 반환")
+    void tryRedeem_MinOrderAmountNotMet() {
+        // given
+        when(couponCatalog.findRuleByCode("TEST100")).thenReturn(Optional.of(CouponRule.compile(testCoupon)));
+
+        // when
+        Outcome<RedemptionResult> outcome =
+            couponService.tryRedeem("TEST100", 1L, new BigDecimal("5000"), null, null, null);
+
+        // then
+        assertThat(outcome.rejection()).isEqualTo(Rejection.MIN_ORDER_NOT_MET);
+        assertThat(outcome.value()).isNull();
+        verifyNoInteractions(userCouponRepository, recorder);
+    }
+
+    @Test
+    @DisplayName("쿠폰 사용 - 서명 코드는 코드 조회 없이 쿠폰 ID 로 규칙 조회")
+    void redeem_SignedCode() {
+        // given
+        String code = signedCodes.issue(1L);
+        when(couponCatalog.findRuleById(1L)).thenReturn(Optional.of(CouponRule.compile(testCoupon)));
+        when(userCouponRepository.useOnce(1L, 1L)).thenReturn(1);
+
+        // when
+        RedemptionResult result = couponService.redeem(code, 1L, new BigDecimal("50000"), null, null);
+
+        // then
+        assertThat(result.getDiscountApplied()).isEqualTo(new BigDecimal("5000"));
+        verify(couponCatalog, never()).findRuleByCode(any());
+    }
+
+    @Test
+    @DisplayName("쿠폰 사용 - 위조된 서명 코드는 카탈로그/DB 조회 없이 거부")
+    void redeem_ForgedSignedCode() {
+        // given - 다른 키로 서명한 코드
+        String forged = new SignedCouponCodec("other-signed-code-secret-0123456789abcdef", new CouponCodeGenerator(), false).issue(1L);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.redeem(forged, 1L, new BigDecimal("50000"), null, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("유효하지 않은 쿠폰 코드입니다.");
+        verifyNoInteractions(couponCatalog, userCouponRepository);
+    }
+}
@@ -0,0 +1,67 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class DbPermitSchedulerTest {
+
+    @Test
+    @DisplayName("허가가 모두 쓰이면 대기 후 반환 순서대로 입장, 기한을 넘기면 503")
+    void queuesUntilReleasedAndShedsAfterDeadline() {
+        DbPermitScheduler scheduler = new DbPermitScheduler(true, 1, 10, 300);
+        scheduler.acquire();
+
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(scheduler::acquire);
+        await().atMost(Duration.ofSeconds(2)).until(() -> scheduler.stats().getWaiting() == 1);
+        scheduler.release();
+        waiter.join();
+
+        // 대기자가 입장해 허가를 쥔 상태라 다음 요청은 기한 초과로 거절
+        assertThatThrownBy(scheduler::acquire).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(scheduler.stats().getAdmitted()).isEqualTo(2);
+        assertThat(scheduler.stats().getShedDeadline()).isEqualTo(1);
+        assertThat(scheduler.stats().getInUse()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열 상한을 넘는 요청은 기다리지 않고 바로 거절")
+    void shedsImmediatelyWhenQueueIsFull() {
+        DbPermitScheduler scheduler = new DbPermitScheduler(true, 1, 2, 5_000);
+        scheduler.acquire();
+
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            waiters.add(CompletableFuture.runAsync(scheduler::acquire)
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        failures.add(e);
+                    }
+                }));
+        }
+        await().atMost(Duration.ofSeconds(2)).until(() -> scheduler.stats().getWaiting() == 2);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(scheduler::acquire).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(scheduler.stats().getShedQueueFull()).isEqualTo(1);
+
+        // 허가를 두 번 반환하면 대기자 둘 다 입장
+        for (int i = 0; i < 2; i++) {
+            scheduler.release();
+        }
+        waiters.forEach(CompletableFuture::join);
+        assertThat(failures).isEmpty();
+    }
+}
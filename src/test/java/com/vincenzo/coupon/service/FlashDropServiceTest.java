@@ -0,0 +1,207 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.CouponCatalog;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.dto.DropStats;
+import com.vincenzo.coupon.dto.DropTicket;
+import com.vincenzo.coupon.metrics.CouponMetrics;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.rule.Rejection;
+import com.vincenzo.coupon.util.SignedCouponCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 선착순 대기열 - 도착 순서대로 재고만큼 발급되고, 매진 후 대기/신규 요청은 DB 없이 거절되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FlashDropServiceTest {
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponCatalog catalog;
+
+    @Autowired
+    private CouponIssuanceEngine issuanceEngine;
+
+    @Autowired
+    private CouponMetrics metrics;
+
+    @Autowired
+    private SignedCouponCodec signedCodes;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    /** 스케줄러가 끼어들지 않도록 빈과 별개의 인스턴스에서 직접 drain */
+    private FlashDropService drops;
+
+    @BeforeEach
+    void setUp() {
+        drops = new FlashDropService(couponService, catalog, issuanceEngine, metrics, signedCodes, 100_000, 2, 200, 100, 3);
+    }
+
+    @Test
+    @DisplayName("대기열 재고는 캐시된 발급 수가 아니라 DB 의 현재 발급 수 기준")
+    void openSizesQueueFromDatabaseIssuedCount() {
+        Coupon coupon = couponService.createCoupon(coupon("DROPDB" + System.nanoTime(), 5));
+        // 카탈로그를 거치지 않은 발급 (다른 노드 등)
+        new TransactionTemplate(txManager).executeWithoutResult(status -> couponRepository.addIssuedCount(coupon.getId(), 3));
+
+        DropStats stats = drops.open(coupon.getCode());
+
+        assertThat(stats.getStock()).isEqualTo(2);
+        assertThat(stats.getCapacity()).isEqualTo(4);
+        drops.close(coupon.getCode());
+    }
+
+    @Test
+    @DisplayName("줄 선 순서대로 재고만큼 발급, 나머지 번호표는 매진 거절")
+    void drainsInArrivalOrderUntilSoldOut() {
+        Coupon coupon = couponService.createCoupon(coupon("DROP" + System.nanoTime(), 3));
+        drops.open(coupon.getCode());
+
+        List<DropTicket> tickets = new ArrayList<>();
+        for (long userId = 960_001L; userId <= 960_005L; userId++) {
+            Outcome<DropTicket> entered = drops.enter(coupon.getCode(), userId);
+            assertThat(entered.isRejected()).isFalse();
+            tickets.add(entered.value());
+        }
+        assertThat(tickets.get(4).getStatus()).isEqualTo("WAITING");
+        assertThat(tickets.get(4).getAhead()).isEqualTo(4);
+        // 같은 사용자가 다시 오면 처음 번호표
+        assertThat(drops.enter(coupon.getCode(), 960_002L).value().getToken()).isEqualTo(tickets.get(1).getToken());
+        // 재고 3 x 2 = 6칸 중 5칸 사용, 한 명 더 들어오면 칸이 다 참
+        assertThat(drops.enter(coupon.getCode(), 960_006L).isRejected()).isFalse();
+        assertThat(drops.enter(coupon.getCode(), 960_007L).rejection()).isEqualTo(Rejection.ISSUE_LIMIT_EXCEEDED);
+
+        drops.drain();
+
+        assertThat(status(tickets.get(0), 960_001L)).isEqualTo("ISSUED");
+        assertThat(status(tickets.get(2), 960_003L)).isEqualTo("ISSUED");
+        assertThat(status(tickets.get(3), 960_004L)).isEqualTo("REJECTED");
+        assertThat(status(tickets.get(4), 960_005L)).isEqualTo("REJECTED");
+        assertThat(userCouponRepository.findWalletEntriesByUserId(960_004L)).isEmpty();
+        assertThat(drops.enter(coupon.getCode(), 960_008L).rejection()).isEqualTo(Rejection.ISSUE_LIMIT_EXCEEDED);
+
+        DropStats stats = drops.stats().stream()
+            .filter(s -> s.getCode().equals(coupon.getCode()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(stats.getIssued()).isEqualTo(3);
+        assertThat(stats.isSoldOut()).isTrue();
+        assertThat(stats.getRejectedAtEntry()).isEqualTo(2);
+        drops.close(coupon.getCode());
+    }
+
+    @Test
+    @DisplayName("시작 시각 전에는 줄만 서고 발급하지 않으며, 남의 번호표는 조회 불가")
+    void waitsUntilValidFrom() {
+        Coupon coupon = coupon("DROP" + System.nanoTime(), 10);
+        coupon.setValidFrom(LocalDateTime.now().plusHours(1));
+        coupon = couponService.createCoupon(coupon);
+        drops.open(coupon.getCode());
+
+        DropTicket ticket = drops.enter(coupon.getCode(), 960_101L).value();
+        drops.drain();
+
+        assertThat(status(ticket, 960_101L)).isEqualTo("WAITING");
+        assertThat(drops.ticket(ticket.getToken(), 960_102L).rejection()).isEqualTo(Rejection.DROP_TICKET_NOT_FOUND);
+        assertThat(drops.ticket("not-a-ticket", 960_101L).rejection()).isEqualTo(Rejection.DROP_TICKET_NOT_FOUND);
+
+        drops.close(coupon.getCode());
+        assertThat(drops.isOpen(coupon.getCode())).isFalse();
+        assertThat(status(ticket, 960_101L)).isEqualTo("REJECTED");
+    }
+
+    @Test
+    @DisplayName("서명 코드로 와도 같은 쿠폰의 대기열에 줄을 섬")
+    void signedCodeJoinsSameQueue() {
+        Coupon coupon = couponService.createCoupon(coupon("DROP" + System.nanoTime(), 5));
+        drops.open(coupon.getCode());
+        String signed = signedCodes.issue(coupon.getId());
+
+        assertThat(drops.isOpen(signed)).isTrue();
+        DropTicket plain = drops.enter(coupon.getCode(), 960_201L).value();
+        DropTicket bySigned = drops.enter(signed, 960_202L).value();
+        assertThat(bySigned.getAhead()).isEqualTo(1);
+        assertThat(drops.enter(signed, 960_201L).value().getToken()).isEqualTo(plain.getToken());
+        // 위조된 서명 코드는 대기열로 가지 않음
+        assertThat(drops.isOpen(signed.substring(0, signed.length() - 1) + "0")).isFalse();
+
+        drops.close(signed);
+        assertThat(drops.isOpen(coupon.getCode())).isFalse();
+    }
+
+    @Test
+    @DisplayName("발급이 계속 예외로 끝나는 번호표는 정해진 횟수 뒤 거절하고 다음 번호를 처리")
+    void poisonTicketIsRejectedAfterMaxAttempts() {
+        Coupon coupon = couponService.createCoupon(coupon("DROP" + System.nanoTime(), 5));
+        CouponService failing = mock(CouponService.class);
+        when(failing.tryAssignToUser(anyString(), anyLong())).thenReturn(Outcome.done());
+        when(failing.tryAssignToUser(coupon.getCode(), 960_301L)).thenThrow(new IllegalStateException("poison"));
+        drops = new FlashDropService(failing, catalog, issuanceEngine, metrics, signedCodes, 100_000, 2, 200, 100, 3);
+        drops.open(coupon.getCode());
+        DropTicket poison = drops.enter(coupon.getCode(), 960_301L).value();
+        DropTicket next = drops.enter(coupon.getCode(), 960_302L).value();
+
+        assertThat(drops.drain()).isZero();
+        assertThat(drops.drain()).isZero();
+        assertThat(status(poison, 960_301L)).isEqualTo("WAITING");
+        assertThat(drops.drain()).isEqualTo(2);
+
+        DropTicket rejected = drops.ticket(poison.getToken(), 960_301L).value();
+        assertThat(rejected.getStatus()).isEqualTo("REJECTED");
+        assertThat(rejected.getMessage()).isEqualTo(Rejection.DROP_ISSUE_FAILED.message());
+        assertThat(status(next, 960_302L)).isEqualTo("ISSUED");
+        drops.close(coupon.getCode());
+    }
+
+    private String status(DropTicket ticket, long userId) {
+        return drops.ticket(ticket.getToken(), userId).value().getStatus();
+    }
+
+    private static Coupon coupon(String code, int maxIssueCount) {
+        return Coupon.builder()
+            .code(code)
+            .title("선착순 테스트 쿠폰")
+            .label("10% 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("PERCENT")
+            .discountValue(10)
+            .maxDiscountAmount(new BigDecimal("10000"))
+            .minOrderAmount(new BigDecimal("10000"))
+            .maxIssueCount(maxIssueCount)
+            .issuedCount(0)
+            .maxUsages(1)
+            .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.IdempotencyKeyCache;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.dto.RedemptionResult;
+import com.vincenzo.coupon.repository.RedemptionReceiptRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.rule.Rejection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리에 없는 멱등 키(재시작/다른 노드)도 DB 유니크 제약으로 한 번만 차감되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IdempotentRedemptionServiceTest {
+
+    private static final long USER_ID = 940_001L;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private RedemptionReceiptRepository receiptRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @DisplayName("다른 인스턴스(빈 메모리)로 같은 키를 재시도해도 차감은 한 번, 결과는 처음과 같음")
+    void retryOnColdInstanceDoesNotBurnUsage() {
+        Coupon coupon = couponService.createCoupon(coupon("IDEM" + System.nanoTime(), 3));
+        couponService.assignToUser(coupon.getCode(), USER_ID);
+
+        RedemptionResult first = node().redeem(coupon.getCode(), USER_ID, new BigDecimal("50000"), null, null, "pay-1");
+        RedemptionResult retried = node().redeem(coupon.getCode(), USER_ID, new BigDecimal("50000"), null, null, "pay-1");
+
+        assertThat(retried.getDiscountApplied()).isEqualByComparingTo(first.getDiscountApplied());
+        assertThat(retried.getFinalAmount()).isEqualByComparingTo("45000");
+        assertThat(userCouponRepository.findWalletEntriesByUserId(USER_ID))
+            .filteredOn(e -> e.couponId() == coupon.getId())
+            .singleElement()
+            .satisfies(e -> assertThat(e.remainingUsages()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("마지막 사용 횟수를 쓴 키를 빈 메모리로 재시도해도 사용 횟수 없음 대신 처음 결과")
+    void retryOnColdInstanceAfterLastUsageReplaysResult() {
+        long userId = USER_ID + 1;
+        Coupon coupon = couponService.createCoupon(coupon("IDEM" + System.nanoTime(), 1));
+        couponService.assignToUser(coupon.getCode(), userId);
+
+        RedemptionResult first = node().redeem(coupon.getCode(), userId, new BigDecimal("50000"), null, null, "pay-1");
+        Outcome<RedemptionResult> retried =
+            node().tryRedeem(coupon.getCode(), userId, new BigDecimal("50000"), null, null, "pay-1");
+
+        assertThat(retried.isRejected()).isFalse();
+        assertThat(retried.value().getFinalAmount()).isEqualByComparingTo(first.getFinalAmount());
+        // 다른 키의 새 요청은 그대로 거절
+        assertThat(node().tryRedeem(coupon.getCode(), userId, new BigDecimal("50000"), null, null, "pay-2")
+            .rejection()).isEqualTo(Rejection.NO_USAGE_LEFT);
+    }
+
+    /** 메모리 캐시가 빈 새 인스턴스 */
+    private IdempotentRedemptionService node() {
+        return new IdempotentRedemptionService(couponService, new IdempotencyKeyCache(600, 4, 1_000),
+            receiptRepository, txManager, 24);
+    }
+
+    private static Coupon coupon(String code, int maxUsages) {
+        return Coupon.builder()
+            .code(code)
+            .title("멱등 키 테스트 쿠폰")
+            .label("10% 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("PERCENT")
+            .discountValue(10)
+            .maxDiscountAmount(new BigDecimal("10000"))
+            .minOrderAmount(new BigDecimal("10000"))
+            .issuedCount(0)
+            .maxUsages(maxUsages)
+            .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.journal.RedemptionJournal;
+import com.vincenzo.coupon.repository.RedemptionEffectRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쿠폰 사용 부수 효과가 저널을 거쳐 DB 에 정확히 한 번 반영되는지 검증
+ */
+@SpringBootTest(properties = "coupon.journal.drain-interval-ms=3600000")
+@ActiveProfiles("test")
+class RedemptionEffectDrainerTest {
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private RedemptionJournal journal;
+
+    @Autowired
+    private RedemptionEffectDrainer drainer;
+
+    @Autowired
+    private RedemptionEffectRecorder recorder;
+
+    @Autowired
+    private RedemptionEffectRepository effectRepository;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("사용 커밋 시 저널에 기록되고, 드레이너가 원장/누계/감사 기록으로 반영")
+    void redeemIsJournaledThenDrained() {
+        Coupon coupon = couponService.createCoupon(coupon("JOURNAL" + System.nanoTime()));
+        couponService.assignToUser(coupon.getCode(), 930_001L);
+        long before = journal.lastLsn();
+
+        couponService.redeem(coupon.getCode(), 930_001L, new BigDecimal("50000"), null, null);
+        couponService.redeem(coupon.getCode(), 930_001L, new BigDecimal("20000"), null, null);
+
+        assertThat(journal.lastLsn()).isEqualTo(before + 2);
+        assertThat(count("redemption_audit", coupon)).isZero();
+
+        drainer.drain();
+
+        assertThat(count("redemption_audit", coupon)).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT SUM(points) FROM point_ledger WHERE user_id = 930001", BigDecimal.class))
+            .isEqualByComparingTo("1400");
+        assertThat(jdbc.queryForObject("SELECT used_count FROM coupon_usage_stat WHERE coupon_id = ?",
+            Long.class, coupon.getId())).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT discount_total FROM coupon_usage_stat WHERE coupon_id = ?",
+            BigDecimal.class, coupon.getId())).isEqualByComparingTo("7000");
+        assertThat(drainer.stats().getPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 후 재시작(새 드레이너)해도 같은 기록을 다시 반영하지 않음")
+    void replayAfterRestartIsExactlyOnce() {
+        drainer.drain();
+        long couponId = 990_000L + System.nanoTime() % 1000;
+        for (int i = 0; i < 5; i++) {
+            record(RedemptionEvent.of(couponId, 930_100L + i, 30_000, 3_000, 0));
+        }
+        drainer.drain();
+
+        // 메모리의 반영 지점을 잃은 채 다시 시작 - DB 반영 지점부터 읽음
+        RedemptionEffectDrainer restarted = new RedemptionEffectDrainer(journal, effectRepository, txManager,
+            drainer.stats().getJournalId(), 2);
+        restarted.recover();
+        record(RedemptionEvent.of(couponId, 930_200L, 30_000, 3_000, 0));
+        restarted.drain();
+
+        assertThat(jdbc.queryForObject("SELECT used_count FROM coupon_usage_stat WHERE coupon_id = ?",
+            Long.class, couponId)).isEqualTo(6);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM redemption_audit WHERE coupon_id = ?",
+            Long.class, couponId)).isEqualTo(6);
+        assertThat(restarted.stats().getAppliedLsn()).isEqualTo(journal.lastLsn());
+    }
+
+    @Test
+    @DisplayName("저널에 들어간 뒤 롤백된 사용은 커밋 표시가 없어 반영하지 않고 버림")
+    void rolledBackRecordIsDiscarded() {
+        drainer.drain();
+        long couponId = 991_000L + System.nanoTime() % 1000;
+        long discarded = drainer.stats().getDiscarded();
+        long before = journal.lastLsn();
+
+        assertThatThrownBy(() -> new TransactionTemplate(txManager).executeWithoutResult(status -> {
+            recorder.record(RedemptionEvent.of(couponId, 930_300L, 30_000, 3_000, 0));
+            // 저널 추가 뒤 커밋 전에 실패
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    throw new IllegalStateException("커밋 전 실패");
+                }
+            });
+        })).isInstanceOf(IllegalStateException.class);
+        record(RedemptionEvent.of(couponId, 930_301L, 30_000, 3_000, 0));
+        drainer.drain();
+
+        assertThat(journal.lastLsn()).isEqualTo(before + 2);
+        assertThat(jdbc.queryForObject("SELECT used_count FROM coupon_usage_stat WHERE coupon_id = ?",
+            Long.class, couponId)).isEqualTo(1);
+        assertThat(drainer.stats().getDiscarded()).isEqualTo(discarded + 1);
+        assertThat(drainer.stats().getAppliedLsn()).isEqualTo(journal.lastLsn());
+    }
+
+    private void record(RedemptionEvent event) {
+        new TransactionTemplate(txManager).executeWithoutResult(status -> recorder.record(event));
+    }
+
+    private long count(String table, Coupon coupon) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE coupon_id = ?", Long.class, coupon.getId());
+    }
+
+    private static Coupon coupon(String code) {
+        return Coupon.builder()
+            .code(code)
+            .title("저널 테스트 쿠폰")
+            .label("10% 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("PERCENT")
+            .discountValue(10)
+            .maxDiscountAmount(new BigDecimal("10000"))
+            .minOrderAmount(new BigDecimal("10000"))
+            .rewardPointPercent(2)
+            .issuedCount(0)
+            .maxUsages(3)
+            .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.journal.RedemptionEvent;
+import com.vincenzo.coupon.journal.RedemptionJournal;
+import com.vincenzo.coupon.repository.RedemptionEffectRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저널에서 빠진 사용을 커밋 표시로 LSN 단위로 한 번만 반영하는지 검증
+ * - 같은 DB 를 쓰는 다른 테스트 컨텍스트의 드레이너와 반영 지점이 겹치지 않도록 별도 저널/식별자 사용
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RedemptionEffectReconcilerTest {
+
+    private static final long USER_ID = 990_001L;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private RedemptionEffectRepository effectRepository;
+
+    @TempDir
+    private Path journalDir;
+
+    @TempDir
+    private Path lostJournalDir;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("저널을 잃으면 반영 지점을 마지막 표시로 옮기고, 다회 쿠폰의 빠진 사용을 건별로 한 번만 반영")
+    void appliesOrphanedCommitsPerLsn() {
+        Coupon coupon = createAndAssign();
+        String journalId = "reconcile-" + System.nanoTime();
+        RedemptionJournal journal = new RedemptionJournal(journalDir.toString(), 1024, false);
+        RedemptionEffectDrainer drainer = new RedemptionEffectDrainer(journal, effectRepository, txManager, journalId, 500);
+        drainer.recover();
+        RedemptionEffectRecorder recorder = new RedemptionEffectRecorder(journal, effectRepository, journalId);
+
+        // 첫 사용은 정상 반영, 나머지 두 번은 커밋 후 저널 파일과 함께 사라짐
+        redeem(recorder, coupon);
+        drainer.drain();
+        redeem(recorder, coupon);
+        redeem(recorder, coupon);
+
+        RedemptionJournal lost = new RedemptionJournal(lostJournalDir.toString(), 1024, false);
+        RedemptionEffectDrainer restarted = new RedemptionEffectDrainer(lost, effectRepository, txManager, journalId, 500);
+        restarted.recover();
+        assertThat(restarted.stats().getAppliedLsn()).isEqualTo(3);
+        assertThat(audits(coupon)).isEqualTo(1);
+
+        RedemptionEffectReconciler reconciler =
+            new RedemptionEffectReconciler(effectRepository, restarted, txManager, true, 500);
+        assertThat(reconciler.reconcile()).isEqualTo(2);
+        assertThat(reconciler.reconcile()).isZero();
+
+        assertThat(audits(coupon)).isEqualTo(3);
+        assertThat(jdbc.queryForObject("SELECT SUM(points) FROM point_ledger WHERE user_id = ? AND coupon_id = ?",
+            BigDecimal.class, USER_ID, coupon.getId())).isEqualByComparingTo("3000");
+        assertThat(restarted.stats().getReconciled()).isEqualTo(2);
+
+        // 새 사용은 표시와 겹치지 않는 LSN 부터
+        redeem(new RedemptionEffectRecorder(lost, effectRepository, journalId), coupon);
+        restarted.drain();
+        assertThat(audits(coupon)).isEqualTo(4);
+    }
+
+    private void redeem(RedemptionEffectRecorder recorder, Coupon coupon) {
+        new TransactionTemplate(txManager).executeWithoutResult(status -> {
+            userCouponRepository.useOnce(coupon.getId(), USER_ID);
+            recorder.record(RedemptionEvent.of(coupon.getId(), USER_ID, 50_000, 5_000, 1_000));
+        });
+    }
+
+    private Coupon createAndAssign() {
+        Coupon coupon = couponService.createCoupon(Coupon.builder()
+            .code("RECON" + System.nanoTime())
+            .title("대조 테스트 쿠폰")
+            .label("5000원 할인")
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(1))
+            .type("FIXED")
+            .discountValue(5000)
+            .minOrderAmount(BigDecimal.ZERO)
+            .rewardPointPercent(2)
+            .issuedCount(0)
+            .maxUsages(4)
+            .build());
+        couponService.assignToUser(coupon.getCode(), USER_ID);
+        return coupon;
+    }
+
+    private long audits(Coupon coupon) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM redemption_audit WHERE user_id = ? AND coupon_id = ?",
+            Long.class, USER_ID, coupon.getId());
+    }
+}
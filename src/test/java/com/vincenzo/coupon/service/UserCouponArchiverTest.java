@@ -0,0 +1,136 @@
+package com.vincenzo.coupon.service;
+
+import com.vincenzo.coupon.cache.UserWalletCache;
+import com.vincenzo.coupon.domain.Coupon;
+import com.vincenzo.coupon.domain.UserCoupon;
+import com.vincenzo.coupon.dto.CouponDto;
+import com.vincenzo.coupon.dto.CouponHistoryEntry;
+import com.vincenzo.coupon.repository.CouponRepository;
+import com.vincenzo.coupon.repository.UserCouponArchiveRepository;
+import com.vincenzo.coupon.repository.UserCouponHistoryRepository;
+import com.vincenzo.coupon.repository.UserCouponRepository;
+import com.vincenzo.coupon.rule.Rejection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 발급 쿠폰 보관 - 다 쓴/만료된 행만 보관 테이블로 옮겨지고, 옮긴 뒤에도 중복 발급 방지와 이력 조회가 유지되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCouponArchiverTest {
+
+    private static final BigDecimal ORDER = new BigDecimal("50000");
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponReservationService reservationService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private UserCouponHistoryRepository historyRepository;
+
+    @Autowired
+    private UserCouponArchiveRepository archiveRepository;
+
+    @Autowired
+    private UserWalletCache wallets;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @DisplayName("다 쓴 쿠폰과 만료된 쿠폰만 옮기고, 쓸 수 있는 쿠폰과 예약 중인 쿠폰은 남김")
+    void movesOnlyUsedAndExpired() {
+        long userId = 970_001L;
+        Coupon once = couponService.createCoupon(coupon("ARCH" + System.nanoTime(), 1, LocalDateTime.now().plusDays(1)));
+        Coupon twice = couponService.createCoupon(coupon("ARCH" + System.nanoTime(), 2, LocalDateTime.now().plusDays(1)));
+        Coupon reserved = couponService.createCoupon(coupon("ARCH" + System.nanoTime(), 1, LocalDateTime.now().plusDays(1)));
+        Coupon expired = couponRepository.save(coupon("ARCH" + System.nanoTime(), 1, LocalDateTime.now().minusDays(40)));
+        couponService.assignToUser(once.getCode(), userId);
+        couponService.assignToUser(twice.getCode(), userId);
+        couponService.assignToUser(reserved.getCode(), userId);
+        userCouponRepository.save(UserCoupon.builder()
+            .coupon(expired)
+            .userId(userId)
+            .remainingUsages(1)
+            .assignedAt(LocalDateTime.now().minusDays(45))
+            .used(false)
+            .build());
+        couponService.redeem(once.getCode(), userId, ORDER, null, null);
+        couponService.redeem(twice.getCode(), userId, ORDER, null, null);
+        reservationService.reserve(reserved.getCode(), userId, ORDER, null, null);
+
+        // 같은 DB 를 쓰는 다른 테스트의 사용 완료 행도 함께 옮겨질 수 있음
+        assertThat(archiver(2).archive()).isGreaterThanOrEqualTo(2);
+
+        assertThat(userCouponRepository.findAll().stream()
+            .filter(uc -> uc.getUserId() == userId)
+            .map(uc -> uc.getCoupon().getId()))
+            .containsExactlyInAnyOrder(twice.getId(), reserved.getId());
+        assertThat(couponService.listHistory(userId, 10))
+            .extracting(CouponHistoryEntry::getCouponId, CouponHistoryEntry::isUsed)
+            .containsExactlyInAnyOrder(
+                tuple(once.getId(), true),
+                tuple(expired.getId(), false));
+    }
+
+    @Test
+    @DisplayName("다 써서 보관된 쿠폰은 목록에서 발급됨으로 보이고 다시 발급되지 않음")
+    void archivedUsedCouponIsNotReissued() {
+        long userId = 970_101L;
+        Coupon coupon = couponService.createCoupon(coupon("ARCH" + System.nanoTime(), 1, LocalDateTime.now().plusDays(1)));
+        couponService.assignToUser(coupon.getCode(), userId);
+        couponService.redeem(coupon.getCode(), userId, ORDER, null, null);
+
+        archiver(500).archive();
+        wallets.invalidate(userId);
+
+        assertThat(historyRepository.existsByUserIdAndCouponIdAndUsedTrue(userId, coupon.getId())).isTrue();
+        List<CouponDto> listed = couponService.listAvailableCoupons(userId);
+        assertThat(listed.stream().filter(c -> c.getId().equals(coupon.getId())).findFirst().orElseThrow()
+            .isAlreadyAssigned()).isTrue();
+        // 지갑 적재가 보관 행을 포함하므로 user_coupon 에 행이 없어도 거절
+        assertThat(couponService.tryAssignToUser(coupon.getCode(), userId).rejection())
+            .isEqualTo(Rejection.ALREADY_ASSIGNED);
+        assertThat(userCouponRepository.findWalletEntriesByUserId(userId)).hasSize(1);
+    }
+
+    /** 스케줄러와 별개 인스턴스 - 작은 묶음/구간으로 여러 묶음에 걸쳐 옮기는지도 함께 확인 */
+    private UserCouponArchiver archiver(int batchSize) {
+        return new UserCouponArchiver(archiveRepository, txManager, true, batchSize, batchSize, 1_000_000, 30);
+    }
+
+    private static Coupon coupon(String code, int maxUsages, LocalDateTime validUntil) {
+        return Coupon.builder()
+            .code(code)
+            .title("보관 테스트 쿠폰")
+            .label("5000원 할인")
+            .validFrom(validUntil.minusDays(10))
+            .validUntil(validUntil)
+            .type("FIXED")
+            .discountValue(5000)
+            .minOrderAmount(new BigDecimal("10000"))
+            .issuedCount(0)
+            .maxUsages(maxUsages)
+            .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.vincenzo.coupon.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodePermutationTest {
+
+    @Test
+    @DisplayName("전체 정의역에서 서로 다른 일련번호는 서로 다른 코드가 된다")
+    void code_IsBijectionOverDomain() {
+        CodePermutation permutation = new CodePermutation("test-secret", 3);
+        Set<String> codes = new HashSet<>();
+
+        for (long i = 0; i < permutation.domain(); i++) {
+            codes.add(permutation.code(i));
+        }
+
+        assertThat(permutation.domain()).isEqualTo(36 * 36 * 36);
+        assertThat(codes).hasSize((int) permutation.domain());
+        assertThat(codes).allMatch(code -> code.matches("[A-Z0-9]{3}"));
+    }
+
+    @Test
+    @DisplayName("같은 키는 같은 코드를, 다른 키는 다른 코드를 만든다")
+    void code_DependsOnKey() {
+        CodePermutation a = new CodePermutation("secret-a", 10);
+        CodePermutation b = new CodePermutation("secret-b", 10);
+
+        assertThat(a.code(12_345)).isEqualTo(new CodePermutation("secret-a", 10).code(12_345));
+        assertThat(a.code(12_345)).isNotEqualTo(b.code(12_345));
+        assertThat(a.code(12_345)).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Bloom 필터는 넣은 값을 놓치지 않고 오탐률은 목표 근처다")
+    void bloomFilter_NoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        CodePermutation permutation = new CodePermutation("bloom", 10);
+        for (long i = 0; i < 100_000; i++) {
+            filter.put(permutation.code(i));
+        }
+
+        int falsePositives = 0;
+        for (long i = 0; i < 100_000; i++) {
+            assertThat(filter.mightContain(permutation.code(i))).isTrue();
+            if (filter.mightContain(permutation.code(1_000_000 + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFpp()).isBetween(0.005, 0.02);
+    }
+}
@@ -0,0 +1,76 @@
+package com.vincenzo.coupon.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SignedCouponCodecTest {
+
+    private static final String SECRET = "test-signed-code-secret-0123456789abcdef";
+
+    private final CouponCodeGenerator generator = new CouponCodeGenerator();
+    private final SignedCouponCodec codec = new SignedCouponCodec(SECRET, generator, false);
+
+    @Test
+    @DisplayName("발행한 서명 코드는 검증을 통과하고 쿠폰 ID 를 돌려준다")
+    void issuedCodeCarriesCouponId() {
+        for (long couponId : new long[]{0L, 7L, 1_234_567L, 36L * 36 * 36 * 36 * 36 * 36 * 36 * 36 * 36 * 36 * 36 - 1}) {
+            String code = codec.issue(couponId);
+            assertThat(SignedCouponCodec.isSigned(code)).isTrue();
+            assertThat(codec.couponIdOf(code)).isEqualTo(OptionalLong.of(couponId));
+            assertThatCode(() -> codec.check(code)).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    @DisplayName("한 글자만 바꾸거나 다른 키로 서명한 코드는 거부된다")
+    void tamperedCodeIsRejected() {
+        String code = codec.issue(42L);
+        int tampered = 0;
+        for (int i = 0; i < code.length(); i++) {
+            if (code.charAt(i) == SignedCouponCodec.SEPARATOR) {
+                continue;
+            }
+            char replacement = code.charAt(i) == 'Z' ? 'Y' : 'Z';
+            String forged = code.substring(0, i) + replacement + code.substring(i + 1);
+            assertThat(codec.couponIdOf(forged)).as(forged).isEmpty();
+            tampered++;
+        }
+        assertThat(tampered).isEqualTo(code.length() - 1);
+
+        String otherKey = new SignedCouponCodec("other-" + SECRET, generator, false).issue(42L);
+        assertThat(codec.couponIdOf(otherKey)).isEmpty();
+        assertThat(codec.couponIdOf("0" + code)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입구 검증 - 형식이 깨진 코드는 거부, 일반 코드는 서명 강제 설정일 때만 거부")
+    void check() {
+        assertThatCode(() -> codec.check("WELCOME2025")).doesNotThrowAnyException();
+        for (String malformed : new String[]{"", "welcome", "A-B", "X".repeat(65), "ABC' OR '1'='1"}) {
+            assertThatThrownBy(() -> codec.check(malformed))
+                .as(malformed)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 쿠폰 코드입니다.");
+        }
+
+        SignedCouponCodec strict = new SignedCouponCodec(SECRET, generator, true);
+        assertThatThrownBy(() -> strict.check("WELCOME2025")).isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> strict.check(codec.issue(1L))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("비밀키가 없거나 짧으면 생성 실패 (기동 실패)")
+    void rejectsMissingOrShortSecret() {
+        for (String weak : new String[]{null, "", " ".repeat(40), "x".repeat(SignedCouponCodec.MIN_SECRET_LENGTH - 1)}) {
+            assertThatThrownBy(() -> new SignedCouponCodec(weak, generator, false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("coupon.signed-code.secret");
+        }
+    }
+}
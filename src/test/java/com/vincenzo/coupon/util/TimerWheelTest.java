@@ -0,0 +1,52 @@
+package com.vincenzo.coupon.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    @Test
+    @DisplayName("기한이 된 칸의 항목만 만료, 한 바퀴보다 먼 만료는 다음 바퀴까지 유지")
+    void expiresOnlyAtDeadline() {
+        TimerWheel wheel = new TimerWheel(100, 1_000, 0);
+        wheel.schedule(1L, 250);
+        wheel.schedule(2L, 5_000);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly(1L);
+        assertThat(wheel.advance(4_900)).isEmpty();
+        assertThat(wheel.advance(5_000)).containsExactly(2L);
+        assertThat(wheel.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않음")
+    void cancelledEntryNeverExpires() {
+        TimerWheel wheel = new TimerWheel(100, 1_000, 0);
+        wheel.schedule(1L, 300);
+        wheel.schedule(2L, 300);
+
+        assertThat(wheel.cancel(1L)).isTrue();
+        assertThat(wheel.cancel(1L)).isFalse();
+        assertThat(wheel.advance(1_000)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("여러 바퀴 밀린 뒤 진행해도 지난 항목은 모두 한 번씩 만료")
+    void catchUpAfterLongPause() {
+        TimerWheel wheel = new TimerWheel(10, 100, 0);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            wheel.schedule(id, id * 37);
+            ids.add(id);
+        }
+
+        assertThat(wheel.advance(100_000)).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(wheel.advance(200_000)).isEmpty();
+    }
+}
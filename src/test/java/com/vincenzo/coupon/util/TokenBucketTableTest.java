@@ -0,0 +1,64 @@
+package com.vincenzo.coupon.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTableTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    /** 초당 10개 */
+    private static final long INTERVAL = SECOND / 10;
+
+    @Test
+    @DisplayName("버킷 크기만큼 한꺼번에 허용하고, 이후에는 간격마다 하나씩 채워짐")
+    void allowsBurstThenRefills() {
+        TokenBucketTable table = new TokenBucketTable(100, 0);
+        long key = TokenBucketTable.key(0, 42L);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(table.tryAcquire(key, 0, INTERVAL, 3)).isTrue();
+        }
+        assertThat(table.tryAcquire(key, 0, INTERVAL, 3)).isFalse();
+        assertThat(table.tryAcquire(key, INTERVAL - 1, INTERVAL, 3)).isFalse();
+        assertThat(table.tryAcquire(key, INTERVAL, INTERVAL, 3)).isTrue();
+        assertThat(table.tryAcquire(key, INTERVAL, INTERVAL, 3)).isFalse();
+        // 오래 쉬어도 버킷 크기 이상은 쌓이지 않음
+        for (int i = 0; i < 3; i++) {
+            assertThat(table.tryAcquire(key, 10 * SECOND, INTERVAL, 3)).isTrue();
+        }
+        assertThat(table.tryAcquire(key, 10 * SECOND, INTERVAL, 3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("키 종류가 다르면 같은 값이어도 별도 버킷")
+    void kindsAreSeparate() {
+        TokenBucketTable table = new TokenBucketTable(100, 0);
+
+        assertThat(table.tryAcquire(TokenBucketTable.key(0, 7L), 0, INTERVAL, 1)).isTrue();
+        assertThat(table.tryAcquire(TokenBucketTable.key(0, 7L), 0, INTERVAL, 1)).isFalse();
+        assertThat(table.tryAcquire(TokenBucketTable.key(1, 7L), 0, INTERVAL, 1)).isTrue();
+        assertThat(table.tryAcquire(TokenBucketTable.key(2, "7"), 0, INTERVAL, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("키가 상한보다 많아도 테이블은 커지지 않고, 만료된 버킷 칸은 빼앗긴 것으로 세지 않음")
+    void staysBoundedUnderManyKeys() {
+        TokenBucketTable table = new TokenBucketTable(16, 0);
+        int capacity = table.capacity();
+
+        for (long id = 0; id < 10_000; id++) {
+            assertThat(table.tryAcquire(TokenBucketTable.key(0, id), 0, INTERVAL, 1)).isTrue();
+        }
+        assertThat(table.capacity()).isEqualTo(capacity);
+        assertThat(table.evictions()).isPositive();
+
+        long evicted = table.evictions();
+        for (long id = 10_000; id < 20_000; id++) {
+            assertThat(table.tryAcquire(TokenBucketTable.key(0, id), SECOND, INTERVAL, 1)).isTrue();
+        }
+        // 1초 뒤에는 앞서 채운 버킷이 모두 만료되어 빼앗을 필요가 적음
+        assertThat(table.evictions() - evicted).isLessThan(10_000);
+    }
+}